@@ -45,6 +45,63 @@ interface Settings {
      */
     String SPRING_TRANSACTION_MANAGEMENT = 'grails.spring.transactionManagement.proxies'
 
+    /**
+     * Whether to publish an immutable, flattened snapshot of the configuration once the application has started,
+     * which memoizes converted values. Changes made to nested config maps after startup are not seen by the snapshot.
+     */
+    String CONFIG_SNAPSHOT_ENABLED = 'grails.config.snapshot.enabled'
+
+    /**
+     * Whether to load the artefact classes from the indexes generated at build time instead of scanning the classpath,
+     * the classpath roots without an index, or with a stale one, are still scanned
+     */
+    String ARTEFACTS_INDEX_ENABLED = 'grails.artefacts.index.enabled'
+
+    /**
+     * Whether to record the startup steps of the application in a buffer, which backs the startup timeline endpoint,
+     * and as JFR events
+     */
+    String STARTUP_TIMELINE_ENABLED = 'grails.startup.timeline.enabled'
+
+    /**
+     * The maximum number of startup steps recorded in the buffer, defaults to 10000
+     */
+    String STARTUP_TIMELINE_CAPACITY = 'grails.startup.timeline.capacity'
+
+    /**
+     * Whether to run the requests of the embedded container and the asynchronous tasks on virtual threads,
+     * requires Java 21 or later
+     */
+    String THREADS_VIRTUAL = 'grails.threads.virtual'
+
+    /**
+     * Whether to record and report the virtual threads pinned to their carrier threads, defaults to true
+     * when virtual threads are enabled
+     */
+    String THREADS_PINNING_REPORT_ENABLED = 'grails.threads.pinningReport.enabled'
+
+    /**
+     * The minimum time a virtual thread is pinned to be reported, defaults to 20ms
+     */
+    String THREADS_PINNING_REPORT_THRESHOLD = 'grails.threads.pinningReport.threshold'
+
+    /**
+     * Whether the application is started for a training run, which exits as soon as the application is ready,
+     * for example to create a class data sharing archive
+     */
+    String CDS_TRAINING = 'grails.cds.training'
+
+    /**
+     * How long no further file changes must be reported before the changed files are reloaded in development mode,
+     * defaults to 300ms
+     */
+    String RELOAD_QUIET_PERIOD = 'grails.reload.quietPeriod'
+
+    /**
+     * The longest a reload is postponed while file changes keep being reported in development mode, defaults to 3s
+     */
+    String RELOAD_MAX_DELAY = 'grails.reload.maxDelay'
+
     /**
      * Which plugins to include in the plugin manager
      */
@@ -55,6 +112,43 @@ interface Settings {
      */
     String PLUGIN_EXCLUDES = 'grails.plugin.excludes'
 
+    /**
+     * Whether to execute the doWithApplicationContext and onStartup phases of plugins that do not depend
+     * on each other concurrently
+     */
+    String PLUGIN_LIFECYCLE_PARALLEL = 'grails.plugin.lifecycle.parallel'
+
+    /**
+     * The maximum number of threads used to execute plugin lifecycle phases concurrently,
+     * defaults to the number of available processors
+     */
+    String PLUGIN_LIFECYCLE_PARALLELISM = 'grails.plugin.lifecycle.parallelism'
+
+    /**
+     * Whether the beans defined by the doWithSpring closures of plugins are created lazily, when they are first used
+     */
+    String PLUGIN_LAZY_INIT_ENABLED = 'grails.plugin.lazyInit.enabled'
+
+    /**
+     * The plugins whose beans are created lazily, defaults to all plugins
+     */
+    String PLUGIN_LAZY_INIT_PLUGINS = 'grails.plugin.lazyInit.plugins'
+
+    /**
+     * The beans that are always created eagerly
+     */
+    String PLUGIN_LAZY_INIT_EXCLUDES = 'grails.plugin.lazyInit.excludes'
+
+    /**
+     * The lazy beans to create once the application is ready, {@code *} for all lazy beans
+     */
+    String PLUGIN_LAZY_INIT_PREWARM = 'grails.plugin.lazyInit.prewarm'
+
+    /**
+     * How long after the application is ready to report the lazy beans that have not been used, defaults to 10m
+     */
+    String PLUGIN_LAZY_INIT_REPORT_DELAY = 'grails.plugin.lazyInit.reportDelay'
+
     /**
      * Whether to include the jsessionid in the rendered links
      **/
@@ -77,6 +171,17 @@ interface Settings {
      */
     String GSP_VIEWS_DIR = 'grails.gsp.view.dir'
 
+    /**
+     * Whether GSP views are located with an index built at startup when reloading is disabled, defaults to true
+     */
+    String GSP_VIEW_INDEX = 'grails.gsp.view.index'
+
+    /**
+     * Whether reloadable GSP views are reloaded when a file watcher reports a change to them, instead of checking
+     * their last modified date when they are rendered, defaults to false
+     */
+    String GSP_RELOAD_WATCH = 'grails.gsp.reload.watch'
+
     /**
      * The encoding to use for GSP views, defaults to UTF-8
      */
@@ -122,6 +227,11 @@ interface Settings {
      */
     String MIME_DISABLE_ACCEPT_HEADER_FOR_USER_AGENTS_XHR = 'grails.mime.disable.accept.header.userAgentsXhr'
 
+    /**
+     * The maximum number of negotiated Accept and Content-Type headers to cache, defaults to 500
+     */
+    String MIME_NEGOTIATION_CACHE_MAX_SIZE = 'grails.mime.negotiation.cache.maxSize'
+
     /**
      * The default scope for controllers
      */
@@ -177,6 +287,87 @@ interface Settings {
      */
     String WEB_SERVLET_PATH = 'grails.web.servlet.path'
 
+    /**
+     * The timeout of the controller actions that return a CompletionStage, Callable or Publisher,
+     * defaults to the timeout of the servlet container
+     */
+    String WEB_ASYNC_REQUEST_TIMEOUT = 'grails.web.async.requestTimeout'
+
+    /**
+     * Where the flash scope is kept between requests, either 'session' (the default) or 'cookie'
+     */
+    String WEB_FLASH_STORAGE = 'grails.web.flash.storage'
+
+    /**
+     * The name of the cookie that holds the flash scope, defaults to 'GRAILS_FLASH'
+     */
+    String WEB_FLASH_COOKIE_NAME = 'grails.web.flash.cookie.name'
+
+    /**
+     * The maximum size in bytes of the flash scope cookie, larger flash scopes are kept in the session, defaults to 4000
+     */
+    String WEB_FLASH_COOKIE_MAX_SIZE = 'grails.web.flash.cookie.maxSize'
+
+    /**
+     * Where the synchronizer tokens of forms are kept, either 'session' (the default) or 'hmac' for signed tokens
+     * that need no server state, which are bound to the client by a cookie and detect double-submits per node
+     */
+    String WEB_TOKENS_STORAGE = 'grails.web.tokens.storage'
+
+    /**
+     * How long a signed synchronizer token is valid, defaults to 1h
+     */
+    String WEB_TOKENS_TIMEOUT = 'grails.web.tokens.timeout'
+
+    /**
+     * The name of the cookie that binds the signed synchronizer tokens to a client, defaults to 'GRAILS_TOKENS'
+     */
+    String WEB_TOKENS_COOKIE_NAME = 'grails.web.tokens.cookie.name'
+
+    /**
+     * How many used signed synchronizer tokens each node remembers to detect double-submits, defaults to 100000,
+     * when there are more the oldest ones can be submitted again until they expire
+     */
+    String WEB_TOKENS_MAX_USED = 'grails.web.tokens.maxUsed'
+
+    /**
+     * The secret used to sign the flash scope cookie and the synchronizer tokens, must be the same on all
+     * the nodes of the application, a random secret is generated if it is not set
+     */
+    String WEB_SIGNING_SECRET = 'grails.web.signing.secret'
+
+    /**
+     * Whether the responses of GET and HEAD requests get an ETag and are answered with 304 (Not Modified)
+     * when the client has the same content, defaults to false
+     */
+    String WEB_ETAG_ENABLED = 'grails.web.etag.enabled'
+
+    /**
+     * The maximum size in bytes of a response that is buffered to compute its ETag, larger responses are
+     * sent without an ETag, defaults to 1048576
+     */
+    String WEB_ETAG_MAX_BUFFER_SIZE = 'grails.web.etag.maxBufferSize'
+
+    /**
+     * Whether the responses are compressed with gzip by the application instead of the container, defaults to false
+     */
+    String WEB_COMPRESSION_ENABLED = 'grails.web.compression.enabled'
+
+    /**
+     * The gzip compression level from 1 to 9, defaults to -1 for the default level of the deflater
+     */
+    String WEB_COMPRESSION_LEVEL = 'grails.web.compression.level'
+
+    /**
+     * The minimum size in bytes of a response to be compressed, defaults to 2048
+     */
+    String WEB_COMPRESSION_MIN_SIZE = 'grails.web.compression.minSize'
+
+    /**
+     * The MIME types of the responses that are compressed
+     */
+    String WEB_COMPRESSION_MIME_TYPES = 'grails.web.compression.mimeTypes'
+
     /**
      * The URL of the server
      */
@@ -202,6 +393,16 @@ interface Settings {
      */
     String RESOURCES_PATTERN = 'grails.resources.pattern'
 
+    /**
+     * Whether static resources are served with fingerprinted URLs and their precompressed variants
+     */
+    String RESOURCES_FINGERPRINT_ENABLED = 'grails.resources.fingerprint.enabled'
+
+    /**
+     * The maximum size in bytes of the static resources whose content is cached in memory
+     */
+    String RESOURCES_CACHE_MAX_FILE_SIZE = 'grails.resources.cache.maxFileSize'
+
     /**
      * The default pattern for static resources
      */
@@ -266,4 +467,27 @@ interface Settings {
 
     String I18N_FILE_CACHE_SECONDS = 'grails.i18n.filecache.seconds'
 
+    /**
+     * Whether to use message bundles precompiled at build time when reloading is disabled, defaults to true
+     */
+    String I18N_COMPILED_ENABLED = 'grails.i18n.compiled.enabled'
+
+    /**
+     * Whether reloadable message bundles are reloaded when a file watcher reports a change to them, instead of checking
+     * their last modified date every {@link #I18N_FILE_CACHE_SECONDS}, defaults to false
+     */
+    String I18N_RELOAD_WATCH = 'grails.i18n.reload.watch'
+
+    /**
+     * Whether to observe the request pipeline, the URL matching, actions, interceptors, data binding, views and renderers,
+     * defaults to true
+     */
+    String METRICS_ENABLED = 'grails.metrics.enabled'
+
+    /**
+     * The maximum number of meters, the distinct combinations of tag values, of every metric of the request pipeline,
+     * defaults to 100
+     */
+    String METRICS_MAX_TAG_VALUES = 'grails.metrics.maxTagValues'
+
 }
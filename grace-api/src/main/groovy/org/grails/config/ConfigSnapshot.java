@@ -0,0 +1,135 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.config;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An immutable, flattened view of a {@link NavigableMapConfig}. Every nested key is available under
+ * its dotted name in a single hash table, and values converted to immutable types are memoized
+ * per key and target type, so that repeated lookups neither walk the nested maps nor convert again.
+ *
+ * <p>A snapshot is never modified after it has been published, changes to the configuration publish
+ * a new snapshot instead.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ * @see NavigableMapConfig#publishSnapshot()
+ */
+public final class ConfigSnapshot {
+
+    /**
+     * Marker for a lookup that has not been memoized yet
+     */
+    static final Object NOT_MEMOIZED = new Object();
+
+    private static final Object NULL_VALUE = new Object();
+
+    private final Map<String, Object> values;
+
+    private final ConcurrentMap<String, ConcurrentMap<Class<?>, Object>> convertedValues = new ConcurrentHashMap<>();
+
+    ConfigSnapshot(NavigableMap configMap) {
+        Map<String, Object> flattened = new HashMap<>();
+        flatten("", configMap, flattened);
+        for (Map.Entry<String, Object> entry : configMap.entrySet()) {
+            if (entry.getValue() != null) {
+                flattened.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+        }
+        this.values = Collections.unmodifiableMap(flattened);
+    }
+
+    /**
+     * @return The number of flattened keys
+     */
+    public int size() {
+        return this.values.size();
+    }
+
+    /**
+     * @return The flattened keys and values of this snapshot
+     */
+    public Map<String, Object> getValues() {
+        return this.values;
+    }
+
+    /**
+     * Returns the raw value of a flattened key
+     *
+     * @param key The dotted key
+     * @return The value or null
+     */
+    public Object getValue(String key) {
+        return this.values.get(key);
+    }
+
+    /**
+     * Whether the value for the given key is served from the flattened table, keys that
+     * are not can still be resolved by navigating the configuration
+     *
+     * @param key The dotted key
+     * @return true if the key is in the table
+     */
+    public boolean containsKey(String key) {
+        return this.values.containsKey(key);
+    }
+
+    Object getConvertedValue(String key, Class<?> targetType) {
+        Map<Class<?>, Object> converted = this.convertedValues.get(key);
+        if (converted == null) {
+            return NOT_MEMOIZED;
+        }
+        Object value = converted.get(targetType);
+        if (value == null) {
+            return NOT_MEMOIZED;
+        }
+        return value == NULL_VALUE ? null : value;
+    }
+
+    void memoize(String key, Class<?> targetType, Object value) {
+        if (value == null || isImmutable(value)) {
+            this.convertedValues.computeIfAbsent(key, k -> new ConcurrentHashMap<>(4))
+                    .putIfAbsent(targetType, value != null ? value : NULL_VALUE);
+        }
+    }
+
+    private static void flatten(String prefix, Map<?, ?> map, Map<String, Object> flattened) {
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            Object value = entry.getValue();
+            String name = String.valueOf(entry.getKey());
+            // dotted keys can not be navigated, the top level ones are added as they are
+            if (value == null || name.indexOf('.') > -1) {
+                continue;
+            }
+            String key = prefix.isEmpty() ? name : prefix + '.' + name;
+            flattened.put(key, value);
+            if (value instanceof Map) {
+                flatten(key, (Map<?, ?>) value, flattened);
+            }
+        }
+    }
+
+    private static boolean isImmutable(Object value) {
+        return value instanceof String || value instanceof Number || value instanceof Boolean ||
+                value instanceof Character || value instanceof Enum || value instanceof Class;
+    }
+
+}
@@ -55,6 +55,8 @@ public abstract class NavigableMapConfig implements Config {
 
     protected ConfigurableConversionService conversionService = new DefaultConversionService();
 
+    private volatile ConfigSnapshot snapshot;
+
     protected NavigableMap configMap = new NavigableMap() {
         @Override
         protected Object mergeMapEntry(NavigableMap targetMap, String sourceKey, Object newValue) {
@@ -91,6 +93,7 @@ public abstract class NavigableMapConfig implements Config {
     @Override
     public void setAt(Object key, Object value) {
         this.configMap.put(key.toString(), value);
+        republishSnapshot();
     }
 
     @Override
@@ -120,22 +123,28 @@ public abstract class NavigableMapConfig implements Config {
 
     @Override
     public Object put(String key, Object value) {
-        return this.configMap.put(key, value);
+        Object previous = this.configMap.put(key, value);
+        republishSnapshot();
+        return previous;
     }
 
     @Override
     public Object remove(Object key) {
-        return this.configMap.remove(key);
+        Object previous = this.configMap.remove(key);
+        republishSnapshot();
+        return previous;
     }
 
     @Override
     public void putAll(Map<? extends String, ?> m) {
         this.configMap.putAll(m);
+        republishSnapshot();
     }
 
     @Override
     public void clear() {
         this.configMap.clear();
+        republishSnapshot();
     }
 
     @Override
@@ -175,6 +184,7 @@ public abstract class NavigableMapConfig implements Config {
     @Override
     public Config merge(Map<String, Object> toMerge) {
         this.configMap.merge(toMerge, true);
+        republishSnapshot();
         return this;
     }
 
@@ -221,16 +231,74 @@ public abstract class NavigableMapConfig implements Config {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T getProperty(String key, Class<T> targetType, T defaultValue) {
+        ConfigSnapshot currentSnapshot = this.snapshot;
+        if (currentSnapshot == null) {
+            return convertValueIfNecessary(findValue(key), targetType, defaultValue);
+        }
+
+        Object memoized = currentSnapshot.getConvertedValue(key, targetType);
+        if (memoized != ConfigSnapshot.NOT_MEMOIZED) {
+            return memoized != null ? (T) memoized : defaultValue;
+        }
+
         Object value = findInSystemEnvironment(key);
         if (value == null) {
-            value = getValueWithDotNotatedKeySupport(this.configMap, key);
+            value = currentSnapshot.containsKey(key) ? currentSnapshot.getValue(key) : findInConfigMap(key);
         }
+        T converted = convertValueIfNecessary(value, targetType, null);
+        currentSnapshot.memoize(key, targetType, converted);
+        return converted != null ? converted : defaultValue;
+    }
+
+    /**
+     * Publishes an immutable, flattened snapshot of this configuration, which serves subsequent
+     * {@link #getProperty(String, Class, Object)} calls from a single hash table and memoizes converted values.
+     * Once a snapshot has been published, every change made through this config publishes a new one.
+     * Changes made directly to nested maps are not tracked, call this method again after making them.
+     */
+    public void publishSnapshot() {
+        this.snapshot = new ConfigSnapshot(this.configMap);
+    }
+
+    /**
+     * Discards the published snapshot, so that lookups navigate the configuration again.
+     */
+    public void discardSnapshot() {
+        this.snapshot = null;
+    }
+
+    /**
+     * @return The currently published snapshot or null if none has been published
+     */
+    public ConfigSnapshot getSnapshot() {
+        return this.snapshot;
+    }
+
+    /**
+     * Publishes a new snapshot if one has already been published.
+     */
+    public void republishSnapshot() {
+        if (this.snapshot != null) {
+            publishSnapshot();
+        }
+    }
+
+    private Object findValue(String key) {
+        Object value = findInSystemEnvironment(key);
         if (value == null) {
-            value = this.configMap.get(key);
+            value = findInConfigMap(key);
         }
+        return value;
+    }
 
-        return convertValueIfNecessary(value, targetType, defaultValue);
+    private Object findInConfigMap(String key) {
+        Object value = getValueWithDotNotatedKeySupport(this.configMap, key);
+        if (value == null) {
+            value = this.configMap.get(key);
+        }
+        return value;
     }
 
     private Object findInSystemEnvironment(String key) {
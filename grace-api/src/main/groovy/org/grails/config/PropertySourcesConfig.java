@@ -79,6 +79,7 @@ public class PropertySourcesConfig extends NavigableMapConfig {
 
     public void refresh() {
         initializeFromPropertySources(this.propertySources);
+        republishSnapshot();
     }
 
     protected void initializeFromPropertySources(PropertySources propertySources) {
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import grails.web.mime.MimeType;
+
+import org.grails.web.mime.DefaultAcceptHeaderParser;
+
+/**
+ * Benchmarks parsing the Accept headers sent by browsers and API clients.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AcceptHeaderParserBenchmark {
+
+    @Param({ "text/html,application/xhtml+xml,application/xml;q=0.9,image/avif,image/webp,*/*;q=0.8",
+            "application/json" })
+    private String header;
+
+    private final DefaultAcceptHeaderParser parser = new DefaultAcceptHeaderParser(new MimeType[] {
+            MimeType.HTML, MimeType.XHTML, MimeType.XML, MimeType.TEXT_XML, MimeType.JSON, MimeType.TEXT_JSON,
+            MimeType.HAL_JSON, MimeType.ALL });
+
+    @Benchmark
+    public MimeType[] parse() {
+        return this.parser.parse(this.header);
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import grails.databinding.SimpleDataBinder;
+import grails.databinding.SimpleMapDataBindingSource;
+
+/**
+ * Benchmarks binding request parameters, with type conversion and a nested property, to an object.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataBinderBenchmark {
+
+    private final SimpleDataBinder binder = new SimpleDataBinder();
+
+    private Map<String, Object> params;
+
+    @Setup
+    public void setup() {
+        this.params = new HashMap<>();
+        this.params.put("name", "Michael");
+        this.params.put("email", "michael@example.com");
+        this.params.put("age", "42");
+        this.params.put("active", "true");
+        this.params.put("address.city", "Shanghai");
+        this.params.put("address.street", "Nanjing Road");
+    }
+
+    @Benchmark
+    public Person bind() {
+        Person person = new Person();
+        this.binder.bind(person, new SimpleMapDataBindingSource(this.params));
+        return person;
+    }
+
+    public static class Person {
+
+        private String name;
+
+        private String email;
+
+        private int age;
+
+        private boolean active;
+
+        private Address address;
+
+        public String getName() {
+            return this.name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getEmail() {
+            return this.email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+        }
+
+        public int getAge() {
+            return this.age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public boolean isActive() {
+            return this.active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public Address getAddress() {
+            return this.address;
+        }
+
+        public void setAddress(Address address) {
+            this.address = address;
+        }
+
+    }
+
+    public static class Address {
+
+        private String city;
+
+        private String street;
+
+        public String getCity() {
+            return this.city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+
+        public String getStreet() {
+            return this.street;
+        }
+
+        public void setStreet(String street) {
+            this.street = street;
+        }
+
+    }
+
+}
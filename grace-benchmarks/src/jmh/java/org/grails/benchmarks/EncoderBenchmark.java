@@ -0,0 +1,77 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.grails.encoder.impl.HTMLEncoder;
+import org.grails.encoder.impl.JavaScriptEncoder;
+
+/**
+ * Benchmarks the HTML and JavaScript encoders with input that has nothing to escape and input that has.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EncoderBenchmark {
+
+    private static final String CLEAN = "The quick brown fox jumps over the lazy dog, and keeps running through the field ";
+
+    private static final String DIRTY = "<script>alert('The \"quick\" brown fox & the lazy dog');</script>\n";
+
+    @Param({ "clean", "dirty" })
+    private String input;
+
+    private String text;
+
+    private final HTMLEncoder htmlEncoder = new HTMLEncoder();
+
+    private final JavaScriptEncoder javaScriptEncoder = new JavaScriptEncoder();
+
+    @Setup
+    public void setup() {
+        this.text = ("clean".equals(this.input) ? CLEAN : DIRTY).repeat(10);
+    }
+
+    @Benchmark
+    public Object html() {
+        return this.htmlEncoder.encode(this.text);
+    }
+
+    @Benchmark
+    public Object javaScript() {
+        return this.javaScriptEncoder.encode(this.text);
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.benchmarks;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import groovy.text.Template;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.grails.gsp.GroovyPagesTemplateEngine;
+
+/**
+ * Benchmarks rendering a compiled GSP that iterates over a list with tags and expressions.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GroovyPageBenchmark {
+
+    private static final String PAGE = "<table>\n"
+            + "<g:each in=\"${books}\" var=\"book\" status=\"i\">\n"
+            + "  <tr class=\"${i % 2 == 0 ? 'even' : 'odd'}\">\n"
+            + "    <td>${book.title}</td>\n"
+            + "    <g:if test=\"${book.available}\"><td>${book.price}</td></g:if>\n"
+            + "    <g:else><td>Sold out</td></g:else>\n"
+            + "    <td><g:each in=\"${book.tags}\" var=\"tag\"><span>${tag}</span></g:each></td>\n"
+            + "  </tr>\n"
+            + "</g:each>\n"
+            + "</table>\n";
+
+    private Template template;
+
+    private Map<String, Object> model;
+
+    @Setup
+    public void setup() throws Exception {
+        GroovyPagesTemplateEngine engine = new GroovyPagesTemplateEngine();
+        engine.afterPropertiesSet();
+        this.template = engine.createTemplate(PAGE, "benchmark_page");
+
+        List<Map<String, Object>> books = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Map<String, Object> book = new LinkedHashMap<>();
+            book.put("title", "The Definitive Guide to Grace, volume " + i);
+            book.put("price", 39.99 + i);
+            book.put("available", i % 3 != 0);
+            book.put("tags", List.of("groovy", "web", "spring"));
+            books.add(book);
+        }
+        this.model = Map.of("books", books);
+    }
+
+    @Benchmark
+    public String render() throws IOException {
+        StringWriter out = new StringWriter(8192);
+        this.template.make(this.model).writeTo(out);
+        return out.toString();
+    }
+
+}
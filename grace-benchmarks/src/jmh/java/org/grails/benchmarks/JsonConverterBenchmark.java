@@ -0,0 +1,88 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import grails.converters.JSON;
+import grails.core.DefaultGrailsApplication;
+
+import org.grails.web.converters.configuration.ConvertersConfigurationInitializer;
+import org.grails.web.json.JSONElement;
+
+/**
+ * Benchmarks rendering a list of maps with the JSON converter and parsing it back.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonConverterBenchmark {
+
+    private List<Map<String, Object>> books;
+
+    private String json;
+
+    @Setup
+    public void setup() {
+        ConvertersConfigurationInitializer initializer = new ConvertersConfigurationInitializer();
+        initializer.setGrailsApplication(new DefaultGrailsApplication());
+        initializer.initialize();
+
+        this.books = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Map<String, Object> book = new LinkedHashMap<>();
+            book.put("id", i);
+            book.put("title", "The Definitive Guide to Grace, volume " + i);
+            book.put("price", 39.99 + i);
+            book.put("available", i % 2 == 0);
+            book.put("tags", List.of("groovy", "web", "spring"));
+            this.books.add(book);
+        }
+        this.json = new JSON(this.books).toString();
+    }
+
+    @Benchmark
+    public String render() {
+        return new JSON(this.books).toString();
+    }
+
+    @Benchmark
+    public JSONElement parse() {
+        return JSON.parse(this.json);
+    }
+
+}
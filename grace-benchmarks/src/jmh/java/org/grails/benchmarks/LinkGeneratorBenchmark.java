@@ -0,0 +1,124 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.benchmarks;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import grails.gorm.validation.ConstrainedProperty;
+import grails.gorm.validation.DefaultConstrainedProperty;
+import org.grails.datastore.gorm.validation.constraints.registry.DefaultConstraintRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import grails.core.DefaultGrailsApplication;
+import grails.util.GrailsWebMockUtil;
+import grails.web.mapping.UrlMapping;
+
+import org.grails.web.mapping.CachingLinkGenerator;
+import org.grails.web.mapping.DefaultLinkGenerator;
+import org.grails.web.mapping.DefaultUrlMappingParser;
+import org.grails.web.mapping.DefaultUrlMappingsHolder;
+import org.grails.web.mapping.RegexUrlMapping;
+
+/**
+ * Benchmarks the creation of links to controller actions, by a URL mapping and by the default and the caching
+ * link generators.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinkGeneratorBenchmark {
+
+    private RegexUrlMapping mapping;
+
+    private DefaultLinkGenerator linkGenerator;
+
+    private CachingLinkGenerator cachingLinkGenerator;
+
+    @Setup
+    public void setup() {
+        DefaultUrlMappingParser parser = new DefaultUrlMappingParser();
+        DefaultConstraintRegistry registry = new DefaultConstraintRegistry();
+        ConstrainedProperty[] constraints = {
+                new DefaultConstrainedProperty(UrlMapping.class, "controller", String.class, registry),
+                new DefaultConstrainedProperty(UrlMapping.class, "action", String.class, registry),
+                new DefaultConstrainedProperty(UrlMapping.class, "id", String.class, registry) };
+        this.mapping = new RegexUrlMapping(parser.parse("/(*)/(*)?/(*)?"), null, null, null, null, null, null,
+                UrlMapping.ANY_VERSION, constraints, new DefaultGrailsApplication());
+        DefaultUrlMappingsHolder holder = new DefaultUrlMappingsHolder(List.of(this.mapping));
+
+        GrailsWebMockUtil.bindMockWebRequest();
+        this.linkGenerator = new DefaultLinkGenerator("http://localhost:8080", "");
+        this.linkGenerator.setUrlMappingsHolder(holder);
+        this.cachingLinkGenerator = new CachingLinkGenerator("http://localhost:8080", "");
+        this.cachingLinkGenerator.setUrlMappingsHolder(holder);
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public String createURL() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("id", "42");
+        params.put("format", "json");
+        return this.mapping.createURL("book", "show", params, "UTF-8");
+    }
+
+    @Benchmark
+    public String link() {
+        return this.linkGenerator.link(linkAttributes(), "UTF-8");
+    }
+
+    @Benchmark
+    public String cachingLink() {
+        return this.cachingLinkGenerator.link(linkAttributes(), "UTF-8");
+    }
+
+    // the link generators modify the attributes, like the tags that create them, so they are created for every link
+    private static Map<String, Object> linkAttributes() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("format", "json");
+        Map<String, Object> attrs = new HashMap<>();
+        attrs.put("controller", "book");
+        attrs.put("action", "show");
+        attrs.put("id", 42);
+        attrs.put("params", params);
+        return attrs;
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.benchmarks;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.grails.buffer.StreamCharBuffer;
+
+/**
+ * Benchmarks writing to a {@link StreamCharBuffer}, the buffer of the GSP output, and reading it back.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamCharBufferBenchmark {
+
+    private static final String CHUNK = "<tr><td class=\"name\">Grace</td><td class=\"value\">Framework</td></tr>\n";
+
+    @Param({ "10", "1000" })
+    private int writes;
+
+    private StreamCharBuffer filled;
+
+    @Setup
+    public void setup() throws IOException {
+        this.filled = write(this.writes);
+    }
+
+    @Benchmark
+    public StreamCharBuffer write() throws IOException {
+        return write(this.writes);
+    }
+
+    @Benchmark
+    public Writer writeTo() throws IOException {
+        Writer target = Writer.nullWriter();
+        this.filled.writeTo(target, false, false);
+        return target;
+    }
+
+    @Benchmark
+    public String writeToString() {
+        return this.filled.toString();
+    }
+
+    private static StreamCharBuffer write(int writes) throws IOException {
+        StreamCharBuffer buffer = new StreamCharBuffer();
+        Writer writer = buffer.getWriter();
+        for (int i = 0; i < writes; i++) {
+            writer.write(CHUNK);
+        }
+        return buffer;
+    }
+
+}
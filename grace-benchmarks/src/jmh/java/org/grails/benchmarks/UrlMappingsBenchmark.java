@@ -0,0 +1,112 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import grails.gorm.validation.ConstrainedProperty;
+import grails.gorm.validation.DefaultConstrainedProperty;
+import org.grails.datastore.gorm.validation.constraints.registry.DefaultConstraintRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import grails.core.DefaultGrailsApplication;
+import grails.core.GrailsApplication;
+import grails.web.mapping.UrlMapping;
+import grails.web.mapping.UrlMappingInfo;
+
+import org.grails.web.mapping.DefaultUrlMappingParser;
+import org.grails.web.mapping.DefaultUrlMappingsHolder;
+import org.grails.web.mapping.RegexUrlMapping;
+
+/**
+ * Benchmarks the matching of request URIs against the URL mappings, with and without the cache of the matches.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UrlMappingsBenchmark {
+
+    @Param({ "50", "500", "5000" })
+    private int mappings;
+
+    @Param({ "true", "false" })
+    private boolean cached;
+
+    private DefaultUrlMappingsHolder holder;
+
+    private String firstUri;
+
+    private String lastUri;
+
+    private String missingUri;
+
+    @Setup
+    public void setup() {
+        DefaultUrlMappingParser parser = new DefaultUrlMappingParser();
+        GrailsApplication application = new DefaultGrailsApplication();
+        DefaultConstraintRegistry registry = new DefaultConstraintRegistry();
+        List<UrlMapping> urlMappings = new ArrayList<>(this.mappings);
+        for (int i = 0; i < this.mappings; i++) {
+            ConstrainedProperty[] constraints = { new DefaultConstrainedProperty(UrlMapping.class, "id", String.class, registry) };
+            urlMappings.add(new RegexUrlMapping(parser.parse("/resource" + i + "/show/(*)"), "resource" + i, "show",
+                    null, null, null, null, UrlMapping.ANY_VERSION, constraints, application));
+        }
+
+        this.holder = new DefaultUrlMappingsHolder(urlMappings, null, true);
+        if (!this.cached) {
+            this.holder.setMaxWeightedCacheCapacity(0);
+        }
+        this.holder.initialize();
+
+        this.firstUri = "/resource0/show/42";
+        this.lastUri = "/resource" + (this.mappings - 1) + "/show/42";
+        this.missingUri = "/missing/show/42";
+    }
+
+    @Benchmark
+    public UrlMappingInfo[] matchAllFirst() {
+        return this.holder.matchAll(this.firstUri);
+    }
+
+    @Benchmark
+    public UrlMappingInfo[] matchAllLast() {
+        return this.holder.matchAll(this.lastUri);
+    }
+
+    @Benchmark
+    public UrlMappingInfo[] matchAllMissing() {
+        return this.holder.matchAll(this.missingUri);
+    }
+
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.benchmarks.load
+
+import java.lang.management.ManagementFactory
+import java.net.http.HttpClient
+import java.net.http.HttpRequest
+import java.net.http.HttpResponse
+import java.time.Duration
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.TimeUnit
+
+import com.sun.management.ThreadMXBean
+import groovy.transform.CompileStatic
+import org.HdrHistogram.Histogram
+
+/**
+ * Drives a scenario with a fixed number of clients, each sending the next request as soon as the response
+ * to the previous one has been read, and records the latency of every request in a {@link Histogram}.
+ *
+ * <p>The allocation rate is measured on the platform request threads of the embedded Tomcat only, so the allocations
+ * of the clients, which run in the same JVM, are not counted. It is unavailable when the JVM does not measure the
+ * allocations of threads, or when the requests are served by virtual threads, whose allocations are not measured.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@CompileStatic
+class LoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_LATENCY = TimeUnit.MINUTES.toNanos(1)
+
+    private static final String SERVER_THREAD_MARKER = '-exec-'
+
+    private final HttpClient client
+
+    private final URI baseUri
+
+    private final int concurrency
+
+    LoadGenerator(URI baseUri, int concurrency) {
+        this.baseUri = baseUri
+        this.concurrency = concurrency
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build()
+    }
+
+    /**
+     * Runs a scenario, first for the warmup period, whose requests are not recorded, then for the measurement period
+     *
+     * @param scenario The scenario
+     * @param warmup The warmup period
+     * @param measurement The measurement period
+     * @return The result of the measurement period
+     */
+    ScenarioResult run(Scenario scenario, Duration warmup, Duration measurement) {
+        HttpRequest request = scenario.createRequest(this.baseUri)
+        drive(scenario, request, warmup)
+
+        Map<Long, Long> allocatedBefore = serverThreadAllocatedBytes()
+        long start = System.nanoTime()
+        List<Client> clients = drive(scenario, request, measurement)
+        long elapsed = System.nanoTime() - start
+        Long allocated = allocatedSince(allocatedBefore)
+
+        Histogram latencies = new Histogram(HIGHEST_TRACKABLE_LATENCY, 3)
+        long requests = 0
+        long errors = 0
+        for (Client client in clients) {
+            latencies.add(client.latencies)
+            requests += client.requests
+            errors += client.errors
+        }
+        new ScenarioResult(scenario.name, this.concurrency, latencies, requests, errors, elapsed, allocated)
+    }
+
+    private List<Client> drive(Scenario scenario, HttpRequest request, Duration duration) {
+        long deadline = System.nanoTime() + duration.toNanos()
+        List<Client> clients = []
+        for (int i = 0; i < this.concurrency; i++) {
+            clients << new Client(this.client, request, scenario.expectedStatus, deadline)
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(this.concurrency)
+        try {
+            for (Future<Void> future in executor.invokeAll(clients)) {
+                future.get()
+            }
+        }
+        finally {
+            executor.shutdownNow()
+        }
+        clients
+    }
+
+    /**
+     * @return The bytes allocated by every request thread of the server, or an empty map if they can not be measured
+     */
+    private static Map<Long, Long> serverThreadAllocatedBytes() {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.threadMXBean
+        Map<Long, Long> allocated = [:]
+        if (!threads.threadAllocatedMemorySupported || !threads.threadAllocatedMemoryEnabled) {
+            return allocated
+        }
+        for (Thread thread in Thread.allStackTraces.keySet()) {
+            if (thread.name.contains(SERVER_THREAD_MARKER)) {
+                long bytes = threads.getThreadAllocatedBytes(thread.id)
+                if (bytes >= 0) {
+                    allocated[thread.id] = bytes
+                }
+            }
+        }
+        allocated
+    }
+
+    /**
+     * @return The bytes allocated by the request threads of the server since they were measured,
+     * or null if no request thread could be measured, like when the requests are served by virtual threads
+     */
+    private static Long allocatedSince(Map<Long, Long> before) {
+        Map<Long, Long> after = serverThreadAllocatedBytes()
+        if (after.isEmpty()) {
+            return null
+        }
+        long allocated = 0
+        for (Map.Entry<Long, Long> entry in after.entrySet()) {
+            allocated += entry.value - (before[entry.key] ?: 0L)
+        }
+        allocated
+    }
+
+    private static class Client implements Callable<Void> {
+
+        final Histogram latencies = new Histogram(HIGHEST_TRACKABLE_LATENCY, 3)
+
+        final HttpClient client
+
+        final HttpRequest request
+
+        final int expectedStatus
+
+        final long deadline
+
+        long requests
+
+        long errors
+
+        Client(HttpClient client, HttpRequest request, int expectedStatus, long deadline) {
+            this.client = client
+            this.request = request
+            this.expectedStatus = expectedStatus
+            this.deadline = deadline
+        }
+
+        @Override
+        Void call() {
+            while (System.nanoTime() < this.deadline) {
+                long start = System.nanoTime()
+                try {
+                    HttpResponse<Void> response = this.client.send(this.request, HttpResponse.BodyHandlers.discarding())
+                    this.latencies.recordValue(Math.min(System.nanoTime() - start, HIGHEST_TRACKABLE_LATENCY))
+                    this.requests++
+                    if (response.statusCode() != this.expectedStatus) {
+                        this.errors++
+                    }
+                }
+                catch (IOException ignored) {
+                    this.requests++
+                    this.errors++
+                }
+            }
+            null
+        }
+
+    }
+
+}
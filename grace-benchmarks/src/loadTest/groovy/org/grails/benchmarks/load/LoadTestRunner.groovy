@@ -0,0 +1,123 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.benchmarks.load
+
+import java.net.http.HttpRequest
+import java.time.Duration
+
+import groovy.json.JsonOutput
+import groovy.transform.CompileStatic
+import org.springframework.boot.web.context.WebServerApplicationContext
+import org.springframework.context.ConfigurableApplicationContext
+
+import grails.boot.Grails
+
+import org.grails.benchmarks.load.app.LoadTestApplication
+
+/**
+ * Starts the {@link LoadTestApplication} in an embedded Tomcat, runs the load test scenarios against it
+ * and writes the results as JSON.
+ *
+ * <p>The run is configured with the system properties {@code loadTest.concurrency} (16 clients by default),
+ * {@code loadTest.warmup} and {@code loadTest.duration} (10 and 20 seconds per scenario by default),
+ * {@code loadTest.scenarios} (a comma separated list of the scenarios to run, all by default) and
+ * {@code loadTest.results}, the results file.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@CompileStatic
+final class LoadTestRunner {
+
+    private static final String FORM_CONTENT_TYPE = 'application/x-www-form-urlencoded'
+
+    private static final String JSON_CONTENT_TYPE = 'application/json'
+
+    private LoadTestRunner() {
+    }
+
+    static List<Scenario> scenarios() {
+        [
+                new Scenario('crud-list', 200, { URI base ->
+                    HttpRequest.newBuilder(base.resolve('/book/index')).GET().build()
+                }),
+                new Scenario('crud-show', 200, { URI base ->
+                    HttpRequest.newBuilder(base.resolve('/book/show/1')).GET().build()
+                }),
+                new Scenario('crud-update', 302, { URI base ->
+                    HttpRequest.newBuilder(base.resolve('/book/update/2'))
+                            .header('Content-Type', FORM_CONTENT_TYPE)
+                            .POST(HttpRequest.BodyPublishers.ofString('title=Refactoring&author=Martin+Fowler&price=47.99&pages=448'))
+                            .build()
+                }),
+                new Scenario('rest-list', 200, { URI base ->
+                    HttpRequest.newBuilder(base.resolve('/api/books')).header('Accept', JSON_CONTENT_TYPE).GET().build()
+                }),
+                new Scenario('rest-update', 200, { URI base ->
+                    HttpRequest.newBuilder(base.resolve('/api/books/3'))
+                            .header('Accept', JSON_CONTENT_TYPE)
+                            .header('Content-Type', JSON_CONTENT_TYPE)
+                            .PUT(HttpRequest.BodyPublishers.ofString(
+                                    '{"title":"Java Concurrency in Practice","author":"Brian Goetz","price":52.5,"pages":403}'))
+                            .build()
+                }),
+                new Scenario('i18n-page', 200, { URI base ->
+                    HttpRequest.newBuilder(base.resolve('/catalog?lang=de')).GET().build()
+                })
+        ]
+    }
+
+    static void main(String[] args) {
+        int concurrency = Integer.getInteger('loadTest.concurrency', 16)
+        Duration warmup = Duration.ofSeconds(Long.getLong('loadTest.warmup', 10L))
+        Duration duration = Duration.ofSeconds(Long.getLong('loadTest.duration', 20L))
+        String selected = System.getProperty('loadTest.scenarios')
+        File resultsFile = new File(System.getProperty('loadTest.results', 'build/results/load/results.json'))
+
+        List<Scenario> scenarios = scenarios()
+        if (selected) {
+            List<String> names = selected.split(',')*.trim()
+            scenarios = scenarios.findAll { Scenario scenario -> names.contains(scenario.name) }
+        }
+
+        List<String> applicationArgs = ['--server.port=0']
+        applicationArgs.addAll(args)
+        ConfigurableApplicationContext context = new Grails(LoadTestApplication).run(applicationArgs as String[])
+        List<ScenarioResult> results = []
+        try {
+            int port = ((WebServerApplicationContext) context).webServer.port
+            LoadGenerator generator = new LoadGenerator(URI.create("http://localhost:${port}"), concurrency)
+            for (Scenario scenario in scenarios) {
+                ScenarioResult result = generator.run(scenario, warmup, duration)
+                println result
+                results << result
+            }
+        }
+        finally {
+            context.close()
+        }
+
+        resultsFile.parentFile.mkdirs()
+        resultsFile.text = JsonOutput.prettyPrint(JsonOutput.toJson(results*.toMap()))
+
+        List<ScenarioResult> failed = results.findAll { ScenarioResult result -> result.errors > 0 }
+        if (failed) {
+            throw new IllegalStateException("Scenarios ${failed*.scenario} received unexpected responses, " +
+                    'their results are not comparable')
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.benchmarks.load
+
+import java.net.http.HttpRequest
+import java.util.function.Function
+
+import groovy.transform.CompileStatic
+
+/**
+ * A load test scenario, the request sent repeatedly to the application and the status of its response.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@CompileStatic
+class Scenario {
+
+    final String name
+
+    final int expectedStatus
+
+    private final Function<URI, HttpRequest> requestFactory
+
+    Scenario(String name, int expectedStatus, Function<URI, HttpRequest> requestFactory) {
+        this.name = name
+        this.expectedStatus = expectedStatus
+        this.requestFactory = requestFactory
+    }
+
+    /**
+     * Creates the request of the scenario, which is immutable and sent by all the clients
+     *
+     * @param baseUri The URI of the application
+     * @return The request
+     */
+    HttpRequest createRequest(URI baseUri) {
+        requestFactory.apply(baseUri)
+    }
+
+    @Override
+    String toString() {
+        name
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.benchmarks.load
+
+import java.util.concurrent.TimeUnit
+
+import groovy.transform.CompileStatic
+import org.HdrHistogram.Histogram
+
+/**
+ * The result of a load test scenario, the latency percentiles, the throughput and the bytes allocated by
+ * the request threads of the server per request, which is null when the allocations could not be measured.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@CompileStatic
+class ScenarioResult {
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1)
+
+    final String scenario
+
+    final int concurrency
+
+    final Histogram latencies
+
+    final long requests
+
+    final long errors
+
+    final long elapsedNanos
+
+    final Long allocatedBytes
+
+    ScenarioResult(String scenario, int concurrency, Histogram latencies, long requests, long errors,
+            long elapsedNanos, Long allocatedBytes) {
+        this.scenario = scenario
+        this.concurrency = concurrency
+        this.latencies = latencies
+        this.requests = requests
+        this.errors = errors
+        this.elapsedNanos = elapsedNanos
+        this.allocatedBytes = allocatedBytes
+    }
+
+    double getThroughput() {
+        requests / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1))
+    }
+
+    Double getAllocatedBytesPerRequest() {
+        if (allocatedBytes == null) {
+            return null
+        }
+        requests ? allocatedBytes / (double) requests : 0d
+    }
+
+    double percentileMillis(double percentile) {
+        latencies.getValueAtPercentile(percentile) / NANOS_PER_MILLI
+    }
+
+    /**
+     * The result as written to the results file
+     */
+    Map<String, Object> toMap() {
+        [
+                scenario: scenario,
+                concurrency: concurrency,
+                requests: requests,
+                errors: errors,
+                throughput: throughput,
+                p50Millis: percentileMillis(50),
+                p99Millis: percentileMillis(99),
+                p999Millis: percentileMillis(99.9),
+                maxMillis: latencies.maxValue / NANOS_PER_MILLI,
+                allocatedBytesPerRequest: allocatedBytesPerRequest
+        ] as Map<String, Object>
+    }
+
+    @Override
+    String toString() {
+        String allocated = allocatedBytesPerRequest != null ? String.format('%10.0f B/req', allocatedBytesPerRequest) : '   n/a B/req'
+        String.format('%-14s %10.1f req/s  p50 %8.3f ms  p99 %8.3f ms  p99.9 %8.3f ms  max %8.3f ms  %s  %d errors',
+                scenario, throughput, percentileMillis(50), percentileMillis(99), percentileMillis(99.9),
+                latencies.maxValue / NANOS_PER_MILLI, allocated, errors)
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.benchmarks.load.app
+
+import grails.artefact.Artefact
+import grails.converters.JSON
+import grails.web.Controller
+
+/**
+ * The REST controller of the load test, rendering and binding JSON with the converters.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@Artefact('Controller')
+@Controller
+class BookApiController {
+
+    BookStore bookStore
+
+    def index() {
+        render bookStore.list(20) as JSON
+    }
+
+    def update(Long id) {
+        if (bookStore.get(id) == null) {
+            render status: 404
+            return
+        }
+        Book book = new Book(id: id)
+        bindData(book, request.JSON, [include: ['title', 'author', 'price', 'pages']])
+        bookStore.save(book)
+        render book as JSON
+    }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.benchmarks.load.app
+
+import grails.validation.Validateable
+
+/**
+ * The command object of the form updating a book.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+class BookCommand implements Validateable {
+
+    String title
+
+    String author
+
+    BigDecimal price
+
+    Integer pages
+
+    static constraints = {
+        title blank: false, maxSize: 255
+        author blank: false, maxSize: 255
+        price min: 0.0
+        pages min: 1
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.benchmarks.load.app
+
+import grails.artefact.Artefact
+import grails.web.Controller
+
+/**
+ * The CRUD controller of the load test, rendering GSP views decorated by the main layout.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@Artefact('Controller')
+@Controller
+class BookController {
+
+    static allowedMethods = [update: 'POST']
+
+    BookStore bookStore
+
+    def index() {
+        [books: bookStore.list(20), bookCount: bookStore.count()]
+    }
+
+    def show(Long id) {
+        Book book = bookStore.get(id)
+        if (book == null) {
+            render status: 404
+            return
+        }
+        [book: book]
+    }
+
+    def update(Long id, BookCommand command) {
+        Book book = bookStore.get(id)
+        if (book == null) {
+            render status: 404
+            return
+        }
+        if (command.hasErrors()) {
+            render status: 422, view: 'show', model: [book: book, errors: command.errors]
+            return
+        }
+        bookStore.save(new Book(id: id, title: command.title, author: command.author, price: command.price, pages: command.pages))
+        redirect action: 'show', id: id
+    }
+
+}
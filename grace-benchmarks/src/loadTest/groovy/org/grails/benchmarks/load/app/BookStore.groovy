@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.benchmarks.load.app
+
+import java.util.concurrent.ConcurrentSkipListMap
+
+import groovy.transform.CompileStatic
+
+/**
+ * An in-memory store of books, so that the load test needs neither a database nor GORM.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@CompileStatic
+class BookStore {
+
+    private final Map<Long, Book> books = new ConcurrentSkipListMap<>()
+
+    BookStore(int size) {
+        for (long id = 1; id <= size; id++) {
+            this.books.put(id, new Book(id: id, title: "Book ${id}", author: "Author ${id % 10}",
+                    price: BigDecimal.valueOf(1000 + id * 7, 2), pages: 100 + (int) id))
+        }
+    }
+
+    List<Book> list(int max) {
+        this.books.values().take(max).toList()
+    }
+
+    Book get(Long id) {
+        id != null ? this.books.get(id) : null
+    }
+
+    void save(Book book) {
+        this.books.put(book.id, book)
+    }
+
+    int count() {
+        this.books.size()
+    }
+
+}
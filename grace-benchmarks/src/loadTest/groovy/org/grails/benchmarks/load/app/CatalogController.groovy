@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.benchmarks.load.app
+
+import grails.artefact.Artefact
+import grails.web.Controller
+
+/**
+ * The controller of the i18n heavy page of the load test, whose view resolves dozens of messages
+ * and formats numbers and dates in the locale of the request.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@Artefact('Controller')
+@Controller
+class CatalogController {
+
+    private static final List<String> CATEGORIES = ['fiction', 'history', 'science', 'travel', 'cooking', 'poetry']
+
+    private static final Date UPDATED = new Date(1700000000000L)
+
+    def index() {
+        List<Map> categories = CATEGORIES.withIndex().collect { String category, int i ->
+            [code: category, count: 10 + i * 7, price: 9.99 + i * 3, updated: UPDATED]
+        }
+        [categories: categories]
+    }
+
+}
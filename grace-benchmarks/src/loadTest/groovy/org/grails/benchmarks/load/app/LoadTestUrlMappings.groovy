@@ -0,0 +1,36 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.benchmarks.load.app
+
+import grails.artefact.Artefact
+
+/**
+ * The URL mappings of the load test application.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@Artefact('UrlMappings')
+class LoadTestUrlMappings {
+
+    static mappings = {
+        "/api/books"(controller: 'bookApi', action: 'index', method: 'GET')
+        "/api/books/$id"(controller: 'bookApi', action: 'update', method: 'PUT')
+        "/catalog"(controller: 'catalog', action: 'index')
+        "/$controller/$action?/$id?(.$format)?"()
+    }
+
+}
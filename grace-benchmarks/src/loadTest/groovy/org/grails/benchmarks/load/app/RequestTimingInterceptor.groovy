@@ -0,0 +1,52 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.benchmarks.load.app
+
+import grails.artefact.Artefact
+import grails.artefact.Interceptor
+
+/**
+ * Matches all the requests of the load test, adding the processing time of the action as a Server-Timing header.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@Artefact('Interceptor')
+class RequestTimingInterceptor implements Interceptor {
+
+    private static final String START_ATTRIBUTE = RequestTimingInterceptor.name + '.START'
+
+    RequestTimingInterceptor() {
+        matchAll()
+    }
+
+    boolean before() {
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime())
+        true
+    }
+
+    boolean after() {
+        Long start = (Long) request.getAttribute(START_ATTRIBUTE)
+        if (start != null && !response.committed) {
+            response.setHeader('Server-Timing', "action;dur=${(System.nanoTime() - start) / 1000000}")
+        }
+        true
+    }
+
+    void afterView() {
+    }
+
+}
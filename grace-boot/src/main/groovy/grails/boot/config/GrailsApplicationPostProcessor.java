@@ -18,6 +18,7 @@ package grails.boot.config;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -107,6 +108,8 @@ public class GrailsApplicationPostProcessor
 
     protected Set<Class<?>> classes;
 
+    protected Map<Class<?>, String> artefactTypes = Collections.emptyMap();
+
     protected boolean loadExternalBeans = true;
 
     protected boolean reloadingEnabled = RELOADING_ENABLED;
@@ -173,28 +176,64 @@ public class GrailsApplicationPostProcessor
     }
 
     protected void performGrailsInitializationSequence() {
-        this.pluginManager.doArtefactConfiguration();
-        this.grailsApplication.initialise();
+        StartupStep artefactConfigurationStep = this.applicationStartup.start("grails.application.artefact-handlers.configured");
+        try {
+            this.pluginManager.doArtefactConfiguration();
+            this.grailsApplication.initialise();
+        }
+        finally {
+            artefactConfigurationStep.end();
+        }
+
         // register plugin provided classes first, this gives the opportunity
         // for application classes to override those provided by a plugin
-        this.pluginManager.registerProvidedArtefacts(this.grailsApplication);
-        this.pluginManager.registerProvidedModules();
+        StartupStep providedArtefactsStep = this.applicationStartup.start("grails.application.artefacts.provided");
+        try {
+            this.pluginManager.registerProvidedArtefacts(this.grailsApplication);
+            this.pluginManager.registerProvidedModules();
+        }
+        finally {
+            providedArtefactsStep.end();
+        }
 
-        this.classes.forEach(this.grailsApplication::addArtefact);
+        StartupStep artefactsStep = this.applicationStartup.start("grails.application.artefacts.registered")
+                .tag("classCount", String.valueOf(this.classes.size()));
+        try {
+            for (Class<?> artefactClass : this.classes) {
+                // the type of indexed artefacts is known, so the class is not matched against every artefact handler
+                String artefactType = this.artefactTypes.get(artefactClass);
+                if (artefactType != null && this.grailsApplication.getArtefactHandler(artefactType) != null) {
+                    this.grailsApplication.addArtefact(artefactType, artefactClass);
+                }
+                else {
+                    this.grailsApplication.addArtefact(artefactClass);
+                }
+            }
+        }
+        finally {
+            artefactsStep.end();
+        }
     }
 
     protected Set<Class<?>> loadArtefactClasses() {
         StartupStep artefactStep = this.applicationStartup.start("grails.application.artefact-classes.loaded");
         GrailsComponentScanner scanner = new GrailsComponentScanner(this.applicationContext, this.applicationStartup);
-        Set<Class<?>> classes;
+        Set<Class<?>> classes = Collections.emptySet();
         try {
-            classes = scanner.scan(Artefact.class);
+            if (this.applicationContext.getEnvironment().getProperty(Settings.ARTEFACTS_INDEX_ENABLED, Boolean.class, true)) {
+                this.artefactTypes = scanner.scanWithIndexes(Artefact.class);
+                classes = new LinkedHashSet<>(this.artefactTypes.keySet());
+            }
+            else {
+                classes = scanner.scan(Artefact.class);
+            }
         }
         catch (ClassNotFoundException ignored) {
             classes = Collections.emptySet();
         }
-
-        artefactStep.tag("classCount", String.valueOf(classes.size())).end();
+        finally {
+            artefactStep.tag("classCount", String.valueOf(classes.size())).end();
+        }
         return classes;
     }
 
@@ -267,13 +306,21 @@ public class GrailsApplicationPostProcessor
         Holders.setGrailsApplication(application);
 
         // first register plugin beans
-        this.pluginManager.doRuntimeConfiguration(springConfig);
+        StartupStep pluginBeansStep = this.applicationStartup.start("grails.application.bean-definitions.plugins");
+        try {
+            this.pluginManager.doRuntimeConfiguration(springConfig);
+        }
+        finally {
+            pluginBeansStep.end();
+        }
 
         if (this.loadExternalBeans) {
             // now allow overriding via application
             ApplicationContext context = application.getMainContext();
             Resource beanResources = context.getResource(RuntimeSpringConfigUtilities.SPRING_RESOURCES_GROOVY);
             if (beanResources.exists()) {
+                StartupStep resourcesStep = this.applicationStartup.start("grails.application.bean-definitions.resources")
+                        .tag("resource", RuntimeSpringConfigUtilities.SPRING_RESOURCES_GROOVY);
                 try {
                     Map<String, Object> variables = CollectionUtils.newMap(
                             "application", application,
@@ -284,10 +331,15 @@ public class GrailsApplicationPostProcessor
                     this.log.error("Error loading spring/resources.groovy file: ${e.message}", e);
                     throw new GrailsConfigurationException("Error loading spring/resources.groovy file: ${e.message}", e);
                 }
+                finally {
+                    resourcesStep.end();
+                }
             }
 
             beanResources = context.getResource(RuntimeSpringConfigUtilities.SPRING_RESOURCES_XML);
             if (beanResources.exists()) {
+                StartupStep resourcesStep = this.applicationStartup.start("grails.application.bean-definitions.resources")
+                        .tag("resource", RuntimeSpringConfigUtilities.SPRING_RESOURCES_XML);
                 try {
                     new BeanBuilder(null, springConfig, application.getClassLoader())
                             .importBeans(beanResources);
@@ -296,6 +348,9 @@ public class GrailsApplicationPostProcessor
                     this.log.error("Error loading spring/resources.xml file: ${e.message}", e);
                     throw new GrailsConfigurationException("Error loading spring/resources.xml file: ${e.message}", e);
                 }
+                finally {
+                    resourcesStep.end();
+                }
             }
         }
 
@@ -306,10 +361,17 @@ public class GrailsApplicationPostProcessor
         if (this.lifeCycle != null) {
             Closure<?> withSpring = this.lifeCycle.doWithSpring();
             if (withSpring != null) {
-                BeanBuilder bb = new BeanBuilder(null, springConfig, application.getClassLoader());
-                bb.setBeanBuildResource(new DescriptiveResource(this.lifeCycle.getClass().getName()));
-                bb.setBinding(b);
-                bb.beans(withSpring);
+                StartupStep lifeCycleStep = this.applicationStartup.start("grails.application.bean-definitions.life-cycle")
+                        .tag("lifeCycle", this.lifeCycle.getClass().getName());
+                try {
+                    BeanBuilder bb = new BeanBuilder(null, springConfig, application.getClassLoader());
+                    bb.setBeanBuildResource(new DescriptiveResource(this.lifeCycle.getClass().getName()));
+                    bb.setBinding(b);
+                    bb.beans(withSpring);
+                }
+                finally {
+                    lifeCycleStep.end();
+                }
             }
         }
 
@@ -321,10 +383,17 @@ public class GrailsApplicationPostProcessor
         for (GrailsApplicationLifeCycle lifeCycle : lifeCycles) {
             Closure<?> withSpring = lifeCycle.doWithSpring();
             if (withSpring != null) {
-                BeanBuilder bb = new BeanBuilder(null, springConfig, application.getClassLoader());
-                bb.setBeanBuildResource(new DescriptiveResource(lifeCycle.getClass().getName()));
-                bb.setBinding(b);
-                bb.beans(withSpring);
+                StartupStep lifeCycleStep = this.applicationStartup.start("grails.application.bean-definitions.life-cycle")
+                        .tag("lifeCycle", lifeCycle.getClass().getName());
+                try {
+                    BeanBuilder bb = new BeanBuilder(null, springConfig, application.getClassLoader());
+                    bb.setBeanBuildResource(new DescriptiveResource(lifeCycle.getClass().getName()));
+                    bb.setBinding(b);
+                    bb.beans(withSpring);
+                }
+                finally {
+                    lifeCycleStep.end();
+                }
             }
         }
 
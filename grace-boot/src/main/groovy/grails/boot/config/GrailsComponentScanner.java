@@ -15,24 +15,41 @@
  */
 package grails.boot.config;
 
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
 import org.springframework.core.metrics.ApplicationStartup;
 import org.springframework.core.metrics.StartupStep;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ResourceUtils;
 import org.springframework.util.StringUtils;
 
+import org.grails.io.support.ArtefactIndex;
+
 /**
  * A Grails classes scanner that searches the classpath from an {@link GrailsComponentScanner @GrailsComponentScanner}
  * specified packages.
@@ -42,6 +59,8 @@ import org.springframework.util.StringUtils;
  */
 public class GrailsComponentScanner {
 
+    private static final Log logger = LogFactory.getLog(GrailsComponentScanner.class);
+
     private final ApplicationContext context;
 
     private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
@@ -68,27 +87,171 @@ public class GrailsComponentScanner {
      */
     @SafeVarargs
     public final Set<Class<?>> scan(Class<? extends Annotation>... annotationTypes) throws ClassNotFoundException {
-        StartupStep artefactScan = this.applicationStartup.start("grails.application.artefact-classes.scan");
+        return scan(getPackages(), Collections.emptySet(), annotationTypes);
+    }
+
+    /**
+     * Loads the artefact classes of the specified packages from the artefact indexes generated at build time,
+     * and scans the classpath roots that have no index, such as an application without an index
+     * using plugins with one. The classpath roots of an index that is stale, because a listed class is missing
+     * or no longer annotated, or because its classes directory has been compiled again, are scanned too.
+     * @param annotationType the annotation type used on the artefacts
+     * @return the artefact classes with their artefact type, which is null for the scanned classes
+     * @throws ClassNotFoundException if a scanned artefact class cannot be loaded
+     * @see ArtefactIndex
+     */
+    public Map<Class<?>, String> scanWithIndexes(Class<? extends Annotation> annotationType) throws ClassNotFoundException {
         List<String> packages = getPackages();
+        Map<Class<?>, String> artefacts = new LinkedHashMap<>();
         if (packages.isEmpty()) {
-            artefactScan.tag("packages", "[]").end();
-            return Collections.emptySet();
+            return artefacts;
         }
-        ClassPathScanningCandidateComponentProvider scanner = createClassPathScanningCandidateComponentProvider(
-                this.context);
-        for (Class<? extends Annotation> annotationType : annotationTypes) {
-            scanner.addIncludeFilter(new AnnotationTypeFilter(annotationType));
+        Set<String> indexedRoots = loadIndexes(annotationType, packages, artefacts);
+        for (Class<?> artefactClass : scan(packages, indexedRoots, annotationType)) {
+            artefacts.putIfAbsent(artefactClass, null);
         }
-        Set<Class<?>> entitySet = new HashSet<>();
-        for (String basePackage : packages) {
-            if (StringUtils.hasText(basePackage)) {
-                for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
-                    entitySet.add(ClassUtils.forName(candidate.getBeanClassName(), this.context.getClassLoader()));
+        return artefacts;
+    }
+
+    @SafeVarargs
+    private Set<Class<?>> scan(List<String> packages, Set<String> excludedRoots,
+            Class<? extends Annotation>... annotationTypes) throws ClassNotFoundException {
+        StartupStep artefactScan = this.applicationStartup.start("grails.application.artefact-classes.scan");
+        try {
+            artefactScan.tag("packages", Arrays.toString(packages.toArray()));
+            if (packages.isEmpty()) {
+                return Collections.emptySet();
+            }
+            ClassPathScanningCandidateComponentProvider scanner = createClassPathScanningCandidateComponentProvider(
+                    this.context);
+            if (!excludedRoots.isEmpty()) {
+                scanner.setResourceLoader(new RootExcludingResourcePatternResolver(this.context, excludedRoots));
+            }
+            for (Class<? extends Annotation> annotationType : annotationTypes) {
+                scanner.addIncludeFilter(new AnnotationTypeFilter(annotationType));
+            }
+            Set<Class<?>> entitySet = new HashSet<>();
+            for (String basePackage : packages) {
+                if (StringUtils.hasText(basePackage)) {
+                    for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                        entitySet.add(ClassUtils.forName(candidate.getBeanClassName(), this.context.getClassLoader()));
+                    }
+                }
+            }
+            artefactScan.tag("classCount", String.valueOf(entitySet.size()));
+            return entitySet;
+        }
+        finally {
+            artefactScan.end();
+        }
+    }
+
+    /**
+     * Loads the artefacts of the packages from every index in the classpath that is not stale
+     * @return the classpath roots covered by the indexes
+     */
+    private Set<String> loadIndexes(Class<? extends Annotation> annotationType, List<String> packages,
+            Map<Class<?>, String> artefacts) {
+        StartupStep artefactIndex = this.applicationStartup.start("grails.application.artefact-classes.index");
+        Set<String> indexedRoots = new LinkedHashSet<>();
+        int indexCount = 0;
+        try {
+            Enumeration<URL> indexes = this.context.getClassLoader().getResources(ArtefactIndex.INDEX_LOCATION);
+            while (indexes.hasMoreElements()) {
+                URL indexUrl = indexes.nextElement();
+                Set<String> roots = new LinkedHashSet<>();
+                try {
+                    artefacts.putAll(loadIndex(indexUrl, annotationType, packages, roots));
+                    indexedRoots.addAll(roots);
+                    indexCount++;
+                }
+                catch (IOException | ClassNotFoundException | LinkageError | IllegalStateException ex) {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Artefact index [" + indexUrl + "] is stale, falling back to classpath scanning: " + ex.getMessage());
+                    }
                 }
             }
         }
-        artefactScan.tag("packages", Arrays.toString(packages.toArray())).end();
-        return entitySet;
+        catch (IOException ex) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Artefact indexes can not be found, falling back to classpath scanning: " + ex.getMessage());
+            }
+        }
+        finally {
+            artefactIndex.tag("indexCount", String.valueOf(indexCount))
+                    .tag("classCount", String.valueOf(artefacts.size()))
+                    .end();
+        }
+        return indexedRoots;
+    }
+
+    /**
+     * Loads the artefacts of the packages from an index, the index covers its own classpath root
+     * and the classpath roots of the listed classes
+     */
+    private Map<Class<?>, String> loadIndex(URL indexUrl, Class<? extends Annotation> annotationType, List<String> packages,
+            Set<String> roots) throws IOException, ClassNotFoundException {
+        ArtefactIndex index;
+        try (InputStream input = indexUrl.openStream()) {
+            index = ArtefactIndex.read(input);
+        }
+        ClassLoader classLoader = this.context.getClassLoader();
+        Set<String> classRoots = new LinkedHashSet<>();
+        Map<Class<?>, String> artefacts = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : index.getArtefacts().entrySet()) {
+            String className = entry.getKey();
+            if (!isInPackages(className, packages)) {
+                continue;
+            }
+            String classFile = ClassUtils.convertClassNameToResourcePath(className) + ClassUtils.CLASS_FILE_SUFFIX;
+            URL classUrl = classLoader != null ? classLoader.getResource(classFile) : null;
+            if (classUrl == null) {
+                throw new ClassNotFoundException(className);
+            }
+            String location = normalizeLocation(classUrl);
+            classRoots.add(location.substring(0, location.length() - classFile.length()));
+            Class<?> artefactClass = ClassUtils.forName(className, classLoader);
+            if (!artefactClass.isAnnotationPresent(annotationType)) {
+                throw new IllegalStateException("Class [" + className + "] is no longer annotated with " + annotationType);
+            }
+            artefacts.put(artefactClass, entry.getValue());
+        }
+        for (String classRoot : classRoots) {
+            URL classRootUrl = new URL(classRoot);
+            if (ResourceUtils.isFileURL(classRootUrl)
+                    && !index.getDigests().contains(ArtefactIndex.digest(ResourceUtils.getFile(classRootUrl)))) {
+                throw new IllegalStateException("Classes directory [" + classRoot + "] has changed since the index was generated");
+            }
+        }
+        String indexLocation = normalizeLocation(indexUrl);
+        roots.add(indexLocation.substring(0, indexLocation.length() - ArtefactIndex.INDEX_LOCATION.length()));
+        roots.addAll(classRoots);
+        return artefacts;
+    }
+
+    private static boolean isInPackages(String className, List<String> packages) {
+        for (String basePackage : packages) {
+            if (StringUtils.hasText(basePackage) && className.startsWith(basePackage + '.')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Normalizes the location of a file in a classes directory, which is not always written the same way
+     * by the class loader and the resource pattern resolver
+     */
+    private static String normalizeLocation(URL url) {
+        if (!ResourceUtils.isFileURL(url)) {
+            return url.toString();
+        }
+        try {
+            return ResourceUtils.getFile(url).toPath().toUri().toString();
+        }
+        catch (FileNotFoundException ex) {
+            return url.toString();
+        }
     }
 
     /**
@@ -115,4 +278,51 @@ public class GrailsComponentScanner {
         return packages;
     }
 
+    /**
+     * Leaves the classpath roots covered by an artefact index out of the scanned resources
+     */
+    private static final class RootExcludingResourcePatternResolver implements ResourcePatternResolver {
+
+        private final ResourcePatternResolver delegate;
+
+        private final Set<String> excludedRoots;
+
+        RootExcludingResourcePatternResolver(ResourcePatternResolver delegate, Set<String> excludedRoots) {
+            this.delegate = delegate;
+            this.excludedRoots = excludedRoots;
+        }
+
+        @Override
+        public Resource[] getResources(String locationPattern) throws IOException {
+            List<Resource> resources = new ArrayList<>();
+            for (Resource resource : this.delegate.getResources(locationPattern)) {
+                if (!isExcluded(resource)) {
+                    resources.add(resource);
+                }
+            }
+            return resources.toArray(new Resource[0]);
+        }
+
+        private boolean isExcluded(Resource resource) throws IOException {
+            String location = normalizeLocation(resource.getURL());
+            for (String root : this.excludedRoots) {
+                if (location.startsWith(root)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Resource getResource(String location) {
+            return this.delegate.getResource(location);
+        }
+
+        @Override
+        public ClassLoader getClassLoader() {
+            return this.delegate.getClassLoader();
+        }
+
+    }
+
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package grails.boot.config;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+import grails.config.Settings;
+import grails.util.VirtualThreads;
+
+import org.grails.boot.context.metrics.VirtualThreadPinningRecorder;
+
+/**
+ * {@link org.springframework.boot.autoconfigure.EnableAutoConfiguration Auto-configuration} that runs
+ * the requests of the embedded Tomcat and the {@code @Async} methods on virtual threads,
+ * if {@code grails.threads.virtual} is enabled and the JVM supports virtual threads.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ * @see VirtualThreads
+ */
+@AutoConfiguration(before = TaskExecutionAutoConfiguration.class)
+@Conditional(GrailsVirtualThreadsAutoConfiguration.OnVirtualThreadsCondition.class)
+public class GrailsVirtualThreadsAutoConfiguration {
+
+    @Bean(name = { TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, "taskExecutor" })
+    public SimpleAsyncTaskExecutor applicationTaskExecutor() {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor();
+        taskExecutor.setThreadFactory(VirtualThreads.newThreadFactory("grails-task-"));
+        return taskExecutor;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "grails.threads.pinningReport", name = "enabled", matchIfMissing = true)
+    public VirtualThreadPinningRecorder virtualThreadPinningRecorder(Environment environment) {
+        String threshold = environment.getProperty(Settings.THREADS_PINNING_REPORT_THRESHOLD);
+        return new VirtualThreadPinningRecorder(threshold != null ? DurationStyle.detectAndParse(threshold) : Duration.ofMillis(20));
+    }
+
+    /**
+     * Runs the requests of the embedded Tomcat on virtual threads, the executor is shut down
+     * when the application context is closed, after the web server has been stopped.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.apache.catalina.startup.Tomcat")
+    static class TomcatVirtualThreadsConfiguration implements DisposableBean {
+
+        private final ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("grails-http-");
+
+        @Bean
+        TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadsProtocolHandlerCustomizer() {
+            return protocolHandler -> protocolHandler.setExecutor(this.executor);
+        }
+
+        @Override
+        public void destroy() {
+            this.executor.shutdown();
+        }
+
+    }
+
+    static class OnVirtualThreadsCondition extends SpringBootCondition {
+
+        private static final Log logger = LogFactory.getLog(GrailsVirtualThreadsAutoConfiguration.class);
+
+        @Override
+        public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            if (!context.getEnvironment().getProperty(Settings.THREADS_VIRTUAL, Boolean.class, false)) {
+                return ConditionOutcome.noMatch(Settings.THREADS_VIRTUAL + " is not enabled");
+            }
+            if (!VirtualThreads.isSupported()) {
+                logger.warn(Settings.THREADS_VIRTUAL + " is enabled, but virtual threads require Java 21 or later, " +
+                        "platform threads are used instead");
+                return ConditionOutcome.noMatch(Settings.THREADS_VIRTUAL + " is enabled, but virtual threads require Java 21 or later");
+            }
+            return ConditionOutcome.match("virtual threads are enabled");
+        }
+
+    }
+
+}
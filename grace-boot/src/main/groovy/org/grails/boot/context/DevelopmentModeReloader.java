@@ -0,0 +1,327 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.boot.context;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.codehaus.groovy.control.CompilationFailedException;
+import org.codehaus.groovy.control.CompilationUnit;
+import org.codehaus.groovy.control.CompilerConfiguration;
+
+import grails.compiler.ast.ClassInjector;
+import grails.plugins.GrailsPluginManager;
+import grails.util.BuildSettings;
+import org.grails.boot.internal.JavaCompiler;
+import org.grails.compiler.injection.AbstractGrailsArtefactTransformer;
+import org.grails.compiler.injection.GrailsAwareInjectionOperation;
+import org.grails.io.support.GrailsResourceUtils;
+
+/**
+ * Reloads the files changed in development mode in batches. The changes reported by the file watcher are coalesced
+ * until no further change has been reported for the quiet period, or for at most the max delay while changes keep
+ * being reported. The changed sources of a batch are then recompiled together, Java sources first, and the plugin
+ * manager is informed of the whole batch at once, so that every plugin refreshes its artefacts once per burst
+ * of changes instead of once per changed file.
+ *
+ * <p>The artefacts affected by a change and their dependents are not computed, as there is no dependency graph
+ * between artefacts: the changed sources are compiled in the same unit so that they resolve against each other,
+ * and refreshing the artefacts that depend on them is left to the observers of the plugins.
+ *
+ * <p>The time taken by every reload cycle is logged.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ * @see GrailsPluginManager#informOfFileChanges(Collection)
+ */
+public class DevelopmentModeReloader implements Runnable {
+
+    private static final Log logger = LogFactory.getLog(DevelopmentModeReloader.class);
+
+    static final Duration DEFAULT_QUIET_PERIOD = Duration.ofMillis(300);
+
+    static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(3);
+
+    private static final List<String> SOURCE_DIRECTORIES = List.of(BuildSettings.GRAILS_APP_PATH, "src/main/java", "src/main/groovy");
+
+    private final GrailsPluginManager pluginManager;
+
+    private final long quietPeriodNanos;
+
+    private final long maxDelayNanos;
+
+    private final Lock lock = new ReentrantLock();
+
+    private final Condition changed = this.lock.newCondition();
+
+    private final Set<File> changedFiles = new LinkedHashSet<>();
+
+    private long firstChangeTime;
+
+    private long lastChangeTime;
+
+    private volatile boolean active = true;
+
+    public DevelopmentModeReloader(GrailsPluginManager pluginManager) {
+        this(pluginManager, DEFAULT_QUIET_PERIOD, DEFAULT_MAX_DELAY);
+    }
+
+    public DevelopmentModeReloader(GrailsPluginManager pluginManager, Duration quietPeriod, Duration maxDelay) {
+        this.pluginManager = pluginManager;
+        this.quietPeriodNanos = quietPeriod.toNanos();
+        this.maxDelayNanos = Math.max(maxDelay.toNanos(), this.quietPeriodNanos);
+    }
+
+    /**
+     * Records a changed file to be reloaded with the next batch, a file changed several times is reloaded once
+     *
+     * @param file The changed file
+     */
+    public void fileChanged(File file) {
+        File changedFile;
+        try {
+            changedFile = file.getCanonicalFile();
+        }
+        catch (IOException e) {
+            changedFile = file.getAbsoluteFile();
+        }
+        this.lock.lock();
+        try {
+            long now = System.nanoTime();
+            if (this.changedFiles.isEmpty()) {
+                this.firstChangeTime = now;
+            }
+            this.lastChangeTime = now;
+            this.changedFiles.add(changedFile);
+            this.changed.signalAll();
+        }
+        finally {
+            this.lock.unlock();
+        }
+    }
+
+    public boolean isActive() {
+        return this.active;
+    }
+
+    /**
+     * Stops reloading, the changes not reloaded yet are discarded
+     */
+    public void stop() {
+        this.lock.lock();
+        try {
+            this.active = false;
+            this.changed.signalAll();
+        }
+        finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void run() {
+        while (isActive()) {
+            Set<File> files;
+            try {
+                files = awaitChanges();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (!files.isEmpty()) {
+                try {
+                    reload(files);
+                }
+                catch (RuntimeException e) {
+                    logger.error(String.format("Reloading changed files failed: %s", e.getMessage()), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits until changes have been reported and then until the quiet period has passed since the last change,
+     * or the max delay since the first one
+     *
+     * @return The changed files, or an empty set when stopped
+     * @throws InterruptedException if interrupted while waiting
+     */
+    Set<File> awaitChanges() throws InterruptedException {
+        this.lock.lock();
+        try {
+            while (this.active) {
+                if (this.changedFiles.isEmpty()) {
+                    this.changed.await();
+                    continue;
+                }
+                long now = System.nanoTime();
+                long remaining = Math.min(this.lastChangeTime + this.quietPeriodNanos - now,
+                        this.firstChangeTime + this.maxDelayNanos - now);
+                if (remaining <= 0) {
+                    Set<File> files = new LinkedHashSet<>(this.changedFiles);
+                    this.changedFiles.clear();
+                    return files;
+                }
+                this.changed.awaitNanos(remaining);
+            }
+            return Collections.emptySet();
+        }
+        finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Recompiles the changed sources of the application together and informs the plugin manager of the changed files.
+     * The Java or Groovy sources that fail to compile are left out, so that the plugins keep using their previous classes.
+     *
+     * @param files The changed files
+     */
+    void reload(Collection<File> files) {
+        long start = System.nanoTime();
+        String confPath = canonicalPath(new File(BuildSettings.GRAILS_APP_DIR, "conf")) + File.separator;
+        String i18nPath = canonicalPath(new File(BuildSettings.GRAILS_APP_DIR, "i18n")) + File.separator;
+        List<String> sourcePaths = new ArrayList<>(SOURCE_DIRECTORIES.size());
+        for (String dir : SOURCE_DIRECTORIES) {
+            sourcePaths.add(canonicalPath(new File(BuildSettings.BASE_DIR, dir)) + File.separator);
+        }
+
+        List<File> changes = new ArrayList<>(files.size());
+        List<File> sources = new ArrayList<>();
+        for (File file : files) {
+            if (logger.isDebugEnabled()) {
+                logger.debug(String.format("WatchService found file changed [%s]",
+                        GrailsResourceUtils.getPathFromBaseDir(file.getAbsolutePath())));
+            }
+            String path = canonicalPath(file);
+            // Groovy files within the 'conf' and 'i18n' directory are not compiled
+            if (isSource(file) && !path.startsWith(confPath) && !path.startsWith(i18nPath)
+                    && sourcePaths.stream().anyMatch(path::startsWith)) {
+                sources.add(file);
+            }
+            else {
+                changes.add(file);
+            }
+        }
+
+        if (!sources.isEmpty()) {
+            changes.addAll(compile(new File(BuildSettings.BASE_DIR, BuildSettings.BUILD_CLASSES_PATH), sources));
+        }
+        long compileTime = System.nanoTime() - start;
+
+        if (!changes.isEmpty()) {
+            this.pluginManager.informOfFileChanges(changes);
+        }
+
+        if (logger.isInfoEnabled()) {
+            logger.info(String.format("Reloaded %d changed file(s) in %d ms, recompiling %d source(s) took %d ms",
+                    changes.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                    sources.size(), TimeUnit.NANOSECONDS.toMillis(compileTime)));
+        }
+    }
+
+    /**
+     * Compiles the given sources together into the target directory, the Java sources first and then the Groovy sources,
+     * which are not compiled when the Java sources they may use fail to compile
+     *
+     * @param targetDirectory The classes directory
+     * @param sources The Groovy and Java sources
+     * @return the sources that were compiled
+     */
+    List<File> compile(File targetDirectory, List<File> sources) {
+        CompilerConfiguration compilerConfig = new CompilerConfiguration();
+        compilerConfig.setTargetDirectory(targetDirectory);
+
+        List<File> javaSources = new ArrayList<>();
+        List<File> groovySources = new ArrayList<>();
+        for (File source : sources) {
+            if (source.getName().endsWith(".java")) {
+                javaSources.add(source);
+            }
+            else {
+                groovySources.add(source);
+            }
+        }
+
+        if (logger.isDebugEnabled()) {
+            logger.debug(String.format("Recompiling %d changed file(s)... %s", sources.size(), sources));
+        }
+
+        List<File> compiled = new ArrayList<>(sources.size());
+        if (!javaSources.isEmpty()) {
+            if (!JavaCompiler.isAvailable()) {
+                logger.error(String.format("Cannot recompile %s, " +
+                        "the current JVM is not a JDK (recompilation will not work on a JRE missing the compiler APIs).", javaSources));
+            }
+            else if (JavaCompiler.recompile(compilerConfig, javaSources.toArray(new File[0]))) {
+                compiled.addAll(javaSources);
+            }
+            else {
+                logger.error(String.format("Compilation Error: %s", javaSources));
+                return compiled;
+            }
+        }
+
+        if (!groovySources.isEmpty()) {
+            for (ClassInjector classInjector : GrailsAwareInjectionOperation.getClassInjectors()) {
+                if (classInjector instanceof AbstractGrailsArtefactTransformer) {
+                    ((AbstractGrailsArtefactTransformer) classInjector).clearCachedState();
+                }
+            }
+            CompilationUnit unit = new CompilationUnit(compilerConfig);
+            for (File source : groovySources) {
+                unit.addSource(source);
+            }
+            try {
+                unit.compile();
+                compiled.addAll(groovySources);
+            }
+            catch (CompilationFailedException e) {
+                logger.error(String.format("Compilation Error: %s", e.getMessage()), e);
+            }
+        }
+        return compiled;
+    }
+
+    private static boolean isSource(File file) {
+        String name = file.getName();
+        return name.endsWith(".groovy") || name.endsWith(".java");
+    }
+
+    private static String canonicalPath(File file) {
+        try {
+            return file.getCanonicalPath();
+        }
+        catch (IOException e) {
+            return file.getAbsolutePath();
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.boot.context;
+
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.metrics.ApplicationStartup;
+
+import grails.config.Settings;
+
+import org.grails.boot.context.metrics.GrailsApplicationStartup;
+
+/**
+ * {@link ApplicationContextInitializer} to record the startup steps of the application context
+ * with a {@link GrailsApplicationStartup}, if {@code grails.startup.timeline.enabled} is set
+ * and no other {@link ApplicationStartup} has been configured.
+ *
+ * @author Michael Yan
+ * @see GrailsApplicationStartup
+ * @since 2023.0.0
+ */
+public class GrailsApplicationStartupApplicationContextInitializer implements
+        ApplicationContextInitializer<ConfigurableApplicationContext>, Ordered {
+
+    private int order = Ordered.HIGHEST_PRECEDENCE;
+
+    public void setOrder(int order) {
+        this.order = order;
+    }
+
+    @Override
+    public int getOrder() {
+        return this.order;
+    }
+
+    @Override
+    public void initialize(ConfigurableApplicationContext applicationContext) {
+        ConfigurableEnvironment environment = applicationContext.getEnvironment();
+        if (environment.getProperty(Settings.STARTUP_TIMELINE_ENABLED, Boolean.class, false)
+                && applicationContext.getApplicationStartup() == ApplicationStartup.DEFAULT) {
+            int capacity = environment.getProperty(Settings.STARTUP_TIMELINE_CAPACITY, Integer.class,
+                    GrailsApplicationStartup.DEFAULT_CAPACITY);
+            applicationContext.setApplicationStartup(new GrailsApplicationStartup(capacity));
+        }
+    }
+
+}
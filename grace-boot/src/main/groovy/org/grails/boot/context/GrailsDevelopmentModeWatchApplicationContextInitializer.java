@@ -20,37 +20,27 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Queue;
-import java.util.Set;
-import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.codehaus.groovy.control.CompilationFailedException;
-import org.codehaus.groovy.control.CompilationUnit;
-import org.codehaus.groovy.control.CompilerConfiguration;
 import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.convert.DurationStyle;
 import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.event.ContextClosedEvent;
 import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.lang.NonNull;
 
-import grails.compiler.ast.ClassInjector;
+import grails.config.Settings;
 import grails.plugins.GrailsPlugin;
 import grails.plugins.GrailsPluginManager;
 import grails.util.BuildSettings;
 import grails.util.Environment;
-import org.grails.boot.internal.JavaCompiler;
-import org.grails.compiler.injection.AbstractGrailsArtefactTransformer;
-import org.grails.compiler.injection.GrailsAwareInjectionOperation;
-import org.grails.io.support.GrailsResourceUtils;
 import org.grails.io.watch.DirectoryWatcher;
-import org.grails.io.watch.FileExtensionFileChangeListener;
 import org.grails.plugins.BinaryGrailsPlugin;
 import org.grails.plugins.support.WatchPattern;
 
@@ -70,8 +60,8 @@ public class GrailsDevelopmentModeWatchApplicationContextInitializer implements
     private static final String SOURCE_MAIN_JAVA = "src/main/java";
     private static final String SOURCE_MAIN_GROOVY = "src/main/groovy";
 
-    private boolean developmentModeActive = false;
     private DirectoryWatcher directoryWatcher;
+    private DevelopmentModeReloader reloader;
 
     private int order = Ordered.LOWEST_PRECEDENCE - 10;
 
@@ -120,35 +110,24 @@ public class GrailsDevelopmentModeWatchApplicationContextInitializer implements
         String location = environment.getReloadLocation();
 
         if (location != null && location.length() > 0) {
-            this.directoryWatcher = new DirectoryWatcher();
-
-            Queue<File> changedFiles = new ConcurrentLinkedQueue<>();
-            Queue<File> newFiles = new ConcurrentLinkedQueue<>();
+            final GrailsPluginManager pluginManager = applicationContext.getBean(GrailsPluginManager.BEAN_NAME, GrailsPluginManager.class);
+            DevelopmentModeReloader reloader = createReloader(applicationContext, pluginManager);
 
-            this.directoryWatcher.addListener(new FileExtensionFileChangeListener(FILE_EXTENSIONS) {
+            this.directoryWatcher = new DirectoryWatcher();
+            this.directoryWatcher.addListener(new DirectoryWatcher.FileChangeListener() {
 
                 @Override
-                public void onChange(File file, List<String> extensions) throws IOException {
-                    changedFiles.add(file.getCanonicalFile());
+                public void onChange(File file) {
+                    reloader.fileChanged(file);
                 }
 
                 @Override
-                public void onNew(File file, List<String> extensions) throws IOException {
-                    changedFiles.add(file.getCanonicalFile());
-                    // For some bizarre reason Windows fires onNew events even for files that have
-                    // just been modified and not created
-                    if (System.getProperty("os.name").toLowerCase().contains("windows")) {
-                        return;
-                    }
-                    newFiles.add(file.getCanonicalFile());
+                public void onNew(File file) {
+                    reloader.fileChanged(file);
                 }
 
             });
 
-            final GrailsPluginManager pluginManager = applicationContext.getBean(GrailsPluginManager.BEAN_NAME, GrailsPluginManager.class);
-            DirectoryWatcher.FileChangeListener pluginManagerListener = createPluginManagerListener(applicationContext);
-            this.directoryWatcher.addListener(pluginManagerListener);
-
             File baseDir = new File(location).getCanonicalFile();
             String baseDirPath = baseDir.getCanonicalPath();
             List<File> watchBaseDirectories = new ArrayList<>(Collections.singletonList(baseDir));
@@ -212,155 +191,31 @@ public class GrailsDevelopmentModeWatchApplicationContextInitializer implements
                 }
             }
 
-            this.developmentModeActive = true;
-            new Thread(() -> {
-                CompilerConfiguration compilerConfig = new CompilerConfiguration();
-                compilerConfig.setTargetDirectory(new File(location, BuildSettings.BUILD_CLASSES_PATH));
-
-                while (isDevelopmentModeActive()) {
-                    // Workaround for some IDE / OS combos - 2 events (new + update) for the same file
-                    Set<File> uniqueChangedFiles = new HashSet<>(Arrays.asList(changedFiles.toArray(new File[0])));
-
-                    int count = uniqueChangedFiles.size();
-                    try {
-                        if (count > 0) {
-                            changedFiles.clear();
-                            for (File changedFile : uniqueChangedFiles) {
-                                logger.debug(String.format("WatchService found file changed [%s]",
-                                        GrailsResourceUtils.getPathFromBaseDir(changedFile.getAbsolutePath())));
-
-                                changedFile = changedFile.getCanonicalFile();
-                                // Groovy files within the 'conf' and 'i18n' directory are not compiled
-                                boolean configFileChanged = false;
-                                boolean i18nFileChanged = false;
-                                String confPath = new File(BuildSettings.GRAILS_APP_DIR, "conf").getAbsolutePath();
-                                String i18nPath = new File(BuildSettings.GRAILS_APP_DIR, "i18n").getAbsolutePath();
-                                if (changedFile.getPath().contains(confPath)) {
-                                    configFileChanged = true;
-                                }
-                                if (changedFile.getPath().contains(i18nPath)) {
-                                    i18nFileChanged = true;
-                                }
-                                if (configFileChanged || i18nFileChanged) {
-                                    pluginManager.informOfFileChange(changedFile);
-                                }
-                                else {
-                                    recompile(changedFile, compilerConfig, location);
-                                    newFiles.remove(changedFile);
-                                    pluginManager.informOfFileChange(changedFile);
-                                }
-                            }
-                        }
-
-                        newFiles.clear();
-                    }
-                    catch (CompilationFailedException | IOException cfe) {
-                        logger.error(String.format("Compilation Error: %s", cfe.getMessage()), cfe);
-                    }
-
-                    try {
-                        Thread.sleep(1000);
-                    }
-                    catch (InterruptedException ignored) {
-                        Thread.currentThread().interrupt();
-                    }
-                }
-            }).start();
+            this.reloader = reloader;
+            Thread reloaderThread = new Thread(reloader, "grails-development-reloader");
+            reloaderThread.setDaemon(true);
+            reloaderThread.start();
             this.directoryWatcher.start();
         }
     }
 
-    private boolean isDevelopmentModeActive() {
-        return this.developmentModeActive;
-    }
-
     private void setDevelopmentModeActive(boolean active) {
-        this.developmentModeActive = active;
         if (this.directoryWatcher != null) {
             this.directoryWatcher.setActive(active);
         }
-    }
-
-    private void recompile(File changedFile, CompilerConfiguration compilerConfig, String location) {
-        String changedPath = changedFile.getPath();
-
-        String grailsAppPath = BuildSettings.GRAILS_APP_PATH;
-
-        File appDir = null;
-        boolean sourceFileChanged = false;
-        for (String dir : Arrays.asList(grailsAppPath, SOURCE_MAIN_JAVA, SOURCE_MAIN_GROOVY)) {
-            String changedDir = new File(BuildSettings.BASE_DIR, dir).getAbsolutePath();
-            if (changedPath.contains(changedDir)) {
-                appDir = new File(changedPath.substring(0, changedPath.indexOf(changedDir)));
-                sourceFileChanged = true;
-                break;
-            }
-        }
-
-        if (!sourceFileChanged) {
-            return;
-        }
-
-        String baseFileLocation = appDir.getAbsolutePath();
-        compilerConfig.setTargetDirectory(new File(baseFileLocation, BuildSettings.BUILD_CLASSES_PATH));
-
-        logger.debug(String.format("Recompiling changed file... [%s]",
-                GrailsResourceUtils.getPathFromBaseDir(changedFile.getAbsolutePath())));
-
-        if (changedFile.getName().endsWith(".java")) {
-            if (JavaCompiler.isAvailable()) {
-                JavaCompiler.recompile(compilerConfig, changedFile);
-            }
-            else {
-                logger.error(String.format("Cannot recompile [%s], " +
-                                "the current JVM is not a JDK (recompilation will not work on a JRE missing the compiler APIs).",
-                        changedFile.getName()));
-            }
-        }
-        else {
-            compileGroovyFile(compilerConfig, changedFile);
+        if (!active && this.reloader != null) {
+            this.reloader.stop();
         }
     }
 
-    private void compileGroovyFile(CompilerConfiguration compilerConfig, File changedFile) {
-        ClassInjector[] classInjectors = GrailsAwareInjectionOperation.getClassInjectors();
-        for (ClassInjector classInjector : classInjectors) {
-            if (classInjector instanceof AbstractGrailsArtefactTransformer) {
-                ((AbstractGrailsArtefactTransformer) classInjector).clearCachedState();
-            }
-        }
-        // only one change, just to a simple recompile and propagate the change
-        CompilationUnit unit = new CompilationUnit(compilerConfig);
-        unit.addSource(changedFile);
-        unit.compile();
-    }
-
-    /**
-     * Creates and returns a file change listener for notifying the plugin manager of changes.
-     *
-     * @param applicationContext - The running {@link org.springframework.context.ApplicationContext}
-     * @return {@link DirectoryWatcher.FileChangeListener}
-     */
-    private static DirectoryWatcher.FileChangeListener createPluginManagerListener(ConfigurableApplicationContext applicationContext) {
-        final GrailsPluginManager pluginManager = applicationContext.getBean(GrailsPluginManager.BEAN_NAME, GrailsPluginManager.class);
-
-        return new DirectoryWatcher.FileChangeListener() {
-
-            @Override
-            public void onChange(File file) {
-                if (!file.getName().endsWith(".groovy") && !file.getName().endsWith(".java")) {
-                    pluginManager.informOfFileChange(file);
-                }
-            }
-
-            @Override
-            public void onNew(File file) {
-                if (!file.getName().endsWith(".groovy") && !file.getName().endsWith(".java")) {
-                    pluginManager.informOfFileChange(file);
-                }
-            }
-
-        };
+    private static DevelopmentModeReloader createReloader(ConfigurableApplicationContext applicationContext,
+                                                          GrailsPluginManager pluginManager) {
+        ConfigurableEnvironment env = applicationContext.getEnvironment();
+        String quietPeriod = env.getProperty(Settings.RELOAD_QUIET_PERIOD);
+        String maxDelay = env.getProperty(Settings.RELOAD_MAX_DELAY);
+        return new DevelopmentModeReloader(pluginManager,
+                quietPeriod != null ? DurationStyle.detectAndParse(quietPeriod) : DevelopmentModeReloader.DEFAULT_QUIET_PERIOD,
+                maxDelay != null ? DurationStyle.detectAndParse(maxDelay) : DevelopmentModeReloader.DEFAULT_MAX_DELAY);
     }
 
     private void configureDirectoryWatcher(DirectoryWatcher directoryWatcher, String location) {
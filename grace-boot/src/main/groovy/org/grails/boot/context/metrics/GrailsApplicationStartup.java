@@ -0,0 +1,122 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.boot.context.metrics;
+
+import java.util.function.Supplier;
+
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+/**
+ * A {@link BufferingApplicationStartup} that also records every step as a JFR {@link StartupStepEvent},
+ * so that the startup timeline is available both from the buffer, for example through the
+ * startup endpoints, and in flight recordings together with the other JFR events.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+public class GrailsApplicationStartup extends BufferingApplicationStartup {
+
+    /**
+     * The default number of buffered steps
+     */
+    public static final int DEFAULT_CAPACITY = 10000;
+
+    public GrailsApplicationStartup() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public GrailsApplicationStartup(int capacity) {
+        super(capacity);
+    }
+
+    @Override
+    public StartupStep start(String name) {
+        StartupStep step = super.start(name);
+        StartupStepEvent event = new StartupStepEvent();
+        if (!event.isEnabled()) {
+            return step;
+        }
+        event.begin();
+        return new RecordingStartupStep(step, event);
+    }
+
+    private static final class RecordingStartupStep implements StartupStep {
+
+        private final StartupStep step;
+
+        private final StartupStepEvent event;
+
+        RecordingStartupStep(StartupStep step, StartupStepEvent event) {
+            this.step = step;
+            this.event = event;
+        }
+
+        @Override
+        public String getName() {
+            return this.step.getName();
+        }
+
+        @Override
+        public long getId() {
+            return this.step.getId();
+        }
+
+        @Override
+        public Long getParentId() {
+            return this.step.getParentId();
+        }
+
+        @Override
+        public StartupStep tag(String key, String value) {
+            this.step.tag(key, value);
+            return this;
+        }
+
+        @Override
+        public StartupStep tag(String key, Supplier<String> value) {
+            this.step.tag(key, value);
+            return this;
+        }
+
+        @Override
+        public Tags getTags() {
+            return this.step.getTags();
+        }
+
+        @Override
+        public void end() {
+            this.step.end();
+            this.event.end();
+            if (this.event.shouldCommit()) {
+                this.event.id = this.step.getId();
+                this.event.parentId = this.step.getParentId() != null ? this.step.getParentId() : -1;
+                this.event.name = this.step.getName();
+                StringBuilder tags = new StringBuilder();
+                for (Tag tag : this.step.getTags()) {
+                    if (tags.length() > 0) {
+                        tags.append(", ");
+                    }
+                    tags.append(tag.getKey()).append('=').append(tag.getValue());
+                }
+                this.event.tags = tags.toString();
+                this.event.commit();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.boot.context.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR {@link Event} recorded for every startup step of a {@link GrailsApplicationStartup}.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@Name("org.grails.StartupStep")
+@Label("Startup Step")
+@Category({ "Grails", "Startup" })
+@Description("A step of the Grails application startup")
+class StartupStepEvent extends Event {
+
+    @Label("Id")
+    long id;
+
+    @Label("Parent Id")
+    long parentId;
+
+    @Label("Name")
+    String name;
+
+    @Label("Tags")
+    String tags;
+
+}
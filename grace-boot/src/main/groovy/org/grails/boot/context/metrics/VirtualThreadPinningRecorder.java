@@ -0,0 +1,188 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.boot.context.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * Records the {@code jdk.VirtualThreadPinned} JFR events, emitted when a virtual thread blocks
+ * while it is pinned to its carrier thread, for example inside a {@code synchronized} block or a native frame,
+ * and aggregates them by the blocking stack frame.
+ *
+ * <p>The report lists the frames that pinned virtual threads the longest in total, it is logged
+ * when the application is stopped and available from {@link #getReport()}.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+public class VirtualThreadPinningRecorder implements InitializingBean, DisposableBean {
+
+    /**
+     * The name of the JFR event
+     */
+    public static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final Log logger = LogFactory.getLog(VirtualThreadPinningRecorder.class);
+
+    private static final int MAX_FRAMES = 10;
+
+    private final Duration threshold;
+
+    private final Map<String, PinnedSite> sites = new ConcurrentHashMap<>();
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningRecorder(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            RecordingStream stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(this.threshold).withStackTrace();
+            stream.onEvent(PINNED_EVENT, this::record);
+            stream.startAsync();
+            this.recordingStream = stream;
+        }
+        catch (IllegalStateException | SecurityException e) {
+            logger.warn("Unable to record pinned virtual threads: " + e.getMessage());
+        }
+    }
+
+    void record(RecordedEvent event) {
+        String stackTrace = describe(event.getStackTrace());
+        this.sites.computeIfAbsent(stackTrace, PinnedSite::new).add(event.getDuration());
+    }
+
+    private static String describe(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "<unknown>";
+        }
+        StringBuilder description = new StringBuilder();
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (int i = 0; i < frames.size() && i < MAX_FRAMES; i++) {
+            RecordedFrame frame = frames.get(i);
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            if (description.length() > 0) {
+                description.append(System.lineSeparator());
+            }
+            description.append("    at ").append(frame.getMethod().getType().getName())
+                    .append('.').append(frame.getMethod().getName())
+                    .append(':').append(frame.getLineNumber());
+        }
+        return description.toString();
+    }
+
+    /**
+     * @return The pinning sites, ordered by the total pinned time, longest first
+     */
+    public List<PinnedSite> getSites() {
+        List<PinnedSite> sites = new ArrayList<>(this.sites.values());
+        sites.sort(Comparator.comparingLong(PinnedSite::getTotalNanos).reversed());
+        return sites;
+    }
+
+    /**
+     * @return A readable report of the pinning sites
+     */
+    public String getReport() {
+        List<PinnedSite> sites = getSites();
+        StringBuilder report = new StringBuilder(String.format("%d sites pinned virtual threads for longer than %d ms",
+                sites.size(), this.threshold.toMillis()));
+        for (PinnedSite site : sites) {
+            report.append(System.lineSeparator())
+                    .append(String.format("  %d times, %d ms in total, %d ms at most",
+                            site.getCount(), Duration.ofNanos(site.getTotalNanos()).toMillis(),
+                            Duration.ofNanos(site.getMaxNanos()).toMillis()))
+                    .append(System.lineSeparator())
+                    .append(site.getStackTrace());
+        }
+        return report.toString();
+    }
+
+    @Override
+    public void destroy() {
+        if (this.recordingStream != null) {
+            this.recordingStream.close();
+            if (!this.sites.isEmpty()) {
+                logger.warn(getReport());
+            }
+        }
+    }
+
+    /**
+     * The pinned events with the same stack trace
+     */
+    public static final class PinnedSite {
+
+        private final String stackTrace;
+
+        private final LongAdder count = new LongAdder();
+
+        private final LongAdder totalNanos = new LongAdder();
+
+        private volatile long maxNanos;
+
+        PinnedSite(String stackTrace) {
+            this.stackTrace = stackTrace;
+        }
+
+        void add(Duration duration) {
+            long nanos = duration.toNanos();
+            this.count.increment();
+            this.totalNanos.add(nanos);
+            if (nanos > this.maxNanos) {
+                this.maxNanos = nanos;
+            }
+        }
+
+        public String getStackTrace() {
+            return this.stackTrace;
+        }
+
+        public long getCount() {
+            return this.count.sum();
+        }
+
+        public long getTotalNanos() {
+            return this.totalNanos.sum();
+        }
+
+        public long getMaxNanos() {
+            return this.maxNanos;
+        }
+
+    }
+
+}
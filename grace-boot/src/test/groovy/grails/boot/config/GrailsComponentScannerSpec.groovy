@@ -0,0 +1,136 @@
+package grails.boot.config
+
+import java.util.jar.JarEntry
+import java.util.jar.JarOutputStream
+
+import groovyjarjarasm.asm.AnnotationVisitor
+import groovyjarjarasm.asm.ClassWriter
+import groovyjarjarasm.asm.Opcodes
+import org.springframework.context.support.GenericApplicationContext
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import grails.artefact.Artefact
+import org.grails.io.support.ArtefactIndex
+
+class GrailsComponentScannerSpec extends Specification {
+
+    @TempDir
+    File tempDir
+
+    void "test the artefacts of a plugin jar are loaded from its index and the application classes are scanned"() {
+        given:
+        File pluginJar = new File(tempDir, 'plugin.jar')
+        writeJar(pluginJar, ['com/example/scan/plugin/BookController': 'Controller', 'com/example/scan/plugin/BookService': 'Service'],
+                new ArtefactIndex(['com.example.scan.plugin.BookController': 'Controller'], [] as Set))
+        File appClasses = new File(tempDir, 'classes')
+        writeClass(appClasses, 'com/example/scan/app/AuthorController', 'Controller')
+        writeClass(appClasses, 'com/example/scan/app/Helper', null)
+
+        when:
+        Map<Class<?>, String> artefacts = new GrailsComponentScanner(createContext(pluginJar, appClasses)).scanWithIndexes(Artefact)
+
+        then: "the classes of the jar not listed in its index are not scanned"
+        artefacts.collectEntries { Class<?> artefactClass, String artefactType -> [artefactClass.name, artefactType] } == [
+                'com.example.scan.plugin.BookController': 'Controller',
+                'com.example.scan.app.AuthorController': null
+        ]
+    }
+
+    void "test a classes directory compiled again since its index was generated is scanned"() {
+        given:
+        File appClasses = new File(tempDir, 'classes')
+        writeClass(appClasses, 'com/example/scan/app/AuthorController', 'Controller')
+        File indexDir = new File(tempDir, 'artefacts')
+        writeIndex(indexDir, new ArtefactIndex(['com.example.scan.app.AuthorController': 'Controller'], [ArtefactIndex.digest(appClasses)] as Set))
+
+        when:
+        Map<Class<?>, String> artefacts = new GrailsComponentScanner(createContext(indexDir, appClasses)).scanWithIndexes(Artefact)
+
+        then:
+        artefacts.collectEntries { Class<?> artefactClass, String artefactType -> [artefactClass.name, artefactType] } == [
+                'com.example.scan.app.AuthorController': 'Controller'
+        ]
+
+        when:
+        writeClass(appClasses, 'com/example/scan/app/BookController', 'Controller')
+        artefacts = new GrailsComponentScanner(createContext(indexDir, appClasses)).scanWithIndexes(Artefact)
+
+        then:
+        artefacts.collectEntries { Class<?> artefactClass, String artefactType -> [artefactClass.name, artefactType] } == [
+                'com.example.scan.app.AuthorController': null,
+                'com.example.scan.app.BookController': null
+        ]
+    }
+
+    void "test the classpath is scanned when there is no index"() {
+        given:
+        File appClasses = new File(tempDir, 'classes')
+        writeClass(appClasses, 'com/example/scan/app/AuthorController', 'Controller')
+
+        when:
+        GrailsComponentScanner scanner = new GrailsComponentScanner(createContext(appClasses))
+
+        then:
+        scanner.scanWithIndexes(Artefact).keySet()*.name == ['com.example.scan.app.AuthorController']
+        scanner.scan(Artefact)*.name == ['com.example.scan.app.AuthorController']
+    }
+
+    private static GenericApplicationContext createContext(File... roots) {
+        GenericApplicationContext context = new GenericApplicationContext()
+        context.classLoader = new URLClassLoader(roots.collect { File root -> root.toURI().toURL() } as URL[],
+                GrailsComponentScannerSpec.classLoader)
+        GrailsComponentScanPackages.register(context, 'com.example.scan')
+        context.refresh()
+        context
+    }
+
+    private static void writeClass(File classesDir, String internalName, String artefactType) {
+        File file = new File(classesDir, internalName + '.class')
+        file.parentFile.mkdirs()
+        file.bytes = classFile(internalName, artefactType)
+    }
+
+    private static void writeIndex(File dir, ArtefactIndex index) {
+        File indexFile = new File(dir, ArtefactIndex.INDEX_LOCATION)
+        indexFile.parentFile.mkdirs()
+        indexFile.withOutputStream { OutputStream out -> index.write(out) }
+    }
+
+    private static void writeJar(File jar, Map<String, String> classes, ArtefactIndex index) {
+        new JarOutputStream(new FileOutputStream(jar)).withCloseable { JarOutputStream out ->
+            Set<String> directories = new LinkedHashSet<>()
+            (classes.keySet() + [ArtefactIndex.INDEX_LOCATION]).each { String path ->
+                String[] segments = path.split('/')
+                for (int i = 1; i < segments.length; i++) {
+                    directories << segments[0..<i].join('/') + '/'
+                }
+            }
+            directories.each { String directory ->
+                out.putNextEntry(new JarEntry(directory))
+                out.closeEntry()
+            }
+            classes.each { String internalName, String artefactType ->
+                out.putNextEntry(new JarEntry(internalName + '.class'))
+                out.write(classFile(internalName, artefactType))
+                out.closeEntry()
+            }
+            out.putNextEntry(new JarEntry(ArtefactIndex.INDEX_LOCATION))
+            index.write(out)
+            out.closeEntry()
+        }
+    }
+
+    private static byte[] classFile(String internalName, String artefactType) {
+        ClassWriter writer = new ClassWriter(0)
+        writer.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC, internalName, null, 'java/lang/Object', null)
+        if (artefactType) {
+            AnnotationVisitor annotation = writer.visitAnnotation('Lgrails/artefact/Artefact;', true)
+            annotation.visit('value', artefactType)
+            annotation.visitEnd()
+        }
+        writer.visitEnd()
+        writer.toByteArray()
+    }
+
+}
@@ -0,0 +1,80 @@
+package grails.boot.config
+
+import java.util.concurrent.Callable
+import java.util.concurrent.Executor
+import java.util.concurrent.ExecutorService
+
+import org.apache.coyote.ProtocolHandler
+import org.springframework.boot.autoconfigure.AutoConfigurations
+import org.springframework.boot.test.context.runner.ApplicationContextRunner
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer
+import org.springframework.core.task.SimpleAsyncTaskExecutor
+import spock.lang.IgnoreIf
+import spock.lang.Requires
+import spock.lang.Specification
+
+import grails.util.VirtualThreads
+
+import org.grails.boot.context.metrics.VirtualThreadPinningRecorder
+
+class GrailsVirtualThreadsAutoConfigurationSpec extends Specification {
+
+    ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(GrailsVirtualThreadsAutoConfiguration))
+
+    void "test virtual threads are not used by default"() {
+        expect:
+        contextRunner.run { context ->
+            assert context.getBeansOfType(SimpleAsyncTaskExecutor).isEmpty()
+            assert context.getBeansOfType(VirtualThreadPinningRecorder).isEmpty()
+            assert context.getBeansOfType(TomcatProtocolHandlerCustomizer).isEmpty()
+        }
+    }
+
+    @IgnoreIf({ VirtualThreads.supported })
+    void "test virtual threads are not used when the JVM does not support them"() {
+        expect:
+        contextRunner.withPropertyValues('grails.threads.virtual=true').run { context ->
+            assert context.getBeansOfType(SimpleAsyncTaskExecutor).isEmpty()
+            assert context.getBeansOfType(TomcatProtocolHandlerCustomizer).isEmpty()
+        }
+    }
+
+    @Requires({ VirtualThreads.supported })
+    void "test the tasks run on virtual threads when they are enabled"() {
+        expect:
+        contextRunner.withPropertyValues('grails.threads.virtual=true').run { context ->
+            SimpleAsyncTaskExecutor taskExecutor = context.getBean('taskExecutor', SimpleAsyncTaskExecutor)
+            assert taskExecutor.is(context.getBean('applicationTaskExecutor'))
+            assert taskExecutor.submit({ VirtualThreads.currentThreadVirtual } as Callable<Boolean>).get()
+            assert context.getBean(VirtualThreadPinningRecorder)
+        }
+    }
+
+    @Requires({ VirtualThreads.supported })
+    void "test the pinning report can be disabled"() {
+        expect:
+        contextRunner.withPropertyValues('grails.threads.virtual=true', 'grails.threads.pinningReport.enabled=false').run { context ->
+            assert context.getBean(SimpleAsyncTaskExecutor)
+            assert context.getBeansOfType(VirtualThreadPinningRecorder).isEmpty()
+        }
+    }
+
+    @Requires({ VirtualThreads.supported })
+    void "test the executor of the requests is shut down when the context is closed"() {
+        given:
+        Executor executor = null
+        ProtocolHandler protocolHandler = [setExecutor: { Executor e -> executor = e }] as ProtocolHandler
+
+        when:
+        contextRunner.withPropertyValues('grails.threads.virtual=true').run { context ->
+            context.getBean(TomcatProtocolHandlerCustomizer).customize(protocolHandler)
+            assert !((ExecutorService) executor).shutdown
+        }
+
+        then:
+        executor instanceof ExecutorService
+        ((ExecutorService) executor).shutdown
+    }
+
+}
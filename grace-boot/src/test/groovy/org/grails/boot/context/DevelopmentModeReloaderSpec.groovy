@@ -0,0 +1,127 @@
+package org.grails.boot.context
+
+import java.time.Duration
+
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import grails.plugins.GrailsPluginManager
+import grails.util.BuildSettings
+
+class DevelopmentModeReloaderSpec extends Specification {
+
+    @TempDir
+    File tempDir
+
+    GrailsPluginManager pluginManager = Mock(GrailsPluginManager)
+
+    void "test changes reported within the quiet period are coalesced into one batch"() {
+        given:
+        DevelopmentModeReloader reloader = new DevelopmentModeReloader(pluginManager, Duration.ofMillis(200), Duration.ofSeconds(5))
+        File messages = new File(tempDir, 'messages.properties')
+        File beans = new File(tempDir, 'beans.xml')
+
+        when:
+        reloader.fileChanged(messages)
+        reloader.fileChanged(beans)
+        reloader.fileChanged(messages)
+        long start = System.nanoTime()
+        Set<File> files = reloader.awaitChanges()
+
+        then:
+        files == [messages.canonicalFile, beans.canonicalFile] as Set
+        Duration.ofNanos(System.nanoTime() - start) >= Duration.ofMillis(150)
+    }
+
+    void "test changes keep being postponed no longer than the max delay"() {
+        given:
+        DevelopmentModeReloader reloader = new DevelopmentModeReloader(pluginManager, Duration.ofMillis(100), Duration.ofMillis(300))
+        Thread reporter = Thread.start {
+            20.times { int i ->
+                reloader.fileChanged(new File(tempDir, "messages_${i}.properties"))
+                sleep 50
+            }
+        }
+
+        when:
+        Thread.sleep(10)
+        Set<File> files = reloader.awaitChanges()
+
+        then:
+        !files.isEmpty()
+        files.size() < 20
+
+        cleanup:
+        reporter.join()
+    }
+
+    void "test the plugin manager is informed once of every batch"() {
+        given:
+        DevelopmentModeReloader reloader = new DevelopmentModeReloader(pluginManager)
+        File messages = new File(tempDir, 'messages.properties')
+        File beans = new File(tempDir, 'beans.xml')
+
+        when:
+        reloader.reload([messages, beans])
+
+        then:
+        1 * pluginManager.informOfFileChanges([messages, beans])
+    }
+
+    void "test sources that fail to compile are left out of the batch"() {
+        given:
+        List<List<File>> compiled = []
+        DevelopmentModeReloader reloader = new DevelopmentModeReloader(pluginManager) {
+            @Override
+            List<File> compile(File targetDirectory, List<File> sources) {
+                compiled << sources
+                sources.findAll { it.name.endsWith('.java') }
+            }
+        }
+        File controller = new File(BuildSettings.BASE_DIR, 'grails-app/controllers/demo/BookController.groovy')
+        File service = new File(BuildSettings.BASE_DIR, 'src/main/java/demo/BookService.java')
+        File messages = new File(tempDir, 'messages.properties')
+
+        when:
+        reloader.reload([controller, service, messages])
+
+        then:
+        compiled == [[controller, service]]
+        1 * pluginManager.informOfFileChanges([messages, service])
+    }
+
+    void "test the Java sources are reloaded when the Groovy sources fail to compile"() {
+        given:
+        File classesDir = new File(tempDir, 'classes')
+        File sourcesDir = new File(tempDir, 'src')
+        File service = new File(sourcesDir, 'demo/BookService.java')
+        File controller = new File(sourcesDir, 'demo/BookController.groovy')
+        service.parentFile.mkdirs()
+        service.text = 'package demo; public class BookService { }'
+        controller.text = 'package demo\nclass BookController { def index() { missing( }'
+        DevelopmentModeReloader reloader = new DevelopmentModeReloader(pluginManager)
+
+        when:
+        List<File> compiled = reloader.compile(classesDir, [service, controller])
+
+        then:
+        compiled == [service]
+        new File(classesDir, 'demo/BookService.class').exists()
+        !new File(classesDir, 'demo/BookController.class').exists()
+    }
+
+    void "test stopping releases a waiting reloader"() {
+        given:
+        DevelopmentModeReloader reloader = new DevelopmentModeReloader(pluginManager)
+        Thread thread = Thread.start { reloader.run() }
+
+        when:
+        reloader.stop()
+        thread.join(1000)
+
+        then:
+        !thread.alive
+        !reloader.active
+    }
+
+}
@@ -0,0 +1,59 @@
+package org.grails.boot.context.metrics
+
+import java.nio.file.Path
+
+import jdk.jfr.Recording
+import jdk.jfr.consumer.RecordedEvent
+import jdk.jfr.consumer.RecordingFile
+import org.springframework.core.metrics.StartupStep
+import spock.lang.Specification
+import spock.lang.TempDir
+
+class GrailsApplicationStartupSpec extends Specification {
+
+    @TempDir
+    Path tempDir
+
+    void "test the steps are buffered with their tags"() {
+        given:
+        GrailsApplicationStartup applicationStartup = new GrailsApplicationStartup()
+
+        when:
+        StartupStep parent = applicationStartup.start('grails.application.bean-definitions.registered')
+        applicationStartup.start('grails.plugins.doWithSpring').tag('plugin', 'core').end()
+        parent.end()
+        def steps = applicationStartup.bufferedTimeline.events*.startupStep
+
+        then:
+        steps*.name == ['grails.plugins.doWithSpring', 'grails.application.bean-definitions.registered']
+        steps[0].parentId == steps[1].id
+        steps[0].tags.collectEntries { [(it.key): it.value] } == [plugin: 'core']
+    }
+
+    void "test the steps are recorded as Flight Recorder events"() {
+        given:
+        GrailsApplicationStartup applicationStartup = new GrailsApplicationStartup()
+        Path file = tempDir.resolve('startup.jfr')
+        Recording recording = new Recording()
+        recording.enable('org.grails.StartupStep')
+        recording.start()
+
+        when:
+        StartupStep parent = applicationStartup.start('grails.taglib.tag-libraries.registered')
+        applicationStartup.start('grails.taglib.tag-library.registered').tag('tagLibrary', 'demo.DemoTagLib').end()
+        parent.tag('namespaceCount', '1').end()
+        recording.stop()
+        recording.dump(file)
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).findAll { it.eventType.name == 'org.grails.StartupStep' }
+
+        then:
+        events*.getString('name') == ['grails.taglib.tag-library.registered', 'grails.taglib.tag-libraries.registered']
+        events*.getString('tags') == ['tagLibrary=demo.DemoTagLib', 'namespaceCount=1']
+        events[0].getLong('parentId') == events[1].getLong('id')
+        events[1].getLong('parentId') == -1
+
+        cleanup:
+        recording.close()
+    }
+
+}
@@ -0,0 +1,50 @@
+package org.grails.boot.context.metrics
+
+import java.time.Duration
+
+import spock.lang.Requires
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import grails.util.VirtualThreads
+
+class VirtualThreadPinningRecorderSpec extends Specification {
+
+    void "test the report is empty when no virtual thread has been pinned"() {
+        given:
+        def recorder = new VirtualThreadPinningRecorder(Duration.ofMillis(20))
+
+        expect:
+        recorder.sites.isEmpty()
+        recorder.report == '0 sites pinned virtual threads for longer than 20 ms'
+    }
+
+    // virtual threads are no longer pinned while blocking in a synchronized block since Java 24
+    @Requires({ VirtualThreads.supported && Runtime.version().feature() < 24 })
+    void "test a virtual thread blocking in a synchronized block is recorded"() {
+        given:
+        def recorder = new VirtualThreadPinningRecorder(Duration.ofMillis(10))
+        recorder.afterPropertiesSet()
+        Object lock = new Object()
+
+        when:
+        Thread thread = VirtualThreads.newThreadFactory('pinned-').newThread {
+            synchronized (lock) {
+                Thread.sleep(100)
+            }
+        }
+        thread.start()
+        thread.join()
+
+        then:
+        new PollingConditions(timeout: 10).eventually {
+            assert !recorder.sites.isEmpty()
+            assert recorder.sites[0].maxNanos >= Duration.ofMillis(100).toNanos()
+        }
+        recorder.report.startsWith("${recorder.sites.size()} sites pinned virtual threads for longer than 10 ms")
+
+        cleanup:
+        recorder.destroy()
+    }
+
+}
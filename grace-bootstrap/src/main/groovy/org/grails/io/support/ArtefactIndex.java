@@ -0,0 +1,217 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.io.support;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import groovyjarjarasm.asm.AnnotationVisitor;
+import groovyjarjarasm.asm.ClassReader;
+import groovyjarjarasm.asm.ClassVisitor;
+import groovyjarjarasm.asm.Opcodes;
+
+/**
+ * The index of the artefact classes of an application or a plugin, generated at build time,
+ * so that the artefacts can be loaded at startup without scanning the classpath.
+ *
+ * <p>The index is a UTF-8 text file with one {@code className=artefactType} line per artefact class,
+ * lines starting with {@code #} are comments. The digests of the classes directories the index was
+ * generated from are recorded in {@code #digest=} lines, so that an index left in a classes directory
+ * that has been compiled again without regenerating the index, for example in development mode,
+ * can be detected as stale.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+public final class ArtefactIndex {
+
+    /**
+     * The location of the index in the classpath
+     */
+    public static final String INDEX_LOCATION = "META-INF/grails/artefacts.idx";
+
+    private static final String ARTEFACT_ANNOTATION = "Lgrails/artefact/Artefact;";
+
+    private static final String DIGEST_PREFIX = "#digest=";
+
+    private final Map<String, String> artefacts;
+
+    private final Set<String> digests;
+
+    /**
+     * @param artefacts The artefact types by class name
+     * @param digests The digests of the classes directories the index was generated from
+     */
+    public ArtefactIndex(Map<String, String> artefacts, Set<String> digests) {
+        this.artefacts = Collections.unmodifiableMap(artefacts);
+        this.digests = Collections.unmodifiableSet(digests);
+    }
+
+    /**
+     * @return The artefact types by class name, in the order of the index
+     */
+    public Map<String, String> getArtefacts() {
+        return this.artefacts;
+    }
+
+    /**
+     * @return The digests of the classes directories the index was generated from
+     * @see #digest(File)
+     */
+    public Set<String> getDigests() {
+        return this.digests;
+    }
+
+    /**
+     * Reads the artefact type from the {@code @Artefact} annotation of a class file without loading the class
+     *
+     * @param classFile The class file
+     * @return The artefact type or null if the class is not annotated
+     * @throws IOException if the class file can not be read
+     */
+    public static String readArtefactType(InputStream classFile) throws IOException {
+        String[] artefactType = new String[1];
+        new ClassReader(classFile).accept(new ClassVisitor(Opcodes.ASM7) {
+
+            @Override
+            public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+                if (!ARTEFACT_ANNOTATION.equals(descriptor)) {
+                    return null;
+                }
+                return new AnnotationVisitor(Opcodes.ASM7) {
+
+                    @Override
+                    public void visit(String name, Object value) {
+                        if ("value".equals(name)) {
+                            artefactType[0] = String.valueOf(value);
+                        }
+                    }
+
+                };
+            }
+
+        }, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        return artefactType[0];
+    }
+
+    /**
+     * Computes the digest of the class files of a classes directory from their paths and sizes,
+     * it changes when a class is added, removed or compiled again to a different size
+     *
+     * @param classesDir The classes directory
+     * @return The digest
+     * @throws IOException if the classes directory can not be read
+     */
+    public static String digest(File classesDir) throws IOException {
+        Path root = classesDir.toPath();
+        List<String> classFiles = new ArrayList<>();
+        if (Files.isDirectory(root)) {
+            try (Stream<Path> paths = Files.walk(root)) {
+                for (Path path : (Iterable<Path>) paths::iterator) {
+                    if (path.getFileName().toString().endsWith(".class") && Files.isRegularFile(path)) {
+                        classFiles.add(root.relativize(path).toString().replace(File.separatorChar, '/') + ':' + Files.size(path));
+                    }
+                }
+            }
+        }
+        Collections.sort(classFiles);
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            for (String classFile : classFiles) {
+                messageDigest.update(classFile.getBytes(StandardCharsets.UTF_8));
+                messageDigest.update((byte) '\n');
+            }
+            return HexFormat.of().formatHex(messageDigest.digest());
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Reads an index
+     *
+     * @param input The input stream of the index, which is not closed
+     * @return The index
+     * @throws IOException if the index can not be read
+     */
+    public static ArtefactIndex read(InputStream input) throws IOException {
+        Map<String, String> artefacts = new LinkedHashMap<>();
+        Set<String> digests = new LinkedHashSet<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (line.startsWith(DIGEST_PREFIX)) {
+                digests.add(line.substring(DIGEST_PREFIX.length()).trim());
+                continue;
+            }
+            if (line.isEmpty() || line.charAt(0) == '#') {
+                continue;
+            }
+            int i = line.indexOf('=');
+            if (i < 1) {
+                throw new IOException("Invalid artefact index entry: " + line);
+            }
+            artefacts.put(line.substring(0, i).trim(), line.substring(i + 1).trim());
+        }
+        return new ArtefactIndex(artefacts, digests);
+    }
+
+    /**
+     * Writes the index
+     *
+     * @param output The output stream, which is flushed but not closed
+     * @throws IOException if the index can not be written
+     */
+    public void write(OutputStream output) throws IOException {
+        Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+        writer.write("# Grails artefact index, className=artefactType\n");
+        for (String digest : this.digests) {
+            writer.write(DIGEST_PREFIX);
+            writer.write(digest);
+            writer.write('\n');
+        }
+        for (Map.Entry<String, String> entry : this.artefacts.entrySet()) {
+            writer.write(entry.getKey());
+            writer.write('=');
+            writer.write(entry.getValue());
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.io.support;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * A compiled, read-only message bundle. The binary layout is a small header, a sorted key index
+ * and a UTF-16 string table, so that lookups can be answered directly from a memory-mapped
+ * file without parsing any properties.
+ *
+ * <pre>
+ * int    magic ('GMB1')
+ * int    entry count (n)
+ * int[n * 4] index of (key offset, key length, value offset, value length), sorted by key
+ * char[] string table
+ * </pre>
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+public final class CompiledMessageBundle {
+
+    /**
+     * The file extension of compiled message bundles
+     */
+    public static final String FILE_EXTENSION = ".gmb";
+
+    /**
+     * The location of compiled message bundles, relative to the root of the classpath
+     */
+    public static final String BUNDLE_LOCATION = "META-INF/grails/i18n/";
+
+    /**
+     * The base name of the merged bundle for each locale
+     */
+    public static final String BUNDLE_BASENAME = "messages";
+
+    private static final int MAGIC = 0x474D4231;
+
+    private static final int HEADER_SIZE = 8;
+
+    private static final int INDEX_ENTRY_SIZE = 4;
+
+    private final int size;
+
+    private final IntBuffer index;
+
+    private final CharBuffer strings;
+
+    private CompiledMessageBundle(ByteBuffer buffer) {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a compiled message bundle");
+        }
+        this.size = buffer.getInt(4);
+        int indexLength = this.size * INDEX_ENTRY_SIZE;
+        ByteBuffer indexBuffer = buffer.duplicate();
+        indexBuffer.position(HEADER_SIZE).limit(HEADER_SIZE + indexLength * 4);
+        this.index = indexBuffer.slice().asIntBuffer();
+        ByteBuffer stringBuffer = buffer.duplicate();
+        stringBuffer.position(HEADER_SIZE + indexLength * 4);
+        this.strings = stringBuffer.slice().asCharBuffer();
+    }
+
+    /**
+     * Memory-maps the given compiled bundle file
+     *
+     * @param file The bundle file
+     * @return The bundle
+     * @throws IOException If the file cannot be mapped
+     */
+    public static CompiledMessageBundle map(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return new CompiledMessageBundle(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Reads a compiled bundle from a stream, used when the bundle is packaged inside an archive and cannot be mapped
+     *
+     * @param input The input stream, which is closed after reading
+     * @return The bundle
+     * @throws IOException If the stream cannot be read
+     */
+    public static CompiledMessageBundle read(InputStream input) throws IOException {
+        try (InputStream in = input) {
+            byte[] bytes = in.readAllBytes();
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+            buffer.put(bytes).flip();
+            return new CompiledMessageBundle(buffer);
+        }
+    }
+
+    /**
+     * Writes the given messages as a compiled bundle
+     *
+     * @param messages The messages, sorted by key
+     * @param output The output stream
+     * @throws IOException If the bundle cannot be written
+     */
+    public static void write(SortedMap<String, String> messages, OutputStream output) throws IOException {
+        DataOutputStream out = new DataOutputStream(output);
+        out.writeInt(MAGIC);
+        out.writeInt(messages.size());
+        int offset = 0;
+        for (Map.Entry<String, String> entry : messages.entrySet()) {
+            int keyLength = entry.getKey().length();
+            int valueLength = entry.getValue().length();
+            out.writeInt(offset);
+            out.writeInt(keyLength);
+            out.writeInt(offset + keyLength);
+            out.writeInt(valueLength);
+            offset += keyLength + valueLength;
+        }
+        for (Map.Entry<String, String> entry : messages.entrySet()) {
+            out.writeChars(entry.getKey());
+            out.writeChars(entry.getValue());
+        }
+        out.flush();
+    }
+
+    /**
+     * @return The number of messages in this bundle
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Looks up the message for the given code with a binary search over the key index
+     *
+     * @param code The message code
+     * @return The message or null if this bundle does not contain the code
+     */
+    public String getMessage(String code) {
+        int low = 0;
+        int high = this.size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareKey(mid, code);
+            if (cmp < 0) {
+                low = mid + 1;
+            }
+            else if (cmp > 0) {
+                high = mid - 1;
+            }
+            else {
+                int base = mid * INDEX_ENTRY_SIZE;
+                int valueOffset = this.index.get(base + 2);
+                int valueLength = this.index.get(base + 3);
+                return this.strings.subSequence(valueOffset, valueOffset + valueLength).toString();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the key at the given position in the index, mostly useful for diagnostics
+     *
+     * @param position The position in the index
+     * @return The key
+     */
+    public String getKey(int position) {
+        int base = position * INDEX_ENTRY_SIZE;
+        int keyOffset = this.index.get(base);
+        return this.strings.subSequence(keyOffset, keyOffset + this.index.get(base + 1)).toString();
+    }
+
+    private int compareKey(int position, String code) {
+        int base = position * INDEX_ENTRY_SIZE;
+        int keyOffset = this.index.get(base);
+        int keyLength = this.index.get(base + 1);
+        int length = Math.min(keyLength, code.length());
+        for (int i = 0; i < length; i++) {
+            char c1 = this.strings.get(keyOffset + i);
+            char c2 = code.charAt(i);
+            if (c1 != c2) {
+                return c1 - c2;
+            }
+        }
+        return keyLength - code.length();
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.io.support;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The content hashes of the static resources of an application or a plugin, generated at build time,
+ * so that the fingerprinted URLs of the resources can be created without reading them at runtime.
+ *
+ * <p>The manifest is a UTF-8 text file with one {@code path=hash} line per resource, where the path
+ * is relative to the static resource location, like {@code css/app.css} for {@code static/css/app.css},
+ * and the hash is the hex MD5 digest of the content. Lines starting with {@code #} are comments.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+public final class StaticResourceManifest {
+
+    /**
+     * The location of the manifest in the classpath
+     */
+    public static final String MANIFEST_LOCATION = "META-INF/grails/static-resources.idx";
+
+    /**
+     * The locations of the static resources in the classpath
+     */
+    public static final String[] RESOURCE_LOCATIONS = { "META-INF/resources/", "resources/", "static/", "public/" };
+
+    private StaticResourceManifest() {
+    }
+
+    /**
+     * Computes the hash of the content of a resource
+     *
+     * @param content The content
+     * @return The hex MD5 digest of the content
+     */
+    public static String contentHash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content));
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is not available", e);
+        }
+    }
+
+    /**
+     * Compresses the content of a resource with gzip, at the best compression level
+     *
+     * @param content The content
+     * @return The compressed content
+     */
+    public static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(content.length / 2 + 32);
+        try (GZIPOutputStream out = new BestCompressionGZIPOutputStream(compressed)) {
+            out.write(content);
+        }
+        catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    /**
+     * Reads a manifest
+     *
+     * @param input The input stream of the manifest, which is not closed
+     * @return The content hashes by path, in the order of the manifest
+     * @throws IOException if the manifest can not be read
+     */
+    public static Map<String, String> read(InputStream input) throws IOException {
+        Map<String, String> hashes = new LinkedHashMap<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.charAt(0) == '#') {
+                continue;
+            }
+            int i = line.lastIndexOf('=');
+            if (i < 1) {
+                throw new IOException("Invalid static resource manifest entry: " + line);
+            }
+            hashes.put(line.substring(0, i).trim(), line.substring(i + 1).trim());
+        }
+        return hashes;
+    }
+
+    /**
+     * Writes a manifest
+     *
+     * @param hashes The content hashes by path
+     * @param output The output stream, which is flushed but not closed
+     * @throws IOException if the manifest can not be written
+     */
+    public static void write(Map<String, String> hashes, OutputStream output) throws IOException {
+        Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+        writer.write("# Grails static resource manifest, path=hash\n");
+        for (Map.Entry<String, String> entry : hashes.entrySet()) {
+            writer.write(entry.getKey());
+            writer.write('=');
+            writer.write(entry.getValue());
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    private static class BestCompressionGZIPOutputStream extends GZIPOutputStream {
+
+        BestCompressionGZIPOutputStream(OutputStream out) throws IOException {
+            super(out);
+            this.def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+
+    }
+
+}
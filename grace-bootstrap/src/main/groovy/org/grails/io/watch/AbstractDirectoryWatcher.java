@@ -100,6 +100,12 @@ abstract class AbstractDirectoryWatcher implements Runnable {
         }
     }
 
+    protected void fireOnDelete(File file) {
+        for (DirectoryWatcher.FileChangeListener listener : this.listeners) {
+            listener.onDelete(file);
+        }
+    }
+
     protected boolean isValidDirectoryToMonitor(File file) {
         return file.isDirectory() && !file.isHidden() && !file.getName().startsWith(".");
     }
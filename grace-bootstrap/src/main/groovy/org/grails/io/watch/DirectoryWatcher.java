@@ -206,6 +206,15 @@ public class DirectoryWatcher extends Thread {
          */
         void onNew(File file);
 
+        /**
+         * Fired when a file is deleted
+         *
+         * @param file The file that was deleted
+         */
+        default void onDelete(File file) {
+            // deletions are ignored unless a listener handles them
+        }
+
     }
 
 }
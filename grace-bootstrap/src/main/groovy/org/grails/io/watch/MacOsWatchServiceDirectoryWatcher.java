@@ -101,7 +101,7 @@ public class MacOsWatchServiceDirectoryWatcher extends AbstractDirectoryWatcher
                             fireOnChange(childFile);
                         }
                         else if (kind == StandardWatchEventKinds.ENTRY_DELETE) {
-                            // do nothing... there's no way to communicate deletions
+                            fireOnDelete(childFile);
                         }
                     }
                     else {
@@ -141,7 +141,7 @@ public class MacOsWatchServiceDirectoryWatcher extends AbstractDirectoryWatcher
                                     fireOnChange(childFile);
                                 }
                                 else if (kind == StandardWatchEventKinds.ENTRY_DELETE) {
-                                    // do nothing... there's no way to communicate deletions
+                                    fireOnDelete(childFile);
                                 }
                             }
                         }
@@ -50,6 +50,12 @@ class PollingDirectoryWatcher extends AbstractDirectoryWatcher {
             for (File file : files) {
                 long currentLastModified = file.lastModified();
                 Long cachedTime = this.lastModifiedMap.get(file);
+                if (currentLastModified == 0L && cachedTime > 0L && !file.exists()) {
+                    // a file created again is reported as changed
+                    this.lastModifiedMap.put(file, 0L);
+                    fireOnDelete(file);
+                    continue;
+                }
                 if (currentLastModified > cachedTime) {
                     this.lastModifiedMap.put(file, currentLastModified);
                     fireOnChange(file);
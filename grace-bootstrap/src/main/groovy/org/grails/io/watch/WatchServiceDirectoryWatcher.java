@@ -98,7 +98,7 @@ public class WatchServiceDirectoryWatcher extends AbstractDirectoryWatcher {
                                 fireOnChange(childFile);
                             }
                             else if (kind == StandardWatchEventKinds.ENTRY_DELETE) {
-                                // do nothing... there's no way to communicate deletions
+                                fireOnDelete(childFile);
                             }
                         }
                         else {
@@ -129,7 +129,7 @@ public class WatchServiceDirectoryWatcher extends AbstractDirectoryWatcher {
                                         fireOnChange(childFile);
                                     }
                                     else if (kind == StandardWatchEventKinds.ENTRY_DELETE) {
-                                        // do nothing... there's no way to communicate deletions
+                                        fireOnDelete(childFile);
                                     }
                                 }
                             }
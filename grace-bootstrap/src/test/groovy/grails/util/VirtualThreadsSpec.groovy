@@ -0,0 +1,40 @@
+package grails.util
+
+import java.util.concurrent.TimeUnit
+
+import spock.lang.Requires
+import spock.lang.Specification
+
+class VirtualThreadsSpec extends Specification {
+
+    void "Test platform threads are not virtual"() {
+        expect:
+        !VirtualThreads.isCurrentThreadVirtual()
+        !VirtualThreads.isVirtual(new Thread())
+    }
+
+    @Requires({ VirtualThreads.isSupported() })
+    void "Test tasks run on named virtual threads"() {
+        given:
+        def executor = VirtualThreads.newThreadPerTaskExecutor('grails-test-')
+
+        when:
+        def result = executor.submit({ [Thread.currentThread().name, VirtualThreads.isCurrentThreadVirtual()] } as java.util.concurrent.Callable).get(10, TimeUnit.SECONDS)
+
+        then:
+        result == ['grails-test-0', true]
+
+        cleanup:
+        executor?.shutdown()
+    }
+
+    @Requires({ !VirtualThreads.isSupported() })
+    void "Test virtual threads can not be created before Java 21"() {
+        when:
+        VirtualThreads.newThreadFactory('grails-test-')
+
+        then:
+        thrown(IllegalStateException)
+    }
+
+}
@@ -0,0 +1,89 @@
+package org.grails.io.support
+
+import groovyjarjarasm.asm.AnnotationVisitor
+import groovyjarjarasm.asm.ClassWriter
+import groovyjarjarasm.asm.Opcodes
+import spock.lang.Specification
+import spock.lang.TempDir
+
+class ArtefactIndexSpec extends Specification {
+
+    @TempDir
+    File tempDir
+
+    void "Test reading the artefact type from a class file"() {
+        expect:
+        ArtefactIndex.readArtefactType(new ByteArrayInputStream(classFile('com/example/BookController', 'Controller'))) == 'Controller'
+        ArtefactIndex.readArtefactType(new ByteArrayInputStream(classFile('com/example/Helper', null))) == null
+    }
+
+    void "Test writing and reading an index"() {
+        given:
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+
+        when:
+        new ArtefactIndex(new TreeMap<String, String>(['com.example.BookController': 'Controller', 'com.example.Book': 'Domain']),
+                ['abc'] as Set).write(out)
+        ArtefactIndex index = ArtefactIndex.read(new ByteArrayInputStream(out.toByteArray()))
+
+        then:
+        index.artefacts == ['com.example.Book': 'Domain', 'com.example.BookController': 'Controller']
+        index.artefacts.keySet() as List == ['com.example.Book', 'com.example.BookController']
+        index.digests == ['abc'] as Set
+    }
+
+    void "Test the digest of a classes directory changes when a class is added or compiled again"() {
+        given:
+        File classesDir = new File(tempDir, 'classes')
+        new File(classesDir, 'com/example').mkdirs()
+        new File(classesDir, 'com/example/BookController.class').bytes = classFile('com/example/BookController', 'Controller')
+        new File(classesDir, 'com/example/messages.properties').text = 'book.title=Title'
+
+        when:
+        String digest = ArtefactIndex.digest(classesDir)
+
+        then:
+        digest == ArtefactIndex.digest(classesDir)
+        digest != ArtefactIndex.digest(new File(tempDir, 'missing'))
+
+        when:
+        new File(classesDir, 'com/example/messages.properties').text = 'book.title=Book title'
+
+        then:
+        ArtefactIndex.digest(classesDir) == digest
+
+        when:
+        new File(classesDir, 'com/example/BookService.class').bytes = classFile('com/example/BookService', 'Service')
+
+        then:
+        ArtefactIndex.digest(classesDir) != digest
+
+        when:
+        new File(classesDir, 'com/example/BookService.class').delete()
+        new File(classesDir, 'com/example/BookController.class').bytes = classFile('com/example/BookController', null)
+
+        then:
+        ArtefactIndex.digest(classesDir) != digest
+    }
+
+    void "Test reading an invalid index"() {
+        when:
+        ArtefactIndex.read(new ByteArrayInputStream('com.example.Book'.bytes))
+
+        then:
+        thrown(IOException)
+    }
+
+    private static byte[] classFile(String internalName, String artefactType) {
+        ClassWriter writer = new ClassWriter(0)
+        writer.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC, internalName, null, 'java/lang/Object', null)
+        if (artefactType) {
+            AnnotationVisitor annotation = writer.visitAnnotation('Lgrails/artefact/Artefact;', true)
+            annotation.visit('value', artefactType)
+            annotation.visitEnd()
+        }
+        writer.visitEnd()
+        writer.toByteArray()
+    }
+
+}
@@ -0,0 +1,48 @@
+package org.grails.io.support
+
+import java.util.zip.GZIPInputStream
+
+import spock.lang.Specification
+
+class StaticResourceManifestSpec extends Specification {
+
+    void "Test the content hash of a resource"() {
+        expect:
+        StaticResourceManifest.contentHash('Hello world'.bytes) == '3e25960a79dbc69b674cd4ec67a72c62'
+        StaticResourceManifest.contentHash(new byte[0]) == 'd41d8cd98f00b204e9800998ecf8427e'
+    }
+
+    void "Test writing and reading a manifest"() {
+        given:
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+
+        when:
+        StaticResourceManifest.write(new TreeMap<String, String>(['js/app.js': 'b1', 'css/app.css': 'a1']), out)
+        Map<String, String> hashes = StaticResourceManifest.read(new ByteArrayInputStream(out.toByteArray()))
+
+        then:
+        hashes == ['css/app.css': 'a1', 'js/app.js': 'b1']
+        hashes.keySet() as List == ['css/app.css', 'js/app.js']
+    }
+
+    void "Test reading an invalid manifest"() {
+        when:
+        StaticResourceManifest.read(new ByteArrayInputStream('css/app.css'.bytes))
+
+        then:
+        thrown(IOException)
+    }
+
+    void "Test compressing a resource"() {
+        given:
+        byte[] content = ('body { color: red; }\n' * 100).bytes
+
+        when:
+        byte[] compressed = StaticResourceManifest.gzip(content)
+
+        then:
+        compressed.length < content.length
+        new GZIPInputStream(new ByteArrayInputStream(compressed)).bytes == content
+    }
+
+}
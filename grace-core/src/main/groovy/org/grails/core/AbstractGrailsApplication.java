@@ -29,6 +29,7 @@ import org.springframework.core.Ordered;
 import org.springframework.util.ClassUtils;
 
 import grails.config.Config;
+import grails.config.Settings;
 import grails.core.ArtefactHandler;
 import grails.core.GrailsApplication;
 import grails.core.support.GrailsConfigurationAware;
@@ -36,6 +37,7 @@ import grails.util.Environment;
 import grails.util.Holders;
 import grails.util.Metadata;
 
+import org.grails.config.NavigableMapConfig;
 import org.grails.config.PropertySourcesConfig;
 
 public abstract class AbstractGrailsApplication extends GroovyObjectSupport
@@ -94,6 +96,9 @@ public abstract class AbstractGrailsApplication extends GroovyObjectSupport
                 }
             }
         }
+        if (this.config instanceof NavigableMapConfig) {
+            ((NavigableMapConfig) this.config).republishSnapshot();
+        }
     }
 
     @Override
@@ -127,6 +132,10 @@ public abstract class AbstractGrailsApplication extends GroovyObjectSupport
     public void onApplicationEvent(ApplicationEvent event) {
         if (event instanceof ContextRefreshedEvent) {
             this.contextInitialized = true;
+            if (this.config instanceof NavigableMapConfig &&
+                    this.config.getProperty(Settings.CONFIG_SNAPSHOT_ENABLED, Boolean.class, false)) {
+                ((NavigableMapConfig) this.config).publishSnapshot();
+            }
         }
     }
 
@@ -0,0 +1,84 @@
+package org.grails.config
+
+import org.springframework.core.env.MapPropertySource
+import org.springframework.core.env.MutablePropertySources
+import spock.lang.Specification
+
+class ConfigSnapshotSpec extends Specification {
+
+    PropertySourcesConfig createConfig(Map<String, Object> values) {
+        MutablePropertySources propertySources = new MutablePropertySources()
+        propertySources.addLast(new MapPropertySource('test', values))
+        new PropertySourcesConfig(propertySources)
+    }
+
+    void "Test flattened keys are served from the snapshot"() {
+        given:
+        def config = createConfig('grails.gorm.failOnError': true, 'grails.server.port': '8080', 'grails.codegen.name': 'demo')
+
+        when:
+        config.publishSnapshot()
+
+        then:
+        config.snapshot.containsKey('grails.gorm.failOnError')
+        config.snapshot.containsKey('grails.gorm')
+        config.getProperty('grails.gorm.failOnError', Boolean) == true
+        config.getProperty('grails.server.port', Integer) == 8080
+        config.getProperty('grails.codegen.name', String) == 'demo'
+        config.getProperty('grails.missing', String, 'default') == 'default'
+        config.getProperty('grails.gorm', Map) == [failOnError: true]
+    }
+
+    void "Test converted values are memoized"() {
+        given:
+        def config = createConfig('grails.server.port': '8080')
+        config.publishSnapshot()
+
+        when:
+        Integer first = config.getProperty('grails.server.port', Integer)
+        Integer second = config.getProperty('grails.server.port', Integer)
+
+        then:
+        first == 8080
+        second.is(first)
+        config.snapshot.getConvertedValue('grails.server.port', Integer) == 8080
+        config.snapshot.getConvertedValue('grails.server.port', Long).is(ConfigSnapshot.NOT_MEMOIZED)
+    }
+
+    void "Test missing values are memoized and still return the default value"() {
+        given:
+        def config = createConfig([:])
+        config.publishSnapshot()
+
+        expect:
+        config.getProperty('grails.missing', String, 'one') == 'one'
+        config.getProperty('grails.missing', String, 'two') == 'two'
+        config.snapshot.getConvertedValue('grails.missing', String) == null
+    }
+
+    void "Test changes made through the config publish a new snapshot"() {
+        given:
+        def config = createConfig('grails.server.port': '8080')
+        config.publishSnapshot()
+        ConfigSnapshot snapshot = config.snapshot
+
+        expect:
+        config.getProperty('grails.server.port', Integer) == 8080
+
+        when:
+        config.merge('grails.server.port': '9090')
+
+        then:
+        !config.snapshot.is(snapshot)
+        config.getProperty('grails.server.port', Integer) == 9090
+
+        when:
+        config.discardSnapshot()
+        config.merge('grails.server.port': '7070')
+
+        then:
+        config.snapshot == null
+        config.getProperty('grails.server.port', Integer) == 7070
+    }
+
+}
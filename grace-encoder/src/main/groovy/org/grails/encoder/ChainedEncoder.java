@@ -19,6 +19,8 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 
+import grails.util.VirtualThreads;
+
 public class ChainedEncoder implements Encoder, StreamingEncoder {
 
     private final StreamingEncoder[] encoders;
@@ -94,6 +96,10 @@ public class ChainedEncoder implements Encoder, StreamingEncoder {
     }
 
     protected EncodedAppender chainEncodersAndCachePerThread(final EncodedAppender appender) {
+        if (VirtualThreads.isCurrentThreadVirtual()) {
+            // a virtual thread is not reused, caching would only retain a cache item per thread
+            return doChainEncoders(appender);
+        }
         ChainedEncoderCacheItem cacheItem = this.cacheItemThreadLocal.get();
 
         EncodedAppender target = cacheItem.getCached(appender);
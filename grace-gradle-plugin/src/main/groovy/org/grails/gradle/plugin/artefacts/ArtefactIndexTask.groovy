@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.gradle.plugin.artefacts
+
+import groovy.transform.CompileStatic
+import org.gradle.api.DefaultTask
+import org.gradle.api.file.FileCollection
+import org.gradle.api.file.FileTree
+import org.gradle.api.file.FileVisitDetails
+import org.gradle.api.tasks.CacheableTask
+import org.gradle.api.tasks.InputFiles
+import org.gradle.api.tasks.Internal
+import org.gradle.api.tasks.OutputDirectory
+import org.gradle.api.tasks.PathSensitive
+import org.gradle.api.tasks.PathSensitivity
+import org.gradle.api.tasks.SkipWhenEmpty
+import org.gradle.api.tasks.TaskAction
+
+import org.grails.io.support.ArtefactIndex
+
+/**
+ * Generates the index of the artefact classes, the classes annotated with {@code @Artefact},
+ * so that the application or the plugin does not need to scan the classpath for them at startup.
+ *
+ * <p>The class files are read without loading the classes, the index is written to
+ * {@code META-INF/grails/artefacts.idx} in the destination directory together with the digests
+ * of the classes directories.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@CompileStatic
+@CacheableTask
+class ArtefactIndexTask extends DefaultTask {
+
+    @Internal
+    FileCollection classesDirs
+
+    @OutputDirectory
+    File destinationDir
+
+    @InputFiles
+    @SkipWhenEmpty
+    @PathSensitive(PathSensitivity.RELATIVE)
+    FileTree getSource() {
+        classesDirs.asFileTree.matching { it.include('**/*.class') }
+    }
+
+    @TaskAction
+    void generate() {
+        SortedMap<String, String> artefacts = new TreeMap<>()
+        source.visit { FileVisitDetails details ->
+            if (details.directory || details.name.contains('$')) {
+                return
+            }
+            String artefactType = details.file.withInputStream { InputStream input ->
+                ArtefactIndex.readArtefactType(new BufferedInputStream(input))
+            }
+            if (artefactType) {
+                String path = details.relativePath.pathString
+                artefacts.put(path.substring(0, path.length() - '.class'.length()).replace('/', '.'), artefactType)
+            }
+        }
+
+        // the digests let the application detect classes compiled again without regenerating the index
+        Set<String> digests = new LinkedHashSet<>()
+        for (File classesDir : classesDirs.files) {
+            if (classesDir.directory) {
+                digests.add(ArtefactIndex.digest(classesDir))
+            }
+        }
+
+        project.delete(destinationDir)
+        File indexFile = new File(destinationDir, ArtefactIndex.INDEX_LOCATION)
+        indexFile.parentFile.mkdirs()
+        indexFile.withOutputStream { OutputStream out ->
+            new ArtefactIndex(artefacts, digests).write(out)
+        }
+    }
+
+}
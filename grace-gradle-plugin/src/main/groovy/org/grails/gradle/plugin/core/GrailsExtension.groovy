@@ -59,6 +59,22 @@ class GrailsExtension {
      */
     boolean pathingJar = false
 
+    /**
+     * Whether to precompile the message bundles in grails-app/i18n into binary bundles loaded without parsing at runtime
+     */
+    boolean compileMessageBundles = false
+
+    /**
+     * Whether to generate the index of the artefact classes, which are then loaded at startup without scanning the classpath
+     */
+    boolean indexArtefacts = true
+
+    /**
+     * Whether to write the content hashes of the static resources, used for their fingerprinted URLs,
+     * and gzip compressed variants of the compressible ones
+     */
+    boolean processStaticResources = false
+
     /**
      * Allows defining plugins in the available scopes
      */
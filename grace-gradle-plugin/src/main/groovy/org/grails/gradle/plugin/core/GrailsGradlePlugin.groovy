@@ -47,6 +47,7 @@ import org.gradle.process.JavaForkOptions
 import org.gradle.tooling.provider.model.ToolingModelBuilderRegistry
 import org.springframework.boot.gradle.dsl.SpringBootExtension
 import org.springframework.boot.gradle.plugin.SpringBootPlugin
+import org.springframework.boot.gradle.tasks.bundling.BootJar
 import org.springframework.boot.gradle.tasks.run.BootRun
 
 import grails.dev.commands.ApplicationCommand
@@ -57,12 +58,17 @@ import grails.util.Metadata
 import org.grails.build.parsing.CommandLineParser
 import org.grails.cli.compiler.dependencies.GrailsDependenciesDependencyManagement
 import org.grails.core.io.support.GrailsFactoriesLoader
+import org.grails.gradle.plugin.artefacts.ArtefactIndexTask
+import org.grails.gradle.plugin.cds.CdsArchiveTask
 import org.grails.gradle.plugin.commands.ApplicationContextCommandTask
 import org.grails.gradle.plugin.commands.ApplicationContextScriptTask
+import org.grails.gradle.plugin.i18n.MessageBundleCompileTask
 import org.grails.gradle.plugin.model.GrailsClasspathToolingModelBuilder
+import org.grails.gradle.plugin.resources.StaticResourcesTask
 import org.grails.gradle.plugin.run.FindMainClassTask
 import org.grails.gradle.plugin.util.BuildSettings
 import org.grails.gradle.plugin.util.SourceSets
+import org.grails.io.support.CompiledMessageBundle
 
 /**
  * The main Grails gradle plugin implementation
@@ -117,6 +123,14 @@ class GrailsGradlePlugin extends GroovyPlugin {
 
         enableNative2Ascii(project, grailsVersion)
 
+        configureMessageBundleCompilation(project)
+
+        configureArtefactIndex(project)
+
+        configureStaticResources(project)
+
+        configureCdsArchive(project)
+
         configureSpringBootExtension(project)
 
         configureAssetCompilation(project)
@@ -524,6 +538,109 @@ class GrailsGradlePlugin extends GroovyPlugin {
         }
     }
 
+    /**
+     * Precompiles the resource bundles into binary message bundles, if enabled
+     **/
+    @CompileDynamic
+    protected void configureMessageBundleCompilation(Project project) {
+        if (project.tasks.findByName('compileMessageBundles') != null) {
+            return
+        }
+
+        def compileMessageBundles = project.tasks.register('compileMessageBundles', MessageBundleCompileTask) { MessageBundleCompileTask task ->
+            task.group = 'build'
+            task.description = 'Compiles the message bundles into binary bundles'
+            task.srcDir = project.file("${grailsAppDir}/i18n")
+            task.destinationDir = new File(project.buildDir, 'i18n/compiled')
+        }
+
+        project.afterEvaluate {
+            GrailsExtension grailsExt = project.extensions.getByType(GrailsExtension)
+            if (grailsExt.isCompileMessageBundles()) {
+                SourceSet sourceSet = SourceSets.findMainSourceSet(project)
+                project.tasks.named(sourceSet.processResourcesTaskName, AbstractCopyTask) { AbstractCopyTask task ->
+                    task.from(compileMessageBundles) {
+                        into(CompiledMessageBundle.BUNDLE_LOCATION)
+                    }
+                }
+            }
+        }
+    }
+
+    protected void configureArtefactIndex(Project project) {
+        if (project.tasks.findByName('indexArtefacts') != null) {
+            return
+        }
+
+        SourceSet sourceSet = SourceSets.findMainSourceSet(project)
+        if (sourceSet == null) {
+            return
+        }
+        File destinationDir = new File(project.buildDir, 'grails/artefacts')
+        def indexArtefacts = project.tasks.register('indexArtefacts', ArtefactIndexTask) { ArtefactIndexTask task ->
+            task.group = 'build'
+            task.description = 'Generates the index of the artefact classes loaded at startup without scanning the classpath'
+            task.classesDirs = sourceSet.output.classesDirs
+            task.destinationDir = destinationDir
+            task.onlyIf {
+                project.extensions.getByType(GrailsExtension).isIndexArtefacts()
+            }
+        }
+        sourceSet.output.dir(destinationDir, builtBy: indexArtefacts)
+    }
+
+    protected void configureStaticResources(Project project) {
+        if (project.tasks.findByName('processStaticResources') != null) {
+            return
+        }
+
+        SourceSet sourceSet = SourceSets.findMainSourceSet(project)
+        if (sourceSet == null) {
+            return
+        }
+        File destinationDir = new File(project.buildDir, 'grails/static-resources')
+        def processStaticResources = project.tasks.register('processStaticResources', StaticResourcesTask) { StaticResourcesTask task ->
+            task.group = 'build'
+            task.description = 'Writes the content hashes and the gzip compressed variants of the static resources'
+            task.srcDirs = sourceSet.resources.sourceDirectories
+            task.destinationDir = destinationDir
+            task.onlyIf {
+                project.extensions.getByType(GrailsExtension).isProcessStaticResources()
+            }
+        }
+        sourceSet.output.dir(destinationDir, builtBy: processStaticResources)
+    }
+
+    protected void configureCdsArchive(Project project) {
+        if (project.tasks.findByName('cdsArchive') != null) {
+            return
+        }
+
+        File destinationDir = new File(project.buildDir, 'cds')
+        def cdsArchive = project.tasks.register('cdsArchive', CdsArchiveTask) { CdsArchiveTask task ->
+            BootJar bootJar = project.tasks.named('bootJar', BootJar).get()
+            task.group = 'build'
+            task.description = 'Creates a class data sharing archive of the application with a training run'
+            task.dependsOn(bootJar)
+            task.bootJar = bootJar.archiveFile.get().asFile
+            task.applicationName = project.name
+            task.destinationDir = destinationDir
+            task.onlyIf { bootJar.enabled }
+        }
+
+        // bootRun loads the application classes from directories, which can not be archived,
+        // so the archive is used by a separate task running the unpacked application
+        project.tasks.register('bootRunCds', JavaExec) { JavaExec task ->
+            File applicationJar = new File(destinationDir, CdsArchiveTask.APPLICATION_JAR)
+            task.group = 'application'
+            task.description = 'Runs the application with the class data sharing archive created by cdsArchive'
+            task.dependsOn(cdsArchive)
+            task.classpath(applicationJar)
+            task.mainClass.set(project.provider { CdsArchiveTask.readMainClass(applicationJar) })
+            task.jvmArgs("-XX:SharedArchiveFile=${new File(destinationDir, CdsArchiveTask.ARCHIVE_FILE).absolutePath}".toString(), '-Xshare:auto')
+        }
+    }
+
     @CompileDynamic
     protected Task createNative2AsciiTask(TaskContainer taskContainer, src, dest) {
         Task native2asciiTask = taskContainer.create('native2ascii')
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.gradle.plugin.i18n
+
+import groovy.transform.CompileStatic
+import org.gradle.api.DefaultTask
+import org.gradle.api.file.FileTree
+import org.gradle.api.tasks.CacheableTask
+import org.gradle.api.tasks.Input
+import org.gradle.api.tasks.InputFiles
+import org.gradle.api.tasks.Internal
+import org.gradle.api.tasks.OutputDirectory
+import org.gradle.api.tasks.PathSensitive
+import org.gradle.api.tasks.PathSensitivity
+import org.gradle.api.tasks.SkipWhenEmpty
+import org.gradle.api.tasks.TaskAction
+
+import grails.util.GrailsStringUtils
+
+import org.grails.io.support.CompiledMessageBundle
+
+/**
+ * Compiles the message bundles of the application into one binary bundle per locale,
+ * which can be loaded at runtime without parsing any properties files.
+ *
+ * <p>All base names are merged, if the same code is defined by several base names,
+ * the first one in alphabetical order wins.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@CompileStatic
+@CacheableTask
+class MessageBundleCompileTask extends DefaultTask {
+
+    @Internal
+    File srcDir
+
+    @Input
+    String encoding = 'UTF-8'
+
+    @OutputDirectory
+    File destinationDir
+
+    @InputFiles
+    @SkipWhenEmpty
+    @PathSensitive(PathSensitivity.RELATIVE)
+    FileTree getSource() {
+        project.fileTree(srcDir).matching { it.include('*.properties') }
+    }
+
+    @TaskAction
+    void compile() {
+        Map<String, SortedMap<String, String>> bundles = [:]
+        List<File> propertiesFiles = source.files.sort(false) { File file -> file.name }
+        for (File propertiesFile in propertiesFiles) {
+            String baseName = GrailsStringUtils.getFileBasename(propertiesFile.name)
+            int i = baseName.indexOf('_')
+            String localeSuffix = i > -1 ? baseName.substring(i) : ''
+
+            Properties properties = new Properties()
+            propertiesFile.withReader(encoding) { Reader reader ->
+                properties.load(reader)
+            }
+
+            SortedMap<String, String> messages = bundles.computeIfAbsent(localeSuffix) { new TreeMap<String, String>() }
+            for (String code in properties.stringPropertyNames()) {
+                messages.putIfAbsent(code, properties.getProperty(code))
+            }
+        }
+
+        project.delete(destinationDir)
+        destinationDir.mkdirs()
+        bundles.each { String localeSuffix, SortedMap<String, String> messages ->
+            File bundleFile = new File(destinationDir,
+                    CompiledMessageBundle.BUNDLE_BASENAME + localeSuffix + CompiledMessageBundle.FILE_EXTENSION)
+            bundleFile.withOutputStream { OutputStream out ->
+                CompiledMessageBundle.write(messages, new BufferedOutputStream(out))
+            }
+        }
+    }
+
+}
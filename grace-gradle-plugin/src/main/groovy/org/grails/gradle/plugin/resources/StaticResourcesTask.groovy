@@ -0,0 +1,111 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.gradle.plugin.resources
+
+import groovy.transform.CompileStatic
+import org.gradle.api.DefaultTask
+import org.gradle.api.file.FileCollection
+import org.gradle.api.file.FileTree
+import org.gradle.api.file.FileVisitDetails
+import org.gradle.api.tasks.CacheableTask
+import org.gradle.api.tasks.Input
+import org.gradle.api.tasks.InputFiles
+import org.gradle.api.tasks.Internal
+import org.gradle.api.tasks.OutputDirectory
+import org.gradle.api.tasks.PathSensitive
+import org.gradle.api.tasks.PathSensitivity
+import org.gradle.api.tasks.SkipWhenEmpty
+import org.gradle.api.tasks.TaskAction
+
+import org.grails.io.support.StaticResourceManifest
+
+/**
+ * Processes the static resources of the application, the resources in the {@code static}, {@code public},
+ * {@code resources} and {@code META-INF/resources} directories of the resources.
+ *
+ * <p>The content hash of every resource is written to {@code META-INF/grails/static-resources.idx},
+ * which is used at runtime to create the fingerprinted URLs of the resources, and a gzip compressed
+ * variant, served to the clients that accept it, is written next to every compressible resource
+ * that is smaller once compressed.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@CompileStatic
+@CacheableTask
+class StaticResourcesTask extends DefaultTask {
+
+    @Internal
+    FileCollection srcDirs
+
+    @Input
+    Set<String> compressibleExtensions = ['css', 'js', 'mjs', 'map', 'json', 'html', 'htm', 'svg', 'txt', 'xml'] as Set<String>
+
+    @Input
+    int minCompressSize = 1024
+
+    @OutputDirectory
+    File destinationDir
+
+    @InputFiles
+    @SkipWhenEmpty
+    @PathSensitive(PathSensitivity.RELATIVE)
+    FileTree getSource() {
+        srcDirs.asFileTree.matching {
+            for (String location in StaticResourceManifest.RESOURCE_LOCATIONS) {
+                it.include(location + '**')
+            }
+            it.exclude('**/*.gz', '**/*.br')
+        }
+    }
+
+    @TaskAction
+    void process() {
+        project.delete(destinationDir)
+        destinationDir.mkdirs()
+
+        SortedMap<String, String> hashes = new TreeMap<>()
+        source.visit { FileVisitDetails details ->
+            if (details.directory) {
+                return
+            }
+            String path = details.relativePath.pathString
+            String location = StaticResourceManifest.RESOURCE_LOCATIONS.find { String prefix -> path.startsWith(prefix) }
+            byte[] content = details.file.bytes
+            hashes.putIfAbsent(path.substring(location.length()), StaticResourceManifest.contentHash(content))
+
+            String extension = details.name.substring(details.name.lastIndexOf('.') + 1).toLowerCase(Locale.ENGLISH)
+            if (content.length >= minCompressSize && compressibleExtensions.contains(extension)) {
+                compress(content, new File(destinationDir, path + '.gz'))
+            }
+        }
+
+        File manifestFile = new File(destinationDir, StaticResourceManifest.MANIFEST_LOCATION)
+        manifestFile.parentFile.mkdirs()
+        manifestFile.withOutputStream { OutputStream out ->
+            StaticResourceManifest.write(hashes, out)
+        }
+    }
+
+    private static void compress(byte[] content, File compressedFile) {
+        byte[] compressed = StaticResourceManifest.gzip(content)
+        if (compressed.length < content.length) {
+            compressedFile.parentFile.mkdirs()
+            compressedFile.bytes = compressed
+        }
+    }
+
+}
@@ -39,6 +39,7 @@ import grails.util.CollectionUtils;
 import org.grails.buffer.GrailsPrintWriter;
 import org.grails.encoder.Encoder;
 import org.grails.exceptions.ExceptionUtils;
+import org.grails.gsp.jfr.TagInvocationEvent;
 import org.grails.gsp.jsp.JspTag;
 import org.grails.gsp.jsp.JspTagLib;
 import org.grails.gsp.jsp.TagLibraryResolver;
@@ -405,7 +406,20 @@ public abstract class GroovyPage extends Script {
                     Object tagLibClosure = tagLib.getProperty(theTagName);
                     if (tagLibClosure instanceof Closure) {
                         Map<String, Object> encodeAsForTag = this.gspTagLibraryLookup.getEncodeAsForTag(theNamespace, theTagName);
-                        invokeTagLibClosure(theTagName, theNamespace, (Closure) tagLibClosure, theAttrs, body, returnsObject, encodeAsForTag);
+                        TagInvocationEvent event = new TagInvocationEvent();
+                        event.begin();
+                        try {
+                            invokeTagLibClosure(theTagName, theNamespace, (Closure) tagLibClosure, theAttrs, body, returnsObject, encodeAsForTag);
+                        }
+                        finally {
+                            event.end();
+                            if (event.shouldCommit()) {
+                                event.setTag(theNamespace + ':' + theTagName);
+                                event.setTemplateUri(getGroovyPageFileName());
+                                event.setLineNumber(lineNumber);
+                                event.commit();
+                            }
+                        }
                     }
                     else {
                         throw new GrailsTagException("Tag [" + theTagName + "] does not exist in tag library [" + tagLib.getClass().getName() + "]",
@@ -29,10 +29,13 @@ import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import groovy.lang.GroovySystem;
 import org.apache.commons.logging.Log;
@@ -110,7 +113,15 @@ public class GroovyPageMetaInfo implements GrailsApplicationAware {
 
     private boolean modelFieldsMode;
 
-    private Set<Field> modelFields;
+    private volatile Set<Field> modelFields;
+
+    private Set<String> layoutBlocks;
+
+    /**
+     * The blocks of a page that have been captured when the body of the page starts,
+     * they are the blocks a progressive layout can use before {@code <g:layoutBody/>}
+     */
+    public static final Set<String> HEAD_LAYOUT_BLOCKS = Set.of("title", "head", "meta", "body");
 
     public static final String HTML_DATA_POSTFIX = "_html.data";
 
@@ -126,7 +137,12 @@ public class GroovyPageMetaInfo implements GrailsApplicationAware {
 
     private GrailsPlugin pagePlugin;
 
-    private boolean initialized = false;
+    private volatile boolean initialized = false;
+
+    // locks instead of synchronized, so that virtual threads reading the page do not pin their carrier threads
+    private final Lock initializationLock = new ReentrantLock();
+
+    private final Lock lineNumbersLock = new ReentrantLock();
 
     private CacheEntry<Resource> shouldReloadCacheEntry = new CacheEntry<>();
 
@@ -167,6 +183,10 @@ public class GroovyPageMetaInfo implements GrailsApplicationAware {
         if (modelFieldsModeField != null) {
             this.modelFieldsMode = (Boolean) ReflectionUtils.getField(modelFieldsModeField, null);
         }
+        Field layoutBlocksField = ReflectionUtils.findField(pageClass, GroovyPageParser.CONSTANT_NAME_LAYOUT_BLOCKS);
+        if (layoutBlocksField != null) {
+            setLayoutBlocks((String) ReflectionUtils.getField(layoutBlocksField, null));
+        }
 
         try {
             readHtmlData();
@@ -176,9 +196,18 @@ public class GroovyPageMetaInfo implements GrailsApplicationAware {
         }
     }
 
-    synchronized void initializeOnDemand(GroovyPageMetaInfoInitializer initializer) {
-        if (!this.initialized) {
-            initializer.initialize(this);
+    void initializeOnDemand(GroovyPageMetaInfoInitializer initializer) {
+        if (this.initialized) {
+            return;
+        }
+        this.initializationLock.lock();
+        try {
+            if (!this.initialized) {
+                initializer.initialize(this);
+            }
+        }
+        finally {
+            this.initializationLock.unlock();
         }
     }
 
@@ -194,7 +223,7 @@ public class GroovyPageMetaInfo implements GrailsApplicationAware {
         this.initialized = true;
     }
 
-    private synchronized void initializeModelFields() {
+    private void initializeModelFields() {
         if (getPageClass() != null) {
             Set<Field> modelFields = new HashSet<>();
             if (this.modelFieldsMode) {
@@ -353,16 +382,22 @@ public class GroovyPageMetaInfo implements GrailsApplicationAware {
         return this.lineNumbers;
     }
 
-    private synchronized int[] getPrecompiledLineNumbers() {
-        if (this.lineNumbers == null) {
-            try {
-                readLineNumbers();
-            }
-            catch (IOException e) {
-                logger.warn("Problem reading precompiled linenumbers", e);
+    private int[] getPrecompiledLineNumbers() {
+        this.lineNumbersLock.lock();
+        try {
+            if (this.lineNumbers == null) {
+                try {
+                    readLineNumbers();
+                }
+                catch (IOException e) {
+                    logger.warn("Problem reading precompiled linenumbers", e);
+                }
             }
+            return this.lineNumbers;
+        }
+        finally {
+            this.lineNumbersLock.unlock();
         }
-        return this.lineNumbers;
     }
 
     public void setLineNumbers(int[] lineNumbers) {
@@ -560,6 +595,47 @@ public class GroovyPageMetaInfo implements GrailsApplicationAware {
         this.modelFieldsMode = modelFieldsMode;
     }
 
+    /**
+     * @return The blocks of the page that a layout declares with the {@code layoutBlocks} page directive,
+     * or null if it declares none
+     */
+    public Set<String> getLayoutBlocks() {
+        return this.layoutBlocks;
+    }
+
+    public void setLayoutBlocks(String layoutBlocks) {
+        if (layoutBlocks == null) {
+            this.layoutBlocks = null;
+            return;
+        }
+        Set<String> blocks = new LinkedHashSet<>();
+        for (String block : layoutBlocks.split(",")) {
+            if (!block.isBlank()) {
+                blocks.add(block.trim());
+            }
+        }
+        this.layoutBlocks = Collections.unmodifiableSet(blocks);
+    }
+
+    /**
+     * A layout is progressive when it declares the blocks of the page it needs, and all of them are captured
+     * before the body of the page, so the layout can be written up to {@code <g:layoutBody/>} before the body is rendered.
+     *
+     * @return Whether this page can be applied as a progressive layout
+     */
+    public boolean isProgressiveLayout() {
+        if (this.layoutBlocks == null) {
+            return false;
+        }
+        for (String block : this.layoutBlocks) {
+            int dot = block.indexOf('.');
+            if (!HEAD_LAYOUT_BLOCKS.contains(dot > 0 ? block.substring(0, dot) : block)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public Set<Field> getModelFields() {
         if (this.modelFields == null) {
             initializeModelFields();
@@ -29,6 +29,8 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import groovy.lang.GroovyClassLoader;
 import groovy.text.Template;
@@ -110,12 +112,18 @@ public class GroovyPagesTemplateEngine extends ResourceAwareTemplateEngine
 
     private ClassLoader classLoader;
 
+    private final Lock classLoaderLock = new ReentrantLock();
+
     private AtomicInteger scriptNameCount = new AtomicInteger(0);
 
     private GroovyPageLocator groovyPageLocator = new DefaultGroovyPageLocator();
 
     private boolean reloadEnabled;
 
+    private volatile boolean watchEnabled;
+
+    private final ConcurrentMap<String, String> watchedPageNames = new ConcurrentHashMap<>();
+
     private TagLibraryLookup tagLibraryLookup;
 
     private TagLibraryResolver jspTagLibraryResolver;
@@ -463,7 +471,7 @@ public class GroovyPagesTemplateEngine extends ResourceAwareTemplateEngine
      * @return true if it is reloadable
      */
     private boolean isGroovyPageReloadable(final Resource resource, GroovyPageMetaInfo meta) {
-        return isReloadEnabled() && meta.shouldReload(new PrivilegedAction<Resource>() {
+        return isReloadEnabled() && !this.watchEnabled && meta.shouldReload(new PrivilegedAction<Resource>() {
             public Resource run() {
                 return resource;
             }
@@ -488,6 +496,68 @@ public class GroovyPagesTemplateEngine extends ResourceAwareTemplateEngine
         this.reloadEnabled = b;
     }
 
+    /**
+     * Return whether reloadable pages are reloaded when a file watcher reports a change to them
+     *
+     * @return true if it is
+     */
+    public boolean isWatchEnabled() {
+        return this.watchEnabled;
+    }
+
+    /**
+     * Sets whether reloadable pages are reloaded when a file watcher reports a change to them, by calling
+     * {@link #removePageFromCache(File)}, instead of checking the last modified date of their source when they are rendered.
+     *
+     * @param watchEnabled True if it is enabled
+     */
+    public void setWatchEnabled(boolean watchEnabled) {
+        this.watchEnabled = watchEnabled;
+    }
+
+    /**
+     * Removes the page compiled from the given file from the page cache, it is compiled again when it is next rendered.
+     *
+     * @param file The changed GSP file
+     * @return true if a page compiled from the file was removed
+     */
+    public boolean removePageFromCache(File file) {
+        String pageName;
+        try {
+            pageName = this.watchedPageNames.remove(file.getCanonicalPath());
+        }
+        catch (IOException e) {
+            return false;
+        }
+        if (pageName == null) {
+            return false;
+        }
+        CacheEntry<GroovyPageMetaInfo> entry = this.pageCache.remove(pageName);
+        if (entry == null) {
+            return false;
+        }
+        GroovyPageMetaInfo metaInfo = entry.getValue();
+        if (metaInfo != null) {
+            metaInfo.removePageMetaClass();
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Removed GSP [" + file + "] from the page cache");
+        }
+        return true;
+    }
+
+    private void watchPage(Resource resource, String pageName) {
+        if (!this.watchEnabled || resource == null) {
+            return;
+        }
+        try {
+            this.watchedPageNames.put(resource.getFile().getCanonicalPath(), pageName);
+        }
+        catch (IOException e) {
+            // not a file, changes to it are not reported
+        }
+    }
+
     /**
      * Attempts to retrieve a reference to a GSP as a Spring Resource instance for the given URI.
      *
@@ -617,11 +687,18 @@ public class GroovyPagesTemplateEngine extends ResourceAwareTemplateEngine
         return scriptClass;
     }
 
-    private synchronized GroovyClassLoader findOrInitGroovyClassLoader() {
-        if (!(this.classLoader instanceof GroovyPageClassLoader)) {
-            this.classLoader = initGroovyClassLoader(this.classLoader);
+    private GroovyClassLoader findOrInitGroovyClassLoader() {
+        // a lock instead of synchronized, a virtual thread loading classes would pin its carrier thread
+        this.classLoaderLock.lock();
+        try {
+            if (!(this.classLoader instanceof GroovyPageClassLoader)) {
+                this.classLoader = initGroovyClassLoader(this.classLoader);
+            }
+            return (GroovyClassLoader) this.classLoader;
+        }
+        finally {
+            this.classLoaderLock.unlock();
         }
-        return (GroovyClassLoader) this.classLoader;
     }
 
     /**
@@ -647,6 +724,7 @@ public class GroovyPagesTemplateEngine extends ResourceAwareTemplateEngine
         pageMeta.setTaglibCodecName(parse.getTaglibCodecDirectiveValue());
         pageMeta.setCompileStaticMode(parse.isCompileStaticMode());
         pageMeta.setModelFieldsMode(parse.isModelFieldsMode());
+        pageMeta.setLayoutBlocks(parse.getLayoutBlocksDirectiveValue());
 
         pageMeta.initialize();
         // just return groovy and don't compile if asked
@@ -770,6 +848,7 @@ public class GroovyPagesTemplateEngine extends ResourceAwareTemplateEngine
             }
             it.remove();
         }
+        this.watchedPageNames.clear();
     }
 
     public boolean isCacheResources() {
@@ -841,7 +920,9 @@ public class GroovyPagesTemplateEngine extends ResourceAwareTemplateEngine
                 oldValue.removePageMetaClass();
             }
             Resource resource = (Resource) cacheRequestObject;
-            return buildPageMetaInfo(resource, this.pageName);
+            GroovyPageMetaInfo metaInfo = buildPageMetaInfo(resource, this.pageName);
+            watchPage(resource, this.pageName);
+            return metaInfo;
         }
 
     }
@@ -113,6 +113,8 @@ public class GroovyPageParser implements Tokens {
 
     public static final String CONSTANT_NAME_MODEL_FIELDS_MODE = "MODEL_FIELDS_MODE";
 
+    public static final String CONSTANT_NAME_LAYOUT_BLOCKS = "LAYOUT_BLOCKS";
+
     public static final String DEFAULT_ENCODING = "UTF-8";
 
     private static final String MULTILINE_GROOVY_STRING_DOUBLEQUOTES = "\"\"\"";
@@ -123,6 +125,8 @@ public class GroovyPageParser implements Tokens {
 
     public static final String COMPILE_STATIC_DIRECTIVE = "compileStatic";
 
+    public static final String LAYOUT_BLOCKS_DIRECTIVE = "layoutBlocks";
+
     public static final String TAGLIBS_DIRECTIVE = "taglibs";
 
     public static final List<String> DEFAULT_TAGLIB_NAMESPACES = Collections.unmodifiableList(Arrays.asList("g", "tmpl", "f", "asset", "plugin"));
@@ -255,6 +259,8 @@ public class GroovyPageParser implements Tokens {
 
     private String modelDirectiveValue;
 
+    private String layoutBlocksDirectiveValue;
+
     private boolean enableSitemeshPreprocessing = true;
 
     private File keepGeneratedDirectory;
@@ -588,6 +594,9 @@ public class GroovyPageParser implements Tokens {
             if (name.equalsIgnoreCase(COMPILE_STATIC_DIRECTIVE)) {
                 compileStaticModeSetting = GrailsStringUtils.toBoolean(value.trim());
             }
+            if (name.equalsIgnoreCase(LAYOUT_BLOCKS_DIRECTIVE)) {
+                this.layoutBlocksDirectiveValue = value.trim();
+            }
             if (name.equalsIgnoreCase(TAGLIBS_DIRECTIVE)) {
                 this.allowedTaglibNamespaces.addAll(Arrays.asList(value.trim().split("\\s*,\\s*")));
             }
@@ -1006,6 +1015,10 @@ public class GroovyPageParser implements Tokens {
                 this.out.println("public static final boolean " +
                         CONSTANT_NAME_MODEL_FIELDS_MODE + " = " + this.modelFieldsMode);
             }
+            if (this.layoutBlocksDirectiveValue != null) {
+                this.out.println("public static final String " +
+                        CONSTANT_NAME_LAYOUT_BLOCKS + " = '" + escapeGroovy(this.layoutBlocksDirectiveValue) + "'");
+            }
 
             this.out.println("}");
 
@@ -1553,6 +1566,10 @@ public class GroovyPageParser implements Tokens {
         return this.modelFieldsMode;
     }
 
+    public String getLayoutBlocksDirectiveValue() {
+        return this.layoutBlocksDirectiveValue;
+    }
+
     class TagMeta {
 
         String name;
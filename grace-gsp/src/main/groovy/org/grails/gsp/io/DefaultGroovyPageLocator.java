@@ -16,27 +16,39 @@
 package org.grails.gsp.io;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.PrivilegedAction;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.ResourceLoaderAware;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 
 import grails.plugins.GrailsPlugin;
 import grails.plugins.GrailsPluginManager;
@@ -57,7 +69,8 @@ import org.grails.taglib.TemplateVariableBinding;
  * @author Graeme Rocher
  * @since 2.0
  */
-public class DefaultGroovyPageLocator implements GroovyPageLocator, ResourceLoaderAware, ApplicationContextAware, PluginManagerAware {
+public class DefaultGroovyPageLocator implements GroovyPageLocator, ResourceLoaderAware, ApplicationContextAware, PluginManagerAware,
+        SmartInitializingSingleton {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultGroovyPageLocator.class);
 
@@ -69,6 +82,8 @@ public class DefaultGroovyPageLocator implements GroovyPageLocator, ResourceLoad
 
     private static final String BLANK = "";
 
+    private static final int MAX_INDEXED_LOOKUPS = 10000;
+
     protected Collection<ResourceLoader> resourceLoaders = new ConcurrentLinkedQueue<>();
 
     protected GrailsPluginManager pluginManager;
@@ -81,6 +96,14 @@ public class DefaultGroovyPageLocator implements GroovyPageLocator, ResourceLoad
 
     private Set<String> reloadedPrecompiledGspClassNames = new CopyOnWriteArraySet<>();
 
+    private boolean indexEnabled;
+
+    private volatile Map<ResourceLoader, ViewResourceIndex> viewResourceIndexes;
+
+    private final ConcurrentMap<String, Optional<Class<?>>> precompiledGspClasses = new ConcurrentHashMap<>();
+
+    private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+
     public void setResourceLoader(ResourceLoader resourceLoader) {
         addResourceLoader(resourceLoader);
     }
@@ -396,16 +419,7 @@ public class DefaultGroovyPageLocator implements GroovyPageLocator, ResourceLoad
                     if (LOG.isDebugEnabled()) {
                         LOG.debug("Found pre-compiled GSP template [{}] for path [{}]", gspClassName, searchPath);
                     }
-                    Class<GroovyPage> gspClass = null;
-                    try {
-                        if (LOG.isDebugEnabled()) {
-                            LOG.debug("Loading GSP template [{}]", gspClassName);
-                        }
-                        gspClass = (Class<GroovyPage>) Class.forName(gspClassName, true, Thread.currentThread().getContextClassLoader());
-                    }
-                    catch (ClassNotFoundException e) {
-                        LOG.warn("Cannot load class " + gspClassName + ". Resuming on non-precompiled implementation.", e);
-                    }
+                    Class<GroovyPage> gspClass = (Class<GroovyPage>) loadPrecompiledGspClass(gspClassName);
                     if (gspClass != null) {
                         GroovyPageCompiledScriptSource groovyPageCompiledScriptSource =
                                 createGroovyPageCompiledScriptSource(uri, searchPath, gspClass);
@@ -426,13 +440,35 @@ public class DefaultGroovyPageLocator implements GroovyPageLocator, ResourceLoad
         return findResource(resolveSearchPaths(uri));
     }
 
+    private Class<?> loadPrecompiledGspClass(String gspClassName) {
+        if (this.indexEnabled) {
+            return this.precompiledGspClasses.computeIfAbsent(gspClassName, name -> Optional.ofNullable(loadClass(name))).orElse(null);
+        }
+        return loadClass(gspClassName);
+    }
+
+    private static Class<?> loadClass(String gspClassName) {
+        try {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Loading GSP template [{}]", gspClassName);
+            }
+            return Class.forName(gspClassName, true, Thread.currentThread().getContextClassLoader());
+        }
+        catch (ClassNotFoundException e) {
+            LOG.warn("Cannot load class " + gspClassName + ". Resuming on non-precompiled implementation.", e);
+            return null;
+        }
+    }
+
     protected Resource findResource(List<String> searchPaths) {
+        Map<ResourceLoader, ViewResourceIndex> indexes = this.viewResourceIndexes;
         Resource foundResource = null;
         Resource resource;
         for (ResourceLoader loader : this.resourceLoaders) {
+            ViewResourceIndex index = indexes != null ? indexes.computeIfAbsent(loader, ViewResourceIndex::new) : null;
             for (String path : searchPaths) {
-                resource = loader.getResource(path);
-                if (resource != null && resource.exists()) {
+                resource = index != null ? index.getResource(path) : loader.getResource(path);
+                if (resource != null && (index != null || resource.exists())) {
                     foundResource = resource;
                     break;
                 }
@@ -448,8 +484,99 @@ public class DefaultGroovyPageLocator implements GroovyPageLocator, ResourceLoad
         return this.precompiledGspMap != null && this.precompiledGspMap.size() > 0;
     }
 
+    /**
+     * Whether the views and templates are located with an index of their resources, built once the
+     * application context has been initialized, instead of looking up the resources on every miss.
+     * Should only be enabled when the views can not change, as in production.
+     *
+     * @param indexEnabled Whether the index is enabled
+     */
+    public void setIndexEnabled(boolean indexEnabled) {
+        this.indexEnabled = indexEnabled;
+    }
+
+    public boolean isIndexEnabled() {
+        return this.indexEnabled;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (this.indexEnabled && !this.reloadEnabled) {
+            buildIndex();
+        }
+    }
+
+    /**
+     * Builds the index of the view resources of every resource loader by scanning the view directories once,
+     * so that the views in them are found, and the views missing from them are not, without looking up resources
+     */
+    public void buildIndex() {
+        StartupStep indexStep = this.applicationStartup.start("grails.gsp.view-index.built");
+        Map<ResourceLoader, ViewResourceIndex> indexes = new ConcurrentHashMap<>();
+        int indexed = 0;
+        try {
+            List<String> viewRoots = resolveViewRoots();
+            for (ResourceLoader loader : this.resourceLoaders) {
+                ViewResourceIndex index = new ViewResourceIndex(loader);
+                for (String viewRoot : viewRoots) {
+                    indexed += index.scan(viewRoot);
+                }
+                indexes.put(loader, index);
+            }
+        }
+        finally {
+            indexStep.tag("resourceCount", String.valueOf(indexed))
+                    .tag("resourceLoaderCount", String.valueOf(indexes.size()))
+                    .tag("precompiledViewCount", String.valueOf(this.precompiledGspMap != null ? this.precompiledGspMap.size() : 0))
+                    .end();
+        }
+        this.viewResourceIndexes = indexes;
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Indexed {} GSP resources in {} resource loaders", indexed, indexes.size());
+        }
+    }
+
+    protected List<String> resolveViewRoots() {
+        if (this.warDeployed) {
+            return CollectionUtils.newList(PATH_TO_WEB_INF_VIEWS, "/WEB-INF/app/views");
+        }
+        return CollectionUtils.newList(PATH_TO_WEB_INF_VIEWS, "/WEB-INF/app/views",
+                "/" + GrailsResourceUtils.GRAILS_APP_DIR + "/views", "/app/views");
+    }
+
+    /**
+     * Resolves the directories of the file system that the views and templates are loaded from,
+     * the directories to watch to be notified of changes to them
+     *
+     * @return The view directories
+     */
+    public List<File> resolveViewDirectories() {
+        Set<File> directories = new LinkedHashSet<>();
+        List<String> viewRoots = resolveViewRoots();
+        for (ResourceLoader loader : this.resourceLoaders) {
+            for (String viewRoot : viewRoots) {
+                Resource resource = loader.getResource(viewRoot);
+                try {
+                    if (resource != null && resource.isFile()) {
+                        File directory = resource.getFile().getCanonicalFile();
+                        if (directory.isDirectory()) {
+                            directories.add(directory);
+                        }
+                    }
+                }
+                catch (IOException ignored) {
+                    // not in the file system
+                }
+            }
+        }
+        return new ArrayList<>(directories);
+    }
+
     public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
         addResourceLoader(applicationContext);
+        if (applicationContext instanceof ConfigurableApplicationContext) {
+            this.applicationStartup = ((ConfigurableApplicationContext) applicationContext).getApplicationStartup();
+        }
     }
 
     public void setPluginManager(GrailsPluginManager pluginManager) {
@@ -468,6 +595,71 @@ public class DefaultGroovyPageLocator implements GroovyPageLocator, ResourceLoad
         this.reloadEnabled = reloadEnabled;
     }
 
+    /**
+     * The view resources of a resource loader, the resources in the scanned view directories
+     * and the resources looked up elsewhere, found or not
+     */
+    private static class ViewResourceIndex {
+
+        private final ResourceLoader loader;
+
+        private final Set<String> scannedRoots = new HashSet<>();
+
+        private final ConcurrentMap<String, Optional<Resource>> resources = new ConcurrentHashMap<>();
+
+        ViewResourceIndex(ResourceLoader loader) {
+            this.loader = loader;
+        }
+
+        int scan(String viewRoot) {
+            Resource root = this.loader.getResource(viewRoot);
+            try {
+                if (root == null || !root.isFile() || !root.getFile().isDirectory()) {
+                    return 0;
+                }
+                Path rootDirectory = root.getFile().toPath();
+                int count = 0;
+                try (Stream<Path> files = Files.walk(rootDirectory)) {
+                    for (Path file : files.filter(Files::isRegularFile).toList()) {
+                        String path = viewRoot + '/' + rootDirectory.relativize(file).toString().replace(File.separatorChar, '/');
+                        this.resources.put(path, Optional.ofNullable(this.loader.getResource(path)));
+                        count++;
+                    }
+                }
+                this.scannedRoots.add(viewRoot + '/');
+                return count;
+            }
+            catch (IOException e) {
+                LOG.debug("Unable to scan GSP view directory [{}], its views will be looked up", viewRoot, e);
+                return 0;
+            }
+        }
+
+        /**
+         * Returns the resource for the path, or null if it does not exist
+         */
+        Resource getResource(String path) {
+            Optional<Resource> resource = this.resources.get(path);
+            if (resource != null) {
+                return resource.orElse(null);
+            }
+            for (String root : this.scannedRoots) {
+                if (path.startsWith(root)) {
+                    return null;
+                }
+            }
+            Resource found = this.loader.getResource(path);
+            if (found != null && !found.exists()) {
+                found = null;
+            }
+            if (this.resources.size() < MAX_INDEXED_LOOKUPS) {
+                this.resources.putIfAbsent(path, Optional.ofNullable(found));
+            }
+            return found;
+        }
+
+    }
+
     public static class PluginViewPathInfo {
 
         public String basePath;
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.gsp.io;
+
+import java.io.File;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import org.grails.gsp.GroovyPage;
+import org.grails.gsp.GroovyPagesTemplateEngine;
+import org.grails.io.watch.DirectoryWatcher;
+
+/**
+ * Watches the view directories with a {@link DirectoryWatcher} and removes the pages compiled from
+ * the changed or deleted GSP files from the page cache of the {@link GroovyPagesTemplateEngine}, so that reloadable
+ * pages are reloaded without checking the last modified date of their source when they are rendered.
+ *
+ * <p>If the watcher stops on an error, the template engine goes back to checking the last modified date
+ * of the pages. Changes the file system does not report, for example on some network file systems, are missed.
+ *
+ * <p>Does nothing unless the template engine is reloading and {@link GroovyPagesTemplateEngine#isWatchEnabled() watching}.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+public class GroovyPageChangeWatcher implements InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroovyPageChangeWatcher.class);
+
+    private final GroovyPagesTemplateEngine templateEngine;
+
+    private final List<File> directories;
+
+    private DirectoryWatcher directoryWatcher;
+
+    public GroovyPageChangeWatcher(GroovyPagesTemplateEngine templateEngine, List<File> directories) {
+        this.templateEngine = templateEngine;
+        this.directories = directories;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!this.templateEngine.isReloadEnabled() || !this.templateEngine.isWatchEnabled() || this.directories.isEmpty()) {
+            return;
+        }
+        DirectoryWatcher watcher = new DirectoryWatcher();
+        watcher.setName("gsp-change-watcher");
+        watcher.addListener(new DirectoryWatcher.FileChangeListener() {
+
+            @Override
+            public void onChange(File file) {
+                GroovyPageChangeWatcher.this.templateEngine.removePageFromCache(file);
+            }
+
+            @Override
+            public void onNew(File file) {
+                // some platforms report modified files as new
+                GroovyPageChangeWatcher.this.templateEngine.removePageFromCache(file);
+            }
+
+            @Override
+            public void onDelete(File file) {
+                GroovyPageChangeWatcher.this.templateEngine.removePageFromCache(file);
+            }
+
+        });
+        watcher.setUncaughtExceptionHandler((thread, ex) -> {
+            logger.error("Watching GSP views failed, checking their last modified date instead", ex);
+            this.templateEngine.setWatchEnabled(false);
+        });
+        for (File directory : this.directories) {
+            watcher.addWatchDirectory(directory, GroovyPage.EXTENSION);
+        }
+        watcher.start();
+        this.directoryWatcher = watcher;
+        if (logger.isDebugEnabled()) {
+            logger.debug("Watching GSP views in {}", this.directories);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (this.directoryWatcher != null) {
+            this.directoryWatcher.setActive(false);
+            this.directoryWatcher = null;
+        }
+    }
+
+}
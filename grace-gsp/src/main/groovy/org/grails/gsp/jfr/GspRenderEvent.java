@@ -0,0 +1,65 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.gsp.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for rendering a GSP view, layout or template.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@Name(GspRenderEvent.NAME)
+@Label("GSP Render")
+@Category({ "Grails", "GSP" })
+@Description("Renders a GSP view, layout or template")
+@StackTrace(false)
+public class GspRenderEvent extends Event {
+
+    public static final String NAME = "grails.GspRender";
+
+    private static final EventType EVENT_TYPE = EventType.getEventType(GspRenderEvent.class);
+
+    @Label("Template URI")
+    private String templateUri;
+
+    @Label("Characters")
+    @Description("The characters written to the response, -1 when the template is rendered into another page")
+    private long characters = -1;
+
+    /**
+     * Whether the event is enabled in a running recording, so that the characters written should be counted
+     */
+    public static boolean isRecording() {
+        return EVENT_TYPE.isEnabled();
+    }
+
+    public void setTemplateUri(String templateUri) {
+        this.templateUri = templateUri;
+    }
+
+    public void setCharacters(long characters) {
+        this.characters = characters;
+    }
+
+}
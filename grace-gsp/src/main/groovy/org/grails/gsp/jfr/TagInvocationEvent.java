@@ -0,0 +1,67 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.gsp.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A Flight Recorder event for invoking a GSP tag, including the time spent rendering its body.
+ *
+ * <p>Only the invocations taking at least the threshold, 1 ms by default, are recorded, so that the event
+ * can stay enabled for pages invoking many tags.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@Name(TagInvocationEvent.NAME)
+@Label("GSP Tag Invocation")
+@Category({ "Grails", "GSP" })
+@Description("Invokes a GSP tag")
+@StackTrace(false)
+@Threshold("1 ms")
+public class TagInvocationEvent extends Event {
+
+    public static final String NAME = "grails.TagInvocation";
+
+    @Label("Tag")
+    @Description("The namespace and name of the tag")
+    private String tag;
+
+    @Label("Template URI")
+    private String templateUri;
+
+    @Label("Line Number")
+    private int lineNumber;
+
+    public void setTag(String tag) {
+        this.tag = tag;
+    }
+
+    public void setTemplateUri(String templateUri) {
+        this.templateUri = templateUri;
+    }
+
+    public void setLineNumber(int lineNumber) {
+        this.lineNumber = lineNumber;
+    }
+
+}
@@ -4,6 +4,7 @@ import grails.config.Config
 import grails.core.GrailsApplication
 import grails.core.GrailsClass
 import grails.util.GrailsUtil
+import groovy.text.Template
 import org.grails.config.PropertySourcesConfig
 import org.grails.core.io.MockStringResourceLoader
 import org.grails.gsp.compiler.GroovyPageParser
@@ -12,6 +13,8 @@ import org.springframework.core.io.ByteArrayResource
 import org.springframework.core.io.UrlResource
 
 import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertFalse
+import static org.junit.jupiter.api.Assertions.assertNull
 import static org.junit.jupiter.api.Assertions.assertTrue
 
 class GroovyPagesTemplateEngineTests {
@@ -521,6 +524,51 @@ never
         assertEquals "1 2 3 4 5 ", sw.toString()
     }
 
+    @Test
+    void testLayoutBlocksDirective() {
+        def gpte = new GroovyPagesTemplateEngine()
+        gpte.afterPropertiesSet()
+
+        def progressive = (GroovyPageTemplate) gpte.createTemplate('<%@ page layoutBlocks="title, head, meta.description" %><g:layoutBody/>', "progressive_layout_test")
+        assertEquals(['title', 'head', 'meta.description'] as Set, progressive.metaInfo.layoutBlocks)
+        assertTrue(progressive.metaInfo.progressiveLayout)
+
+        def contentBlocks = (GroovyPageTemplate) gpte.createTemplate('<%@ page layoutBlocks="title, page.nav" %><g:layoutBody/>', "content_blocks_layout_test")
+        assertFalse(contentBlocks.metaInfo.progressiveLayout)
+
+        def undeclared = (GroovyPageTemplate) gpte.createTemplate('<g:layoutBody/>', "undeclared_layout_test")
+        assertNull(undeclared.metaInfo.layoutBlocks)
+        assertFalse(undeclared.metaInfo.progressiveLayout)
+    }
+
+    @Test
+    void testRemovePageFromCacheWhenWatching() {
+        def gpte = new GroovyPagesTemplateEngine()
+        gpte.reloadEnabled = true
+        gpte.watchEnabled = true
+        gpte.afterPropertiesSet()
+
+        File gsp = File.createTempFile("watched", ".gsp")
+        gsp.deleteOnExit()
+        gsp.text = "<%='one'%>"
+        assertEquals "one", render(gpte.createTemplate(gsp))
+
+        // the last modified date is not checked when watching
+        gsp.text = "<%='two'%>"
+        gsp.lastModified = System.currentTimeMillis() + 10000
+        assertEquals "one", render(gpte.createTemplate(gsp))
+
+        assertTrue gpte.removePageFromCache(gsp)
+        assertEquals "two", render(gpte.createTemplate(gsp))
+        assertFalse gpte.removePageFromCache(new File(gsp.parentFile, "unknown.gsp"))
+    }
+
+    private static String render(Template t) {
+        def sw = new StringWriter()
+        t.make().writeTo(new PrintWriter(sw))
+        sw.toString()
+    }
+
     @Test
     void testGetUriWithinGrailsViews() {
         def gpte = new GroovyPagesTemplateEngine()
@@ -0,0 +1,101 @@
+package org.grails.gsp.io
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+import groovy.text.Template
+import org.springframework.core.io.DefaultResourceLoader
+import org.springframework.core.io.FileSystemResource
+import org.springframework.core.io.Resource
+import spock.lang.Specification
+import spock.lang.TempDir
+import spock.util.concurrent.PollingConditions
+
+import org.grails.gsp.GroovyPagesTemplateEngine
+
+class GroovyPageChangeWatcherSpec extends Specification {
+
+    @TempDir
+    File viewsDir
+
+    List<File> removedFiles = new CopyOnWriteArrayList<>()
+
+    GroovyPagesTemplateEngine templateEngine = new GroovyPagesTemplateEngine() {
+        @Override
+        boolean removePageFromCache(File file) {
+            removedFiles << file.canonicalFile
+            super.removePageFromCache(file)
+        }
+    }
+
+    GroovyPageChangeWatcher watcher
+
+    void setup() {
+        templateEngine.reloadEnabled = true
+        templateEngine.watchEnabled = true
+        templateEngine.afterPropertiesSet()
+    }
+
+    void cleanup() {
+        watcher?.destroy()
+    }
+
+    void 'Test a page changed in a watched directory is rendered again from its source'() {
+        given:
+        File gsp = new File(viewsDir, 'book/show.gsp')
+        gsp.parentFile.mkdirs()
+        gsp.text = "<%='one'%>"
+        watcher = new GroovyPageChangeWatcher(templateEngine, [viewsDir])
+        watcher.afterPropertiesSet()
+
+        expect:
+        render(templateEngine.createTemplate(gsp)) == 'one'
+
+        when:
+        gsp.text = "<%='two'%>"
+
+        then:
+        new PollingConditions(timeout: 15).eventually {
+            assert render(templateEngine.createTemplate(gsp)) == 'two'
+        }
+    }
+
+    void 'Test a page deleted from a watched directory is removed from the page cache'() {
+        given:
+        File gsp = new File(viewsDir, 'index.gsp')
+        gsp.text = "<%='one'%>"
+        watcher = new GroovyPageChangeWatcher(templateEngine, [viewsDir])
+        watcher.afterPropertiesSet()
+        render(templateEngine.createTemplate(gsp))
+
+        when:
+        gsp.delete()
+
+        then:
+        new PollingConditions(timeout: 15).eventually {
+            assert removedFiles.contains(gsp.canonicalFile)
+        }
+    }
+
+    void 'Test the watched directories are the view directories of the file system'() {
+        given:
+        File appViews = new File(viewsDir, 'grails-app/views')
+        appViews.mkdirs()
+        def locator = new DefaultGroovyPageLocator()
+        locator.addResourceLoader(new DefaultResourceLoader() {
+            @Override
+            protected Resource getResourceByPath(String path) {
+                new FileSystemResource(new File(viewsDir, path))
+            }
+        })
+
+        expect:
+        locator.resolveViewDirectories() == [appViews.canonicalFile]
+    }
+
+    private static String render(Template template) {
+        def writer = new StringWriter()
+        template.make().writeTo(new PrintWriter(writer))
+        writer.toString()
+    }
+
+}
@@ -45,9 +45,12 @@ import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.core.OrderComparator;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.metrics.ApplicationStartup;
 import org.springframework.core.metrics.StartupStep;
 import org.springframework.util.Assert;
 
+import grails.config.Config;
+import grails.config.Settings;
 import grails.core.GrailsApplication;
 import grails.core.support.ParentApplicationContextAware;
 import grails.plugins.exceptions.PluginException;
@@ -66,6 +69,7 @@ import org.grails.plugins.DefaultGrailsPlugin;
 import org.grails.plugins.DynamicBinaryGrailsPlugin;
 import org.grails.plugins.IdentityPluginFilter;
 import org.grails.plugins.PluginFilterRetriever;
+import org.grails.plugins.PluginLifecycleExecutor;
 import org.grails.spring.DefaultRuntimeSpringConfiguration;
 import org.grails.spring.RuntimeSpringConfiguration;
 
@@ -137,6 +141,8 @@ public class DefaultGrailsPluginManager extends AbstractGrailsPluginManager {
 
     private List<GrailsPlugin> unenabledPlugins = new ArrayList<>();
 
+    private PluginLifecycleExecutor lifecycleExecutor;
+
     public DefaultGrailsPluginManager(String resourcePath, GrailsApplication application) {
         super(application);
         Assert.notNull(application, "Argument [application] cannot be null!");
@@ -852,16 +858,68 @@ public class DefaultGrailsPluginManager extends AbstractGrailsPluginManager {
         for (Class<?> COMMON_CLASS : COMMON_CLASSES) {
             registry.removeMetaClass(COMMON_CLASS);
         }
-        for (GrailsPlugin plugin : this.loadedPlugins) {
-            if (plugin.supportsCurrentScopeAndEnvironment()) {
-                try {
-                    plugin.doWithDynamicMethods(this.applicationContext);
-                }
-                catch (Throwable t) {
-                    throw new GrailsConfigurationException("Error configuring dynamic methods for plugin " + plugin + ": " + t.getMessage(), t);
-                }
+        // plugins may enhance the same meta classes, so they are always executed in load order
+        getLifecycleExecutor().executeInOrder(GrailsPlugin.DO_WITH_DYNAMIC_METHODS, this.loadedPlugins,
+                GrailsPlugin::supportsCurrentScopeAndEnvironment, plugin -> {
+                    try {
+                        plugin.doWithDynamicMethods(this.applicationContext);
+                    }
+                    catch (Throwable t) {
+                        throw new GrailsConfigurationException("Error configuring dynamic methods for plugin " + plugin + ": " + t.getMessage(), t);
+                    }
+                });
+    }
+
+    @Override
+    public void doPostProcessing(ApplicationContext ctx) {
+        checkInitialised();
+        getLifecycleExecutor().execute(GrailsPlugin.DO_WITH_APPLICATION_CONTEXT, getLifecycleWaves(),
+                plugin -> !isPluginDisabledForProfile(plugin) && plugin.supportsCurrentScopeAndEnvironment(),
+                plugin -> plugin.doWithApplicationContext(ctx));
+    }
+
+    @Override
+    public void onStartup(Map<String, Object> event) {
+        getLifecycleExecutor().execute("onStartup", getLifecycleWaves(),
+                plugin -> plugin.getInstance() instanceof Plugin,
+                plugin -> ((Plugin) plugin.getInstance()).onStartup(event));
+    }
+
+    /**
+     * @return The time in milliseconds taken by each plugin, per lifecycle phase
+     */
+    public Map<String, Map<String, Long>> getLifecycleTimings() {
+        return getLifecycleExecutor().getTimings();
+    }
+
+    private PluginLifecycleExecutor getLifecycleExecutor() {
+        if (this.lifecycleExecutor == null) {
+            int parallelism = 1;
+            Config config = this.application.getConfig();
+            if (config != null && config.getProperty(Settings.PLUGIN_LIFECYCLE_PARALLEL, Boolean.class, false)) {
+                parallelism = config.getProperty(Settings.PLUGIN_LIFECYCLE_PARALLELISM, Integer.class,
+                        Runtime.getRuntime().availableProcessors());
             }
+            this.lifecycleExecutor = new PluginLifecycleExecutor(parallelism);
+            this.lifecycleExecutor.setApplicationStartup(getApplicationStartup());
+        }
+        return this.lifecycleExecutor;
+    }
+
+    @Override
+    public void setApplicationStartup(ApplicationStartup applicationStartup) {
+        super.setApplicationStartup(applicationStartup);
+        if (this.lifecycleExecutor != null) {
+            this.lifecycleExecutor.setApplicationStartup(applicationStartup);
+        }
+    }
+
+    private List<List<GrailsPlugin>> getLifecycleWaves() {
+        if (getLifecycleExecutor().getParallelism() == 1) {
+            return Collections.singletonList(this.loadedPlugins);
         }
+        return PluginLifecycleExecutor.computeWaves(this.loadedPlugins, this.corePlugins,
+                resolveLoadDependencies(this.loadedPlugins), this::getGrailsPlugin);
     }
 
     private PluginFilter getPluginFilter() {
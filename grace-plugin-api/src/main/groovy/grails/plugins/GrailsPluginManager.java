@@ -352,6 +352,19 @@ public interface GrailsPluginManager extends ApplicationContextAware, Applicatio
      */
     void informOfFileChange(File file);
 
+    /**
+     * Fire to inform the PluginManager that a batch of files changed together, by default it is informed of
+     * every file in turn
+     *
+     * @param files The files that changed
+     * @since 2023.0.0
+     */
+    default void informOfFileChanges(Collection<File> files) {
+        for (File file : files) {
+            informOfFileChange(file);
+        }
+    }
+
     void informOfClassChange(File file, Class<?> cls);
 
     /**
@@ -21,6 +21,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -50,6 +51,7 @@ import org.springframework.core.convert.support.GenericConversionService;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.util.Assert;
 
 import grails.artefact.Enhanced;
@@ -198,9 +200,28 @@ public abstract class AbstractGrailsPluginManager implements GrailsPluginManager
 
         checkInitialised();
 
+        PluginBeanLazyInitPolicy lazyInitPolicy = PluginBeanLazyInitPolicy.from(this.application.getConfig());
         for (GrailsPlugin plugin : this.loadedPlugins) {
             if (plugin.supportsCurrentScopeAndEnvironment() && plugin.isEnabled(context.getEnvironment().getActiveProfiles())) {
-                plugin.doWithRuntimeConfiguration(springConfig);
+                StartupStep pluginStep = this.applicationStartup.start("grails.plugins." + GrailsPlugin.DO_WITH_SPRING)
+                        .tag("plugin", plugin.getName());
+                try {
+                    if (lazyInitPolicy != null && lazyInitPolicy.appliesTo(plugin)) {
+                        Set<String> existingBeanNames = new HashSet<>(springConfig.getBeanNames());
+                        plugin.doWithRuntimeConfiguration(springConfig);
+                        List<String> pluginBeanNames = new ArrayList<>(springConfig.getBeanNames());
+                        pluginBeanNames.removeAll(existingBeanNames);
+                        List<String> lazyBeanNames = lazyInitPolicy.apply(plugin, springConfig, pluginBeanNames,
+                                this.application.getClassLoader());
+                        pluginStep.tag("lazyBeanCount", String.valueOf(lazyBeanNames.size()));
+                    }
+                    else {
+                        plugin.doWithRuntimeConfiguration(springConfig);
+                    }
+                }
+                finally {
+                    pluginStep.end();
+                }
             }
         }
     }
@@ -618,58 +639,118 @@ public abstract class AbstractGrailsPluginManager implements GrailsPluginManager
         return configSlurper;
     }
 
-    @SuppressWarnings({ "rawtypes", "unchecked" })
     public void informOfClassChange(File file, Class<?> cls) {
         if (file.getName().equals(CONFIG_FILE)) {
-            ConfigSlurper configSlurper = getConfigSlurper(this.application);
-            ConfigObject c;
-            try {
-                c = configSlurper.parse(file.toURI().toURL());
-                this.application.getConfig().merge(c);
-                Map flat = c.flatten();
-                this.application.getConfig().merge(flat);
-                this.application.configChanged();
-                informPluginsOfConfigChange();
-            }
-            catch (Exception e) {
-                logger.debug("Error in changing Config", e);
-            }
+            informOfConfigChange(Collections.singletonList(file));
         }
         else {
             if (cls != null) {
-                MetaClassRegistry registry = GroovySystem.getMetaClassRegistry();
-                registry.removeMetaClass(cls);
-                ExpandoMetaClass newMc = new ExpandoMetaClass(cls, true, true);
-                newMc.initialize();
-                registry.setMetaClass(cls, newMc);
-
-                Enhanced en = AnnotationUtils.findAnnotation(cls, Enhanced.class);
-                if (en != null) {
-                    Class<?>[] mixinClasses = en.mixins();
-                    if (mixinClasses != null) {
-                        DefaultGroovyMethods.mixin(newMc, mixinClasses);
-                    }
-                }
+                resetMetaClass(cls);
             }
 
             for (GrailsPlugin grailsPlugin : this.loadedPlugins) {
                 if (grailsPlugin.hasInterestInChange(file.getAbsolutePath())) {
-                    try {
-                        if (cls == null) {
-                            grailsPlugin.notifyOfEvent(GrailsPlugin.EVENT_ON_CHANGE, new FileSystemResource(file));
-                        }
-                        else {
-                            grailsPlugin.notifyOfEvent(GrailsPlugin.EVENT_ON_CHANGE, cls);
-                        }
-                        Environment.setCurrentReloadError(null);
-                    }
-                    catch (Exception e) {
-                        logger.error("Plugin " + grailsPlugin + " could not reload changes to file [" + file + "]: " + e.getMessage(), e);
-                        Environment.setCurrentReloadError(e);
+                    Environment.setCurrentReloadError(notifyOfChange(grailsPlugin, file, cls));
+                }
+            }
+        }
+    }
+
+    /**
+     * Merges the changed configuration once for the whole batch and notifies every plugin of the changes
+     * it has interest in one after another.
+     */
+    @Override
+    public void informOfFileChanges(Collection<File> files) {
+        List<File> configFiles = new ArrayList<>();
+        Map<File, Class<?>> changes = new LinkedHashMap<>();
+        for (File file : files) {
+            if (file.getName().equals(CONFIG_FILE)) {
+                configFiles.add(file);
+                continue;
+            }
+            String className = GrailsResourceUtils.getClassName(file.getAbsolutePath());
+            Class<?> cls = null;
+            if (className != null) {
+                cls = loadApplicationClass(className);
+            }
+            if (cls != null) {
+                resetMetaClass(cls);
+            }
+            changes.put(file, cls);
+        }
+
+        if (!configFiles.isEmpty()) {
+            informOfConfigChange(configFiles);
+        }
+
+        // notify plugin by plugin, so that each plugin handles all the changes of its artefacts in a row
+        boolean notified = false;
+        Exception reloadError = null;
+        for (GrailsPlugin grailsPlugin : this.loadedPlugins) {
+            for (Map.Entry<File, Class<?>> change : changes.entrySet()) {
+                if (grailsPlugin.hasInterestInChange(change.getKey().getAbsolutePath())) {
+                    Exception error = notifyOfChange(grailsPlugin, change.getKey(), change.getValue());
+                    if (error != null) {
+                        reloadError = error;
                     }
+                    notified = true;
                 }
             }
         }
+        if (notified) {
+            Environment.setCurrentReloadError(reloadError);
+        }
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private void informOfConfigChange(List<File> configFiles) {
+        ConfigSlurper configSlurper = getConfigSlurper(this.application);
+        try {
+            for (File file : configFiles) {
+                ConfigObject c = configSlurper.parse(file.toURI().toURL());
+                this.application.getConfig().merge(c);
+                Map flat = c.flatten();
+                this.application.getConfig().merge(flat);
+            }
+            this.application.configChanged();
+            informPluginsOfConfigChange();
+        }
+        catch (Exception e) {
+            logger.debug("Error in changing Config", e);
+        }
+    }
+
+    private void resetMetaClass(Class<?> cls) {
+        MetaClassRegistry registry = GroovySystem.getMetaClassRegistry();
+        registry.removeMetaClass(cls);
+        ExpandoMetaClass newMc = new ExpandoMetaClass(cls, true, true);
+        newMc.initialize();
+        registry.setMetaClass(cls, newMc);
+
+        Enhanced en = AnnotationUtils.findAnnotation(cls, Enhanced.class);
+        if (en != null) {
+            Class<?>[] mixinClasses = en.mixins();
+            if (mixinClasses != null) {
+                DefaultGroovyMethods.mixin(newMc, mixinClasses);
+            }
+        }
+    }
+
+    private Exception notifyOfChange(GrailsPlugin grailsPlugin, File file, Class<?> cls) {
+        try {
+            if (cls == null) {
+                grailsPlugin.notifyOfEvent(GrailsPlugin.EVENT_ON_CHANGE, new FileSystemResource(file));
+            }
+            else {
+                grailsPlugin.notifyOfEvent(GrailsPlugin.EVENT_ON_CHANGE, cls);
+            }
+            return null;
+        }
+        catch (Exception e) {
+            logger.error("Plugin " + grailsPlugin + " could not reload changes to file [" + file + "]: " + e.getMessage(), e);
+            return e;
+        }
     }
 
     private Class<?> loadApplicationClass(String className) {
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.plugins;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.Lifecycle;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import grails.config.Config;
+import grails.config.Settings;
+import grails.plugins.GrailsPlugin;
+
+import org.grails.spring.BeanConfiguration;
+import org.grails.spring.RuntimeSpringConfiguration;
+
+/**
+ * Registers the beans defined in the doWithSpring closures of plugins as lazy, so that they are
+ * only created when they are first used instead of when the application context is refreshed.
+ *
+ * <p>The policy applies to the plugins listed in {@code grails.plugin.lazyInit.plugins}, or to every plugin
+ * if none is listed. Beans listed in {@code grails.plugin.lazyInit.excludes} are always created eagerly,
+ * as well as beans that are explicitly not lazy, are not singletons or whose class can not be resolved,
+ * and infrastructure beans, such as post processors, listeners, lifecycle beans and servlet filters,
+ * which must exist before the first request.
+ *
+ * <p>The name of the plugin is stored in the {@link #PLUGIN_ATTRIBUTE} attribute of every bean definition
+ * made lazy, see {@link org.grails.plugins.support.PluginBeanUsageTracker}.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+public class PluginBeanLazyInitPolicy {
+
+    /**
+     * The attribute of a bean definition made lazy, its value is the name of the plugin that defines the bean
+     */
+    public static final String PLUGIN_ATTRIBUTE = PluginBeanLazyInitPolicy.class.getName() + ".plugin";
+
+    private static final Log logger = LogFactory.getLog(PluginBeanLazyInitPolicy.class);
+
+    private static final String[] INFRASTRUCTURE_TYPES = {
+            BeanPostProcessor.class.getName(),
+            BeanFactoryPostProcessor.class.getName(),
+            ApplicationListener.class.getName(),
+            Lifecycle.class.getName(),
+            "org.springframework.boot.web.servlet.ServletContextInitializer",
+            "jakarta.servlet.Filter",
+            "jakarta.servlet.Servlet"
+    };
+
+    private final Set<String> plugins;
+
+    private final Set<String> excludes;
+
+    public PluginBeanLazyInitPolicy(Collection<String> plugins, Collection<String> excludes) {
+        this.plugins = new LinkedHashSet<>(plugins);
+        this.excludes = new LinkedHashSet<>(excludes);
+    }
+
+    /**
+     * Creates the policy from the configuration
+     *
+     * @param config The configuration
+     * @return The policy or null if plugin beans are not lazy
+     */
+    public static PluginBeanLazyInitPolicy from(Config config) {
+        if (config == null || !config.getProperty(Settings.PLUGIN_LAZY_INIT_ENABLED, Boolean.class, false)) {
+            return null;
+        }
+        return new PluginBeanLazyInitPolicy(
+                toList(config.getProperty(Settings.PLUGIN_LAZY_INIT_PLUGINS, Object.class, null)),
+                toList(config.getProperty(Settings.PLUGIN_LAZY_INIT_EXCLUDES, Object.class, null)));
+    }
+
+    /**
+     * Converts a configuration value, either a list or a comma delimited string, to a list of names
+     *
+     * @param value The value, can be null
+     * @return The trimmed names
+     */
+    public static List<String> toList(Object value) {
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        Collection<?> values = value instanceof Collection ? (Collection<?>) value :
+                Arrays.asList(StringUtils.commaDelimitedListToStringArray(value.toString()));
+        List<String> names = new ArrayList<>(values.size());
+        for (Object name : values) {
+            String trimmed = String.valueOf(name).trim();
+            if (!trimmed.isEmpty()) {
+                names.add(trimmed);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * @param plugin The plugin
+     * @return Whether the beans of the given plugin are made lazy
+     */
+    public boolean appliesTo(GrailsPlugin plugin) {
+        return this.plugins.isEmpty() || this.plugins.contains(plugin.getName());
+    }
+
+    /**
+     * Makes the given beans of a plugin lazy
+     *
+     * @param plugin The plugin that defined the beans
+     * @param springConfig The runtime configuration that holds the bean definitions
+     * @param beanNames The names of the beans defined by the plugin
+     * @param classLoader The class loader used to resolve the bean classes
+     * @return The names of the beans made lazy
+     */
+    public List<String> apply(GrailsPlugin plugin, RuntimeSpringConfiguration springConfig,
+            Collection<String> beanNames, ClassLoader classLoader) {
+        List<String> lazyBeans = new ArrayList<>();
+        for (String beanName : beanNames) {
+            if (this.excludes.contains(beanName)) {
+                continue;
+            }
+            BeanConfiguration beanConfig = springConfig.getBeanConfig(beanName);
+            BeanDefinition beanDefinition = beanConfig != null ? beanConfig.getBeanDefinition() : springConfig.getBeanDefinition(beanName);
+            if (beanDefinition instanceof AbstractBeanDefinition && isLazyCandidate((AbstractBeanDefinition) beanDefinition, classLoader)) {
+                beanDefinition.setLazyInit(true);
+                beanDefinition.setAttribute(PLUGIN_ATTRIBUTE, plugin.getName());
+                lazyBeans.add(beanName);
+            }
+        }
+        if (logger.isDebugEnabled() && !lazyBeans.isEmpty()) {
+            logger.debug("Plugin [" + plugin.getName() + "] beans " + lazyBeans + " are lazy");
+        }
+        return lazyBeans;
+    }
+
+    private boolean isLazyCandidate(AbstractBeanDefinition beanDefinition, ClassLoader classLoader) {
+        if (beanDefinition.isAbstract() || !beanDefinition.isSingleton() || beanDefinition.getLazyInit() != null) {
+            return false;
+        }
+        String beanClassName = beanDefinition.getBeanClassName();
+        if (beanClassName == null || beanDefinition.getFactoryMethodName() != null) {
+            return false;
+        }
+        Class<?> beanClass;
+        try {
+            beanClass = ClassUtils.forName(beanClassName, classLoader);
+        }
+        catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+        for (String infrastructureType : INFRASTRUCTURE_TYPES) {
+            if (isAssignable(infrastructureType, beanClass, classLoader)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAssignable(String typeName, Class<?> beanClass, ClassLoader classLoader) {
+        if (!ClassUtils.isPresent(typeName, classLoader)) {
+            return false;
+        }
+        return ClassUtils.resolveClassName(typeName, classLoader).isAssignableFrom(beanClass);
+    }
+
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.plugins;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import grails.plugins.GrailsPlugin;
+import grails.plugins.exceptions.PluginException;
+
+/**
+ * Executes a lifecycle phase, such as doWithApplicationContext or onStartup, for the loaded plugins.
+ *
+ * <p>The plugins are grouped into waves, a plugin is placed in the wave after the last wave
+ * that contains one of the plugins it has to be loaded after, it has to be loaded before or it depends on.
+ * The core plugins are always placed in waves before the other plugins.
+ * The plugins of a wave do not depend on each other, so they are executed concurrently on a bounded pool,
+ * while the waves are executed one after another. A parallelism of one executes every plugin
+ * on the calling thread in the given order.
+ *
+ * <p>The time taken by each plugin is recorded per phase in the order of the waves,
+ * so that the report is the same for every run regardless of the thread scheduling.
+ * Every plugin executed on the calling thread is also recorded as a {@code grails.plugins.<phase>} startup step,
+ * every concurrently executed wave as a {@code grails.plugins.<phase>.wave} step.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+public class PluginLifecycleExecutor {
+
+    private static final Log logger = LogFactory.getLog(PluginLifecycleExecutor.class);
+
+    private final int parallelism;
+
+    private final Map<String, Map<String, Long>> timings = new LinkedHashMap<>();
+
+    private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+
+    public PluginLifecycleExecutor(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public void setApplicationStartup(ApplicationStartup applicationStartup) {
+        this.applicationStartup = applicationStartup;
+    }
+
+    /**
+     * Groups the given plugins into waves of plugins that do not depend on each other.
+     *
+     * @param plugins The plugins in load order
+     * @param loadOrderDependencies The plugins each plugin has to be loaded after, derived from loadAfter and loadBefore
+     * @param pluginLookup Finds a plugin by the name used in dependsOn
+     * @return The waves, the plugins of each wave keep the given order
+     */
+    public static List<List<GrailsPlugin>> computeWaves(List<GrailsPlugin> plugins,
+            Map<GrailsPlugin, List<GrailsPlugin>> loadOrderDependencies, Function<String, GrailsPlugin> pluginLookup) {
+        return computeWaves(plugins, Collections.emptySet(), loadOrderDependencies, pluginLookup);
+    }
+
+    /**
+     * Groups the given plugins into waves of plugins that do not depend on each other. As the core plugins are
+     * loaded before the other plugins, every other plugin implicitly depends on all the core plugins,
+     * so that the core plugins are executed in earlier waves, as they are when executed in load order.
+     *
+     * @param plugins The plugins in load order
+     * @param corePlugins The core plugins
+     * @param loadOrderDependencies The plugins each plugin has to be loaded after, derived from loadAfter and loadBefore
+     * @param pluginLookup Finds a plugin by the name used in dependsOn
+     * @return The waves, the plugins of each wave keep the given order
+     */
+    public static List<List<GrailsPlugin>> computeWaves(List<GrailsPlugin> plugins, Collection<GrailsPlugin> corePlugins,
+            Map<GrailsPlugin, List<GrailsPlugin>> loadOrderDependencies, Function<String, GrailsPlugin> pluginLookup) {
+        Set<GrailsPlugin> known = new HashSet<>(plugins);
+        Set<GrailsPlugin> core = new LinkedHashSet<>();
+        for (GrailsPlugin plugin : plugins) {
+            if (corePlugins.contains(plugin)) {
+                core.add(plugin);
+            }
+        }
+        Map<GrailsPlugin, Integer> levels = new HashMap<>();
+        List<List<GrailsPlugin>> waves = new ArrayList<>();
+        for (GrailsPlugin plugin : plugins) {
+            int level = computeLevel(plugin, known, core, loadOrderDependencies, pluginLookup, levels, new HashSet<>());
+            while (waves.size() <= level) {
+                waves.add(new ArrayList<>());
+            }
+            waves.get(level).add(plugin);
+        }
+        return waves;
+    }
+
+    private static int computeLevel(GrailsPlugin plugin, Set<GrailsPlugin> known, Set<GrailsPlugin> core,
+            Map<GrailsPlugin, List<GrailsPlugin>> loadOrderDependencies, Function<String, GrailsPlugin> pluginLookup,
+            Map<GrailsPlugin, Integer> levels, Set<GrailsPlugin> visiting) {
+        Integer computed = levels.get(plugin);
+        if (computed != null) {
+            return computed;
+        }
+        if (!visiting.add(plugin)) {
+            // a cycle is resolved by the load order, the edge closing it is ignored
+            return -1;
+        }
+
+        List<GrailsPlugin> dependencies = new ArrayList<>();
+        if (!core.contains(plugin)) {
+            dependencies.addAll(core);
+        }
+        List<GrailsPlugin> loadAfter = loadOrderDependencies.get(plugin);
+        if (loadAfter != null) {
+            dependencies.addAll(loadAfter);
+        }
+        String[] dependencyNames = plugin.getDependencyNames();
+        if (dependencyNames != null) {
+            for (String name : dependencyNames) {
+                GrailsPlugin dependency = pluginLookup.apply(name);
+                if (dependency != null) {
+                    dependencies.add(dependency);
+                }
+            }
+        }
+
+        int level = 0;
+        for (GrailsPlugin dependency : dependencies) {
+            if (dependency != plugin && known.contains(dependency)) {
+                level = Math.max(level, computeLevel(dependency, known, core, loadOrderDependencies, pluginLookup, levels, visiting) + 1);
+            }
+        }
+        visiting.remove(plugin);
+        levels.put(plugin, level);
+        return level;
+    }
+
+    /**
+     * Executes a lifecycle phase for the plugins of the given waves.
+     *
+     * <p>If the phase fails for any plugin, the remaining plugins of the same wave are still completed,
+     * the later waves are not executed and the failure of the first plugin in wave order is thrown,
+     * with the failures of the others added as suppressed exceptions.
+     *
+     * @param phase The name of the phase
+     * @param waves The waves of plugins
+     * @param filter Selects the plugins the phase applies to
+     * @param action The phase to execute for a plugin
+     */
+    public void execute(String phase, List<List<GrailsPlugin>> waves, Predicate<GrailsPlugin> filter,
+            Consumer<GrailsPlugin> action) {
+        execute(phase, waves, filter, action, this.parallelism > 1);
+    }
+
+    /**
+     * Executes a lifecycle phase for the given plugins one after another on the calling thread,
+     * for the phases that must not run concurrently.
+     *
+     * @param phase The name of the phase
+     * @param plugins The plugins in load order
+     * @param filter Selects the plugins the phase applies to
+     * @param action The phase to execute for a plugin
+     */
+    public void executeInOrder(String phase, List<GrailsPlugin> plugins, Predicate<GrailsPlugin> filter,
+            Consumer<GrailsPlugin> action) {
+        execute(phase, Collections.singletonList(plugins), filter, action, false);
+    }
+
+    private void execute(String phase, List<List<GrailsPlugin>> waves, Predicate<GrailsPlugin> filter,
+            Consumer<GrailsPlugin> action, boolean concurrent) {
+        long start = System.nanoTime();
+        Map<String, Long> phaseTimings = new LinkedHashMap<>();
+        ExecutorService executor = null;
+        int pluginCount = 0;
+        try {
+            for (List<GrailsPlugin> wave : waves) {
+                List<GrailsPlugin> plugins = new ArrayList<>(wave.size());
+                for (GrailsPlugin plugin : wave) {
+                    if (filter.test(plugin)) {
+                        plugins.add(plugin);
+                    }
+                }
+                if (plugins.isEmpty()) {
+                    continue;
+                }
+                pluginCount += plugins.size();
+
+                long[] durations = new long[plugins.size()];
+                if (!concurrent || plugins.size() == 1) {
+                    for (int i = 0; i < plugins.size(); i++) {
+                        GrailsPlugin plugin = plugins.get(i);
+                        StartupStep pluginStep = this.applicationStartup.start("grails.plugins." + phase)
+                                .tag("plugin", plugin.getName());
+                        try {
+                            durations[i] = executeTimed(phase, plugin, action);
+                        }
+                        finally {
+                            pluginStep.end();
+                        }
+                    }
+                }
+                else {
+                    if (executor == null) {
+                        executor = Executors.newFixedThreadPool(this.parallelism, new LifecycleThreadFactory(phase));
+                    }
+                    // steps are not started on the pool threads, because the steps of a thread have to be nested
+                    StartupStep waveStep = this.applicationStartup.start("grails.plugins." + phase + ".wave")
+                            .tag("plugins", String.valueOf(plugins));
+                    try {
+                        executeConcurrently(phase, plugins, action, durations, executor);
+                    }
+                    finally {
+                        waveStep.end();
+                    }
+                }
+
+                for (int i = 0; i < plugins.size(); i++) {
+                    phaseTimings.put(plugins.get(i).getName(), TimeUnit.NANOSECONDS.toMillis(durations[i]));
+                }
+            }
+        }
+        finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+            synchronized (this.timings) {
+                this.timings.put(phase, Collections.unmodifiableMap(phaseTimings));
+            }
+        }
+
+        if (logger.isDebugEnabled()) {
+            logger.debug(String.format("Executed %s for %d plugins in %d waves with parallelism %d, take in %d ms",
+                    phase, pluginCount, waves.size(), concurrent ? this.parallelism : 1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+        }
+    }
+
+    private void executeConcurrently(String phase, List<GrailsPlugin> plugins, Consumer<GrailsPlugin> action,
+            long[] durations, ExecutorService executor) {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        List<Future<?>> futures = new ArrayList<>(plugins.size());
+        for (int i = 0; i < plugins.size(); i++) {
+            int index = i;
+            GrailsPlugin plugin = plugins.get(i);
+            futures.add(executor.submit(() -> {
+                Thread.currentThread().setContextClassLoader(contextClassLoader);
+                durations[index] = executeTimed(phase, plugin, action);
+            }));
+        }
+
+        Throwable failure = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            }
+            catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+                else {
+                    failure.addSuppressed(e.getCause());
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PluginException("Interrupted while executing " + phase + " for plugins " + plugins, e);
+            }
+        }
+
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure != null) {
+            throw new PluginException("Error executing " + phase + ": " + failure.getMessage(), failure);
+        }
+    }
+
+    private long executeTimed(String phase, GrailsPlugin plugin, Consumer<GrailsPlugin> action) {
+        long start = System.nanoTime();
+        action.accept(plugin);
+        long duration = System.nanoTime() - start;
+        if (logger.isDebugEnabled()) {
+            logger.debug(String.format("Plugin [%s] %s take in %d ms", plugin.getName(), phase, TimeUnit.NANOSECONDS.toMillis(duration)));
+        }
+        return duration;
+    }
+
+    /**
+     * @return The time in milliseconds taken by each plugin, per phase
+     */
+    public Map<String, Map<String, Long>> getTimings() {
+        synchronized (this.timings) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(this.timings));
+        }
+    }
+
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    private static final class LifecycleThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        private final String namePrefix;
+
+        LifecycleThreadFactory(String phase) {
+            this.namePrefix = "grails-plugins-" + phase + "-";
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, this.namePrefix + this.threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+}
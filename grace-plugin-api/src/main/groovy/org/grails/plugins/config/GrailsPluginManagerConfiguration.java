@@ -17,10 +17,12 @@ package org.grails.plugins.config;
 
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 
 import grails.plugins.GrailsPluginManager;
 
+import org.grails.plugins.support.PluginBeanUsageTracker;
 import org.grails.plugins.support.PluginManagerGroovyShellBindingCustomizer;
 
 /**
@@ -38,4 +40,10 @@ public class GrailsPluginManagerConfiguration {
         return new PluginManagerGroovyShellBindingCustomizer(pluginManagerObjectProvider.getIfAvailable());
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "grails.plugin.lazyInit", name = "enabled", havingValue = "true")
+    public static PluginBeanUsageTracker pluginBeanUsageTracker() {
+        return new PluginBeanUsageTracker();
+    }
+
 }
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.plugins.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+import grails.config.Settings;
+
+import org.grails.plugins.PluginBeanLazyInitPolicy;
+
+/**
+ * Tracks which of the plugin beans made lazy by the {@link PluginBeanLazyInitPolicy} have been created.
+ *
+ * <p>Once the application is ready, the beans listed in {@code grails.plugin.lazyInit.prewarm} are created,
+ * so that the first requests do not pay for them, and after {@code grails.plugin.lazyInit.reportDelay}
+ * the lazy beans that have still not been used are logged. Those beans are candidates to be removed
+ * or disabled, while beans that are always used soon after startup are candidates to be pre-warmed.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+public class PluginBeanUsageTracker implements BeanPostProcessor, BeanFactoryAware, EnvironmentAware,
+        ApplicationListener<ApplicationReadyEvent>, DisposableBean {
+
+    private static final Log logger = LogFactory.getLog(PluginBeanUsageTracker.class);
+
+    private static final String ALL_BEANS = "*";
+
+    private static final Duration DEFAULT_REPORT_DELAY = Duration.ofMinutes(10);
+
+    private final Set<String> createdBeanNames = ConcurrentHashMap.newKeySet();
+
+    private ConfigurableListableBeanFactory beanFactory;
+
+    private Environment environment;
+
+    private ScheduledExecutorService reportExecutor;
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        if (beanFactory instanceof ConfigurableListableBeanFactory) {
+            this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+        }
+    }
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        this.createdBeanNames.add(beanName);
+        return bean;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (this.beanFactory == null) {
+            return;
+        }
+        List<String> prewarm = PluginBeanLazyInitPolicy.toList(
+                this.environment.getProperty(Settings.PLUGIN_LAZY_INIT_PREWARM, Object.class));
+        if (prewarm.contains(ALL_BEANS)) {
+            prewarm = new ArrayList<>(getLazyBeanNames().keySet());
+        }
+        prewarm(prewarm);
+
+        String reportDelay = this.environment.getProperty(Settings.PLUGIN_LAZY_INIT_REPORT_DELAY);
+        Duration delay = reportDelay != null ? DurationStyle.detectAndParse(reportDelay) : DEFAULT_REPORT_DELAY;
+        if (this.reportExecutor == null && !delay.isNegative()) {
+            this.reportExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "grails-plugin-bean-usage-report");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.reportExecutor.schedule(this::report, delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Creates the given lazy beans, a bean that fails to be created is logged and skipped
+     *
+     * @param beanNames The names of the beans
+     */
+    public void prewarm(Collection<String> beanNames) {
+        long start = System.currentTimeMillis();
+        int count = 0;
+        for (String beanName : beanNames) {
+            if (this.createdBeanNames.contains(beanName) || !this.beanFactory.containsBeanDefinition(beanName)) {
+                continue;
+            }
+            try {
+                this.beanFactory.getBean(beanName);
+                count++;
+            }
+            catch (BeansException e) {
+                logger.warn("Error pre-warming lazy plugin bean [" + beanName + "]: " + e.getMessage(), e);
+            }
+        }
+        if (logger.isDebugEnabled() && count > 0) {
+            logger.debug(String.format("Pre-warmed %d lazy plugin beans, take in %d ms", count, System.currentTimeMillis() - start));
+        }
+    }
+
+    /**
+     * @return The names of the beans made lazy, mapped to the names of the plugins that define them
+     */
+    public Map<String, String> getLazyBeanNames() {
+        Map<String, String> lazyBeanNames = new LinkedHashMap<>();
+        if (this.beanFactory == null) {
+            return lazyBeanNames;
+        }
+        for (String beanName : this.beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition beanDefinition = this.beanFactory.getBeanDefinition(beanName);
+            Object plugin = beanDefinition.getAttribute(PluginBeanLazyInitPolicy.PLUGIN_ATTRIBUTE);
+            if (plugin != null) {
+                lazyBeanNames.put(beanName, plugin.toString());
+            }
+        }
+        return lazyBeanNames;
+    }
+
+    /**
+     * @return The lazy beans that have not been created yet, grouped by the names of the plugins that define them
+     */
+    public Map<String, List<String>> getUntouchedBeanNames() {
+        Map<String, List<String>> untouched = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : getLazyBeanNames().entrySet()) {
+            if (!this.createdBeanNames.contains(entry.getKey())) {
+                untouched.computeIfAbsent(entry.getValue(), plugin -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+        return untouched;
+    }
+
+    /**
+     * @return The names of the beans created since the tracker was registered
+     */
+    public Set<String> getCreatedBeanNames() {
+        return Collections.unmodifiableSet(this.createdBeanNames);
+    }
+
+    /**
+     * Logs the lazy beans that have not been created yet
+     */
+    public void report() {
+        Map<String, String> lazyBeanNames = getLazyBeanNames();
+        Map<String, List<String>> untouched = getUntouchedBeanNames();
+        int untouchedCount = untouched.values().stream().mapToInt(List::size).sum();
+        StringBuilder report = new StringBuilder(String.format("%d of %d lazy plugin beans have not been used",
+                untouchedCount, lazyBeanNames.size()));
+        untouched.forEach((plugin, beanNames) -> report.append(System.lineSeparator())
+                .append("  ").append(plugin).append(": ").append(beanNames));
+        logger.info(report.toString());
+    }
+
+    @Override
+    public void destroy() {
+        if (this.reportExecutor != null) {
+            this.reportExecutor.shutdownNow();
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package org.grails.plugins
+
+import org.springframework.beans.factory.config.BeanPostProcessor
+import org.springframework.context.ApplicationEvent
+import org.springframework.context.ApplicationListener
+
+import grails.config.Settings
+import grails.plugins.GrailsPlugin
+import org.grails.config.PropertySourcesConfig
+import org.grails.spring.DefaultRuntimeSpringConfiguration
+import spock.lang.Specification
+
+class PluginBeanLazyInitPolicySpec extends Specification {
+
+    void "Test the policy is only created when enabled"() {
+        expect:
+        PluginBeanLazyInitPolicy.from(new PropertySourcesConfig()) == null
+        PluginBeanLazyInitPolicy.from(new PropertySourcesConfig((Settings.PLUGIN_LAZY_INIT_ENABLED): true)) != null
+    }
+
+    void "Test plugin beans are made lazy"() {
+        given:
+        def springConfig = new DefaultRuntimeSpringConfiguration()
+        springConfig.addSingletonBean('converters', StringBuilder)
+        springConfig.addPrototypeBean('renderer', StringBuilder)
+        springConfig.addSingletonBean('processor', TestPostProcessor)
+        springConfig.addSingletonBean('listener', TestListener)
+        springConfig.addSingletonBean('codecs', StringBuilder)
+        springConfig.addSingletonBean('eager', StringBuilder).beanDefinition.setLazyInit(false)
+        def policy = new PluginBeanLazyInitPolicy([], ['codecs'])
+
+        when:
+        def lazyBeans = policy.apply(plugin('converters'), springConfig, springConfig.beanNames, getClass().classLoader)
+
+        then:
+        lazyBeans == ['converters']
+        springConfig.getBeanConfig('converters').beanDefinition.isLazyInit()
+        springConfig.getBeanConfig('converters').beanDefinition.getAttribute(PluginBeanLazyInitPolicy.PLUGIN_ATTRIBUTE) == 'converters'
+        !springConfig.getBeanConfig('processor').beanDefinition.isLazyInit()
+        !springConfig.getBeanConfig('codecs').beanDefinition.isLazyInit()
+    }
+
+    void "Test the policy applies to the listed plugins"() {
+        given:
+        def policy = new PluginBeanLazyInitPolicy(PluginBeanLazyInitPolicy.toList('converters, codecs'), [])
+
+        expect:
+        policy.appliesTo(plugin('converters'))
+        policy.appliesTo(plugin('codecs'))
+        !policy.appliesTo(plugin('i18n'))
+        new PluginBeanLazyInitPolicy([], []).appliesTo(plugin('i18n'))
+    }
+
+    private GrailsPlugin plugin(String name) {
+        Stub(GrailsPlugin) {
+            getName() >> name
+        }
+    }
+
+    static class TestPostProcessor implements BeanPostProcessor {
+    }
+
+    static class TestListener implements ApplicationListener<ApplicationEvent> {
+        @Override
+        void onApplicationEvent(ApplicationEvent event) {
+        }
+    }
+
+}
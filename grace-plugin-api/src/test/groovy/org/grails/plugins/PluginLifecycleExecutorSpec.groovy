@@ -0,0 +1,175 @@
+package org.grails.plugins
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup
+
+import grails.plugins.GrailsPlugin
+import spock.lang.Specification
+
+class PluginLifecycleExecutorSpec extends Specification {
+
+    void "Test plugins are grouped into waves by their dependencies"() {
+        given:
+        GrailsPlugin core = plugin('core')
+        GrailsPlugin i18n = plugin('i18n')
+        GrailsPlugin web = plugin('web')
+        GrailsPlugin controllers = plugin('controllers', 'core')
+        GrailsPlugin gsp = plugin('gsp')
+        Map<String, GrailsPlugin> byName = [core: core, i18n: i18n, web: web, controllers: controllers, gsp: gsp]
+        Map<GrailsPlugin, List<GrailsPlugin>> loadAfter = [(web): [i18n], (gsp): [controllers, web]]
+
+        when:
+        def waves = PluginLifecycleExecutor.computeWaves([core, i18n, web, controllers, gsp], loadAfter) { String name -> byName[name] }
+
+        then:
+        waves*.name == [['core', 'i18n'], ['web', 'controllers'], ['gsp']]
+    }
+
+    void "Test core plugins are placed in waves before the other plugins"() {
+        given:
+        GrailsPlugin core = plugin('core')
+        GrailsPlugin i18n = plugin('i18n')
+        GrailsPlugin controllers = plugin('controllers', 'core')
+        GrailsPlugin security = plugin('security')
+        GrailsPlugin audit = plugin('audit', 'security')
+        Map<String, GrailsPlugin> byName = [core: core, i18n: i18n, controllers: controllers, security: security, audit: audit]
+
+        when:
+        def waves = PluginLifecycleExecutor.computeWaves([core, i18n, controllers, security, audit], [core, i18n, controllers], [:]) { String name ->
+            byName[name]
+        }
+
+        then:
+        waves*.name == [['core', 'i18n'], ['controllers'], ['security'], ['audit']]
+    }
+
+    void "Test a core plugin depending on another plugin does not prevent computing waves"() {
+        given:
+        GrailsPlugin core = plugin('core', 'security')
+        GrailsPlugin security = plugin('security')
+        Map<String, GrailsPlugin> byName = [core: core, security: security]
+
+        when:
+        def waves = PluginLifecycleExecutor.computeWaves([core, security], [core], [:]) { String name -> byName[name] }
+
+        then:
+        waves.flatten().size() == 2
+    }
+
+    void "Test cyclic dependencies do not prevent computing waves"() {
+        given:
+        GrailsPlugin one = plugin('one', 'two')
+        GrailsPlugin two = plugin('two', 'one')
+        Map<String, GrailsPlugin> byName = [one: one, two: two]
+
+        when:
+        def waves = PluginLifecycleExecutor.computeWaves([one, two], [:]) { String name -> byName[name] }
+
+        then:
+        waves.flatten().size() == 2
+    }
+
+    void "Test plugins of a wave are executed concurrently and timings are reported in wave order"() {
+        given:
+        def executor = new PluginLifecycleExecutor(2)
+        CountDownLatch latch = new CountDownLatch(2)
+        Set<String> threads = ConcurrentHashMap.newKeySet()
+        def waves = [[plugin('one'), plugin('two')], [plugin('three')]]
+
+        when:
+        executor.execute('onStartup', waves, { true }) { GrailsPlugin plugin ->
+            threads << Thread.currentThread().name
+            if (plugin.name != 'three') {
+                latch.countDown()
+                assert latch.await(5, TimeUnit.SECONDS)
+            }
+        }
+
+        then:
+        threads.size() >= 2
+        executor.timings['onStartup'].keySet() as List == ['one', 'two', 'three']
+    }
+
+    void "Test the failure of the first plugin is propagated and later waves are not executed"() {
+        given:
+        def executor = new PluginLifecycleExecutor(2)
+        List<String> executed = Collections.synchronizedList([])
+        def waves = [[plugin('one'), plugin('two')], [plugin('three')]]
+
+        when:
+        executor.execute('doWithApplicationContext', waves, { true }) { GrailsPlugin plugin ->
+            executed << plugin.name
+            if (plugin.name != 'three') {
+                throw new IllegalStateException("${plugin.name} failed")
+            }
+        }
+
+        then:
+        IllegalStateException e = thrown()
+        e.message == 'one failed'
+        e.suppressed*.message == ['two failed']
+        !executed.contains('three')
+    }
+
+    void "Test plugins are executed in order on the calling thread"() {
+        given:
+        def executor = new PluginLifecycleExecutor(4)
+        List<String> executed = []
+        Thread caller = Thread.currentThread()
+
+        when:
+        executor.executeInOrder('doWithDynamicMethods', [plugin('one'), plugin('two'), plugin('three')], { it.name != 'two' }) { GrailsPlugin plugin ->
+            assert Thread.currentThread() == caller
+            executed << plugin.name
+        }
+
+        then:
+        executed == ['one', 'three']
+        executor.timings['doWithDynamicMethods'].keySet() as List == ['one', 'three']
+    }
+
+    void "Test plugins are recorded as startup steps named after the phase"() {
+        given:
+        def applicationStartup = new BufferingApplicationStartup(100)
+        def executor = new PluginLifecycleExecutor(2)
+        executor.applicationStartup = applicationStartup
+        def waves = [[plugin('one'), plugin('two')], [plugin('three')]]
+
+        when:
+        executor.execute(GrailsPlugin.DO_WITH_APPLICATION_CONTEXT, waves, { true }) { GrailsPlugin plugin -> }
+        def steps = applicationStartup.bufferedTimeline.events*.startupStep
+
+        then:
+        steps*.name == ['grails.plugins.doWithApplicationContext.wave', 'grails.plugins.doWithApplicationContext']
+        steps[0].tags.find { it.key == 'plugins' }.value == '[one, two]'
+        steps[1].tags.find { it.key == 'plugin' }.value == 'three'
+    }
+
+    void "Test the startup step of a failed plugin is ended"() {
+        given:
+        def applicationStartup = new BufferingApplicationStartup(100)
+        def executor = new PluginLifecycleExecutor(1)
+        executor.applicationStartup = applicationStartup
+
+        when:
+        executor.executeInOrder(GrailsPlugin.DO_WITH_DYNAMIC_METHODS, [plugin('one')], { true }) { GrailsPlugin plugin ->
+            throw new IllegalStateException('one failed')
+        }
+
+        then:
+        thrown(IllegalStateException)
+        applicationStartup.bufferedTimeline.events*.startupStep*.name == ['grails.plugins.doWithDynamicMethods']
+    }
+
+    private GrailsPlugin plugin(String name, String... dependsOn) {
+        GrailsPlugin plugin = Stub(GrailsPlugin)
+        plugin.getName() >> name
+        plugin.getDependencyNames() >> dependsOn
+        plugin.toString() >> name
+        plugin
+    }
+
+}
@@ -57,6 +57,7 @@ import org.grails.plugins.web.controllers.ControllerExceptionHandlerMetaData
 import org.grails.plugins.web.servlet.mvc.InvalidResponseHandler
 import org.grails.plugins.web.servlet.mvc.ValidResponseHandler
 import org.grails.web.servlet.mvc.GrailsWebRequest
+import org.grails.web.servlet.mvc.SynchronizerTokenStore
 import org.grails.web.servlet.mvc.SynchronizerTokensHolder
 import org.grails.web.servlet.mvc.TokenResponseHandler
 import org.grails.web.util.GrailsApplicationAttributes
@@ -285,8 +286,7 @@ trait Controller implements ResponseRenderer, ResponseRedirector, RequestForward
     @Generated
     TokenResponseHandler withForm(GrailsWebRequest webRequest, Closure callable) {
         TokenResponseHandler handler
-        if (isTokenValid(webRequest)) {
-            resetToken(webRequest)
+        if (useToken(webRequest)) {
             handler = new ValidResponseHandler(callable?.call())
         }
         else {
@@ -298,18 +298,11 @@ trait Controller implements ResponseRenderer, ResponseRedirector, RequestForward
     }
 
     /**
-     * Checks whether the token in th request is valid.
+     * Checks whether the token in the request is valid and marks it as used.
      *
-     * @param request The servlet request
+     * @param webRequest The web request
      */
-    private synchronized boolean isTokenValid(GrailsWebRequest webRequest) {
-        HttpServletRequest request = webRequest.getCurrentRequest()
-        SynchronizerTokensHolder tokensHolderInSession = (SynchronizerTokensHolder) request.getSession(false)?.getAttribute(
-                SynchronizerTokensHolder.HOLDER)
-        if (!tokensHolderInSession) {
-            return false
-        }
-
+    private boolean useToken(GrailsWebRequest webRequest) {
         String tokenInRequest = webRequest.params[SynchronizerTokensHolder.TOKEN_KEY]
         if (!tokenInRequest) {
             return false
@@ -321,31 +314,14 @@ trait Controller implements ResponseRenderer, ResponseRedirector, RequestForward
         }
 
         try {
-            return tokensHolderInSession.isValid(urlInRequest, tokenInRequest)
+            return SynchronizerTokenStore.lookup(webRequest.applicationContext)
+                    .useToken(webRequest.getCurrentRequest(), urlInRequest, tokenInRequest)
         }
         catch (IllegalArgumentException ignored) {
             return false
         }
     }
 
-    /**
-     * Resets the token in the request
-     */
-    private synchronized resetToken(GrailsWebRequest webRequest) {
-        HttpServletRequest request = webRequest.getCurrentRequest()
-        SynchronizerTokensHolder tokensHolderInSession = (SynchronizerTokensHolder) request.getSession(false)?.getAttribute(
-                SynchronizerTokensHolder.HOLDER)
-        String urlInRequest = webRequest.params[SynchronizerTokensHolder.TOKEN_URI]
-        String tokenInRequest = webRequest.params[SynchronizerTokensHolder.TOKEN_KEY]
-
-        if (urlInRequest && tokenInRequest) {
-            tokensHolderInSession.resetToken(urlInRequest, tokenInRequest)
-        }
-        if (tokensHolderInSession.isEmpty()) {
-            request.getSession(false)?.removeAttribute(SynchronizerTokensHolder.HOLDER)
-        }
-    }
-
     @Generated
     static ApplicationContext getStaticApplicationContext() {
         RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes()
@@ -32,7 +32,6 @@ import org.springframework.web.context.request.RequestContextHolder
 import org.springframework.web.servlet.ModelAndView
 import org.springframework.web.servlet.View
 
-import grails.io.IOUtils
 import grails.plugins.GrailsPlugin
 import grails.plugins.GrailsPluginManager
 import grails.util.GrailsStringUtils
@@ -53,6 +52,7 @@ import org.grails.web.servlet.view.GroovyPageView
 import org.grails.web.sitemesh.GrailsLayoutDecoratorMapper
 import org.grails.web.sitemesh.GrailsLayoutView
 import org.grails.web.sitemesh.GroovyPageLayoutFinder
+import org.grails.web.util.FileResponseRenderer
 import org.grails.web.util.GrailsApplicationAttributes
 
 import static org.grails.plugins.web.controllers.metaclass.RenderDynamicMethod.*
@@ -390,7 +390,7 @@ trait ResponseRenderer extends WebAttributes {
                 InputStream input
                 try {
                     if (o instanceof File) {
-                        input = IOUtils.openStream(o)
+                        FileResponseRenderer.render(webRequest.currentRequest, response, (File) o)
                     }
                     else if (o instanceof InputStream) {
                         input = (InputStream) o
@@ -399,9 +399,11 @@ trait ResponseRenderer extends WebAttributes {
                         input = new ByteArrayInputStream((byte[]) o)
                     }
                     else {
-                        input = IOUtils.openStream(new File(o.toString()))
+                        FileResponseRenderer.render(webRequest.currentRequest, response, new File(o.toString()))
+                    }
+                    if (input) {
+                        SpringIOUtils.copy input, response.getOutputStream()
                     }
-                    SpringIOUtils.copy input, response.getOutputStream()
                 }
                 catch (IOException e) {
                     throw new ControllerExecutionException(
@@ -15,8 +15,10 @@
  */
 package org.grails.plugins.web.controllers;
 
+import java.util.Arrays;
 import java.util.Properties;
 import java.util.stream.Collectors;
+import java.util.zip.Deflater;
 
 import jakarta.servlet.DispatcherType;
 import jakarta.servlet.MultipartConfigElement;
@@ -32,26 +34,40 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplicat
 import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
 import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletRegistrationBean;
 import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.convert.DurationStyle;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.boot.web.servlet.filter.OrderedFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.util.ClassUtils;
 import org.springframework.web.servlet.ViewResolver;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistration;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+import org.springframework.web.servlet.resource.VersionStrategy;
 
 import grails.config.Config;
 import grails.config.Settings;
 import grails.core.GrailsApplication;
 
 import org.grails.web.errors.GrailsExceptionResolver;
+import org.grails.web.filters.CompressionFilter;
 import org.grails.web.filters.HiddenHttpMethodFilter;
 import org.grails.web.filters.OrderedHiddenHttpMethodFilter;
+import org.grails.web.servlet.CookieFlashScope;
+import org.grails.web.servlet.mvc.ConditionalResponseFilter;
 import org.grails.web.servlet.mvc.GrailsDispatcherServlet;
 import org.grails.web.servlet.mvc.GrailsWebRequestFilter;
+import org.grails.web.servlet.mvc.HmacSynchronizerTokenStore;
 import org.grails.web.servlet.mvc.ParameterCreationListener;
+import org.grails.web.servlet.mvc.SessionSynchronizerTokenStore;
+import org.grails.web.servlet.mvc.SynchronizerTokenStore;
 import org.grails.web.servlet.mvc.TokenResponseActionResultTransformer;
+import org.grails.web.servlet.resource.ManifestVersionStrategy;
+import org.grails.web.servlet.resource.StaticResourceResolver;
 import org.grails.web.servlet.view.CompositeViewResolver;
+import org.grails.web.util.HmacSigner;
 
 /**
  * {@link EnableAutoConfiguration Auto-configuration} for Grails Controllers Plugin.
@@ -64,6 +80,10 @@ import org.grails.web.servlet.view.CompositeViewResolver;
 @ConditionalOnClass({ Servlet.class })
 public class ControllersPluginConfiguration {
 
+    private static final String FLASH_SCOPE_PURPOSE = "grails.web.flash";
+
+    private static final long DEFAULT_RESOURCES_CACHE_MAX_FILE_SIZE = 64 * 1024;
+
     @Bean
     public TokenResponseActionResultTransformer tokenResponseActionResultTransformer() {
         return new TokenResponseActionResultTransformer();
@@ -71,15 +91,68 @@ public class ControllersPluginConfiguration {
 
     @Bean
     public FilterRegistrationBean<GrailsWebRequestFilter> grailsWebRequestFilter(
+            ObjectProvider<GrailsApplication> grailsApplicationProvider,
             ObjectProvider<ParameterCreationListener> parameterCreationListenerProvider) {
+        Config config = grailsApplicationProvider.getIfAvailable().getConfig();
         GrailsWebRequestFilter filter = new GrailsWebRequestFilter();
         filter.setParameterCreationListeners(parameterCreationListenerProvider.stream().collect(Collectors.toList()));
+        if ("cookie".equalsIgnoreCase(config.getProperty(Settings.WEB_FLASH_STORAGE, String.class, "session"))) {
+            filter.setCookieFlashScope(HmacSigner.create(config.getProperty(Settings.WEB_SIGNING_SECRET), FLASH_SCOPE_PURPOSE),
+                    config.getProperty(Settings.WEB_FLASH_COOKIE_NAME, String.class, CookieFlashScope.DEFAULT_COOKIE_NAME),
+                    config.getProperty(Settings.WEB_FLASH_COOKIE_MAX_SIZE, Integer.class, CookieFlashScope.DEFAULT_MAX_SIZE));
+        }
         FilterRegistrationBean<GrailsWebRequestFilter> registration = new FilterRegistrationBean<>(filter);
-        registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.FORWARD, DispatcherType.INCLUDE);
+        registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.FORWARD, DispatcherType.INCLUDE, DispatcherType.ASYNC);
         registration.setOrder(OrderedFilter.REQUEST_WRAPPER_FILTER_MAX_ORDER + 30);
         return registration;
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "grails.web.etag", name = "enabled")
+    public FilterRegistrationBean<ConditionalResponseFilter> conditionalResponseFilter(
+            ObjectProvider<GrailsApplication> grailsApplicationProvider) {
+        Config config = grailsApplicationProvider.getIfAvailable().getConfig();
+        ConditionalResponseFilter filter = new ConditionalResponseFilter();
+        filter.setMaxBufferSize(config.getProperty(Settings.WEB_ETAG_MAX_BUFFER_SIZE, Integer.class,
+                ConditionalResponseFilter.DEFAULT_MAX_BUFFER_SIZE));
+        FilterRegistrationBean<ConditionalResponseFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setDispatcherTypes(DispatcherType.REQUEST);
+        registration.setOrder(OrderedFilter.REQUEST_WRAPPER_FILTER_MAX_ORDER + 20);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "grails.web.compression", name = "enabled")
+    public FilterRegistrationBean<CompressionFilter> compressionFilter(ObjectProvider<GrailsApplication> grailsApplicationProvider) {
+        Config config = grailsApplicationProvider.getIfAvailable().getConfig();
+        CompressionFilter filter = new CompressionFilter();
+        filter.setLevel(config.getProperty(Settings.WEB_COMPRESSION_LEVEL, Integer.class, Deflater.DEFAULT_COMPRESSION));
+        filter.setMinSize(config.getProperty(Settings.WEB_COMPRESSION_MIN_SIZE, Integer.class, CompressionFilter.DEFAULT_MIN_SIZE));
+        String[] mimeTypes = config.getProperty(Settings.WEB_COMPRESSION_MIME_TYPES, String[].class);
+        if (mimeTypes != null) {
+            filter.setMimeTypes(Arrays.asList(mimeTypes));
+        }
+        FilterRegistrationBean<CompressionFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setDispatcherTypes(DispatcherType.REQUEST);
+        registration.setOrder(OrderedFilter.REQUEST_WRAPPER_FILTER_MAX_ORDER + 10);
+        return registration;
+    }
+
+    @Bean(name = SynchronizerTokenStore.BEAN_NAME)
+    @ConditionalOnMissingBean(name = SynchronizerTokenStore.BEAN_NAME)
+    public SynchronizerTokenStore synchronizerTokenStore(ObjectProvider<GrailsApplication> grailsApplicationProvider) {
+        Config config = grailsApplicationProvider.getIfAvailable().getConfig();
+        if ("hmac".equalsIgnoreCase(config.getProperty(Settings.WEB_TOKENS_STORAGE, String.class, "session"))) {
+            String timeout = config.getProperty(Settings.WEB_TOKENS_TIMEOUT, String.class, "1h");
+            return new HmacSynchronizerTokenStore(
+                    HmacSigner.create(config.getProperty(Settings.WEB_SIGNING_SECRET), HmacSynchronizerTokenStore.PURPOSE),
+                    DurationStyle.detectAndParse(timeout),
+                    config.getProperty(Settings.WEB_TOKENS_COOKIE_NAME, String.class, HmacSynchronizerTokenStore.DEFAULT_COOKIE_NAME),
+                    config.getProperty(Settings.WEB_TOKENS_MAX_USED, Long.class, HmacSynchronizerTokenStore.DEFAULT_MAX_USED_TOKENS));
+        }
+        return new SessionSynchronizerTokenStore();
+    }
+
     @Bean
     public GrailsExceptionResolver exceptionHandler() {
         GrailsExceptionResolver exceptionResolver = new GrailsExceptionResolver();
@@ -125,8 +198,13 @@ public class ControllersPluginConfiguration {
         int resourcesCachePeriod = config.getProperty(Settings.RESOURCES_CACHE_PERIOD, Integer.class, 0);
         boolean resourcesEnabled = config.getProperty(Settings.RESOURCES_ENABLED, Boolean.class, true);
         String resourcesPattern = config.getProperty(Settings.RESOURCES_PATTERN, String.class, Settings.DEFAULT_RESOURCE_PATTERN);
+        boolean resourcesFingerprintEnabled = config.getProperty(Settings.RESOURCES_FINGERPRINT_ENABLED, Boolean.class, false);
+        long resourcesCacheMaxFileSize = config.getProperty(Settings.RESOURCES_CACHE_MAX_FILE_SIZE, Long.class, DEFAULT_RESOURCES_CACHE_MAX_FILE_SIZE);
 
         GrailsWebMvcConfigurer webMvcConfigurer = new GrailsWebMvcConfigurer(resourcesCachePeriod, resourcesEnabled, resourcesPattern);
+        if (resourcesFingerprintEnabled) {
+            webMvcConfigurer.enableFingerprint(ManifestVersionStrategy.load(grailsApplication.getClassLoader()), resourcesCacheMaxFileSize);
+        }
         return webMvcConfigurer;
     }
 
@@ -161,12 +239,25 @@ public class ControllersPluginConfiguration {
 
         String resourcesPattern = "/static/**";
 
+        VersionStrategy versionStrategy;
+
+        long cacheMaxFileSize;
+
         GrailsWebMvcConfigurer(Integer cachePeriod, boolean addMappings, String resourcesPattern) {
             this.addMappings = addMappings;
             this.cachePeriod = cachePeriod;
             this.resourcesPattern = resourcesPattern;
         }
 
+        /**
+         * Serves the static resources with fingerprinted URLs, their precompressed variants,
+         * and the content of the small ones from memory
+         */
+        void enableFingerprint(VersionStrategy versionStrategy, long cacheMaxFileSize) {
+            this.versionStrategy = versionStrategy;
+            this.cacheMaxFileSize = cacheMaxFileSize;
+        }
+
         @Override
         public void addResourceHandlers(ResourceHandlerRegistry registry) {
             if (!this.addMappings) {
@@ -179,9 +270,15 @@ public class ControllersPluginConfiguration {
                         .setCachePeriod(this.cachePeriod);
             }
             if (!registry.hasMappingForPattern(this.resourcesPattern)) {
-                registry.addResourceHandler(this.resourcesPattern)
+                ResourceHandlerRegistration registration = registry.addResourceHandler(this.resourcesPattern)
                         .addResourceLocations(RESOURCE_LOCATIONS)
                         .setCachePeriod(this.cachePeriod);
+                if (this.versionStrategy != null) {
+                    registration.resourceChain(true)
+                            .addResolver(new StaticResourceResolver(this.cacheMaxFileSize, this.versionStrategy))
+                            .addResolver(new EncodedResourceResolver())
+                            .addResolver(new VersionResourceResolver().addVersionStrategy(this.versionStrategy, "/**"));
+                }
             }
         }
 
@@ -17,6 +17,10 @@ package org.grails.compiler.web.converters
 
 import jakarta.servlet.http.HttpServletResponse
 
+import groovy.transform.Generated
+import io.micrometer.observation.Observation
+import io.micrometer.observation.ObservationRegistry
+import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.web.context.request.RequestContextHolder
 
 import grails.artefact.Enhances
@@ -27,6 +31,18 @@ import org.grails.web.servlet.mvc.GrailsWebRequest
 @Enhances(['Controller', 'Interceptor'])
 trait RenderConverterTrait {
 
+    private ObservationRegistry converterObservationRegistry = ObservationRegistry.NOOP
+
+    /**
+     * Sets the registry of the observations of rendering a converter, named {@code grails.converter}
+     * and tagged by the converter, which are not observed by default
+     */
+    @Generated
+    @Autowired(required = false)
+    void setConverterObservationRegistry(ObservationRegistry converterObservationRegistry) {
+        this.converterObservationRegistry = converterObservationRegistry
+    }
+
     /**
      * Render the given converter to the response
      *
@@ -36,7 +52,23 @@ trait RenderConverterTrait {
         GrailsWebRequest webRequest = (GrailsWebRequest) RequestContextHolder.currentRequestAttributes()
         HttpServletResponse response = webRequest.currentResponse
         webRequest.renderView = false
-        converter.render response
+        if (converterObservationRegistry.isNoop()) {
+            converter.render response
+            return
+        }
+        Observation observation = Observation.createNotStarted('grails.converter', converterObservationRegistry)
+                .lowCardinalityKeyValue('converter', converter.getClass().name)
+                .start()
+        try {
+            converter.render response
+        }
+        catch (Throwable e) {
+            observation.error(e)
+            throw e
+        }
+        finally {
+            observation.stop()
+        }
     }
 
 }
@@ -51,10 +51,12 @@ public final class ConvertersConfigurationHolder {
 
     private final ConcurrentMap<Class<? extends Converter>, Map<String, ConverterConfiguration>> namedConfigurations = new ConcurrentHashMap<>();
 
+    // the map is only created for the threads that use a thread local configuration and removed once it is empty,
+    // so that a large number of threads, such as virtual threads, do not each retain a map
     private ThreadLocal<Map<Class<? extends Converter>, ConverterConfiguration>> threadLocalConfiguration = createThreadLocalConfiguration();
 
     private static ThreadLocal<Map<Class<? extends Converter>, ConverterConfiguration>> createThreadLocalConfiguration() {
-        return ThreadLocal.withInitial(HashMap::new);
+        return new ThreadLocal<>();
     }
 
     private ConvertersConfigurationHolder() {
@@ -104,12 +106,28 @@ public final class ConvertersConfigurationHolder {
 
     public static <C extends Converter> ConverterConfiguration<C> getThreadLocalConverterConfiguration(Class<C> converterClass)
             throws ConverterException {
-        return getInstance().threadLocalConfiguration.get().get(converterClass);
+        Map<Class<? extends Converter>, ConverterConfiguration> configurations = getInstance().threadLocalConfiguration.get();
+        return configurations != null ? configurations.get(converterClass) : null;
     }
 
     public static <C extends Converter> void setThreadLocalConverterConfiguration(Class<C> converterClass, ConverterConfiguration<C> cfg)
             throws ConverterException {
-        getInstance().threadLocalConfiguration.get().put(converterClass, cfg);
+        ThreadLocal<Map<Class<? extends Converter>, ConverterConfiguration>> threadLocal = getInstance().threadLocalConfiguration;
+        Map<Class<? extends Converter>, ConverterConfiguration> configurations = threadLocal.get();
+        if (cfg == null) {
+            if (configurations != null) {
+                configurations.remove(converterClass);
+                if (configurations.isEmpty()) {
+                    threadLocal.remove();
+                }
+            }
+            return;
+        }
+        if (configurations == null) {
+            configurations = new HashMap<>();
+            threadLocal.set(configurations);
+        }
+        configurations.put(converterClass, cfg);
     }
 
     public static <C extends Converter> void setNamedConverterConfiguration(Class<C> converterClass, String name, ConverterConfiguration<C> cfg)
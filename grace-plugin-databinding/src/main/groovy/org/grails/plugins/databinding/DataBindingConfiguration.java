@@ -15,6 +15,7 @@
  */
 package org.grails.plugins.databinding;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
@@ -69,7 +70,8 @@ public class DataBindingConfiguration {
             ObjectProvider<FormattedValueConverter> formattedValueConverters,
             ObjectProvider<TypedStructuredBindingEditor> structuredBindingEditors,
             ObjectProvider<DataBindingListener> dataBindingListeners,
-            ObjectProvider<MessageSource> messageSource) {
+            ObjectProvider<MessageSource> messageSource,
+            ObjectProvider<ObservationRegistry> observationRegistry) {
 
         GrailsWebDataBinder dataBinder = new GrailsWebDataBinder(grailsApplication.getIfAvailable());
         dataBinder.setConvertEmptyStringsToNull(this.configurationProperties.isConvertEmptyStringsToNull());
@@ -93,6 +95,7 @@ public class DataBindingConfiguration {
         dataBinder.setDataBindingListeners(defaultDataBindingListeners);
 
         dataBinder.setMessageSource(messageSource.getIfAvailable());
+        dataBinder.setObservationRegistry(observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
         return dataBinder;
     }
 
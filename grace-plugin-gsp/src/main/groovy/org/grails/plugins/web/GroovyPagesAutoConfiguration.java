@@ -28,6 +28,7 @@ import org.springframework.boot.autoconfigure.AutoConfigureOrder;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.servlet.ServletRegistrationBean;
 import org.springframework.context.annotation.Bean;
@@ -52,6 +53,7 @@ import org.grails.core.io.ResourceLocator;
 import org.grails.gsp.GroovyPageResourceLoader;
 import org.grails.gsp.GroovyPagesTemplateEngine;
 import org.grails.gsp.io.CachingGroovyPageStaticResourceLocator;
+import org.grails.gsp.io.GroovyPageChangeWatcher;
 import org.grails.gsp.io.GroovyPageLocator;
 import org.grails.gsp.jsp.TagLibraryResolver;
 import org.grails.gsp.jsp.TagLibraryResolverImpl;
@@ -150,6 +152,7 @@ public class GroovyPagesAutoConfiguration {
             groovyPageLocator.setCacheTimeout(gspCacheTimeout);
         }
         groovyPageLocator.setReloadEnabled(enableReload);
+        groovyPageLocator.setIndexEnabled(!enableReload && config.getProperty(Settings.GSP_VIEW_INDEX, Boolean.class, true));
 
         return groovyPageLocator;
     }
@@ -267,6 +270,7 @@ public class GroovyPagesAutoConfiguration {
         GroovyPagesTemplateEngine groovyPagesTemplateEngine = new GroovyPagesTemplateEngine();
 
         groovyPagesTemplateEngine.setReloadEnabled(enableReload);
+        groovyPagesTemplateEngine.setWatchEnabled(enableReload && config.getProperty(Settings.GSP_RELOAD_WATCH, Boolean.class, false));
         groovyPagesTemplateEngine.setCacheResources(enableCacheResources);
         groovyPageLocator.ifAvailable(groovyPagesTemplateEngine::setGroovyPageLocator);
         gspTagLibraryLookup.ifAvailable(groovyPagesTemplateEngine::setTagLibraryLookup);
@@ -275,6 +279,14 @@ public class GroovyPagesAutoConfiguration {
         return groovyPagesTemplateEngine;
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = Settings.GSP_RELOAD_WATCH, havingValue = "true")
+    public GroovyPageChangeWatcher groovyPageChangeWatcher(CachingGrailsConventionGroovyPageLocator groovyPageLocator,
+            GroovyPagesTemplateEngine groovyPagesTemplateEngine) {
+        return new GroovyPageChangeWatcher(groovyPagesTemplateEngine, groovyPageLocator.resolveViewDirectories());
+    }
+
     @Bean
     @ConditionalOnMissingBean
     public GroovyPagesTemplateRenderer groovyPagesTemplateRenderer(CachingGrailsConventionGroovyPageLocator groovyPageLocator,
@@ -42,6 +42,7 @@ import org.grails.core.artefact.DomainClassArtefactHandler
 import org.grails.encoder.CodecLookup
 import org.grails.encoder.Encoder
 import org.grails.plugins.web.GrailsTagDateHelper
+import org.grails.web.servlet.mvc.SynchronizerTokenStore
 import org.grails.web.servlet.mvc.SynchronizerTokensHolder
 
 /**
@@ -66,6 +67,7 @@ class FormTagLib implements ApplicationContextAware, InitializingBean, TagLibrar
     GrailsTagDateHelper grailsTagDateHelper
 
     CodecLookup codecLookup
+    SynchronizerTokenStore synchronizerTokenStore
 
     private List<String> booleanAttributes = ['disabled', 'checked', 'readonly', 'required']
 
@@ -76,6 +78,7 @@ class FormTagLib implements ApplicationContextAware, InitializingBean, TagLibrar
         if (applicationContext.containsBean('mvcConversionService')) {
             conversionService = applicationContext.getBean('mvcConversionService', ConversionService)
         }
+        synchronizerTokenStore = SynchronizerTokenStore.lookup(applicationContext)
     }
 
     /**
@@ -462,9 +465,9 @@ class FormTagLib implements ApplicationContextAware, InitializingBean, TagLibrar
         }
 
         if (useToken) {
-            def tokensHolder = SynchronizerTokensHolder.store(session)
             writer.println()
-            hiddenFieldImpl(writer, [name: SynchronizerTokensHolder.TOKEN_KEY, value: tokensHolder.generateToken(request.forwardURI)])
+            hiddenFieldImpl(writer, [name: SynchronizerTokensHolder.TOKEN_KEY,
+                                     value: synchronizerTokenStore.generateToken(request, request.forwardURI)])
             writer.println()
             hiddenFieldImpl(writer, [name: SynchronizerTokensHolder.TOKEN_URI, value: request.forwardURI])
         }
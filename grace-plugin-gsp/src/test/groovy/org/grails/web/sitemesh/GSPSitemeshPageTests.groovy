@@ -52,6 +52,25 @@ class GSPSitemeshPageTests extends AbstractGrailsTagTests {
         assertEquals 'somejs();', gspSiteMeshPage.getProperty('body.onload')
     }
 
+    @Test
+    void testDeferredBodyIsRenderedWhenWritten() {
+        def gspSiteMeshPage = new GSPSitemeshPage()
+        def rendered = 0
+        gspSiteMeshPage.setDeferredBody({ ->
+            rendered++
+            def buffer = new FastStringWriter()
+            buffer.print('deferred body')
+            buffer.buffer
+        } as java.util.concurrent.Callable)
+
+        assertEquals 0, rendered
+        FastStringWriter writer = new FastStringWriter()
+        gspSiteMeshPage.writeBody(writer)
+        assertEquals 'deferred body', writer.toString()
+        assertEquals 'deferred body', gspSiteMeshPage.getBody()
+        assertEquals 1, rendered
+    }
+
     @Test
     void testMetaObjectValues() {
         // GRAILS-5603 test case
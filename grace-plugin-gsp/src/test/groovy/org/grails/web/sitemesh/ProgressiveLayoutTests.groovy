@@ -0,0 +1,86 @@
+package org.grails.web.sitemesh
+
+import com.opensymphony.module.sitemesh.Decorator
+import com.opensymphony.module.sitemesh.Page
+import com.opensymphony.sitemesh.Content
+import io.micrometer.observation.Observation
+import io.micrometer.observation.ObservationHandler
+import io.micrometer.observation.ObservationRegistry
+import jakarta.servlet.http.HttpServletRequest
+import org.grails.core.io.MockStringResourceLoader
+import org.grails.web.servlet.view.GroovyPageView
+import org.grails.web.taglib.AbstractGrailsTagTests
+import org.junit.jupiter.api.Test
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertFalse
+import static org.junit.jupiter.api.Assertions.assertTrue
+
+/**
+ * Tests applying a progressive layout end-to-end, from the captured body of the view to the body written by the layout
+ */
+class ProgressiveLayoutTests extends AbstractGrailsTagTests {
+
+    @Test
+    void testLayoutIsFlushedBeforeTheBodyRenders() {
+        def resourceLoader = new MockStringResourceLoader()
+        resourceLoader.registerMockResource('/layouts/progressive.gsp', '<%@ page layoutBlocks="title, head" %>' +
+                '<html><head><title>Decorated <g:layoutTitle/></title><g:layoutHead/></head>' +
+                '<body><nav>menu</nav><g:layoutBody/></body></html>')
+        resourceLoader.registerMockResource('/test/show.gsp',
+                '<html><head><title>Show</title></head><body>${flushed()}body text</body></html><script>trailing()</script>')
+        appCtx.groovyPageLocator.addResourceLoader(resourceLoader)
+
+        List<Observation.Context> contexts = []
+        ObservationRegistry registry = ObservationRegistry.create()
+        registry.observationConfig().observationHandler(new ObservationHandler<Observation.Context>() {
+            @Override
+            boolean supportsContext(Observation.Context context) {
+                true
+            }
+
+            @Override
+            void onStop(Observation.Context context) {
+                contexts << context
+            }
+        })
+
+        def layoutView = createView('/layouts/progressive.gsp')
+        def layoutFinder = new GroovyPageLayoutFinder() {
+            @Override
+            Decorator findLayout(HttpServletRequest request, Content page) {
+                new SpringMVCViewDecorator('progressive', layoutView)
+            }
+
+            @Override
+            Decorator findLayout(HttpServletRequest request, Page page) {
+                new SpringMVCViewDecorator('progressive', layoutView)
+            }
+        }
+        def view = new GrailsLayoutView(layoutFinder, createView('/test/show.gsp'))
+        view.observationRegistry = registry
+
+        String flushedBeforeBody = null
+        view.render([flushed: { -> flushedBeforeBody = response.contentAsString; '' }], request, response)
+
+        assertTrue(flushedBeforeBody.contains('<title>Decorated Show</title>'))
+        assertTrue(flushedBeforeBody.contains('<nav>menu</nav>'))
+        assertFalse(flushedBeforeBody.contains('body text'))
+        String content = response.contentAsString
+        assertTrue(content.indexOf('<nav>menu</nav>') < content.indexOf('body text'))
+        assertTrue(content.indexOf('body text') < content.indexOf('</html>'))
+        assertEquals(content.indexOf('</html>'), content.lastIndexOf('</html>'))
+        assertTrue(content.endsWith('</html><script>trailing()</script>'))
+        assertEquals([GrailsLayoutView.LAYOUT_OBSERVATION_NAME], contexts*.name)
+    }
+
+    private GroovyPageView createView(String url) {
+        def view = new GroovyPageView()
+        view.url = url
+        view.applicationContext = appCtx
+        view.templateEngine = appCtx.groovyPagesTemplateEngine
+        view.afterPropertiesSet()
+        view
+    }
+
+}
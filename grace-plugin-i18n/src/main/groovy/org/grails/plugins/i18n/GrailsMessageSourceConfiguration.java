@@ -25,12 +25,14 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 
 import grails.config.Config;
 import grails.config.Settings;
 import grails.core.GrailsApplication;
 import grails.util.Environment;
 
+import org.grails.spring.context.support.CompiledMessageSource;
 import org.grails.spring.context.support.PluginAwareResourceBundleMessageSource;
 
 /**
@@ -62,16 +64,28 @@ public class GrailsMessageSourceConfiguration {
             encoding = config.getProperty(Settings.GSP_VIEW_ENCODING, "UTF-8");
         }
 
-        boolean gspEnableReload = config.getProperty(Settings.GSP_ENABLE_RELOAD, Boolean.class, false);
+        boolean reloadEnabled = Environment.getCurrent().isReloadEnabled() || config.getProperty(Settings.GSP_ENABLE_RELOAD, Boolean.class, false);
         int cacheSeconds = config.getProperty(Settings.I18N_CACHE_SECONDS, Integer.class, 5);
         int fileCacheSeconds = config.getProperty(Settings.I18N_FILE_CACHE_SECONDS, Integer.class, 5);
+        boolean compiledEnabled = config.getProperty(Settings.I18N_COMPILED_ENABLED, Boolean.class, true);
+        boolean watchEnabled = config.getProperty(Settings.I18N_RELOAD_WATCH, Boolean.class, false);
 
         messageSource.setDefaultEncoding(encoding);
         messageSource.setFallbackToSystemLocale(false);
-        if (Environment.getCurrent().isReloadEnabled() || gspEnableReload) {
+        if (reloadEnabled && watchEnabled) {
+            // cached until the watcher reports a change
+            messageSource.setWatchEnabled(true);
+        }
+        else if (reloadEnabled) {
             messageSource.setCacheSeconds(cacheSeconds);
             messageSource.setFileCacheSeconds(fileCacheSeconds);
         }
+        else if (compiledEnabled) {
+            PathMatchingResourcePatternResolver resourceResolver = new PathMatchingResourcePatternResolver();
+            if (CompiledMessageSource.isAvailable(resourceResolver)) {
+                messageSource.setCompiledMessageSource(new CompiledMessageSource(resourceResolver));
+            }
+        }
 
         return messageSource;
     }
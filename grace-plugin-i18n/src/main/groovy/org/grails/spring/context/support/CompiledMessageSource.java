@@ -0,0 +1,184 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.spring.context.support;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.context.support.AbstractMessageSource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import org.grails.io.support.CompiledMessageBundle;
+
+/**
+ * A {@link org.springframework.context.MessageSource} that answers lookups from message bundles
+ * precompiled at build time by the {@code compileMessageBundles} Gradle task.
+ *
+ * <p>Bundles on the file system are memory-mapped, bundles inside archives are read once into
+ * off-heap buffers, in both cases no properties are parsed. Bundles are searched in classpath order,
+ * so application messages take precedence over plugin messages.
+ *
+ * <p>Usually this is consulted by the {@link PluginAwareResourceBundleMessageSource} before it loads
+ * any properties files, but it can also be used on its own with a parent message source.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+public class CompiledMessageSource extends AbstractMessageSource {
+
+    private final ResourcePatternResolver resourceResolver;
+
+    private final ConcurrentMap<String, List<CompiledMessageBundle>> cachedBundles = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Locale, List<CompiledMessageBundle>> cachedLocaleBundles = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Map<Locale, MessageFormat>> cachedMessageFormats = new ConcurrentHashMap<>();
+
+    public CompiledMessageSource() {
+        this(new PathMatchingResourcePatternResolver());
+    }
+
+    public CompiledMessageSource(ResourcePatternResolver resourceResolver) {
+        this.resourceResolver = resourceResolver;
+    }
+
+    /**
+     * Whether any compiled message bundle is available on the classpath
+     *
+     * @param resourceResolver The resource resolver
+     * @return true if there is at least one default bundle
+     */
+    public static boolean isAvailable(ResourcePatternResolver resourceResolver) {
+        try {
+            return resourceResolver.getResources(ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX +
+                    CompiledMessageBundle.BUNDLE_LOCATION + CompiledMessageBundle.BUNDLE_BASENAME +
+                    CompiledMessageBundle.FILE_EXTENSION).length > 0;
+        }
+        catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    protected String resolveCodeWithoutArguments(String code, Locale locale) {
+        for (CompiledMessageBundle bundle : getBundles(locale)) {
+            String message = bundle.getMessage(code);
+            if (message != null) {
+                return message;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    protected MessageFormat resolveCode(String code, Locale locale) {
+        Map<Locale, MessageFormat> localeMap = this.cachedMessageFormats.get(code);
+        if (localeMap != null) {
+            MessageFormat result = localeMap.get(locale);
+            if (result != null) {
+                return result;
+            }
+        }
+        String message = resolveCodeWithoutArguments(code, locale);
+        if (message == null) {
+            return null;
+        }
+        MessageFormat result = createMessageFormat(message, locale);
+        this.cachedMessageFormats.computeIfAbsent(code, key -> new ConcurrentHashMap<>()).putIfAbsent(locale, result);
+        return result;
+    }
+
+    /**
+     * Returns the bundles to search for the given locale, most specific first
+     *
+     * @param locale The locale
+     * @return The bundles
+     */
+    protected List<CompiledMessageBundle> getBundles(Locale locale) {
+        List<CompiledMessageBundle> bundles = this.cachedLocaleBundles.get(locale);
+        if (bundles != null) {
+            return bundles;
+        }
+        bundles = new ArrayList<>();
+        for (String suffix : calculateSuffixes(locale)) {
+            bundles.addAll(loadBundles(suffix));
+        }
+        bundles.addAll(loadBundles(""));
+        bundles = Collections.unmodifiableList(bundles);
+        List<CompiledMessageBundle> existing = this.cachedLocaleBundles.putIfAbsent(locale, bundles);
+        return existing != null ? existing : bundles;
+    }
+
+    /**
+     * Clears the cached bundles, so they are loaded again on the next lookup.
+     */
+    public void clearCache() {
+        this.cachedLocaleBundles.clear();
+        this.cachedBundles.clear();
+        this.cachedMessageFormats.clear();
+    }
+
+    private List<String> calculateSuffixes(Locale locale) {
+        List<String> result = new ArrayList<>(3);
+        String language = locale.getLanguage();
+        String country = locale.getCountry();
+        String variant = locale.getVariant();
+        if (!variant.isEmpty()) {
+            result.add("_" + language + "_" + country + "_" + variant);
+        }
+        if (!country.isEmpty()) {
+            result.add("_" + language + "_" + country);
+        }
+        if (!language.isEmpty()) {
+            result.add("_" + language);
+        }
+        return result;
+    }
+
+    private List<CompiledMessageBundle> loadBundles(String suffix) {
+        return this.cachedBundles.computeIfAbsent(suffix, key -> {
+            String location = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + CompiledMessageBundle.BUNDLE_LOCATION +
+                    CompiledMessageBundle.BUNDLE_BASENAME + key + CompiledMessageBundle.FILE_EXTENSION;
+            List<CompiledMessageBundle> bundles = new ArrayList<>();
+            try {
+                for (Resource resource : this.resourceResolver.getResources(location)) {
+                    bundles.add(loadBundle(resource));
+                }
+            }
+            catch (IOException e) {
+                logger.warn("Unable to load compiled message bundles [" + location + "]: " + e.getMessage(), e);
+            }
+            return Collections.unmodifiableList(bundles);
+        });
+    }
+
+    private CompiledMessageBundle loadBundle(Resource resource) throws IOException {
+        if (resource.isFile()) {
+            return CompiledMessageBundle.map(resource.getFile());
+        }
+        return CompiledMessageBundle.read(resource.getInputStream());
+    }
+
+}
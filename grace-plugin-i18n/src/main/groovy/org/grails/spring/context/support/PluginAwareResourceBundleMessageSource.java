@@ -16,14 +16,18 @@
 package org.grails.spring.context.support;
 
 import java.io.File;
+import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.core.io.FileSystemResource;
@@ -47,6 +51,7 @@ import grails.util.GrailsStringUtils;
 
 import org.grails.core.io.CachingPathMatchingResourcePatternResolver;
 import org.grails.core.support.internal.tools.ClassRelativeResourcePatternResolver;
+import org.grails.io.watch.DirectoryWatcher;
 import org.grails.plugins.BinaryGrailsPlugin;
 
 /**
@@ -57,7 +62,7 @@ import org.grails.plugins.BinaryGrailsPlugin;
  * @since 1.1
  */
 public class PluginAwareResourceBundleMessageSource extends ReloadableResourceBundleMessageSource
-        implements GrailsApplicationAware, PluginManagerAware, InitializingBean, SmartInitializingSingleton {
+        implements GrailsApplicationAware, PluginManagerAware, InitializingBean, SmartInitializingSingleton, DisposableBean {
 
     private static final String GRAILS_APP_I18N_PATH_COMPONENT = "/grails-app/i18n/";
 
@@ -77,6 +82,12 @@ public class PluginAwareResourceBundleMessageSource extends ReloadableResourceBu
 
     private String messageBundleLocationPattern = "classpath*:*.properties";
 
+    private CompiledMessageSource compiledMessageSource;
+
+    private boolean watchEnabled;
+
+    private DirectoryWatcher directoryWatcher;
+
     public PluginAwareResourceBundleMessageSource() {
     }
 
@@ -169,16 +180,86 @@ public class PluginAwareResourceBundleMessageSource extends ReloadableResourceBu
         }
 
         setBasenames(basenames.toArray(new String[0]));
+
+        if (this.watchEnabled) {
+            watchMessageBundles(resources);
+        }
+    }
+
+    private void watchMessageBundles(Resource[] resources) {
+        Set<File> directories = new LinkedHashSet<>();
+        for (Resource resource : resources) {
+            try {
+                if (resource.isFile()) {
+                    directories.add(resource.getFile().getCanonicalFile().getParentFile());
+                }
+            }
+            catch (IOException ignored) {
+                // not in the file system
+            }
+        }
+        if (directories.isEmpty()) {
+            return;
+        }
+
+        DirectoryWatcher watcher = new DirectoryWatcher();
+        watcher.setName("i18n-change-watcher");
+        watcher.addListener(new DirectoryWatcher.FileChangeListener() {
+
+            @Override
+            public void onChange(File file) {
+                clearCache(file.getName());
+            }
+
+            @Override
+            public void onNew(File file) {
+                clearCache(file.getName());
+            }
+
+            @Override
+            public void onDelete(File file) {
+                clearCache(file.getName());
+            }
+
+        });
+        for (File directory : directories) {
+            watcher.addWatchDirectory(directory, "properties");
+        }
+        watcher.start();
+        this.directoryWatcher = watcher;
+        if (logger.isDebugEnabled()) {
+            logger.debug("Watching message bundles in " + directories);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (this.directoryWatcher != null) {
+            this.directoryWatcher.setActive(false);
+            this.directoryWatcher = null;
+        }
     }
 
     @Override
     protected String resolveCodeWithoutArguments(String code, Locale locale) {
+        if (this.compiledMessageSource != null) {
+            String compiled = this.compiledMessageSource.resolveCodeWithoutArguments(code, locale);
+            if (compiled != null) {
+                return compiled;
+            }
+        }
         String msg = super.resolveCodeWithoutArguments(code, locale);
         return msg == null ? resolveCodeWithoutArgumentsFromPlugins(code, locale) : msg;
     }
 
     @Override
     protected MessageFormat resolveCode(String code, Locale locale) {
+        if (this.compiledMessageSource != null) {
+            MessageFormat compiled = this.compiledMessageSource.resolveCode(code, locale);
+            if (compiled != null) {
+                return compiled;
+            }
+        }
         MessageFormat mf = super.resolveCode(code, locale);
         return mf == null ? resolveCodeFromPlugins(code, locale) : mf;
     }
@@ -294,6 +375,27 @@ public class PluginAwareResourceBundleMessageSource extends ReloadableResourceBu
         this.searchClasspath = searchClasspath;
     }
 
+    /**
+     * Sets the source of precompiled message bundles, which is consulted before any properties file is loaded.
+     * Codes that are not found in the compiled bundles are resolved from the properties files as usual.
+     *
+     * @param compiledMessageSource The compiled message source
+     */
+    public void setCompiledMessageSource(CompiledMessageSource compiledMessageSource) {
+        this.compiledMessageSource = compiledMessageSource;
+    }
+
+    /**
+     * Sets whether the message bundles are reloaded when a file watcher reports a change to them,
+     * instead of checking their last modified date when they are resolved, which requires the
+     * properties files to be cached forever, with cacheSeconds &lt; 0.
+     *
+     * @param watchEnabled True if it is enabled
+     */
+    public void setWatchEnabled(boolean watchEnabled) {
+        this.watchEnabled = watchEnabled;
+    }
+
     /**
      * The location pattern for message bundles
      *
@@ -538,6 +538,31 @@ public class ReloadableResourceBundleMessageSource extends AbstractMessageSource
         this.cachedResources.clear();
     }
 
+    /**
+     * Clear the cached properties of the bundle file with the given name, for example {@code messages_de.properties},
+     * and the merged properties that include them.
+     * Subsequent resolve calls will lead to reloading of that properties file only.
+     * @param fileName the name of the changed properties file
+     */
+    public void clearCache(String fileName) {
+        String bundleFilename = StringUtils.stripFilenameExtension(fileName);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Clearing resource bundle cache of [" + fileName + "]");
+        }
+        this.cachedProperties.keySet().removeIf(filename -> isBundleFile(filename, bundleFilename));
+        this.cachedResources.keySet().removeIf(filename -> isBundleFile(filename, bundleFilename));
+        this.cachedMergedProperties.clear();
+        this.cachedFilenames.clear();
+    }
+
+    private static boolean isBundleFile(String filename, String bundleFilename) {
+        if (!filename.endsWith(bundleFilename)) {
+            return false;
+        }
+        int start = filename.length() - bundleFilename.length();
+        return start == 0 || filename.charAt(start - 1) == '/' || filename.charAt(start - 1) == ':';
+    }
+
     /**
      * Clear the resource bundle caches of this MessageSource and all its ancestors.
      * @see #clearCache
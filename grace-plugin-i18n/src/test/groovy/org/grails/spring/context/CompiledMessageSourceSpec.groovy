@@ -0,0 +1,55 @@
+package org.grails.spring.context
+
+import org.grails.io.support.CompiledMessageBundle
+import org.grails.spring.context.support.CompiledMessageSource
+import org.springframework.context.support.StaticMessageSource
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver
+import spock.lang.Specification
+import spock.lang.TempDir
+
+class CompiledMessageSourceSpec extends Specification {
+
+    @TempDir
+    File classesDir
+
+    CompiledMessageSource messageSource
+
+    void setup() {
+        File bundleDir = new File(classesDir, CompiledMessageBundle.BUNDLE_LOCATION)
+        bundleDir.mkdirs()
+        writeBundle(new File(bundleDir, 'messages.gmb'), ['default.greeting': 'Hello {0}', 'default.title': 'Title'])
+        writeBundle(new File(bundleDir, 'messages_de.gmb'), ['default.greeting': 'Hallo {0}'])
+        writeBundle(new File(bundleDir, 'messages_de_AT.gmb'), ['default.title': 'Titel'])
+
+        ClassLoader classLoader = new URLClassLoader([classesDir.toURI().toURL()] as URL[], (ClassLoader) null)
+        messageSource = new CompiledMessageSource(new PathMatchingResourcePatternResolver(classLoader))
+    }
+
+    void 'Test resolving messages from compiled bundles'() {
+        expect:
+        CompiledMessageSource.isAvailable(new PathMatchingResourcePatternResolver(new URLClassLoader([classesDir.toURI().toURL()] as URL[], (ClassLoader) null)))
+        messageSource.getMessage('default.greeting', ['Grace'] as Object[], Locale.ENGLISH) == 'Hello Grace'
+        messageSource.getMessage('default.greeting', ['Grace'] as Object[], Locale.GERMAN) == 'Hallo Grace'
+        messageSource.getMessage('default.title', null, new Locale('de', 'AT')) == 'Titel'
+        messageSource.getMessage('default.title', null, Locale.GERMAN) == 'Title'
+        messageSource.getMessage('default.missing', null, 'Missing', Locale.GERMAN) == 'Missing'
+    }
+
+    void 'Test missing codes are resolved from the parent message source'() {
+        given:
+        StaticMessageSource parent = new StaticMessageSource()
+        parent.addMessage('default.other', Locale.ENGLISH, 'Other')
+        messageSource.parentMessageSource = parent
+
+        expect:
+        messageSource.getMessage('default.other', null, Locale.ENGLISH) == 'Other'
+        messageSource.getMessage('default.title', null, Locale.ENGLISH) == 'Title'
+    }
+
+    private static void writeBundle(File file, Map<String, String> messages) {
+        file.withOutputStream { OutputStream out ->
+            CompiledMessageBundle.write(new TreeMap<String, String>(messages), out)
+        }
+    }
+
+}
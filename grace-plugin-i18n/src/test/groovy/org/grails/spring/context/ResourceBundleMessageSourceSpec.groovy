@@ -1,14 +1,21 @@
 package org.grails.spring.context
 
 import java.nio.charset.StandardCharsets
+import java.util.concurrent.CopyOnWriteArrayList
 
+import org.grails.spring.context.support.PluginAwareResourceBundleMessageSource
 import org.grails.spring.context.support.ReloadableResourceBundleMessageSource
 import org.springframework.core.io.ByteArrayResource
 import org.springframework.core.io.DefaultResourceLoader
 import org.springframework.core.io.Resource
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver
 import spock.lang.Specification
+import spock.lang.TempDir
+import spock.util.concurrent.PollingConditions
 
 class ResourceBundleMessageSourceSpec extends Specification {
+    @TempDir
+    File i18nDir
     Resource messages
     Resource other 
     void setup(){
@@ -38,6 +45,64 @@ class ResourceBundleMessageSourceSpec extends Specification {
             messageSource.getBundleCodes(locale,'messages','other') == (['foo','bar'] as Set)
     }
     
+    void 'Clearing the cache of a changed bundle file reloads that file only'() {
+        given:
+            def messageSource = new ReloadableResourceBundleMessageSource(
+                resourceLoader: new DefaultResourceLoader(){
+                    Resource getResourceByPath(String path){
+                        path == 'messages.properties' ? messages : path == 'other.properties' ? other : super.getResourceByPath(path)
+                    }
+                }
+            )
+            messageSource.setBasenames('messages','other')
+            def locale = Locale.default
+        expect:
+            messageSource.getMessage('foo', null, locale) == 'bar'
+            messageSource.getMessage('bar', null, locale) == 'foo'
+        when:
+            messages = new TestResource('messages.properties', 'foo=baz'.getBytes(StandardCharsets.UTF_8))
+            other = new TestResource('other.properties', 'bar=baz'.getBytes(StandardCharsets.UTF_8))
+            messageSource.clearCache('messages.properties')
+        then:
+            messageSource.getMessage('foo', null, locale) == 'baz'
+            messageSource.getMessage('bar', null, locale) == 'foo'
+    }
+    
+    void 'Watching the message bundles clears the cache of a changed or deleted bundle file'() {
+        given:
+            File messagesFile = new File(i18nDir, 'messages.properties')
+            File germanFile = new File(i18nDir, 'messages_de.properties')
+            messagesFile.text = 'foo=bar'
+            germanFile.text = 'foo=baz'
+            List<String> clearedFiles = new CopyOnWriteArrayList<>()
+            def messageSource = new PluginAwareResourceBundleMessageSource() {
+                @Override
+                void clearCache(String fileName) {
+                    clearedFiles << fileName
+                    super.clearCache(fileName)
+                }
+            }
+            messageSource.resourceResolver = new PathMatchingResourcePatternResolver()
+            messageSource.searchClasspath = true
+            messageSource.messageBundleLocationPattern = "file:${i18nDir.absolutePath}/*.properties"
+            messageSource.watchEnabled = true
+            messageSource.afterSingletonsInstantiated()
+        when:
+            messagesFile.text = 'foo=qux'
+        then:
+            new PollingConditions(timeout: 15).eventually {
+                assert clearedFiles.contains('messages.properties')
+            }
+        when:
+            germanFile.delete()
+        then:
+            new PollingConditions(timeout: 15).eventually {
+                assert clearedFiles.contains('messages_de.properties')
+            }
+        cleanup:
+            messageSource?.destroy()
+    }
+
     class TestResource extends ByteArrayResource{
         String filename
 
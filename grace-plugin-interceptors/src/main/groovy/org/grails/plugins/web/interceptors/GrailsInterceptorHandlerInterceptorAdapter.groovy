@@ -20,6 +20,8 @@ import jakarta.servlet.http.HttpServletResponse
 
 import groovy.transform.CompileDynamic
 import groovy.transform.CompileStatic
+import io.micrometer.observation.Observation
+import io.micrometer.observation.ObservationRegistry
 import org.apache.commons.logging.Log
 import org.apache.commons.logging.LogFactory
 import org.springframework.beans.factory.annotation.Autowired
@@ -49,8 +51,16 @@ class GrailsInterceptorHandlerInterceptorAdapter implements HandlerInterceptor {
 
     static final String INTERCEPTOR_RENDERED_VIEW = 'interceptor_rendered_view'
 
+    /**
+     * The name of the observation of executing the {@code before} or {@code after} of an interceptor,
+     * tagged by the name of the interceptor and the phase
+     */
+    static final String INTERCEPTOR_OBSERVATION_NAME = 'grails.interceptor'
+
     protected List<Interceptor> interceptors = []
     protected List<Interceptor> reverseInterceptors = []
+    protected Map<Interceptor, String> interceptorNames = new IdentityHashMap<>()
+    protected ObservationRegistry observationRegistry = ObservationRegistry.NOOP
 
     @Autowired(required = false)
     ServiceRegistry[] serviceRegistry // inject the service registry to ensure data services are wired up
@@ -60,14 +70,25 @@ class GrailsInterceptorHandlerInterceptorAdapter implements HandlerInterceptor {
     void setInterceptors(Interceptor[] interceptors) {
         this.interceptors = interceptors.sort(new OrderComparator()) as List<Interceptor>
         this.reverseInterceptors = this.interceptors.reverse()
+        for (Interceptor i in this.interceptors) {
+            this.interceptorNames.put(i, GrailsNameUtils.getLogicalPropertyName(i.getClass().name, 'Interceptor'))
+        }
         if (logger.isDebugEnabled()) {
             logger.debug('Computed interceptor execution order:')
             for (Interceptor i in interceptors) {
-                logger.debug("- ${GrailsNameUtils.getLogicalPropertyName(i.getClass().name, 'Interceptor')} (order: ${i.order})")
+                logger.debug("- ${interceptorNames.get(i)} (order: ${i.order})")
             }
         }
     }
 
+    /**
+     * Sets the registry of the observations of the interceptors, which are not observed by default
+     */
+    @Autowired(required = false)
+    void setObservationRegistry(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry
+    }
+
     @Override
     boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
         if (!interceptors.isEmpty()) {
@@ -76,7 +97,7 @@ class GrailsInterceptorHandlerInterceptorAdapter implements HandlerInterceptor {
             for (i in interceptors) {
                 if (i.doesMatch(request)) {
                     matchInterceptors.add(i)
-                    if (!i.before()) {
+                    if (!observeBefore(i)) {
                         return false
                     }
                 }
@@ -96,7 +117,7 @@ class GrailsInterceptorHandlerInterceptorAdapter implements HandlerInterceptor {
             List<Interceptor> reversedInterceptors = ((List<Interceptor>) matchedInterceptorsObject).reverse()
             request.setAttribute(ATTRIBUTE_MATCHED_INTERCEPTORS, reversedInterceptors)
             for (i in reversedInterceptors) {
-                if (!i.after()) {
+                if (!observeAfter(i)) {
                     if (request.getAttribute(INTERCEPTOR_RENDERED_VIEW)) {
                         ModelAndView interceptorsModelAndView = i.modelAndView
                         modelAndView.viewName = interceptorsModelAndView.viewName
@@ -112,6 +133,49 @@ class GrailsInterceptorHandlerInterceptorAdapter implements HandlerInterceptor {
         }
     }
 
+    protected boolean observeBefore(Interceptor interceptor) {
+        if (observationRegistry.isNoop()) {
+            return interceptor.before()
+        }
+        Observation observation = startObservation(interceptor, 'before')
+        try {
+            return interceptor.before()
+        }
+        catch (Throwable e) {
+            observation.error(e)
+            throw e
+        }
+        finally {
+            observation.stop()
+        }
+    }
+
+    protected boolean observeAfter(Interceptor interceptor) {
+        if (observationRegistry.isNoop()) {
+            return interceptor.after()
+        }
+        Observation observation = startObservation(interceptor, 'after')
+        try {
+            return interceptor.after()
+        }
+        catch (Throwable e) {
+            observation.error(e)
+            throw e
+        }
+        finally {
+            observation.stop()
+        }
+    }
+
+    private Observation startObservation(Interceptor interceptor, String phase) {
+        String name = interceptorNames.get(interceptor) ?:
+                GrailsNameUtils.getLogicalPropertyName(interceptor.getClass().name, 'Interceptor')
+        Observation.createNotStarted(INTERCEPTOR_OBSERVATION_NAME, observationRegistry)
+                .lowCardinalityKeyValue('interceptor', name)
+                .lowCardinalityKeyValue('phase', phase)
+                .start()
+    }
+
     @Override
     void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) throws Exception {
         // Attempting to find an existing exception in the request
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.boot.actuate.autoconfigure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationPredicate;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import grails.config.Settings;
+
+import org.grails.boot.actuate.metrics.MaximumMetersMeterFilter;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for the metrics of the observations of the request pipeline,
+ * which are named with the {@code grails.} prefix and recorded as timers by the observation handler
+ * of Spring Boot.
+ *
+ * <p>The number of meters of every name is bounded by {@code grails.metrics.maxTagValues}, and the observations
+ * can be disabled with {@code grails.metrics.enabled=false}.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@AutoConfiguration(after = MetricsAutoConfiguration.class)
+@ConditionalOnClass(MeterRegistry.class)
+public class GrailsMetricsAutoConfiguration {
+
+    public static final String METER_NAME_PREFIX = "grails.";
+
+    public static final int DEFAULT_MAX_TAG_VALUES = 100;
+
+    @Bean
+    public MaximumMetersMeterFilter grailsMaximumMetersMeterFilter(Environment environment) {
+        int maximumMeters = environment.getProperty(Settings.METRICS_MAX_TAG_VALUES, Integer.class, DEFAULT_MAX_TAG_VALUES);
+        return new MaximumMetersMeterFilter(METER_NAME_PREFIX, maximumMeters);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = Settings.METRICS_ENABLED, havingValue = "false")
+    public ObservationPredicate grailsObservationPredicate() {
+        return (name, context) -> !name.startsWith(METER_NAME_PREFIX);
+    }
+
+}
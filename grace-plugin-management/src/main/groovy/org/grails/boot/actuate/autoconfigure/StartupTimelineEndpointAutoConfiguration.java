@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.boot.actuate.autoconfigure;
+
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+
+import org.grails.boot.actuate.endpoint.StartupTimelineEndpoint;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for the {@link StartupTimelineEndpoint}.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@AutoConfiguration
+@ConditionalOnAvailableEndpoint(endpoint = StartupTimelineEndpoint.class)
+public class StartupTimelineEndpointAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public StartupTimelineEndpoint startupTimelineEndpoint(ConfigurableApplicationContext applicationContext) {
+        return new StartupTimelineEndpoint(applicationContext.getApplicationStartup());
+    }
+
+}
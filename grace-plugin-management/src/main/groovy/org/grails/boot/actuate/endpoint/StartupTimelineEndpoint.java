@@ -0,0 +1,172 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.boot.actuate.endpoint;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link Endpoint @Endpoint} to expose the startup steps of the application as a tree,
+ * the children of each step are sorted by their start time, or by their duration
+ * with the slowest first if the {@code sort} parameter is {@code duration}.
+ *
+ * <p>Unlike the startup endpoint of Spring Boot, reading the timeline does not drain the buffer.
+ * The steps are only recorded if the application uses a {@link BufferingApplicationStartup},
+ * see {@code grails.startup.timeline.enabled}.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@Endpoint(id = "startuptimeline")
+public class StartupTimelineEndpoint {
+
+    public static final String SORT_BY_DURATION = "duration";
+
+    private final ApplicationStartup applicationStartup;
+
+    public StartupTimelineEndpoint(ApplicationStartup applicationStartup) {
+        this.applicationStartup = applicationStartup;
+    }
+
+    @ReadOperation
+    public StartupTimelineDescriptor timeline(@Nullable String sort) {
+        if (!(this.applicationStartup instanceof BufferingApplicationStartup)) {
+            return new StartupTimelineDescriptor(null, Collections.emptyList());
+        }
+
+        StartupTimeline timeline = ((BufferingApplicationStartup) this.applicationStartup).getBufferedTimeline();
+        Map<Long, StepDescriptor> steps = new LinkedHashMap<>();
+        for (StartupTimeline.TimelineEvent event : timeline.getEvents()) {
+            steps.put(event.getStartupStep().getId(), new StepDescriptor(event));
+        }
+
+        List<StepDescriptor> roots = new ArrayList<>();
+        for (StepDescriptor step : steps.values()) {
+            StepDescriptor parent = step.parentId != null ? steps.get(step.parentId) : null;
+            if (parent != null) {
+                parent.children.add(step);
+            }
+            else {
+                roots.add(step);
+            }
+        }
+
+        Comparator<StepDescriptor> comparator = SORT_BY_DURATION.equals(sort) ?
+                Comparator.comparingLong(StepDescriptor::getDuration).reversed() :
+                Comparator.comparing(StepDescriptor::getStartTime);
+        sort(roots, comparator);
+        return new StartupTimelineDescriptor(timeline.getStartTime(), roots);
+    }
+
+    private static void sort(List<StepDescriptor> steps, Comparator<StepDescriptor> comparator) {
+        steps.sort(comparator);
+        for (StepDescriptor step : steps) {
+            sort(step.children, comparator);
+        }
+    }
+
+    public static final class StartupTimelineDescriptor {
+
+        private final Instant startTime;
+
+        private final List<StepDescriptor> steps;
+
+        StartupTimelineDescriptor(Instant startTime, List<StepDescriptor> steps) {
+            this.startTime = startTime;
+            this.steps = steps;
+        }
+
+        public Instant getStartTime() {
+            return this.startTime;
+        }
+
+        public List<StepDescriptor> getSteps() {
+            return this.steps;
+        }
+
+    }
+
+    public static final class StepDescriptor {
+
+        private final long id;
+
+        private final Long parentId;
+
+        private final String name;
+
+        private final Map<String, String> tags = new LinkedHashMap<>();
+
+        private final Instant startTime;
+
+        private final long duration;
+
+        private final List<StepDescriptor> children = new ArrayList<>();
+
+        StepDescriptor(StartupTimeline.TimelineEvent event) {
+            StartupStep step = event.getStartupStep();
+            this.id = step.getId();
+            this.parentId = step.getParentId();
+            this.name = step.getName();
+            for (StartupStep.Tag tag : step.getTags()) {
+                this.tags.put(tag.getKey(), tag.getValue());
+            }
+            this.startTime = event.getStartTime();
+            this.duration = event.getDuration().toMillis();
+        }
+
+        public long getId() {
+            return this.id;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public Map<String, String> getTags() {
+            return this.tags;
+        }
+
+        public Instant getStartTime() {
+            return this.startTime;
+        }
+
+        /**
+         * @return The duration in milliseconds
+         */
+        public long getDuration() {
+            return this.duration;
+        }
+
+        public List<StepDescriptor> getChildren() {
+            return this.children;
+        }
+
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.boot.actuate.metrics;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.config.MeterFilterReply;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link MeterFilter} that bounds the number of meters, the distinct combinations of tag values,
+ * of every meter name with the given prefix, so that tag values such as view or renderer names
+ * cannot grow the registry without limit. The meters beyond the maximum are denied, and a warning
+ * is logged once for each meter name.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+public class MaximumMetersMeterFilter implements MeterFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(MaximumMetersMeterFilter.class);
+
+    private final String namePrefix;
+
+    private final int maximumMeters;
+
+    private final Map<String, Set<Meter.Id>> meterIds = new ConcurrentHashMap<>();
+
+    private final Set<String> reachedNames = ConcurrentHashMap.newKeySet();
+
+    public MaximumMetersMeterFilter(String namePrefix, int maximumMeters) {
+        this.namePrefix = namePrefix;
+        this.maximumMeters = maximumMeters;
+    }
+
+    @Override
+    public MeterFilterReply accept(Meter.Id id) {
+        String name = id.getName();
+        if (!name.startsWith(this.namePrefix)) {
+            return MeterFilterReply.NEUTRAL;
+        }
+        Set<Meter.Id> ids = this.meterIds.computeIfAbsent(name, key -> ConcurrentHashMap.newKeySet());
+        if (ids.contains(id)) {
+            return MeterFilterReply.NEUTRAL;
+        }
+        synchronized (ids) {
+            if (ids.size() < this.maximumMeters) {
+                ids.add(id);
+                return MeterFilterReply.NEUTRAL;
+            }
+        }
+        if (this.reachedNames.add(name) && logger.isWarnEnabled()) {
+            logger.warn("Reached the maximum of {} meters named '{}', the meters with further tag values are denied",
+                    this.maximumMeters, name);
+        }
+        return MeterFilterReply.DENY;
+    }
+
+    /**
+     * Whether meters named with the given name have been denied, once it has its maximum of meters
+     *
+     * @param name The meter name
+     * @return true if the maximum has been reached
+     */
+    public boolean isMaximumReached(String name) {
+        return this.reachedNames.contains(name);
+    }
+
+}
@@ -0,0 +1,35 @@
+package org.grails.boot.actuate.autoconfigure
+
+import io.micrometer.observation.Observation
+import io.micrometer.observation.ObservationPredicate
+import org.springframework.boot.autoconfigure.AutoConfigurations
+import org.springframework.boot.test.context.runner.ApplicationContextRunner
+import spock.lang.Specification
+
+import org.grails.boot.actuate.metrics.MaximumMetersMeterFilter
+
+class GrailsMetricsAutoConfigurationSpec extends Specification {
+
+    ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(GrailsMetricsAutoConfiguration))
+
+    void "test the observations are enabled by default"() {
+        expect:
+        contextRunner.run { context ->
+            assert context.getBeansOfType(ObservationPredicate).isEmpty()
+            assert context.getBean(MaximumMetersMeterFilter)
+        }
+    }
+
+    void "test the observations of Grails are disabled by grails.metrics.enabled=false"() {
+        expect:
+        contextRunner.withPropertyValues('grails.metrics.enabled=false').run { context ->
+            ObservationPredicate predicate = context.getBean(ObservationPredicate)
+            Observation.Context observationContext = new Observation.Context()
+            assert !predicate.test('grails.url.match', observationContext)
+            assert !predicate.test('grails.controller.action', observationContext)
+            assert predicate.test('http.server.requests', observationContext)
+        }
+    }
+
+}
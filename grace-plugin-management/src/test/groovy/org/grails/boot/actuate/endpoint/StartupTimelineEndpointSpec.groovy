@@ -0,0 +1,74 @@
+package org.grails.boot.actuate.endpoint
+
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup
+import org.springframework.core.metrics.ApplicationStartup
+import org.springframework.core.metrics.StartupStep
+import spock.lang.Specification
+
+class StartupTimelineEndpointSpec extends Specification {
+
+    BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(100)
+
+    void setup() {
+        StartupStep parent = applicationStartup.start('grails.application.bean-definitions.plugins')
+        StartupStep fast = applicationStartup.start('grails.plugins.doWithSpring').tag('plugin', 'core')
+        fast.end()
+        StartupStep slow = applicationStartup.start('grails.plugins.doWithSpring').tag('plugin', 'gsp')
+        sleep 20
+        slow.end()
+        parent.end()
+        applicationStartup.start('grails.application.artefacts.registered').tag('classCount', '3').end()
+    }
+
+    void "test the steps are rendered as a tree sorted by start time"() {
+        given:
+        StartupTimelineEndpoint endpoint = new StartupTimelineEndpoint(applicationStartup)
+
+        when:
+        def timeline = endpoint.timeline(null)
+
+        then:
+        timeline.startTime == applicationStartup.bufferedTimeline.startTime
+        timeline.steps*.name == ['grails.application.bean-definitions.plugins', 'grails.application.artefacts.registered']
+        timeline.steps[0].children*.name == ['grails.plugins.doWithSpring'] * 2
+        timeline.steps[0].children*.tags == [[plugin: 'core'], [plugin: 'gsp']]
+        timeline.steps[1].tags == [classCount: '3']
+        timeline.steps[1].children.isEmpty()
+    }
+
+    void "test the children are sorted by duration with the slowest first"() {
+        given:
+        StartupTimelineEndpoint endpoint = new StartupTimelineEndpoint(applicationStartup)
+
+        when:
+        def timeline = endpoint.timeline(StartupTimelineEndpoint.SORT_BY_DURATION)
+
+        then:
+        timeline.steps[0].name == 'grails.application.bean-definitions.plugins'
+        timeline.steps[0].children*.tags*.plugin == ['gsp', 'core']
+        timeline.steps[0].children[0].duration >= 20
+    }
+
+    void "test reading the timeline does not drain the buffer"() {
+        given:
+        StartupTimelineEndpoint endpoint = new StartupTimelineEndpoint(applicationStartup)
+
+        expect:
+        endpoint.timeline(null).steps.size() == 2
+        endpoint.timeline(null).steps.size() == 2
+        applicationStartup.bufferedTimeline.events.size() == 4
+    }
+
+    void "test the timeline is empty unless the steps are buffered"() {
+        given:
+        StartupTimelineEndpoint endpoint = new StartupTimelineEndpoint(ApplicationStartup.DEFAULT)
+
+        when:
+        def timeline = endpoint.timeline(null)
+
+        then:
+        timeline.startTime == null
+        timeline.steps.isEmpty()
+    }
+
+}
@@ -0,0 +1,67 @@
+package org.grails.boot.actuate.metrics
+
+import io.micrometer.core.instrument.Meter
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Tags
+import io.micrometer.core.instrument.config.MeterFilterReply
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import spock.lang.Specification
+
+class MaximumMetersMeterFilterSpec extends Specification {
+
+    MaximumMetersMeterFilter filter = new MaximumMetersMeterFilter('grails.', 2)
+
+    MeterRegistry registry = new SimpleMeterRegistry()
+
+    void setup() {
+        registry.config().meterFilter(filter)
+    }
+
+    void "test meters beyond the maximum of a name are denied"() {
+        when:
+        ['index', 'show', 'list'].each { String view ->
+            registry.counter('grails.view', 'view', view).increment()
+        }
+        registry.counter('grails.renderer', 'renderer', 'json').increment()
+
+        then:
+        registry.find('grails.view').counters()*.id*.getTag('view') as Set == ['index', 'show'] as Set
+        registry.find('grails.renderer').counters().size() == 1
+    }
+
+    void "test meters already registered and meters of other names are accepted"() {
+        when:
+        3.times {
+            registry.counter('grails.view', 'view', 'index').increment()
+            registry.counter('grails.view', 'view', 'show').increment()
+        }
+        ['a', 'b', 'c'].each { String uri ->
+            registry.counter('http.server.requests', 'uri', uri).increment()
+        }
+
+        then:
+        registry.find('grails.view').counters()*.count() == [3d, 3d]
+        registry.find('http.server.requests').counters().size() == 3
+    }
+
+    void "test reaching the maximum of a name is recorded once for that name"() {
+        when:
+        ['index', 'show'].each { String view ->
+            registry.counter('grails.view', 'view', view)
+        }
+
+        then:
+        !filter.isMaximumReached('grails.view')
+
+        when:
+        List<MeterFilterReply> replies = ['list', 'edit', 'create'].collect { String view ->
+            filter.accept(new Meter.Id('grails.view', Tags.of('view', view), null, null, Meter.Type.COUNTER))
+        }
+
+        then:
+        replies == [MeterFilterReply.DENY] * 3
+        filter.isMaximumReached('grails.view')
+        !filter.isMaximumReached('grails.renderer')
+    }
+
+}
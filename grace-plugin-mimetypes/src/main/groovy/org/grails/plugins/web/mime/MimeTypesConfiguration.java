@@ -36,6 +36,7 @@ import grails.web.mime.MimeUtility;
 
 import org.grails.web.mime.DefaultMimeTypeResolver;
 import org.grails.web.mime.DefaultMimeUtility;
+import org.grails.web.mime.MimeTypeNegotiationCache;
 
 /**
  * Configuration for Codecs
@@ -100,6 +101,13 @@ public class MimeTypesConfiguration {
         return new DefaultMimeUtility(mimeTypesHolder.getIfAvailable().getMimeTypes());
     }
 
+    @Bean
+    public MimeTypeNegotiationCache mimeTypeNegotiationCache(ObjectProvider<MimeTypesHolder> mimeTypesHolder) {
+        int maximumSize = this.grailsApplication.getConfig().getProperty(Settings.MIME_NEGOTIATION_CACHE_MAX_SIZE,
+                Integer.class, MimeTypeNegotiationCache.DEFAULT_MAXIMUM_SIZE);
+        return new MimeTypeNegotiationCache(mimeTypesHolder.getIfAvailable().getMimeTypes(), maximumSize);
+    }
+
     @Bean
     @Primary
     public MimeTypeResolver mimeTypeResolver() {
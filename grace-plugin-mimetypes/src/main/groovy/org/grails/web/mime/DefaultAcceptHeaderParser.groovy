@@ -35,6 +35,8 @@ class DefaultAcceptHeaderParser implements AcceptHeaderParser {
 
     static final Log logger = LogFactory.getLog(DefaultAcceptHeaderParser)
 
+    private static final QualityComparator QUALITY_COMPARATOR = new QualityComparator()
+
     MimeType[] configuredMimeTypes
 
     DefaultAcceptHeaderParser() {
@@ -45,7 +47,6 @@ class DefaultAcceptHeaderParser implements AcceptHeaderParser {
     }
 
     MimeType[] parse(String header, MimeType fallbackMimeType = null) {
-        List<MimeType> mimes = []
         MimeType[] mimeConfig = configuredMimeTypes
         if (!mimeConfig) {
             if (logger.isDebugEnabled()) {
@@ -58,29 +59,16 @@ class DefaultAcceptHeaderParser implements AcceptHeaderParser {
             return mimeConfig
         }
 
-        String[] tokens = header.split(',')
-        for (String t in tokens) {
-            if (t.indexOf(';') > -1) {
-                List tokenWithArgs = t.split(';').toList()
-                Map<String, String> params = [:]
-                List<String> paramsList = tokenWithArgs.size() > 1 ? tokenWithArgs[1..-1] : []
-                paramsList.each { it ->
-                    String theString = it as String
-                    int i = theString.indexOf('=')
-                    if (i > -1) {
-                        params[theString[0..i - 1].trim()] = theString[i + 1..-1].trim()
-                    }
-                }
-                if (params) {
-                    createMimeTypeAndAddToList(tokenWithArgs[0].trim(), mimeConfig, mimes, params)
-                }
-                else {
-                    createMimeTypeAndAddToList(tokenWithArgs[0].trim(), mimeConfig, mimes)
-                }
-            }
-            else {
-                createMimeTypeAndAddToList(t.trim(), mimeConfig, mimes)
+        List<MimeType> mimes = new ArrayList<>()
+        int length = header.length()
+        int start = 0
+        while (start < length) {
+            int end = header.indexOf(',', start)
+            if (end == -1) {
+                end = length
             }
+            parseMediaRange(header, start, end, mimeConfig, mimes)
+            start = end + 1
         }
 
         if (!mimes) {
@@ -89,8 +77,16 @@ class DefaultAcceptHeaderParser implements AcceptHeaderParser {
         }
 
         // remove duplicate text/xml and application/xml entries
-        MimeType textXml = mimes.find { MimeType it -> it.name == 'text/xml' }
-        MimeType appXml = mimes.find { MimeType it -> it.name == MimeType.XML.name }
+        MimeType textXml = null
+        MimeType appXml = null
+        for (MimeType mime in mimes) {
+            if (textXml == null && mime.name == 'text/xml') {
+                textXml = mime
+            }
+            else if (appXml == null && mime.name == MimeType.XML.name) {
+                appXml = mime
+            }
+        }
         if (textXml && appXml) {
             // take the largest q value
             appXml.parameters.q = [textXml.qualityAsNumber, appXml.qualityAsNumber].max()
@@ -103,7 +99,12 @@ class DefaultAcceptHeaderParser implements AcceptHeaderParser {
 
         if (appXml) {
             // prioritise more specific XML types like xhtml+xml if they are of equal quality
-            List<MimeType> specificTypes = mimes.findAll { MimeType it -> it.name ==~ /\S+?\+xml$/ }
+            List<MimeType> specificTypes = []
+            for (MimeType mime in mimes) {
+                if (isSpecificXmlType(mime.name)) {
+                    specificTypes << mime
+                }
+            }
             int appXmlIndex = mimes.indexOf(appXml)
             BigDecimal appXmlQuality = appXml.qualityAsNumber
             for (mime in specificTypes) {
@@ -118,25 +119,91 @@ class DefaultAcceptHeaderParser implements AcceptHeaderParser {
                 }
             }
         }
-        mimes.sort(true, new QualityComparator())
-        mimes as MimeType[]
+        mimes.sort(true, QUALITY_COMPARATOR)
+        mimes.toArray(new MimeType[mimes.size()])
+    }
+
+    /**
+     * Parses a single media range of the header between the given indexes, without splitting the header.
+     */
+    protected void parseMediaRange(String header, int start, int end, MimeType[] mimeConfig, List<MimeType> mimes) {
+        int semicolon = indexOf(header, (char) ';', start, end)
+        if (semicolon == -1) {
+            createMimeTypeAndAddToList(header.substring(start, end).trim(), mimeConfig, mimes)
+            return
+        }
+
+        String name = header.substring(start, semicolon).trim()
+        Map<String, String> params = null
+        int paramStart = semicolon + 1
+        while (paramStart < end) {
+            int paramEnd = indexOf(header, (char) ';', paramStart, end)
+            if (paramEnd == -1) {
+                paramEnd = end
+            }
+            int equals = indexOf(header, (char) '=', paramStart, paramEnd)
+            if (equals > -1) {
+                if (params == null) {
+                    params = new LinkedHashMap<>()
+                }
+                params.put(header.substring(paramStart, equals).trim(), header.substring(equals + 1, paramEnd).trim())
+            }
+            paramStart = paramEnd + 1
+        }
+        createMimeTypeAndAddToList(name, mimeConfig, mimes, params)
     }
 
     protected void createMimeTypeAndAddToList(String name, MimeType[] mimeConfig, List<MimeType> mimes, Map<String, String> params = null) {
+        if (!name) {
+            return
+        }
         MimeType mime = params ? new MimeType(name, params) : new MimeType(name)
         //First try to find the exact match for the mime type using name and version. If version is not set,  consider
         // version match to be successful.
-        MimeType foundMime = mimeConfig.find { MimeType mt ->
-            mt.name == name && (!mime.version || mt.version == mime.version)
+        String version = mime.version
+        MimeType foundMime = null
+        for (MimeType mt in mimeConfig) {
+            if (mt.name == name && (!version || mt.version == version)) {
+                foundMime = mt
+                break
+            }
         }
         //Fallback: Try to find match using the name (if version match is not found).
-        foundMime = foundMime ?: mimeConfig.find { MimeType mt -> mt.name == name }
+        if (foundMime == null && version) {
+            for (MimeType mt in mimeConfig) {
+                if (mt.name == name) {
+                    foundMime = mt
+                    break
+                }
+            }
+        }
         if (foundMime) {
             mime.extension = foundMime.extension
             mimes << mime
         }
     }
 
+    private static int indexOf(String str, char ch, int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (str.charAt(i) == ch) {
+                return i
+            }
+        }
+        -1
+    }
+
+    private static boolean isSpecificXmlType(String name) {
+        if (name.length() <= 4 || !name.endsWith('+xml')) {
+            return false
+        }
+        for (int i = 0; i < name.length() - 4; i++) {
+            if (Character.isWhitespace(name.charAt(i))) {
+                return false
+            }
+        }
+        true
+    }
+
 }
 
 @CompileStatic
@@ -23,7 +23,6 @@ import org.springframework.web.context.support.WebApplicationContextUtils
 
 import grails.web.http.HttpHeaders
 import grails.web.mime.MimeType
-import grails.web.mime.MimeUtility
 
 import org.grails.plugins.web.api.MimeTypesApiSupport
 import org.grails.web.util.GrailsApplicationAttributes
@@ -73,12 +72,15 @@ class HttpServletRequestExtension {
         MimeType[] result = (MimeType[]) request.getAttribute(GrailsApplicationAttributes.REQUEST_FORMATS)
         if (!result) {
             WebApplicationContext context = WebApplicationContextUtils.getWebApplicationContext(request.servletContext)
-            MimeType[] mimeTypes = context != null ? context.getBean(MimeUtility).getKnownMimeTypes() as MimeType[] :
-                    MimeType.getConfiguredMimeTypes()
-            def parser = new DefaultAcceptHeaderParser(mimeTypes)
             String header = request.contentType
             header = header ?: request.getHeader(HttpHeaders.CONTENT_TYPE)
-            result = parser.parse(header, header ? new MimeType(header) : MimeType.HTML)
+            if (context != null) {
+                result = MimeTypeNegotiationCache.lookup(context).getRequestMimeTypes(header)
+            }
+            else {
+                def parser = new DefaultAcceptHeaderParser(MimeType.getConfiguredMimeTypes())
+                result = parser.parse(header, header ? new MimeType(header) : MimeType.HTML)
+            }
 
             request.setAttribute(GrailsApplicationAttributes.REQUEST_FORMATS, result)
         }
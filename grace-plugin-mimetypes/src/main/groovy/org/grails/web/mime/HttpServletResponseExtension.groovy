@@ -59,11 +59,11 @@ class HttpServletResponseExtension {
 
     static MimeTypesApiSupport apiSupport = new MimeTypesApiSupport()
 
-    private static MimeType[] mimeTypes
+    private static MimeTypeNegotiationCache negotiationCache
 
     static {
         ShutdownOperations.addOperation({
-            mimeTypes = null
+            negotiationCache = null
             useDefaultConfig()
         }, true)
     }
@@ -76,25 +76,35 @@ class HttpServletResponseExtension {
 
     @CompileStatic
     static MimeType[] getMimeTypes() {
-        if (mimeTypes == null) {
+        getNegotiationCache().mimeTypes
+    }
+
+    /**
+     * Obtains the cache of negotiated mime types, resolved from the application context on first use
+     *
+     * @return The negotiation cache
+     */
+    @CompileStatic
+    static MimeTypeNegotiationCache getNegotiationCache() {
+        if (negotiationCache == null) {
             GrailsWebRequest webRequest = GrailsWebRequest.lookup()
 
             ApplicationContext context = webRequest.applicationContext
             if (context) {
                 try {
-                    mimeTypes = context.getBean(MimeUtility).getKnownMimeTypes() as MimeType[]
+                    negotiationCache = MimeTypeNegotiationCache.lookup(context)
                     loadMimeTypeConfig(context.getBean(GrailsApplication).config)
                 }
                 catch (NoSuchBeanDefinitionException ignored) {
-                    mimeTypes = MimeType.createDefaults()
+                    negotiationCache = new MimeTypeNegotiationCache(MimeType.createDefaults())
                 }
             }
             else {
-                mimeTypes = MimeType.createDefaults()
+                negotiationCache = new MimeTypeNegotiationCache(MimeType.createDefaults())
             }
         }
 
-        mimeTypes
+        negotiationCache
     }
 
     /**
@@ -138,9 +148,8 @@ class HttpServletResponseExtension {
             formatOverride = formatOverride ?: request.getAttribute(GrailsApplicationAttributes.RESPONSE_FORMAT)
 
             if (formatOverride) {
-                MimeType[] allMimes = getMimeTypes()
-                MimeType mime = allMimes?.find { MimeType it -> it.extension == formatOverride }
-                result = mime ?: allMimes?.find { it }
+                MimeType[] formatMimes = getNegotiationCache().getFormatMimeTypes(formatOverride.toString())
+                result = formatMimes ? formatMimes[0] : null
 
                 // Save the evaluated format as a request attribute.
                 // This is a blatant hack because we should to this
@@ -187,9 +196,7 @@ class HttpServletResponseExtension {
             formatOverride = formatOverride ?: request.getAttribute(GrailsApplicationAttributes.RESPONSE_FORMAT)
 
             if (formatOverride) {
-                MimeType[] allMimes = getMimeTypes()
-                MimeType mime = allMimes.find { MimeType it -> it.extension == formatOverride }
-                result = [mime ?: getMimeTypes()[0]] as MimeType[]
+                result = getNegotiationCache().getFormatMimeTypes(formatOverride.toString())
 
                 // Save the evaluated format as a request attribute.
                 // This is a blatant hack because we should to this
@@ -253,7 +260,6 @@ class HttpServletResponseExtension {
             String userAgent = request.getHeader(HttpHeaders.USER_AGENT)
             boolean msie = userAgent && userAgent ==~ /msie(?i)/ ?: false
 
-            def parser = new DefaultAcceptHeaderParser(getMimeTypes())
             String header = null
 
             boolean disabledForUserAgent = !(useAcceptHeaderXhr && isAjaxRequest(request)) && disableForUserAgents != null &&
@@ -264,19 +270,7 @@ class HttpServletResponseExtension {
             if (!header && useAcceptHeader && !disabledForUserAgent) {
                 header = request.getHeader(HttpHeaders.ACCEPT)
             }
-            result = parser.parse(header)
-
-            // GRAILS-8341 - If no header the parser would have returned all configured mime types.  Since no format
-            // was specified in the request we look for the 'all' format and return that if found.  If 'all' is
-            // not found the fallback behavior is to return all configured mime types from the parser.
-            if (!header) {
-                for (mime in result) {
-                    if (mime.extension == 'all') {
-                        result = [mime] as MimeType[]
-                        break
-                    }
-                }
-            }
+            result = getNegotiationCache().getResponseMimeTypes(header)
 
             request.setAttribute(GrailsApplicationAttributes.RESPONSE_FORMATS, result)
         }
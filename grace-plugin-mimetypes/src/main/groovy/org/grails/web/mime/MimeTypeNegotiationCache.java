@@ -0,0 +1,219 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.web.mime;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.context.ApplicationContext;
+
+import grails.web.mime.MimeType;
+import grails.web.mime.MimeUtility;
+
+/**
+ * A bounded cache of negotiated {@link MimeType} arrays, keyed by the Content-Type header of the request,
+ * the effective Accept header of the response or the explicit response format (the format parameter or
+ * the URI extension). Real traffic only has a few hundred distinct headers, so after warm up content
+ * negotiation does not need to parse any header.
+ *
+ * <p>Every lookup returns a copy of the cached mime types, which are mutable, so that a request
+ * can not change the mime types negotiated for other requests.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+public class MimeTypeNegotiationCache {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 500;
+
+    private static final int REQUEST = 0;
+
+    private static final int RESPONSE = 1;
+
+    private static final int FORMAT = 2;
+
+    private final MimeType[] mimeTypes;
+
+    private final DefaultAcceptHeaderParser parser;
+
+    private final Cache<Key, MimeType[]> cache;
+
+    public MimeTypeNegotiationCache(MimeType[] mimeTypes) {
+        this(mimeTypes, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public MimeTypeNegotiationCache(MimeType[] mimeTypes, int maximumSize) {
+        this.mimeTypes = mimeTypes;
+        this.parser = new DefaultAcceptHeaderParser(mimeTypes);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Obtains the negotiation cache registered in the given application context, falling back to a new
+     * instance for the known mime types of the {@link MimeUtility} if none is registered
+     *
+     * @param context The application context
+     * @return The negotiation cache
+     */
+    public static MimeTypeNegotiationCache lookup(ApplicationContext context) {
+        MimeTypeNegotiationCache negotiationCache = context.getBeanProvider(MimeTypeNegotiationCache.class).getIfAvailable();
+        if (negotiationCache != null) {
+            return negotiationCache;
+        }
+        List<MimeType> knownMimeTypes = context.getBean(MimeUtility.class).getKnownMimeTypes();
+        return new MimeTypeNegotiationCache(knownMimeTypes.toArray(new MimeType[0]));
+    }
+
+    /**
+     * Obtains the mime types for the Content-Type header of a request
+     *
+     * @param contentType The Content-Type header, can be null
+     * @return The negotiated mime types
+     */
+    public MimeType[] getRequestMimeTypes(String contentType) {
+        return copyOf(this.cache.get(new Key(REQUEST, contentType), key -> this.parser.parse(contentType,
+                contentType != null && !contentType.isEmpty() ? new MimeType(contentType) : MimeType.HTML)));
+    }
+
+    /**
+     * Obtains the mime types for the effective Accept header of a response
+     *
+     * @param acceptHeader The Accept header, can be null if the header is missing or disabled for the user agent
+     * @return The negotiated mime types
+     */
+    public MimeType[] getResponseMimeTypes(String acceptHeader) {
+        return copyOf(this.cache.get(new Key(RESPONSE, acceptHeader), key -> {
+            MimeType[] result = this.parser.parse(acceptHeader);
+            // GRAILS-8341 - If no header the parser would have returned all configured mime types.  Since no format
+            // was specified in the request we look for the 'all' format and return that if found.  If 'all' is
+            // not found the fallback behavior is to return all configured mime types from the parser.
+            if (acceptHeader == null || acceptHeader.isEmpty()) {
+                for (MimeType mime : result) {
+                    if ("all".equals(mime.getExtension())) {
+                        return new MimeType[] { mime };
+                    }
+                }
+            }
+            return result;
+        }));
+    }
+
+    /**
+     * Obtains the mime type for an explicit response format, the first configured mime type is used
+     * if the format is unknown
+     *
+     * @param format The format, such as the format parameter or the URI extension
+     * @return A single element array with the mime type or an empty array if no mime types are configured
+     */
+    public MimeType[] getFormatMimeTypes(String format) {
+        return copyOf(this.cache.get(new Key(FORMAT, format), key -> {
+            for (MimeType mime : this.mimeTypes) {
+                if (Objects.equals(mime.getExtension(), format)) {
+                    return new MimeType[] { mime };
+                }
+            }
+            return this.mimeTypes.length > 0 ? new MimeType[] { this.mimeTypes[0] } : new MimeType[0];
+        }));
+    }
+
+    /**
+     * @return The configured mime types
+     */
+    public MimeType[] getMimeTypes() {
+        return this.mimeTypes;
+    }
+
+    /**
+     * @return The number of lookups that did not need to negotiate
+     */
+    public long getHitCount() {
+        return this.cache.stats().hitCount();
+    }
+
+    /**
+     * @return The number of lookups that negotiated the mime types
+     */
+    public long getMissCount() {
+        return this.cache.stats().missCount();
+    }
+
+    /**
+     * @return The ratio of lookups that did not need to negotiate
+     */
+    public double getHitRate() {
+        return this.cache.stats().hitRate();
+    }
+
+    /**
+     * @return The approximate number of cached entries
+     */
+    public long size() {
+        return this.cache.estimatedSize();
+    }
+
+    public void clearCache() {
+        this.cache.invalidateAll();
+    }
+
+    private static MimeType[] copyOf(MimeType[] mimeTypes) {
+        MimeType[] copy = new MimeType[mimeTypes.length];
+        for (int i = 0; i < mimeTypes.length; i++) {
+            MimeType mime = mimeTypes[i];
+            copy[i] = new MimeType(mime.getName(), mime.getExtension(), new LinkedHashMap<>(mime.getParameters()));
+        }
+        return copy;
+    }
+
+    private static final class Key {
+
+        private final int type;
+
+        private final String value;
+
+        private final int hashCode;
+
+        Key(int type, String value) {
+            this.type = type;
+            this.value = value;
+            this.hashCode = 31 * type + (value != null ? value.hashCode() : 0);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return this.type == other.type && Objects.equals(this.value, other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+    }
+
+}
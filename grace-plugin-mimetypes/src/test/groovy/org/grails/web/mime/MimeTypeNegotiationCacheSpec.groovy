@@ -0,0 +1,80 @@
+package org.grails.web.mime
+
+import grails.web.mime.MimeType
+import spock.lang.Specification
+
+class MimeTypeNegotiationCacheSpec extends Specification {
+
+    MimeType[] mimeTypes = [
+            new MimeType('text/html', 'html'),
+            new MimeType('application/xml', 'xml'),
+            new MimeType('application/json', 'json'),
+            new MimeType('*/*', 'all')
+    ] as MimeType[]
+
+    void "Test negotiated accept headers are cached"() {
+        given:
+        def cache = new MimeTypeNegotiationCache(mimeTypes)
+
+        when:
+        MimeType[] first = cache.getResponseMimeTypes('application/json,text/html;q=0.9')
+        MimeType[] second = cache.getResponseMimeTypes('application/json,text/html;q=0.9')
+
+        then:
+        first*.extension == ['json', 'html']
+        second == first
+        cache.hitCount == 1
+        cache.missCount == 1
+        cache.hitRate == 0.5d
+    }
+
+    void "Test the cached mime types can not be changed by a request"() {
+        given:
+        def cache = new MimeTypeNegotiationCache(mimeTypes)
+
+        when:
+        MimeType[] first = cache.getResponseMimeTypes('application/json,text/html;q=0.9')
+        first[0].extension = 'changed'
+        first[1].parameters.q = '0.1'
+        first[1] = null
+        MimeType[] second = cache.getResponseMimeTypes('application/json,text/html;q=0.9')
+
+        then:
+        !second.is(first)
+        second*.extension == ['json', 'html']
+        second[1].qualityAsNumber == 0.9
+    }
+
+    void "Test the 'all' format is used when there is no accept header"() {
+        given:
+        def cache = new MimeTypeNegotiationCache(mimeTypes)
+
+        expect:
+        cache.getResponseMimeTypes(null)*.extension == ['all']
+        cache.getResponseMimeTypes('')*.extension == ['all']
+    }
+
+    void "Test request content type and explicit formats"() {
+        given:
+        def cache = new MimeTypeNegotiationCache(mimeTypes)
+
+        expect:
+        cache.getRequestMimeTypes('application/xml; charset=UTF-8')*.extension == ['xml']
+        cache.getRequestMimeTypes(null)*.extension == ['html', 'xml', 'json', 'all']
+        cache.getFormatMimeTypes('json')*.extension == ['json']
+        cache.getFormatMimeTypes('unknown')*.extension == ['html']
+    }
+
+    void "Test the cache is bounded"() {
+        given:
+        def cache = new MimeTypeNegotiationCache(mimeTypes, 10)
+
+        when:
+        100.times { cache.getResponseMimeTypes("application/json;q=0.$it") }
+        cache.cache.cleanUp()
+
+        then:
+        cache.size() <= 10
+    }
+
+}
@@ -22,6 +22,8 @@ import groovy.transform.CompileStatic
 import groovy.transform.Generated
 import groovy.transform.TypeChecked
 import groovy.transform.TypeCheckingMode
+import io.micrometer.observation.Observation
+import io.micrometer.observation.ObservationRegistry
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.http.HttpStatus
 import org.springframework.validation.BeanPropertyBindingResult
@@ -55,6 +57,7 @@ trait RestResponder {
 
     private RendererRegistry rendererRegistry
     private ProxyHandler proxyHandler
+    private ObservationRegistry rendererObservationRegistry = ObservationRegistry.NOOP
 
     @Generated
     @Autowired(required = false)
@@ -78,6 +81,16 @@ trait RestResponder {
         this.proxyHandler
     }
 
+    /**
+     * Sets the registry of the observations of rendering with a {@link Renderer}, named {@code grails.renderer}
+     * and tagged by the renderer and the mime type, which are not observed by default
+     */
+    @Generated
+    @Autowired(required = false)
+    void setRendererObservationRegistry(ObservationRegistry rendererObservationRegistry) {
+        this.rendererObservationRegistry = rendererObservationRegistry
+    }
+
     /**
      * Same as {@link RestResponder#respond(java.lang.Object, java.util.Map)}, but here to support Groovy named arguments
      */
@@ -160,6 +173,7 @@ trait RestResponder {
         }
 
         Renderer<Object> renderer = null
+        MimeType rendererMimeType = null
 
         for (MimeType mimeType in mimeTypes) {
             if (mimeType == MimeType.ALL && formats) {
@@ -211,6 +225,7 @@ trait RestResponder {
             }
 
             if (renderer) {
+                rendererMimeType = mimeType
                 break
             }
         }
@@ -220,7 +235,7 @@ trait RestResponder {
             if (statusCode != null) {
                 context.setStatus(HttpStatus.valueOf(statusCode))
             }
-            renderer.render(value, context)
+            renderObserved(renderer, value, context, rendererMimeType)
             if (context.wasWrittenTo() && !response.isCommitted()) {
                 response.flushBuffer()
             }
@@ -229,6 +244,27 @@ trait RestResponder {
         callRender([status: statusCode ?: HttpStatus.NOT_ACCEPTABLE.value()])
     }
 
+    private void renderObserved(Renderer<Object> renderer, Object value, RenderContext context, MimeType mimeType) {
+        if (rendererObservationRegistry.isNoop()) {
+            renderer.render(value, context)
+            return
+        }
+        Observation observation = Observation.createNotStarted('grails.renderer', rendererObservationRegistry)
+                .lowCardinalityKeyValue('renderer', renderer.getClass().name)
+                .lowCardinalityKeyValue('mimeType', mimeType ? mimeType.name : 'UNKNOWN')
+                .start()
+        try {
+            renderer.render(value, context)
+        }
+        catch (Throwable e) {
+            observation.error(e)
+            throw e
+        }
+        finally {
+            observation.stop()
+        }
+    }
+
     private callRender(Map args) {
         ((ResponseRenderer) this).render args
     }
@@ -18,14 +18,19 @@ package org.grails.plugins.web.mapping;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.convert.DurationStyle;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.AsyncTaskExecutor;
 
 import grails.config.Config;
 import grails.config.Settings;
@@ -80,7 +85,7 @@ public class UrlMappingsPluginConfiguration {
             ObjectProvider<UrlMappingsHolder> urlMappingsHolderProvider,
             GrailsCorsConfiguration grailsCorsConfiguration) {
 
-        Config config = grailsApplicationProvider.getIfAvailable().getConfig();
+        Config config = grailsApplicationProvider.getObject().getConfig();
         boolean corsFilterEnabled = config.getProperty(Settings.SETTING_CORS_FILTER, Boolean.class, true);
 
         UrlMappingsHandlerMapping handlerMapping = new UrlMappingsHandlerMapping(urlMappingsHolderProvider.getIfAvailable());
@@ -94,7 +99,10 @@ public class UrlMappingsPluginConfiguration {
 
     @Bean
     public UrlMappingsInfoHandlerAdapter urlMappingsInfoHandlerAdapter(
+            ObjectProvider<GrailsApplication> grailsApplicationProvider,
             ObjectProvider<ActionResultTransformer> actionResultTransformerProvider,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) ObjectProvider<AsyncTaskExecutor> asyncTaskExecutorProvider,
+            ObjectProvider<ObservationRegistry> observationRegistryProvider,
             LinkGenerator grailsLinkGenerator) {
 
         List<ActionResultTransformer> actionResultTransformers = actionResultTransformerProvider
@@ -102,6 +110,13 @@ public class UrlMappingsPluginConfiguration {
         UrlMappingsInfoHandlerAdapter handlerAdapter = new UrlMappingsInfoHandlerAdapter();
         handlerAdapter.setActionResultTransformers(actionResultTransformers);
         handlerAdapter.setLinkGenerator(grailsLinkGenerator);
+        handlerAdapter.setAsyncTaskExecutor(asyncTaskExecutorProvider.getIfAvailable());
+        handlerAdapter.setObservationRegistry(observationRegistryProvider.getIfAvailable(() -> ObservationRegistry.NOOP));
+        String asyncRequestTimeout = grailsApplicationProvider.getObject().getConfig()
+                .getProperty(Settings.WEB_ASYNC_REQUEST_TIMEOUT);
+        if (asyncRequestTimeout != null) {
+            handlerAdapter.setAsyncRequestTimeout(DurationStyle.detectAndParse(asyncRequestTimeout).toMillis());
+        }
 
         return handlerAdapter;
     }
@@ -110,12 +125,14 @@ public class UrlMappingsPluginConfiguration {
     public UrlMappingsHolderFactoryBean grailsUrlMappingsHolder(
             ObjectProvider<GrailsApplication> grailsApplication,
             ObjectProvider<GrailsPluginManager> pluginManager,
-            ObjectProvider<UrlConverter> urlConverterProvider) {
+            ObjectProvider<UrlConverter> urlConverterProvider,
+            ObjectProvider<ObservationRegistry> observationRegistryProvider) {
 
         UrlMappingsHolderFactoryBean factoryBean = new UrlMappingsHolderFactoryBean();
         factoryBean.setGrailsApplication(grailsApplication.getIfAvailable());
         factoryBean.setPluginManager(pluginManager.getIfAvailable());
         factoryBean.setUrlConverter(urlConverterProvider.getIfAvailable());
+        factoryBean.setObservationRegistry(observationRegistryProvider.getIfAvailable(() -> ObservationRegistry.NOOP));
 
         return factoryBean;
     }
@@ -123,7 +140,7 @@ public class UrlMappingsPluginConfiguration {
     @Bean({"linkGenerator", "grailsLinkGenerator"})
     public LinkGenerator grailsLinkGenerator(ObjectProvider<GrailsApplication> grailsApplicationProvider,
             ObjectProvider<UrlMappingsHolder> grailsUrlMappingsHolder) {
-        Config config = grailsApplicationProvider.getIfAvailable().getConfig();
+        Config config = grailsApplicationProvider.getObject().getConfig();
         boolean isReloadEnabled = Environment.isDevelopmentMode() || Environment.getCurrent().isReloadEnabled();
         boolean cacheUrls = config.getProperty(Settings.WEB_LINK_GENERATOR_USE_CACHE, Boolean.class, !isReloadEnabled);
         String serverURL = config.getProperty(Settings.SERVER_URL);
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.cli.profile.commands
+
+import java.nio.file.Path
+import java.time.Duration
+
+import groovy.transform.CompileStatic
+import jline.console.completer.Completer
+import jline.console.completer.FileNameCompleter
+
+import grails.build.logging.GrailsConsole
+
+import org.grails.build.parsing.CommandLine
+import org.grails.cli.profile.Command
+import org.grails.cli.profile.CommandDescription
+import org.grails.cli.profile.ExecutionContext
+import org.grails.cli.profile.commands.jfr.RecordingSummary
+
+/**
+ * Reports the slowest templates, tags, URL matches and data bindings of a Flight Recorder recording
+ * of a Grace application.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@CompileStatic
+class JfrCommand implements Command, Completer {
+
+    public static final String NAME = 'jfr'
+
+    private static final String TOP_FLAG = 'top'
+
+    private static final int DEFAULT_TOP = 10
+
+    final String name = NAME
+
+    final CommandDescription description = new CommandDescription(NAME,
+            'Reports the slowest templates, tags, URL matches and data bindings of a Flight Recorder recording',
+            'jfr [RECORDING FILE] [-top=N]')
+
+    JfrCommand() {
+        description.argument(name: 'Recording File', description: 'The Flight Recorder recording of the application', required: true)
+        description.flag(name: TOP_FLAG, description: 'The number of the slowest entries to report, defaults to 10', required: false)
+    }
+
+    @Override
+    boolean handle(ExecutionContext executionContext) {
+        GrailsConsole console = executionContext.console
+        CommandLine commandLine = executionContext.commandLine
+        if (!commandLine.remainingArgs) {
+            console.error('No recording file specified')
+            return false
+        }
+
+        File recording = new File(commandLine.remainingArgs[0])
+        if (!recording.absolute && executionContext.baseDir != null) {
+            recording = new File(executionContext.baseDir, recording.path)
+        }
+        if (!recording.exists()) {
+            console.error("Recording file not found: ${recording}")
+            return false
+        }
+        int top = DEFAULT_TOP
+        if (commandLine.hasOption(TOP_FLAG)) {
+            String value = commandLine.optionValue(TOP_FLAG)?.toString()
+            if (!value?.isInteger() || value.toInteger() <= 0) {
+                console.error("Invalid value for -${TOP_FLAG}: ${value}, expected a positive number")
+                return false
+            }
+            top = value.toInteger()
+        }
+
+        RecordingSummary summary
+        try {
+            summary = RecordingSummary.read(recording.toPath())
+        }
+        catch (IOException e) {
+            console.error("Error reading recording file ${recording}: ${e.message}", e)
+            return false
+        }
+
+        for (String section in summary.sectionNames) {
+            List<RecordingSummary.Entry> entries = summary.slowest(section, top)
+            console.log('')
+            console.log("Slowest ${section} (${summary.count(section)} events)")
+            console.log('-' * 100)
+            if (!entries) {
+                console.log('No events recorded')
+                continue
+            }
+            console.log(String.format('%8s %12s %10s %10s  %s', 'Count', 'Total ms', 'Mean ms', 'Max ms', 'Name'))
+            for (RecordingSummary.Entry entry in entries) {
+                console.log(String.format('%8d %12.3f %10.3f %10.3f  %s', entry.count, millis(entry.total),
+                        millis(entry.mean), millis(entry.max), entry.key))
+            }
+            if (section == RecordingSummary.URL_MATCHES) {
+                console.log("Cache hits: ${summary.urlMatchCacheHits} of ${summary.count(section)}")
+            }
+        }
+        true
+    }
+
+    @Override
+    int complete(String buffer, int cursor, List<CharSequence> candidates) {
+        new FileNameCompleter().complete(buffer, cursor, candidates)
+    }
+
+    private static double millis(Duration duration) {
+        duration.toNanos() / 1_000_000d
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.cli.profile.commands.jfr
+
+import java.nio.file.Path
+import java.time.Duration
+
+import groovy.transform.CompileStatic
+import jdk.jfr.consumer.RecordedEvent
+import jdk.jfr.consumer.RecordingFile
+
+/**
+ * Aggregates the Grace events of a Flight Recorder recording, the GSP renders, tag invocations, URL matches
+ * and data bindings, by the template, tag, URI template or class they were recorded for.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@CompileStatic
+class RecordingSummary {
+
+    static final String GSP_RENDER_EVENT = 'grails.GspRender'
+
+    static final String TAG_INVOCATION_EVENT = 'grails.TagInvocation'
+
+    static final String URL_MATCH_EVENT = 'grails.UrlMatch'
+
+    static final String DATA_BIND_EVENT = 'grails.DataBind'
+
+    static final String TAGS = 'Tags'
+
+    static final String TEMPLATES = 'Templates'
+
+    static final String URL_MATCHES = 'URL Matches'
+
+    static final String DATA_BINDINGS = 'Data Bindings'
+
+    private static final String NO_MATCH = '(no match)'
+
+    private final Map<String, Map<String, Entry>> sections = [
+            (TEMPLATES): [:],
+            (TAGS): [:],
+            (URL_MATCHES): [:],
+            (DATA_BINDINGS): [:]
+    ] as LinkedHashMap<String, Map<String, Entry>>
+
+    long urlMatchCacheHits
+
+    /**
+     * Reads the events of a recording
+     *
+     * @param recording The path of the recording file
+     * @return The summary of the recording
+     */
+    static RecordingSummary read(Path recording) {
+        RecordingSummary summary = new RecordingSummary()
+        RecordingFile file = new RecordingFile(recording)
+        try {
+            while (file.hasMoreEvents()) {
+                summary.add(file.readEvent())
+            }
+        }
+        finally {
+            file.close()
+        }
+        summary
+    }
+
+    void add(RecordedEvent event) {
+        switch (event.eventType.name) {
+            case GSP_RENDER_EVENT:
+                record(TEMPLATES, event.getString('templateUri'), event.duration)
+                break
+            case TAG_INVOCATION_EVENT:
+                String location = "${event.getString('templateUri')}:${event.getInt('lineNumber')}"
+                record(TAGS, "<${event.getString('tag')}> ${location}".toString(), event.duration)
+                break
+            case URL_MATCH_EVENT:
+                record(URL_MATCHES, event.getString('uriTemplate') ?: NO_MATCH, event.duration)
+                if (event.getBoolean('cacheHit')) {
+                    urlMatchCacheHits++
+                }
+                break
+            case DATA_BIND_EVENT:
+                record(DATA_BINDINGS, event.getClass('targetClass')?.name, event.duration)
+                break
+        }
+    }
+
+    /**
+     * The names of the sections of the summary, in the order they are reported
+     */
+    Set<String> getSectionNames() {
+        sections.keySet()
+    }
+
+    /**
+     * Returns the entries of a section with the longest total duration first
+     *
+     * @param section The name of the section
+     * @param max The maximum number of entries to return
+     * @return The slowest entries
+     */
+    List<Entry> slowest(String section, int max) {
+        List<Entry> entries = new ArrayList<>(sections[section].values())
+        entries.sort { Entry a, Entry b -> b.total <=> a.total }
+        entries.take(max)
+    }
+
+    long count(String section) {
+        long count = 0
+        for (Entry entry in sections[section].values()) {
+            count += entry.count
+        }
+        count
+    }
+
+    private void record(String section, String key, Duration duration) {
+        Map<String, Entry> entries = sections[section]
+        Entry entry = entries[key]
+        if (entry == null) {
+            entry = new Entry(key)
+            entries[key] = entry
+        }
+        entry.add(duration)
+    }
+
+    /**
+     * The durations of the events recorded for the same key
+     */
+    @CompileStatic
+    static class Entry {
+
+        final String key
+
+        long count
+
+        Duration total = Duration.ZERO
+
+        Duration max = Duration.ZERO
+
+        Entry(String key) {
+            this.key = key
+        }
+
+        void add(Duration duration) {
+            count++
+            total = total + duration
+            if (duration > max) {
+                max = duration
+            }
+        }
+
+        Duration getMean() {
+            count ? total.dividedBy(count) : Duration.ZERO
+        }
+
+    }
+
+}
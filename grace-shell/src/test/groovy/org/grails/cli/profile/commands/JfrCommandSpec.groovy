@@ -0,0 +1,82 @@
+package org.grails.cli.profile.commands
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+import jdk.jfr.Recording
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import grails.build.logging.GrailsConsole
+import org.grails.build.parsing.CommandLineParser
+import org.grails.cli.profile.ExecutionContext
+
+class JfrCommandSpec extends Specification {
+
+    @TempDir
+    Path tempDir
+
+    GrailsConsole console = Mock(GrailsConsole)
+
+    void "test an invalid number of entries is reported"() {
+        given:
+        Path recording = emptyRecording()
+        ExecutionContext context = context("${recording} -top=${top}")
+
+        when:
+        boolean handled = new JfrCommand().handle(context)
+
+        then:
+        !handled
+        1 * console.error({ it.toString().startsWith('Invalid value for -top') })
+
+        where:
+        top << ['abc', '0', '-1']
+    }
+
+    void "test the sections of a recording are reported"() {
+        given:
+        Path recording = emptyRecording()
+        ExecutionContext context = context("${recording} -top=5")
+
+        when:
+        boolean handled = new JfrCommand().handle(context)
+
+        then:
+        handled
+        0 * console.error(_)
+        1 * console.log('Slowest Templates (0 events)')
+    }
+
+    void "test a missing recording file is reported"() {
+        given:
+        ExecutionContext context = context(tempDir.resolve('missing.jfr').toString())
+
+        when:
+        boolean handled = new JfrCommand().handle(context)
+
+        then:
+        !handled
+        1 * console.error({ it.toString().startsWith('Recording file not found') })
+    }
+
+    private ExecutionContext context(String args) {
+        Stub(ExecutionContext) {
+            getConsole() >> console
+            getCommandLine() >> new CommandLineParser().parseString(JfrCommand.NAME, args)
+            getBaseDir() >> tempDir.toFile()
+        }
+    }
+
+    private Path emptyRecording() {
+        Path file = tempDir.resolve('recording.jfr')
+        Recording recording = new Recording()
+        recording.start()
+        recording.stop()
+        recording.dump(file)
+        recording.close()
+        assert Files.exists(file)
+        file
+    }
+
+}
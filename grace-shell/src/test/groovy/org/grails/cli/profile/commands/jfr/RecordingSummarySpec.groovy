@@ -0,0 +1,80 @@
+package org.grails.cli.profile.commands.jfr
+
+import java.nio.file.Path
+
+import jdk.jfr.Event
+import jdk.jfr.Recording
+import spock.lang.Specification
+import spock.lang.TempDir
+
+class RecordingSummarySpec extends Specification {
+
+    @TempDir
+    Path tempDir
+
+    void "test the events of a recording are aggregated by section and key"() {
+        given:
+        Path file = record {
+            emit(new TestEvents.GspRender(templateUri: '/book/index.gsp'), 5)
+            emit(new TestEvents.GspRender(templateUri: '/book/index.gsp'), 1)
+            emit(new TestEvents.GspRender(templateUri: '/layouts/main.gsp'), 1)
+            emit(new TestEvents.TagInvocation(tag: 'g:each', templateUri: '/book/index.gsp', lineNumber: 12), 2)
+            emit(new TestEvents.UrlMatch(uri: '/book/show/1', uriTemplate: '/book/show/(*)', cacheHit: true), 0)
+            emit(new TestEvents.UrlMatch(uri: '/book/show/2', uriTemplate: '/book/show/(*)', cacheHit: false), 0)
+            emit(new TestEvents.UrlMatch(uri: '/nothing'), 0)
+            emit(new TestEvents.DataBind(targetClass: String, propertyCount: 2), 0)
+        }
+
+        when:
+        RecordingSummary summary = RecordingSummary.read(file)
+        List<RecordingSummary.Entry> templates = summary.slowest(RecordingSummary.TEMPLATES, 10)
+
+        then:
+        summary.sectionNames as List == [RecordingSummary.TEMPLATES, RecordingSummary.TAGS,
+                                         RecordingSummary.URL_MATCHES, RecordingSummary.DATA_BINDINGS]
+        templates*.key == ['/book/index.gsp', '/layouts/main.gsp']
+        templates[0].count == 2
+        templates[0].max <= templates[0].total
+        summary.slowest(RecordingSummary.TEMPLATES, 1)*.key == ['/book/index.gsp']
+        summary.slowest(RecordingSummary.TAGS, 10)*.key == ['<g:each> /book/index.gsp:12']
+        summary.slowest(RecordingSummary.URL_MATCHES, 10)*.key as Set == ['/book/show/(*)', '(no match)'] as Set
+        summary.slowest(RecordingSummary.DATA_BINDINGS, 10)*.key == ['java.lang.String']
+        summary.count(RecordingSummary.TEMPLATES) == 3
+        summary.count(RecordingSummary.URL_MATCHES) == 3
+        summary.urlMatchCacheHits == 1
+    }
+
+    void "test a recording without Grace events has empty sections"() {
+        given:
+        Path file = record {}
+
+        when:
+        RecordingSummary summary = RecordingSummary.read(file)
+
+        then:
+        summary.sectionNames.every { String section -> summary.count(section) == 0 && !summary.slowest(section, 10) }
+    }
+
+    private Path record(Closure events) {
+        Recording recording = new Recording()
+        for (String name in ['grails.GspRender', 'grails.TagInvocation', 'grails.UrlMatch', 'grails.DataBind']) {
+            recording.enable(name)
+        }
+        recording.start()
+        events.call()
+        recording.stop()
+        Path file = tempDir.resolve('recording.jfr')
+        recording.dump(file)
+        recording.close()
+        file
+    }
+
+    private static void emit(Event event, long millis) {
+        event.begin()
+        if (millis > 0) {
+            Thread.sleep(millis)
+        }
+        event.commit()
+    }
+
+}
@@ -0,0 +1,58 @@
+package org.grails.cli.profile.commands.jfr;
+
+import jdk.jfr.Event;
+import jdk.jfr.Name;
+
+/**
+ * Events with the names and fields of the Grace events, the shell does not depend on the modules recording them.
+ */
+public final class TestEvents {
+
+    private TestEvents() {
+    }
+
+    @Name("grails.GspRender")
+    public static class GspRender extends Event {
+
+        public String templateUri;
+
+        public long characters;
+
+    }
+
+    @Name("grails.TagInvocation")
+    public static class TagInvocation extends Event {
+
+        public String tag;
+
+        public String templateUri;
+
+        public int lineNumber;
+
+    }
+
+    @Name("grails.UrlMatch")
+    public static class UrlMatch extends Event {
+
+        public String uri;
+
+        public String uriTemplate;
+
+        public int candidates;
+
+        public boolean cacheHit;
+
+    }
+
+    @Name("grails.DataBind")
+    public static class DataBind extends Event {
+
+        public Class<?> targetClass;
+
+        public int propertyCount;
+
+        public int errorCount;
+
+    }
+
+}
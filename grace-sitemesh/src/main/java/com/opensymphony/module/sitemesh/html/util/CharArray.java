@@ -272,7 +272,7 @@ public class CharArray
     /**
      * Clear the contents.
      */
-    public final void clear()
+    public void clear()
     {
         size = 0;
     }
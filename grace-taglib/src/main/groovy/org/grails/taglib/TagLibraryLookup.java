@@ -28,6 +28,9 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 
 import grails.core.GrailsApplication;
 import grails.core.GrailsClass;
@@ -67,15 +70,32 @@ public class TagLibraryLookup implements ApplicationContextAware, GrailsApplicat
 
     @Override
     public void afterSingletonsInstantiated() {
+        StartupStep tagLibrariesStep = getApplicationStartup().start("grails.taglib.tag-libraries.registered");
         try {
             registerTagLibraries();
         }
         catch (GrailsConfigurationException e) {
             // ignore exception
         }
+        finally {
+            tagLibrariesStep.tag("namespaceCount", String.valueOf(this.tagNamespaces.size())).end();
+        }
 
-        registerNamespaceDispatchers();
-        registerCustomNamespaceDispatchers();
+        StartupStep dispatchersStep = getApplicationStartup().start("grails.taglib.namespace-dispatchers.registered");
+        try {
+            registerNamespaceDispatchers();
+            registerCustomNamespaceDispatchers();
+        }
+        finally {
+            dispatchersStep.end();
+        }
+    }
+
+    private ApplicationStartup getApplicationStartup() {
+        if (this.applicationContext instanceof ConfigurableApplicationContext) {
+            return ((ConfigurableApplicationContext) this.applicationContext).getApplicationStartup();
+        }
+        return ApplicationStartup.DEFAULT;
     }
 
     protected void registerNamespaceDispatchers() {
@@ -119,7 +139,14 @@ public class TagLibraryLookup implements ApplicationContextAware, GrailsApplicat
     protected void registerTagLibraries() {
         GrailsClass[] taglibs = this.grailsApplication.getArtefacts(TagLibArtefactHandler.TYPE);
         for (GrailsClass grailsClass : taglibs) {
-            registerTagLib((GrailsTagLibClass) grailsClass, true);
+            StartupStep tagLibraryStep = getApplicationStartup().start("grails.taglib.tag-library.registered")
+                    .tag("tagLibrary", grailsClass.getFullName());
+            try {
+                registerTagLib((GrailsTagLibClass) grailsClass, true);
+            }
+            finally {
+                tagLibraryStep.end();
+            }
         }
     }
 
@@ -20,6 +20,7 @@ import grails.web.http.HttpHeaders
 import org.grails.plugins.testing.GrailsMockHttpServletRequest
 import org.grails.plugins.testing.GrailsMockHttpServletResponse
 import org.grails.web.servlet.mvc.exceptions.ControllerExecutionException
+import org.grails.web.util.FileResponseRenderer
 import grails.artefact.Artefact
 import spock.lang.Specification
 
@@ -61,6 +62,173 @@ class RenderMethodTests extends Specification implements ControllerUnitTest<Rend
         "attachment;filename=\"hello.txt\"" == response.getHeader(HttpHeaders.CONTENT_DISPOSITION)
     }
 
+    void testRenderFileWithRanges() {
+        given:
+        File file = File.createTempFile('render', '.txt')
+        file.deleteOnExit()
+        file.text = '0123456789'
+        request.method = 'GET'
+
+        when:
+        controller.render file: file, contentType: 'text/plain'
+
+        then:
+        '0123456789' == response.contentAsString
+        10 == response.contentLength
+        'bytes' == response.getHeader(HttpHeaders.ACCEPT_RANGES)
+        response.getHeader(HttpHeaders.ETAG)
+        response.getHeader(HttpHeaders.LAST_MODIFIED)
+
+        when:
+        response.reset()
+        request.addHeader(HttpHeaders.RANGE, 'bytes=2-5')
+        controller.render file: file, contentType: 'text/plain'
+
+        then:
+        206 == response.status
+        '2345' == response.contentAsString
+        'bytes 2-5/10' == response.getHeader(HttpHeaders.CONTENT_RANGE)
+
+        when:
+        response.reset()
+        request.removeHeader(HttpHeaders.RANGE)
+        request.addHeader(HttpHeaders.RANGE, 'bytes=0-1,-2')
+        controller.render file: file, contentType: 'text/plain'
+
+        then:
+        206 == response.status
+        response.contentType.startsWith('multipart/byteranges; boundary=')
+        response.contentAsString.contains('Content-Range: bytes 0-1/10\r\n\r\n01')
+        response.contentAsString.contains('Content-Range: bytes 8-9/10\r\n\r\n89')
+
+        when:
+        response.reset()
+        request.removeHeader(HttpHeaders.RANGE)
+        request.addHeader(HttpHeaders.RANGE, 'bytes=20-30')
+        controller.render file: file, contentType: 'text/plain'
+
+        then:
+        416 == response.status
+        'bytes */10' == response.getHeader(HttpHeaders.CONTENT_RANGE)
+    }
+
+    void testRenderFileWithConditionalHeaders() {
+        given:
+        File file = File.createTempFile('render', '.txt')
+        file.deleteOnExit()
+        file.text = '0123456789'
+        request.method = 'GET'
+        controller.render file: file, contentType: 'text/plain'
+        String etag = response.getHeader(HttpHeaders.ETAG)
+        long lastModified = file.lastModified()
+
+        when:
+        response.reset()
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag)
+        controller.render file: file, contentType: 'text/plain'
+
+        then:
+        304 == response.status
+        '' == response.contentAsString
+
+        when:
+        response.reset()
+        request.removeHeader(HttpHeaders.IF_NONE_MATCH)
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, lastModified)
+        controller.render file: file, contentType: 'text/plain'
+
+        then:
+        304 == response.status
+        '' == response.contentAsString
+
+        when:
+        response.reset()
+        request.removeHeader(HttpHeaders.IF_MODIFIED_SINCE)
+        request.addHeader(HttpHeaders.IF_MATCH, '"0-0"')
+        controller.render file: file, contentType: 'text/plain'
+
+        then:
+        412 == response.status
+        '' == response.contentAsString
+
+        when:
+        response.reset()
+        request.removeHeader(HttpHeaders.IF_MATCH)
+        request.addHeader(HttpHeaders.IF_UNMODIFIED_SINCE, lastModified - 60000)
+        controller.render file: file, contentType: 'text/plain'
+
+        then:
+        412 == response.status
+        '' == response.contentAsString
+
+        when: "the ranges are ignored when If-Range does not match"
+        response.reset()
+        request.removeHeader(HttpHeaders.IF_UNMODIFIED_SINCE)
+        request.addHeader(HttpHeaders.RANGE, 'bytes=2-5')
+        request.addHeader(HttpHeaders.IF_RANGE, '"0-0"')
+        controller.render file: file, contentType: 'text/plain'
+
+        then:
+        200 == response.status
+        '0123456789' == response.contentAsString
+        !response.getHeader(HttpHeaders.CONTENT_RANGE)
+
+        when:
+        response.reset()
+        request.removeHeader(HttpHeaders.IF_RANGE)
+        request.addHeader(HttpHeaders.IF_RANGE, etag)
+        controller.render file: file, contentType: 'text/plain'
+
+        then:
+        206 == response.status
+        '2345' == response.contentAsString
+    }
+
+    void testRenderFileWithSendfile() {
+        given:
+        File file = File.createTempFile('render', '.txt')
+        file.deleteOnExit()
+        file.text = '0123456789'
+        request.method = 'GET'
+        request.setAttribute(FileResponseRenderer.SENDFILE_SUPPORT_ATTRIBUTE, Boolean.TRUE)
+
+        when:
+        controller.render file: file, contentType: 'text/plain'
+
+        then: "the container sends the file after the request has been processed"
+        200 == response.status
+        '' == response.contentAsString
+        10 == response.contentLength
+        file.canonicalPath == request.getAttribute('org.apache.tomcat.sendfile.filename')
+        0L == request.getAttribute('org.apache.tomcat.sendfile.start')
+        10L == request.getAttribute('org.apache.tomcat.sendfile.end')
+
+        when:
+        response.reset()
+        request.addHeader(HttpHeaders.RANGE, 'bytes=2-5')
+        controller.render file: file, contentType: 'text/plain'
+
+        then:
+        206 == response.status
+        '' == response.contentAsString
+        4 == response.contentLength
+        'bytes 2-5/10' == response.getHeader(HttpHeaders.CONTENT_RANGE)
+        2L == request.getAttribute('org.apache.tomcat.sendfile.start')
+        6L == request.getAttribute('org.apache.tomcat.sendfile.end')
+
+        when: "several ranges are written by the application"
+        response.reset()
+        request.removeHeader(HttpHeaders.RANGE)
+        request.addHeader(HttpHeaders.RANGE, 'bytes=0-1,-2')
+        request.removeAttribute('org.apache.tomcat.sendfile.filename')
+        controller.render file: file, contentType: 'text/plain'
+
+        then:
+        206 == response.status
+        response.contentAsString.contains('Content-Range: bytes 0-1/10\r\n\r\n01')
+        !request.getAttribute('org.apache.tomcat.sendfile.filename')
+    }
+
     void testRenderMethodWithStatus() {
         when:
         controller.renderMessageWithStatus()
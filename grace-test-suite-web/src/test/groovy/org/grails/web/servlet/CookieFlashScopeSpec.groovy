@@ -0,0 +1,97 @@
+package org.grails.web.servlet
+
+import jakarta.servlet.http.Cookie
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
+import spock.lang.Specification
+
+import org.grails.web.util.HmacSigner
+
+class CookieFlashScopeSpec extends Specification {
+
+    HmacSigner signer = new HmacSigner('secret'.bytes, 'grails.web.flash')
+
+    void 'Test the flash scope is carried to the next request in a signed cookie'() {
+        given:
+        def request = new MockHttpServletRequest()
+        def response = new MockHttpServletResponse()
+        def flash = newFlashScope(request)
+
+        when:
+        flash.message = 'Book created'
+        flash.args = ['Grails', 1, true]
+        flash.save(request, response)
+
+        then:
+        response.getCookie(CookieFlashScope.DEFAULT_COOKIE_NAME).value
+        response.getCookie(CookieFlashScope.DEFAULT_COOKIE_NAME).httpOnly
+        request.getSession(false) == null
+
+        when:
+        def nextRequest = new MockHttpServletRequest()
+        nextRequest.cookies = response.getCookie(CookieFlashScope.DEFAULT_COOKIE_NAME)
+        def nextResponse = new MockHttpServletResponse()
+        def nextFlash = newFlashScope(nextRequest)
+        nextFlash.next()
+
+        then:
+        nextFlash.message == 'Book created'
+        nextFlash.args == ['Grails', 1, true]
+
+        when:"Nothing is added to the flash scope"
+        nextFlash.save(nextRequest, nextResponse)
+
+        then:"The cookie is removed"
+        nextResponse.getCookie(CookieFlashScope.DEFAULT_COOKIE_NAME).maxAge == 0
+    }
+
+    void 'Test a cookie with an invalid signature is ignored'() {
+        given:
+        def response = new MockHttpServletResponse()
+        def flash = newFlashScope(new MockHttpServletRequest())
+        flash.message = 'Book created'
+        flash.save(new MockHttpServletRequest(), response)
+        String value = response.getCookie(CookieFlashScope.DEFAULT_COOKIE_NAME).value
+
+        when:
+        def request = new MockHttpServletRequest()
+        request.cookies = new Cookie(CookieFlashScope.DEFAULT_COOKIE_NAME, 'x' + value)
+        def tampered = newFlashScope(request)
+        tampered.next()
+
+        then:
+        tampered.isEmpty()
+    }
+
+    void 'Test values that can not be held by the cookie are kept in the session'() {
+        given:
+        def request = new MockHttpServletRequest()
+        def response = new MockHttpServletResponse()
+        def flash = newFlashScope(request)
+
+        when:
+        flash.book = new Date(0)
+        flash.save(request, response)
+
+        then:
+        response.getCookie(CookieFlashScope.DEFAULT_COOKIE_NAME) == null
+        request.session.getAttribute(CookieFlashScope.OVERFLOW_ATTRIBUTE) == [book: new Date(0)]
+
+        when:
+        def nextRequest = new MockHttpServletRequest()
+        nextRequest.session = request.session
+        def nextFlash = newFlashScope(nextRequest)
+        nextFlash.next()
+
+        then:
+        nextFlash.book == new Date(0)
+        nextRequest.session.getAttribute(CookieFlashScope.OVERFLOW_ATTRIBUTE) == null
+    }
+
+    private CookieFlashScope newFlashScope(MockHttpServletRequest request) {
+        def flash = new CookieFlashScope(signer, CookieFlashScope.DEFAULT_COOKIE_NAME, CookieFlashScope.DEFAULT_MAX_SIZE)
+        flash.restore(request)
+        flash
+    }
+
+}
@@ -0,0 +1,114 @@
+package org.grails.web.servlet.mvc
+
+import java.time.Duration
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+
+import jakarta.servlet.http.Cookie
+
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
+import org.springframework.mock.web.MockServletContext
+import spock.lang.Specification
+
+import org.grails.web.util.GrailsApplicationAttributes
+import org.grails.web.util.HmacSigner
+
+class HmacSynchronizerTokenStoreSpec extends Specification {
+
+    HmacSigner signer = new HmacSigner('secret'.bytes, HmacSynchronizerTokenStore.PURPOSE)
+
+    void 'Test a token is valid on another node until it is used'() {
+        given:
+        def request = new MockHttpServletRequest()
+        def store = new HmacSynchronizerTokenStore(signer, Duration.ofHours(1))
+        def otherNode = new HmacSynchronizerTokenStore(new HmacSigner('secret'.bytes, HmacSynchronizerTokenStore.PURPOSE), Duration.ofHours(1))
+
+        when:
+        String token = store.generateToken(request, '/book/save')
+
+        then:
+        otherNode.isValid(request, '/book/save', token)
+        !otherNode.isValid(request, '/book/delete', token)
+        request.getSession(false) == null
+
+        when:
+        otherNode.resetToken(request, '/book/save', token)
+
+        then:
+        !otherNode.isValid(request, '/book/save', token)
+    }
+
+    void 'Test tokens that are expired or signed with another secret are not valid'() {
+        given:
+        def request = new MockHttpServletRequest()
+        def expiring = new HmacSynchronizerTokenStore(signer, Duration.ofMillis(1))
+        String expiredToken = expiring.generateToken(request, '/book/save')
+        sleep(10)
+        def otherSecret = new HmacSynchronizerTokenStore(new HmacSigner('other'.bytes, HmacSynchronizerTokenStore.PURPOSE), Duration.ofHours(1))
+        def store = new HmacSynchronizerTokenStore(signer, Duration.ofHours(1))
+
+        expect:
+        !expiring.isValid(request, '/book/save', expiredToken)
+        !store.isValid(request, '/book/save', otherSecret.generateToken(request, '/book/save'))
+        !store.isValid(request, '/book/save', 'not-a-token')
+    }
+
+    void 'Test a token is bound to the client it was issued to by a cookie'() {
+        given:
+        def request = new MockHttpServletRequest()
+        def response = new MockHttpServletResponse()
+        request.setAttribute(GrailsApplicationAttributes.WEB_REQUEST, new GrailsWebRequest(request, response, new MockServletContext()))
+        def store = new HmacSynchronizerTokenStore(signer, Duration.ofHours(1))
+
+        when:
+        String token = store.generateToken(request, '/book/save')
+        String otherToken = store.generateToken(request, '/book/update')
+        Cookie cookie = response.getCookie(HmacSynchronizerTokenStore.DEFAULT_COOKIE_NAME)
+
+        then: 'one cookie is issued for all the tokens of the request'
+        cookie.httpOnly
+        cookie.maxAge == -1
+        response.cookies.count { it.name == HmacSynchronizerTokenStore.DEFAULT_COOKIE_NAME } == 1
+
+        and: 'the tokens are only valid for the client that has the cookie'
+        store.isValid(submit(cookie), '/book/save', token)
+        store.isValid(submit(cookie), '/book/update', otherToken)
+        !store.isValid(new MockHttpServletRequest(), '/book/save', token)
+        !store.isValid(submit(new Cookie(HmacSynchronizerTokenStore.DEFAULT_COOKIE_NAME, 'AAAAAAAAAAAAAAAAAAAAAA')), '/book/save', token)
+        !store.isValid(submit(new Cookie(HmacSynchronizerTokenStore.DEFAULT_COOKIE_NAME, 'not base64!')), '/book/save', token)
+    }
+
+    void 'Test a token submitted concurrently is used only once'() {
+        given:
+        def request = new MockHttpServletRequest()
+        def store = new HmacSynchronizerTokenStore(signer, Duration.ofHours(1))
+        String token = store.generateToken(request, '/book/save')
+        def start = new CountDownLatch(1)
+        def executor = Executors.newFixedThreadPool(8)
+
+        when:
+        def results = (1..8).collect {
+            executor.submit({
+                start.await()
+                store.useToken(request, '/book/save', token)
+            } as Callable<Boolean>)
+        }
+        start.countDown()
+
+        then:
+        results*.get().count { it } == 1
+        !store.isValid(request, '/book/save', token)
+
+        cleanup:
+        executor.shutdownNow()
+    }
+
+    private static MockHttpServletRequest submit(Cookie cookie) {
+        def request = new MockHttpServletRequest('POST', '/book/save')
+        request.setCookies(cookie)
+        request
+    }
+
+}
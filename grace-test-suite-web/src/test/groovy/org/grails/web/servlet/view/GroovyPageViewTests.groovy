@@ -1,8 +1,16 @@
 package org.grails.web.servlet.view
 
+import java.nio.file.Files
+import java.nio.file.Path
+
+import jdk.jfr.Recording
+import jdk.jfr.consumer.RecordedEvent
+import jdk.jfr.consumer.RecordingFile
+
 import grails.util.GrailsWebMockUtil
 import org.grails.core.io.MockStringResourceLoader
 import org.grails.gsp.GroovyPagesTemplateEngine
+import org.grails.gsp.jfr.GspRenderEvent
 import org.grails.support.MockApplicationContext
 import org.junit.jupiter.api.AfterEach
 import org.junit.jupiter.api.Test
@@ -43,6 +51,51 @@ class GroovyPageViewTests {
         assertEquals "successbar", webRequest.currentResponse.contentAsString
     }
 
+    @Test
+    void testGroovyPageViewIsRecorded() {
+        def webRequest = GrailsWebMockUtil.bindMockWebRequest()
+
+        def rl = new MockStringResourceLoader()
+
+        def url = "/WEB-INF/grails-app/views/recorded.gsp"
+
+        rl.registerMockResource(url, "<%='success'+foo%>")
+
+        def gpte = new GroovyPagesTemplateEngine()
+        gpte.afterPropertiesSet()
+
+        gpte.groovyPageLocator.addResourceLoader(rl)
+
+        def ctx = new MockApplicationContext()
+        ctx.registerMockBean(GroovyPagesTemplateEngine.BEAN_ID, gpte)
+
+        def view = new GroovyPageView()
+        view.url = url
+        view.applicationContext = ctx
+        view.templateEngine = gpte
+        view.afterPropertiesSet()
+
+        Recording recording = new Recording()
+        recording.enable(GspRenderEvent.NAME)
+        recording.start()
+        view.render([foo:"bar"], webRequest.currentRequest, webRequest.currentResponse)
+        recording.stop()
+        Path file = Files.createTempFile('gsp-render', '.jfr')
+        try {
+            recording.dump(file)
+            recording.close()
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).findAll { it.eventType.name == GspRenderEvent.NAME }
+
+            assertEquals "successbar", webRequest.currentResponse.contentAsString
+            assertEquals 1, events.size()
+            assertEquals url, events[0].getString('templateUri')
+            assertEquals 10L, events[0].getLong('characters')
+        }
+        finally {
+            Files.deleteIfExists(file)
+        }
+    }
+
     @AfterEach
     void tearDown() {
          RequestContextHolder.resetRequestAttributes()
@@ -21,9 +21,11 @@ import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -52,6 +54,11 @@ import org.grails.web.util.WebUtils;
  * A parameter map class that allows mixing of request parameters and controller parameters. If a controller
  * parameter is set with the same name as a request parameter the controller parameter value is retrieved.
  *
+ * <p>A map created from a request is populated lazily, the request parameters are only read on first access,
+ * and the sub-maps of nested keys such as "book.author.name" are only built for the prefixes that are looked up.
+ * Values put into the map before it is populated are kept on top of the request parameters, the map is fully
+ * populated when it is iterated, compared, or a nested key is put or a key is removed.
+ *
  * @author Graeme Rocher
  * @author Lari Hotari
  *
@@ -68,6 +75,10 @@ public class GrailsParameterMap extends TypeConvertingMap implements Cloneable {
 
     private final HttpServletRequest request;
 
+    private RequestParameters requestParameters;
+
+    private Map<String, Object> expandedPrefixes;
+
     public static final String REQUEST_BODY_PARSED = "org.codehaus.groovy.grails.web.REQUEST_BODY_PARSED";
 
     public static final Object[] EMPTY_ARGS = new Object[0];
@@ -84,64 +95,44 @@ public class GrailsParameterMap extends TypeConvertingMap implements Cloneable {
     }
 
     /**
-     * Creates a GrailsParameterMap populating from the given request object
+     * Creates a GrailsParameterMap populating from the given request object, the parameters are
+     * read from the request when the map is first accessed
      * @param request The request object
      */
     public GrailsParameterMap(HttpServletRequest request) {
         this.request = request;
-        Map requestMap = new LinkedHashMap(request.getParameterMap());
-        if (requestMap.isEmpty() && ("PUT".equals(request.getMethod()) || "PATCH".equals(request.getMethod())) &&
-                request.getAttribute(REQUEST_BODY_PARSED) == null) {
-
-            // attempt manual parse of request body. This is here because some containers don't parse the request body automatically for PUT request
-            String contentType = request.getContentType();
-            if (MimeType.FORM.equals(new MimeType(contentType))) {
-                try {
-                    Reader reader = request.getReader();
-                    if (reader != null) {
-                        String contents = IOUtils.toString(reader);
-                        request.setAttribute(REQUEST_BODY_PARSED, true);
-                        requestMap.putAll(WebUtils.fromQueryString(contents));
-                    }
-                }
-                catch (Exception e) {
-                    logger.error("Error processing form encoded " + request.getMethod() + " request", e);
-                }
-            }
-        }
-
-        if (request instanceof MultipartHttpServletRequest) {
-            MultiValueMap<String, MultipartFile> fileMap = ((MultipartHttpServletRequest) request).getMultiFileMap();
-            for (Entry<String, List<MultipartFile>> entry : fileMap.entrySet()) {
-                List<MultipartFile> value = entry.getValue();
-                if (value.size() == 1) {
-                    requestMap.put(entry.getKey(), value.get(0));
-                }
-                else {
-                    requestMap.put(entry.getKey(), value);
-                }
-            }
-        }
-
-        updateNestedKeys(requestMap);
+        this.requestParameters = new RequestParameters(request);
     }
 
     @Override
     public Object clone() {
+        GrailsParameterMap clone;
         if (wrappedMap.isEmpty()) {
-            return new GrailsParameterMap(new LinkedHashMap(), this.request);
+            clone = new GrailsParameterMap(new LinkedHashMap(), this.request);
         }
         else {
-            Map clonedMap = new LinkedHashMap(wrappedMap);
-            // deep clone nested entries
-            for (Object obj : clonedMap.entrySet()) {
-                Entry entry = (Entry) obj;
-                if (entry.getValue() instanceof GrailsParameterMap) {
-                    entry.setValue(((GrailsParameterMap) entry.getValue()).clone());
-                }
+            clone = new GrailsParameterMap(deepClone(wrappedMap), this.request);
+        }
+        if (this.requestParameters != null) {
+            // the clone reads the same request parameters when it is first accessed
+            clone.requestParameters = this.requestParameters;
+            if (this.expandedPrefixes != null) {
+                clone.expandedPrefixes = deepClone(this.expandedPrefixes);
+            }
+        }
+        return clone;
+    }
+
+    private static Map deepClone(Map map) {
+        Map clonedMap = new LinkedHashMap(map);
+        // deep clone nested entries
+        for (Object obj : clonedMap.entrySet()) {
+            Entry entry = (Entry) obj;
+            if (entry.getValue() instanceof GrailsParameterMap) {
+                entry.setValue(((GrailsParameterMap) entry.getValue()).clone());
             }
-            return new GrailsParameterMap(clonedMap, this.request);
         }
+        return clonedMap;
     }
 
     public void addParametersFrom(GrailsParameterMap otherMap) {
@@ -164,7 +155,7 @@ public class GrailsParameterMap extends TypeConvertingMap implements Cloneable {
             returnValue = this.nestedDateMap.get(key);
         }
         else {
-            returnValue = wrappedMap.get(key);
+            returnValue = getValue(key);
             if (returnValue instanceof String[]) {
                 String[] valueArray = (String[]) returnValue;
                 if (valueArray.length == 1) {
@@ -175,6 +166,7 @@ public class GrailsParameterMap extends TypeConvertingMap implements Cloneable {
                 }
             }
             else if (returnValue == null && (key instanceof Collection)) {
+                populate();
                 return DefaultGroovyMethods.subMap(wrappedMap, (Collection) key);
             }
         }
@@ -189,8 +181,16 @@ public class GrailsParameterMap extends TypeConvertingMap implements Cloneable {
         if (key instanceof CharSequence) {
             key = key.toString();
         }
+        if (this.requestParameters != null && key instanceof String && ((String) key).contains(".")) {
+            // nested keys are merged into the sub-maps of the request parameters
+            populate();
+        }
         this.nestedDateMap.remove(key);
+        Object previousValue = this.requestParameters != null && !wrappedMap.containsKey(key) ? getValue(key) : null;
         Object returnValue = wrappedMap.put(key, value);
+        if (previousValue != null) {
+            returnValue = previousValue;
+        }
         if (key instanceof String) {
             String keyString = (String) key;
             if (keyString.contains(".")) {
@@ -202,10 +202,76 @@ public class GrailsParameterMap extends TypeConvertingMap implements Cloneable {
 
     @Override
     public Object remove(Object key) {
+        populate();
         this.nestedDateMap.remove(key);
         return wrappedMap.remove(key);
     }
 
+    @Override
+    public boolean containsKey(Object key) {
+        if (wrappedMap.containsKey(key)) {
+            return true;
+        }
+        return this.requestParameters != null && key instanceof String && this.requestParameters.containsKey((String) key);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return wrappedMap.isEmpty() && (this.requestParameters == null || this.requestParameters.getValues().isEmpty());
+    }
+
+    @Override
+    public int size() {
+        populate();
+        return super.size();
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        populate();
+        return super.containsValue(value);
+    }
+
+    @Override
+    public void clear() {
+        this.requestParameters = null;
+        this.expandedPrefixes = null;
+        super.clear();
+    }
+
+    @Override
+    public Set keySet() {
+        populate();
+        return super.keySet();
+    }
+
+    @Override
+    public Collection values() {
+        populate();
+        return super.values();
+    }
+
+    @Override
+    public Set entrySet() {
+        populate();
+        return super.entrySet();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        populate();
+        if (that instanceof GrailsParameterMap) {
+            ((GrailsParameterMap) that).populate();
+        }
+        return super.equals(that);
+    }
+
+    @Override
+    public int hashCode() {
+        populate();
+        return super.hashCode();
+    }
+
     @Override
     public void putAll(Map map) {
         for (Object entryObj : map.entrySet()) {
@@ -222,7 +288,7 @@ public class GrailsParameterMap extends TypeConvertingMap implements Cloneable {
      */
     @Override
     public Date getDate(String name) {
-        Object returnValue = wrappedMap.get(name);
+        Object returnValue = getValue(name);
         if ("date.struct".equals(returnValue)) {
             returnValue = lazyEvaluateDateParam(name);
             this.nestedDateMap.put(name, returnValue);
@@ -279,12 +345,68 @@ public class GrailsParameterMap extends TypeConvertingMap implements Cloneable {
     }
 
     protected void updateNestedKeys(Map keys) {
+        updateNestedKeys(keys, wrappedMap);
+    }
+
+    private void updateNestedKeys(Map keys, Map target) {
         for (Object keyObject : keys.keySet()) {
             String key = (String) keyObject;
             Object paramValue = getParameterValue(keys, key);
-            wrappedMap.put(key, paramValue);
-            processNestedKeys(keys, key, key, wrappedMap);
+            target.put(key, paramValue);
+            processNestedKeys(keys, key, key, target);
+        }
+    }
+
+    private Object getValue(Object key) {
+        if (this.requestParameters == null || !(key instanceof String) || wrappedMap.containsKey(key)) {
+            return wrappedMap.get(key);
         }
+        String name = (String) key;
+        Map requestValues = this.requestParameters.getValues();
+        if (!this.requestParameters.isNestedPrefix(name)) {
+            return getParameterValue(requestValues, name);
+        }
+        if (this.expandedPrefixes == null) {
+            this.expandedPrefixes = new LinkedHashMap<>();
+        }
+        else if (this.expandedPrefixes.containsKey(name)) {
+            return this.expandedPrefixes.get(name);
+        }
+
+        // only the parameters named by the prefix or nested below it affect its value
+        Map prefixValues = new LinkedHashMap();
+        for (Object keyObject : requestValues.keySet()) {
+            String parameterName = (String) keyObject;
+            if (parameterName.equals(name) || name.equals(RequestParameters.getNestedPrefix(parameterName))) {
+                prefixValues.put(parameterName, requestValues.get(parameterName));
+            }
+        }
+        Map expanded = new LinkedHashMap();
+        updateNestedKeys(prefixValues, expanded);
+        Object value = expanded.get(name);
+        this.expandedPrefixes.put(name, value);
+        return value;
+    }
+
+    /**
+     * Populates this map with all the request parameters, keeping the values put before
+     * and the sub-maps already returned
+     */
+    private void populate() {
+        RequestParameters parameters = this.requestParameters;
+        if (parameters == null) {
+            return;
+        }
+        this.requestParameters = null;
+
+        Map putValues = new LinkedHashMap(wrappedMap);
+        wrappedMap.clear();
+        updateNestedKeys(parameters.getValues(), wrappedMap);
+        if (this.expandedPrefixes != null) {
+            wrappedMap.putAll(this.expandedPrefixes);
+            this.expandedPrefixes = null;
+        }
+        wrappedMap.putAll(putValues);
     }
 
     private Date lazyEvaluateDateParam(Object key) {
@@ -375,4 +497,91 @@ public class GrailsParameterMap extends TypeConvertingMap implements Cloneable {
         }
     }
 
+    /**
+     * The parameters of a request, read on first access and shared by the clones of a map
+     */
+    private static final class RequestParameters {
+
+        private final HttpServletRequest request;
+
+        private Map values;
+
+        private Set<String> nestedPrefixes;
+
+        RequestParameters(HttpServletRequest request) {
+            this.request = request;
+        }
+
+        Map getValues() {
+            if (this.values == null) {
+                this.values = readValues(this.request);
+                Set<String> prefixes = new HashSet<>();
+                for (Object key : this.values.keySet()) {
+                    String prefix = getNestedPrefix((String) key);
+                    if (prefix != null) {
+                        prefixes.add(prefix);
+                    }
+                }
+                this.nestedPrefixes = prefixes;
+            }
+            return this.values;
+        }
+
+        boolean isNestedPrefix(String name) {
+            getValues();
+            return this.nestedPrefixes.contains(name);
+        }
+
+        boolean containsKey(String name) {
+            return getValues().containsKey(name) || this.nestedPrefixes.contains(name);
+        }
+
+        static String getNestedPrefix(String key) {
+            int nestedIndex = key.indexOf('.');
+            if (nestedIndex == -1) {
+                return null;
+            }
+            String prefix = key.substring(0, nestedIndex);
+            return prefix.startsWith("_") ? prefix.substring(1) : prefix;
+        }
+
+        private static Map readValues(HttpServletRequest request) {
+            Map requestMap = new LinkedHashMap(request.getParameterMap());
+            if (requestMap.isEmpty() && ("PUT".equals(request.getMethod()) || "PATCH".equals(request.getMethod())) &&
+                    request.getAttribute(REQUEST_BODY_PARSED) == null) {
+
+                // attempt manual parse of request body. This is here because some containers don't parse the request body automatically for PUT request
+                String contentType = request.getContentType();
+                if (MimeType.FORM.equals(new MimeType(contentType))) {
+                    try {
+                        Reader reader = request.getReader();
+                        if (reader != null) {
+                            String contents = IOUtils.toString(reader);
+                            request.setAttribute(REQUEST_BODY_PARSED, true);
+                            requestMap.putAll(WebUtils.fromQueryString(contents));
+                        }
+                    }
+                    catch (Exception e) {
+                        logger.error("Error processing form encoded " + request.getMethod() + " request", e);
+                    }
+                }
+            }
+
+            if (request instanceof MultipartHttpServletRequest) {
+                MultiValueMap<String, MultipartFile> fileMap = ((MultipartHttpServletRequest) request).getMultiFileMap();
+                for (Entry<String, List<MultipartFile>> entry : fileMap.entrySet()) {
+                    List<MultipartFile> value = entry.getValue();
+                    if (value.size() == 1) {
+                        requestMap.put(entry.getKey(), value.get(0));
+                    }
+                    else {
+                        requestMap.put(entry.getKey(), value);
+                    }
+                }
+            }
+            return requestMap;
+        }
+
+    }
+
 }
@@ -0,0 +1,406 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.web.servlet;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import jakarta.servlet.http.HttpSession;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.grails.web.servlet.mvc.GrailsWebRequest;
+import org.grails.web.util.GrailsApplicationAttributes;
+import org.grails.web.util.HmacSigner;
+
+/**
+ * A flash scope that is kept in a signed cookie instead of the {@link HttpSession},
+ * so that a POST-redirect-GET does not create or modify the session.
+ *
+ * <p>The cookie can hold strings, numbers, booleans, and lists and maps of them, which covers
+ * the usual flash messages. If the values for the next request can not be held by the cookie,
+ * because they are of another type or larger than the maximum size of the cookie, or because
+ * they were changed after the response has been committed, they are kept in the session instead.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class CookieFlashScope extends GrailsFlashScope {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default name of the cookie
+     */
+    public static final String DEFAULT_COOKIE_NAME = "GRAILS_FLASH";
+
+    /**
+     * The default maximum size of the cookie value, browsers accept 4096 bytes for the name, the value and the attributes
+     */
+    public static final int DEFAULT_MAX_SIZE = 4000;
+
+    /**
+     * The session attribute that holds the values that could not be kept in the cookie
+     */
+    public static final String OVERFLOW_ATTRIBUTE = GrailsApplicationAttributes.FLASH_SCOPE + ".OVERFLOW";
+
+    private static final Log logger = LogFactory.getLog(CookieFlashScope.class);
+
+    private static final byte NULL = 0;
+
+    private static final byte STRING = 1;
+
+    private static final byte BOOLEAN = 2;
+
+    private static final byte INTEGER = 3;
+
+    private static final byte LONG = 4;
+
+    private static final byte DOUBLE = 5;
+
+    private static final byte LIST = 6;
+
+    private static final byte MAP = 7;
+
+    private final transient HmacSigner signer;
+
+    private final String cookieName;
+
+    private final int maxSize;
+
+    private boolean cookieReceived;
+
+    private boolean saved;
+
+    public CookieFlashScope(HmacSigner signer, String cookieName, int maxSize) {
+        super(false);
+        this.signer = signer;
+        this.cookieName = cookieName;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Restores the values for this request from the cookie, and from the session if they did not fit in the cookie,
+     * {@link #next()} must be called afterwards to make them current
+     *
+     * @param request The request
+     */
+    public void restore(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (this.cookieName.equals(cookie.getName())) {
+                    this.cookieReceived = true;
+                    Map<String, Object> values = decode(this.signer.verify(cookie.getValue()));
+                    if (values != null) {
+                        values.forEach((key, value) -> {
+                            if (value != null) {
+                                getNext().put(key, value);
+                            }
+                        });
+                    }
+                    else if (logger.isDebugEnabled()) {
+                        logger.debug("Ignoring flash scope cookie with invalid signature or content");
+                    }
+                }
+            }
+        }
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            Object overflow = session.getAttribute(OVERFLOW_ATTRIBUTE);
+            if (overflow instanceof Map) {
+                session.removeAttribute(OVERFLOW_ATTRIBUTE);
+                getNext().putAll((Map) overflow);
+            }
+        }
+    }
+
+    /**
+     * Saves the values for the next request in the cookie, or in the session if they do not fit,
+     * only the first call has an effect
+     *
+     * @param request The request
+     * @param response The response, which must not be committed
+     */
+    public synchronized void save(HttpServletRequest request, HttpServletResponse response) {
+        if (this.saved) {
+            return;
+        }
+        this.saved = true;
+
+        Map<String, Object> next = getNext();
+        if (next.isEmpty()) {
+            if (this.cookieReceived) {
+                addCookie(request, response, "", 0);
+            }
+            return;
+        }
+
+        byte[] payload = encode(next);
+        String value = payload != null ? this.signer.sign(payload) : null;
+        if (value != null && value.length() <= this.maxSize) {
+            addCookie(request, response, value, -1);
+        }
+        else {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Flash scope values " + next.keySet() + " do not fit in a cookie, they are kept in the session");
+            }
+            overflow(request);
+            if (this.cookieReceived) {
+                addCookie(request, response, "", 0);
+            }
+        }
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Object previous = super.put(key, value);
+        if (this.saved) {
+            // the cookie has already been written
+            overflow(currentRequest());
+        }
+        return previous;
+    }
+
+    private void overflow(HttpServletRequest request) {
+        if (request != null) {
+            request.getSession(true).setAttribute(OVERFLOW_ATTRIBUTE, new LinkedHashMap<>(getNext()));
+        }
+    }
+
+    private static HttpServletRequest currentRequest() {
+        GrailsWebRequest webRequest = GrailsWebRequest.lookup();
+        return webRequest != null ? webRequest.getCurrentRequest() : null;
+    }
+
+    private void addCookie(HttpServletRequest request, HttpServletResponse response, String value, int maxAge) {
+        if (response.isCommitted()) {
+            if (maxAge != 0) {
+                overflow(request);
+            }
+            return;
+        }
+        Cookie cookie = new Cookie(this.cookieName, value);
+        String contextPath = request.getContextPath();
+        cookie.setPath(contextPath == null || contextPath.isEmpty() ? "/" : contextPath);
+        cookie.setHttpOnly(true);
+        cookie.setSecure(request.isSecure());
+        cookie.setMaxAge(maxAge);
+        cookie.setAttribute("SameSite", "Lax");
+        response.addCookie(cookie);
+    }
+
+    /**
+     * Encodes flash scope values
+     *
+     * @param values The values
+     * @return The encoded values or null if any of the values can not be encoded
+     */
+    static byte[] encode(Map<String, Object> values) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            if (!write(out, values)) {
+                return null;
+            }
+        }
+        catch (IOException e) {
+            return null;
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes flash scope values
+     *
+     * @param payload The encoded values, can be null
+     * @return The values or null if the payload is malformed
+     */
+    static Map<String, Object> decode(byte[] payload) {
+        if (payload == null) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            Object values = read(in);
+            return values instanceof Map ? (Map<String, Object>) values : null;
+        }
+        catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static boolean write(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        }
+        else if (value instanceof CharSequence) {
+            out.writeByte(STRING);
+            out.writeUTF(value.toString());
+        }
+        else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        }
+        else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            out.writeByte(INTEGER);
+            out.writeInt(((Number) value).intValue());
+        }
+        else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        }
+        else if (value instanceof Double || value instanceof Float) {
+            out.writeByte(DOUBLE);
+            out.writeDouble(((Number) value).doubleValue());
+        }
+        else if (value instanceof Collection || value instanceof Object[]) {
+            Collection<?> values = value instanceof Collection ? (Collection<?>) value : Arrays.asList((Object[]) value);
+            out.writeByte(LIST);
+            out.writeInt(values.size());
+            for (Object element : values) {
+                if (!write(out, element)) {
+                    return false;
+                }
+            }
+        }
+        else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            out.writeByte(MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!(entry.getKey() instanceof CharSequence)) {
+                    return false;
+                }
+                out.writeUTF(entry.getKey().toString());
+                if (!write(out, entry.getValue())) {
+                    return false;
+                }
+            }
+        }
+        else {
+            return false;
+        }
+        return true;
+    }
+
+    private static Object read(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return in.readUTF();
+            case BOOLEAN:
+                return in.readBoolean();
+            case INTEGER:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case DOUBLE:
+                return in.readDouble();
+            case LIST:
+                int size = in.readInt();
+                List<Object> list = new ArrayList<>(Math.min(size, 16));
+                for (int i = 0; i < size; i++) {
+                    list.add(read(in));
+                }
+                return list;
+            case MAP:
+                int entries = in.readInt();
+                Map<String, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < entries; i++) {
+                    map.put(in.readUTF(), read(in));
+                }
+                return map;
+            default:
+                throw new IOException("Unknown type " + type);
+        }
+    }
+
+    /**
+     * Saves the {@link CookieFlashScope} before the response is committed
+     */
+    public static class ResponseWrapper extends HttpServletResponseWrapper {
+
+        private final HttpServletRequest request;
+
+        private final CookieFlashScope flashScope;
+
+        public ResponseWrapper(HttpServletRequest request, HttpServletResponse response, CookieFlashScope flashScope) {
+            super(response);
+            this.request = request;
+            this.flashScope = flashScope;
+        }
+
+        private void saveFlashScope() {
+            this.flashScope.save(this.request, (HttpServletResponse) getResponse());
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            saveFlashScope();
+            super.sendRedirect(location);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            saveFlashScope();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            saveFlashScope();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            saveFlashScope();
+            super.flushBuffer();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            saveFlashScope();
+            return super.getWriter();
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            saveFlashScope();
+            return super.getOutputStream();
+        }
+
+    }
+
+}
@@ -176,14 +176,15 @@ public class DefaultGrailsApplicationAttributes implements GrailsApplicationAttr
         }
 
         HttpServletRequest servletRequest = (HttpServletRequest) request;
+        FlashScope fs = (FlashScope) request.getAttribute(FLASH_SCOPE);
+        if (fs instanceof CookieFlashScope) {
+            // the flash scope is kept in a cookie, see GrailsWebRequestFilter
+            return fs;
+        }
         HttpSession session = servletRequest.getSession(false);
-        FlashScope fs;
         if (session != null) {
             fs = (FlashScope) session.getAttribute(FLASH_SCOPE);
         }
-        else {
-            fs = (FlashScope) request.getAttribute(FLASH_SCOPE);
-        }
         if (fs == null) {
             fs = new GrailsFlashScope();
             if (session != null) {
@@ -73,6 +73,13 @@ public class GrailsFlashScope implements FlashScope {
         return this.current;
     }
 
+    /**
+     * @return The values that will be available in the next request
+     */
+    protected Map<String, Object> getNext() {
+        return this.next;
+    }
+
     private void reassociateObjectsWithErrors(Map scope) {
         for (Object key : scope.keySet()) {
             Object value = scope.get(key);
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.web.util;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.ServletResponseWrapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Sends a file, or the byte ranges of a file requested with the Range header, as the response.
+ *
+ * <p>The file is sent with its length, its last modified date and an ETag computed from both, and the
+ * conditional and range headers of the request are honoured, answering with 304 (Not Modified),
+ * 206 (Partial Content) or 416 (Range Not Satisfiable).
+ *
+ * <p>When the container supports it, like Tomcat with the NIO connectors, a file or a single range is sent
+ * with sendfile after the request has been processed, so the file is neither copied to the heap nor does it
+ * hold the request thread. Otherwise, the file is transferred from a {@link FileChannel}.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+public final class FileResponseRenderer {
+
+    /**
+     * The request attribute set by the container when it can send files with sendfile
+     */
+    public static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+
+    private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+
+    private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+
+    private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
+    private static final String BYTES = "bytes";
+
+    private static final String CRLF = "\r\n";
+
+    private FileResponseRenderer() {
+    }
+
+    /**
+     * Sends the file, or the requested ranges of it, as the response
+     *
+     * @param request The request
+     * @param response The response, its content type has been set
+     * @param file The file
+     * @throws IOException If the file can not be sent
+     */
+    public static void render(HttpServletRequest request, HttpServletResponse response, File file) throws IOException {
+        if (!file.isFile() || !file.canRead()) {
+            throw new FileNotFoundException("File " + file + " does not exist or cannot be read");
+        }
+        long length = file.length();
+        long lastModified = file.lastModified();
+        String etag = "\"" + Long.toHexString(lastModified) + '-' + Long.toHexString(length) + "\"";
+
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, BYTES);
+
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || !isIfRangeMatched(request, etag, lastModified)) {
+            send(request, response, file, 0, length);
+            return;
+        }
+
+        List<ResourceRegion> regions;
+        try {
+            regions = HttpRange.toResourceRegions(HttpRange.parseRanges(rangeHeader), new FileSystemResource(file));
+        }
+        catch (IllegalArgumentException ex) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+        if (regions.isEmpty()) {
+            send(request, response, file, 0, length);
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        if (regions.size() == 1) {
+            ResourceRegion region = regions.get(0);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, contentRange(region, length));
+            send(request, response, file, region.getPosition(), region.getCount());
+        }
+        else {
+            sendMultipart(request, response, file, regions, length);
+        }
+    }
+
+    private static boolean isIfRangeMatched(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (!StringUtils.hasText(ifRange)) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        long date = request.getDateHeader(HttpHeaders.IF_RANGE);
+        return date != -1 && lastModified / 1000 == date / 1000;
+    }
+
+    private static String contentRange(ResourceRegion region, long length) {
+        return BYTES + ' ' + region.getPosition() + '-' + (region.getPosition() + region.getCount() - 1) + '/' + length;
+    }
+
+    private static void send(HttpServletRequest request, HttpServletResponse response, File file, long position, long count)
+            throws IOException {
+        if ("HEAD".equals(request.getMethod())) {
+            response.setContentLengthLong(count);
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTRIBUTE)) && !response.isCommitted()) {
+            // the container writes the file itself, past the response wrappers, so it needs the length of the body
+            containerResponse(response).setContentLengthLong(count);
+            request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, file.getCanonicalPath());
+            request.setAttribute(SENDFILE_START_ATTRIBUTE, position);
+            request.setAttribute(SENDFILE_END_ATTRIBUTE, position + count);
+            return;
+        }
+        response.setContentLengthLong(count);
+        transfer(file, position, count, response.getOutputStream());
+    }
+
+    private static void sendMultipart(HttpServletRequest request, HttpServletResponse response, File file,
+            List<ResourceRegion> regions, long length) throws IOException {
+        String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+        String contentType = response.getContentType();
+        String[] partHeaders = new String[regions.size()];
+        long contentLength = 0;
+        for (int i = 0; i < regions.size(); i++) {
+            ResourceRegion region = regions.get(i);
+            StringBuilder headers = new StringBuilder(CRLF).append("--").append(boundary).append(CRLF);
+            if (contentType != null) {
+                headers.append(HttpHeaders.CONTENT_TYPE).append(": ").append(contentType).append(CRLF);
+            }
+            headers.append(HttpHeaders.CONTENT_RANGE).append(": ").append(contentRange(region, length)).append(CRLF).append(CRLF);
+            partHeaders[i] = headers.toString();
+            contentLength += partHeaders[i].length() + region.getCount();
+        }
+        String end = CRLF + "--" + boundary + "--" + CRLF;
+        contentLength += end.length();
+
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(contentLength);
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+        OutputStream out = response.getOutputStream();
+        for (int i = 0; i < regions.size(); i++) {
+            out.write(partHeaders[i].getBytes(StandardCharsets.US_ASCII));
+            transfer(file, regions.get(i).getPosition(), regions.get(i).getCount(), out);
+        }
+        out.write(end.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void transfer(File file, long position, long count, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long offset = position;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(offset, remaining, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                offset += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    private static HttpServletResponse containerResponse(HttpServletResponse response) {
+        ServletResponse current = response;
+        while (current instanceof ServletResponseWrapper) {
+            current = ((ServletResponseWrapper) current).getResponse();
+        }
+        return current instanceof HttpServletResponse ? (HttpServletResponse) current : response;
+    }
+
+}
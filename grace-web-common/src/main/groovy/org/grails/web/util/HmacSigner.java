@@ -0,0 +1,124 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.web.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Signs values with HMAC-SHA256, so that state can be handed to the client, in a cookie or a form field,
+ * and trusted when it comes back to any node of the application.
+ *
+ * <p>A signed value is {@code payload.signature}, both encoded with URL safe Base64 without padding,
+ * so it can be used as a cookie value or a request parameter as is.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+public class HmacSigner {
+
+    private static final Log logger = LogFactory.getLog(HmacSigner.class);
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private static final byte[] RANDOM_SECRET = new byte[32];
+
+    static {
+        new SecureRandom().nextBytes(RANDOM_SECRET);
+    }
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+
+    /**
+     * @param secret The secret
+     * @param purpose The purpose of the signatures, a value signed for a purpose is not valid for another one
+     */
+    public HmacSigner(byte[] secret, String purpose) {
+        this.key = new SecretKeySpec(mac(new SecretKeySpec(secret, ALGORITHM), purpose.getBytes(StandardCharsets.UTF_8)), ALGORITHM);
+    }
+
+    /**
+     * Creates a signer with the configured secret, or with a random secret generated when the JVM starts
+     * if none is configured, the signed values are then only valid on this node until it is restarted
+     *
+     * @param secret The configured secret, can be null
+     * @param purpose The purpose of the signatures
+     * @return The signer
+     */
+    public static HmacSigner create(String secret, String purpose) {
+        if (secret == null || secret.isEmpty()) {
+            logger.warn("No signing secret is configured, values signed for [" + purpose + "] are only valid on this node " +
+                    "until it is restarted, set 'grails.web.signing.secret' to share them between nodes");
+            return new HmacSigner(RANDOM_SECRET, purpose);
+        }
+        return new HmacSigner(secret.getBytes(StandardCharsets.UTF_8), purpose);
+    }
+
+    /**
+     * @param payload The payload
+     * @return The signed value
+     */
+    public String sign(byte[] payload) {
+        return ENCODER.encodeToString(payload) + '.' + ENCODER.encodeToString(mac(this.key, payload));
+    }
+
+    /**
+     * @param value The signed value, can be null
+     * @return The payload, or null if the value is malformed or its signature is not valid
+     */
+    public byte[] verify(String value) {
+        if (value == null) {
+            return null;
+        }
+        int separator = value.indexOf('.');
+        if (separator < 0) {
+            return null;
+        }
+        try {
+            byte[] payload = DECODER.decode(value.substring(0, separator));
+            byte[] signature = DECODER.decode(value.substring(separator + 1));
+            return MessageDigest.isEqual(signature, mac(this.key, payload)) ? payload : null;
+        }
+        catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static byte[] mac(SecretKeySpec key, byte[] data) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(data);
+        }
+        catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to sign with " + ALGORITHM + ": " + e.getMessage(), e);
+        }
+    }
+
+}
@@ -494,4 +494,73 @@ class GrailsParameterMapTests {
         assert '[a.b.c.d:1, a:[b.c.d:1, b:[c.d:1, c:[d:1], e:2], b.e:2], a.b.e:2]' == params.toString()
         assert params != null
     }
+
+    @Test
+    void testRequestParametersAreReadOnFirstAccess() {
+        def request = new MockHttpServletRequest()
+        request.content = 'foo=bar'.bytes
+        request.method = 'PUT'
+        request.contentType = "application/x-www-form-urlencoded"
+
+        def params = new GrailsParameterMap(request)
+        assertNull request.getAttribute(GrailsParameterMap.REQUEST_BODY_PARSED)
+
+        assert 'bar' == params.foo
+        assertNotNull request.getAttribute(GrailsParameterMap.REQUEST_BODY_PARSED)
+    }
+
+    @Test
+    void testPutBeforeFirstAccess() {
+        mockRequest.addParameter("name", "Dierk Koenig")
+        mockRequest.addParameter("id", "1")
+        mockRequest.addParameter("address.town", "Swindon")
+        theMap = new GrailsParameterMap(mockRequest)
+
+        assert theMap.put('id', '2') == '1'
+        theMap.controller = 'book'
+
+        assert theMap.id == '2'
+        assert theMap.name == 'Dierk Koenig'
+        assert theMap.containsKey('address')
+        assert theMap.keySet().toList() == ['name', 'id', 'address.town', 'address', 'controller']
+        assert theMap.address.town == 'Swindon'
+    }
+
+    @Test
+    void testNestedPrefixExpandedOnDemand() {
+        mockRequest.addParameter("a.b.c", "on")
+        mockRequest.addParameter("_a.b.c", "")
+        mockRequest.addParameter("other.x", "1")
+        theMap = new GrailsParameterMap(mockRequest)
+
+        def a = theMap.a
+        a.extra = 'value'
+
+        assert theMap.a.is(a)
+        assert a.b.c == 'on'
+        assert a['_b.c'] == ''
+
+        assert theMap.size() == 5
+        assert theMap.a.is(a)
+        assert theMap.a.extra == 'value'
+        assert theMap.other.x == '1'
+    }
+
+    @Test
+    void testCloningBeforeFirstAccess() {
+        mockRequest.addParameter("name", "Dierk Koenig")
+        mockRequest.addParameter("address.postCode", "345435")
+        theMap = new GrailsParameterMap(mockRequest)
+        theMap.address.town = 'Swindon'
+
+        GrailsParameterMap theClone = theMap.clone()
+        theClone.name = 'Guillaume Laforge'
+        theClone.address.town = 'Paris'
+
+        assert theMap.name == 'Dierk Koenig'
+        assert theMap.address.town == 'Swindon'
+        assert theClone.address.postCode == '345435'
+        assert theClone.address.town == 'Paris'
+        assert theMap.toQueryString().contains('name=Dierk+Koenig')
+    }
 }
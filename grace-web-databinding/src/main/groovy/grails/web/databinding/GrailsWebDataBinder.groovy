@@ -20,6 +20,8 @@ import java.lang.annotation.Annotation
 import groovy.transform.CompileStatic
 import groovy.transform.TypeCheckingMode
 import groovy.xml.slurpersupport.GPathResult
+import io.micrometer.observation.Observation
+import io.micrometer.observation.ObservationRegistry
 import org.apache.commons.lang3.StringUtils
 import org.codehaus.groovy.runtime.InvokerHelper
 import org.codehaus.groovy.runtime.MetaClassHelper
@@ -62,6 +64,7 @@ import org.grails.web.databinding.DataBindingEventMulticastListener
 import org.grails.web.databinding.GrailsWebDataBindingListener
 import org.grails.web.databinding.SpringConversionServiceAdapter
 import org.grails.web.databinding.converters.ByteArrayMultipartFileValueConverter
+import org.grails.web.databinding.jfr.DataBindEvent
 import org.grails.web.servlet.mvc.GrailsWebRequest
 
 import static grails.web.databinding.DataBindingUtils.getBindingIncludeList
@@ -69,7 +72,16 @@ import static grails.web.databinding.DataBindingUtils.getBindingIncludeList
 @CompileStatic
 class GrailsWebDataBinder extends SimpleDataBinder {
 
+    /**
+     * The name of the observation of binding a source to an object, tagged by the type of the object and the outcome,
+     * with an event for every binding error
+     */
+    static final String BINDING_OBSERVATION_NAME = 'grails.databinding'
+
+    private static final Observation.Event BINDING_ERROR_EVENT = Observation.Event.of('errors', 'data binding error')
+
     protected GrailsApplication grailsApplication
+    protected ObservationRegistry observationRegistry = ObservationRegistry.NOOP
     protected MessageSource messageSource
     boolean trimStrings = true
     boolean convertEmptyStringsToNull = true
@@ -101,6 +113,52 @@ class GrailsWebDataBinder extends SimpleDataBinder {
     protected void doBind(Object object, DataBindingSource source, String filter, List whiteList, List blackList,
                           DataBindingListener listener, Object errors) {
         BeanPropertyBindingResult bindingResult = (BeanPropertyBindingResult) errors
+        DataBindEvent event = new DataBindEvent()
+        event.begin()
+        try {
+            if (observationRegistry.isNoop()) {
+                bindWithListeners(object, source, filter, whiteList, blackList, listener, bindingResult)
+            }
+            else {
+                observeBinding(object, source, filter, whiteList, blackList, listener, bindingResult)
+            }
+        }
+        finally {
+            event.end()
+            if (event.shouldCommit()) {
+                event.setTargetClass(object.getClass())
+                event.setPropertyCount(source.propertyNames.size())
+                event.setErrorCount(bindingResult.errorCount)
+                event.commit()
+            }
+        }
+    }
+
+    private void observeBinding(Object object, DataBindingSource source, String filter, List whiteList, List blackList,
+                                DataBindingListener listener, BeanPropertyBindingResult bindingResult) {
+        Observation observation = Observation.createNotStarted(BINDING_OBSERVATION_NAME, observationRegistry)
+                .lowCardinalityKeyValue('type', object.getClass().name)
+                .start()
+        try {
+            bindWithListeners(object, source, filter, whiteList, blackList, listener, bindingResult)
+            int errorCount = bindingResult.errorCount
+            for (int i = 0; i < errorCount; i++) {
+                observation.event(BINDING_ERROR_EVENT)
+            }
+            observation.lowCardinalityKeyValue('outcome', errorCount ? 'errors' : 'success')
+        }
+        catch (Throwable e) {
+            observation.lowCardinalityKeyValue('outcome', 'failure')
+            observation.error(e)
+            throw e
+        }
+        finally {
+            observation.stop()
+        }
+    }
+
+    private void bindWithListeners(Object object, DataBindingSource source, String filter, List whiteList, List blackList,
+                                   DataBindingListener listener, BeanPropertyBindingResult bindingResult) {
         DataBindingListener errorHandlingListener = new GrailsWebDataBindingListener(messageSource)
 
         List<DataBindingListener> allListeners = []
@@ -680,6 +738,13 @@ class GrailsWebDataBinder extends SimpleDataBinder {
         this.messageSource = messageSource
     }
 
+    /**
+     * Sets the registry of the observations of the data binding, which is not observed by default
+     */
+    void setObservationRegistry(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry
+    }
+
     @Override
     protected String getFormatString(Annotation annotation) {
         assert annotation instanceof BindingFormat
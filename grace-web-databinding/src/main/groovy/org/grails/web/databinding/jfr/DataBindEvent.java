@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.web.databinding.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for binding a data binding source to an object.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@Name(DataBindEvent.NAME)
+@Label("Data Bind")
+@Category({ "Grails", "Data Binding" })
+@Description("Binds a data binding source to an object")
+@StackTrace(false)
+public class DataBindEvent extends Event {
+
+    public static final String NAME = "grails.DataBind";
+
+    @Label("Target Class")
+    private Class<?> targetClass;
+
+    @Label("Property Count")
+    @Description("The properties of the binding source")
+    private int propertyCount;
+
+    @Label("Error Count")
+    private int errorCount;
+
+    public void setTargetClass(Class<?> targetClass) {
+        this.targetClass = targetClass;
+    }
+
+    public void setPropertyCount(int propertyCount) {
+        this.propertyCount = propertyCount;
+    }
+
+    public void setErrorCount(int errorCount) {
+        this.errorCount = errorCount;
+    }
+
+}
@@ -0,0 +1,48 @@
+package org.grails.web.databinding
+
+import java.nio.file.Path
+
+import jdk.jfr.Recording
+import jdk.jfr.consumer.RecordedEvent
+import jdk.jfr.consumer.RecordingFile
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import grails.databinding.SimpleMapDataBindingSource
+import grails.web.databinding.GrailsWebDataBinder
+import org.grails.web.databinding.jfr.DataBindEvent
+
+class DataBindEventSpec extends Specification {
+
+    @TempDir
+    Path tempDir
+
+    void 'Test binding is recorded with the target class, the properties and the errors'() {
+        given:
+        GrailsWebDataBinder binder = new GrailsWebDataBinder()
+        Recording recording = new Recording()
+        recording.enable(DataBindEvent.NAME)
+
+        when:
+        recording.start()
+        binder.bind new RecordedBook(), [title: 'Groovy in Action', pages: '912'] as SimpleMapDataBindingSource
+        binder.bind new RecordedBook(), [title: 'Grails in Action', pages: 'many', unknown: 'x'] as SimpleMapDataBindingSource
+        recording.stop()
+        Path file = tempDir.resolve('recording.jfr')
+        recording.dump(file)
+        recording.close()
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).findAll { it.eventType.name == DataBindEvent.NAME }
+
+        then:
+        events.size() == 2
+        events.every { it.getClass('targetClass').name == RecordedBook.name }
+        events*.getInt('propertyCount') == [2, 3]
+        events*.getInt('errorCount') == [0, 1]
+    }
+
+}
+
+class RecordedBook {
+    String title
+    Integer pages
+}
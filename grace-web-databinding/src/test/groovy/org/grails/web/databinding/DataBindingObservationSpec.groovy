@@ -0,0 +1,54 @@
+package org.grails.web.databinding
+
+import io.micrometer.observation.Observation
+import io.micrometer.observation.ObservationHandler
+import io.micrometer.observation.ObservationRegistry
+import spock.lang.Specification
+
+import grails.databinding.SimpleMapDataBindingSource
+import grails.web.databinding.GrailsWebDataBinder
+
+class DataBindingObservationSpec extends Specification {
+
+    void 'Test binding is observed with the type and the outcome and an event per error'() {
+        given:
+        List<Observation.Context> contexts = []
+        List<Observation.Event> events = []
+        ObservationRegistry registry = ObservationRegistry.create()
+        registry.observationConfig().observationHandler(new ObservationHandler<Observation.Context>() {
+            @Override
+            boolean supportsContext(Observation.Context context) {
+                true
+            }
+
+            @Override
+            void onEvent(Observation.Event event, Observation.Context context) {
+                events << event
+            }
+
+            @Override
+            void onStop(Observation.Context context) {
+                contexts << context
+            }
+        })
+        GrailsWebDataBinder binder = new GrailsWebDataBinder()
+        binder.observationRegistry = registry
+
+        when:
+        binder.bind new ObservedBook(), [title: 'Groovy in Action', pages: '912'] as SimpleMapDataBindingSource
+        binder.bind new ObservedBook(), [pages: 'many', edition: 'first'] as SimpleMapDataBindingSource
+
+        then:
+        contexts*.name == [GrailsWebDataBinder.BINDING_OBSERVATION_NAME] * 2
+        contexts.every { it.getLowCardinalityKeyValue('type').value == ObservedBook.name }
+        contexts.collect { it.getLowCardinalityKeyValue('outcome').value } == ['success', 'errors']
+        events.size() == 2
+    }
+
+}
+
+class ObservedBook {
+    String title
+    Integer pages
+    Integer edition
+}
@@ -15,7 +15,10 @@
  */
 package org.grails.plugins.web.taglib
 
+import java.util.concurrent.Callable
+
 import com.opensymphony.module.sitemesh.RequestConstants
+import groovy.text.Template
 import groovy.transform.CompileStatic
 
 import grails.artefact.TagLibrary
@@ -26,8 +29,11 @@ import org.grails.buffer.GrailsPrintWriter
 import org.grails.buffer.StreamCharBuffer
 import org.grails.encoder.CodecLookup
 import org.grails.encoder.Encoder
+import org.grails.gsp.GroovyPageTemplate
 import org.grails.gsp.compiler.SitemeshPreprocessor
 import org.grails.web.sitemesh.GSPSitemeshPage
+import org.grails.web.sitemesh.ProgressiveLayout
+import org.grails.web.sitemesh.SpringMVCViewDecorator
 
 /**
  * Internal Sitemesh pre-processor tags.
@@ -155,6 +161,9 @@ class SitemeshTagLib implements RequestConstants, TagLibrary {
      * Captures the &lt;body&gt; tag.
      */
     Closure captureBody = { Map attrs, body ->
+        if (body != null && applyProgressiveLayout(attrs, body)) {
+            return
+        }
         def content = captureTagContent(out, 'body', attrs, body)
         if (content != null) {
             GSPSitemeshPage smpage = findGSPSitemeshPage(request)
@@ -169,6 +178,40 @@ class SitemeshTagLib implements RequestConstants, TagLibrary {
         }
     }
 
+    /**
+     * Applies a progressive layout that only needs what has been captured before the body,
+     * the body is rendered when the layout writes it.
+     */
+    protected boolean applyProgressiveLayout(Map attrs, Object body) {
+        def request = getRequest()
+        GSPSitemeshPage smpage = findGSPSitemeshPage(request)
+        ProgressiveLayout progressiveLayout = smpage ? ProgressiveLayout.claim(request) : null
+        SpringMVCViewDecorator decorator = progressiveLayout?.findLayout(smpage)
+        Template template = decorator?.template
+        if (!(template instanceof GroovyPageTemplate) || !((GroovyPageTemplate) template).metaInfo.progressiveLayout) {
+            return false
+        }
+
+        if (attrs) {
+            attrs.each { k, v ->
+                smpage.addProperty("body.${k?.toString()?.toLowerCase()}", v?.toString())
+            }
+        }
+        smpage.setDeferredBody({ ->
+            // the content blocks of the body belong to the page, not to the layout
+            Object layoutPage = request.getAttribute(GSP_SITEMESH_PAGE)
+            request.setAttribute(GSP_SITEMESH_PAGE, smpage)
+            try {
+                return wrapContentInBuffer(body)
+            }
+            finally {
+                request.setAttribute(GSP_SITEMESH_PAGE, layoutPage)
+            }
+        } as Callable<StreamCharBuffer>)
+        progressiveLayout.render(decorator, smpage)
+        true
+    }
+
     /**
      * Captures the individual &lt;content&gt; tags.
      */
@@ -50,6 +50,7 @@ import org.grails.gsp.GroovyPageBinding;
 import org.grails.gsp.GroovyPageMetaInfo;
 import org.grails.gsp.GroovyPagesTemplateEngine;
 import org.grails.gsp.io.GroovyPageScriptSource;
+import org.grails.gsp.jfr.GspRenderEvent;
 import org.grails.io.support.GrailsResourceUtils;
 import org.grails.taglib.GrailsTagException;
 import org.grails.taglib.TemplateVariableBinding;
@@ -122,7 +123,18 @@ public class GroovyPagesTemplateRenderer implements InitializingBean {
             throw new GrailsTagException("Template not found for name [" + templateName + "] and path [" + uri + "]");
         }
 
-        makeTemplate(webRequest, t, attrs, body, out);
+        GspRenderEvent event = new GspRenderEvent();
+        event.begin();
+        try {
+            makeTemplate(webRequest, t, attrs, body, out);
+        }
+        finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setTemplateUri(uri);
+                event.commit();
+            }
+        }
     }
 
     // required for binary compatibility: GRAILS-11598
@@ -76,6 +76,8 @@ public final class GSPResponseWriter extends GrailsRoutablePrintWriter implement
 
     private StreamCharBuffer buffer;
 
+    private CharCountingWriter charCounter;
+
     private static ObjectInstantiator instantiator = null;
 
     static {
@@ -109,7 +111,19 @@ public final class GSPResponseWriter extends GrailsRoutablePrintWriter implement
     }
 
     public static GSPResponseWriter getInstance(final ServletResponse response) {
-        return getInstance(response, BUFFER_SIZE);
+        return getInstance(response, BUFFER_SIZE, false);
+    }
+
+    /**
+     * Static factory method to create the writer, which counts the characters written to the response when
+     * {@code countCharacters} is true.
+     * @param response The servlet response
+     * @param countCharacters Whether to count the characters written to the response
+     * @return A GSPResponseWriter instance
+     * @see #getCharactersWritten()
+     */
+    public static GSPResponseWriter getInstance(final ServletResponse response, boolean countCharacters) {
+        return getInstance(response, BUFFER_SIZE, countCharacters);
     }
 
     /**
@@ -118,8 +132,10 @@ public final class GSPResponseWriter extends GrailsRoutablePrintWriter implement
      * @param max
      * @return A GSPResponseWriter instance
      */
-    private static GSPResponseWriter getInstance(final ServletResponse response, final int max) {
+    private static GSPResponseWriter getInstance(final ServletResponse response, final int max, boolean countCharacters) {
         final BoundedCharsAsEncodedBytesCounter bytesCounter = new BoundedCharsAsEncodedBytesCounter();
+        final CharCountingWriter charCounter = countCharacters && !(response instanceof GrailsContentBufferingResponse) ?
+                new CharCountingWriter() : null;
 
         final StreamCharBuffer streamBuffer = new StreamCharBuffer(max, 0, max);
         streamBuffer.setChunkMinSize(max / 2);
@@ -151,6 +167,16 @@ public final class GSPResponseWriter extends GrailsRoutablePrintWriter implement
                     else {
                         lazyWriters = new StreamCharBuffer.LazyInitializingWriter[] { lazyResponseWriter };
                     }
+                    if (charCounter != null) {
+                        LazyInitializingWriter[] countingWriters = new LazyInitializingWriter[lazyWriters.length + 1];
+                        System.arraycopy(lazyWriters, 0, countingWriters, 0, lazyWriters.length);
+                        countingWriters[lazyWriters.length] = new LazyInitializingWriter() {
+                            public Writer getWriter() {
+                                return charCounter;
+                            }
+                        };
+                        return countingWriters;
+                    }
                     return lazyWriters;
                 }
             }, AUTOFLUSH_ENABLED);
@@ -159,14 +185,16 @@ public final class GSPResponseWriter extends GrailsRoutablePrintWriter implement
             streamBuffer.connectTo(lazyResponseWriter);
         }
 
+        GSPResponseWriter instance;
         if (instantiator != null) {
-            GSPResponseWriter instance = (GSPResponseWriter) instantiator.newInstance();
+            instance = (GSPResponseWriter) instantiator.newInstance();
             instance.initialize(streamBuffer, response, bytesCounter);
-            return instance;
         }
         else {
-            return new GSPResponseWriter(streamBuffer, response, bytesCounter);
+            instance = new GSPResponseWriter(streamBuffer, response, bytesCounter);
         }
+        instance.charCounter = charCounter;
+        return instance;
     }
 
     /**
@@ -293,4 +321,46 @@ public final class GSPResponseWriter extends GrailsRoutablePrintWriter implement
         return this.encoder;
     }
 
+    /**
+     * Returns the characters written to the response so far, or -1 when they are not counted, because the writer
+     * was not created to count them or the response is buffered for a layout
+     *
+     * @return The characters written
+     */
+    public long getCharactersWritten() {
+        return this.charCounter != null ? this.charCounter.count : -1;
+    }
+
+    /**
+     * Counts the characters flushed from the buffer to the response, without writing them anywhere.
+     */
+    private static final class CharCountingWriter extends Writer {
+
+        private long count;
+
+        @Override
+        public void write(int c) {
+            this.count++;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            this.count += len;
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            this.count += len;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+    }
+
 }
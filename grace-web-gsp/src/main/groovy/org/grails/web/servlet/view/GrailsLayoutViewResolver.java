@@ -19,9 +19,11 @@ import java.util.Locale;
 
 import jakarta.servlet.ServletContext;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.Ordered;
@@ -45,6 +47,8 @@ public class GrailsLayoutViewResolver implements LayoutViewResolver, Ordered, Se
 
     protected ServletContext servletContext;
 
+    protected ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
     public GrailsLayoutViewResolver(ViewResolver innerViewResolver, GroovyPageLayoutFinder groovyPageLayoutFinder) {
         this.innerViewResolver = innerViewResolver;
         this.groovyPageLayoutFinder = groovyPageLayoutFinder;
@@ -70,7 +74,11 @@ public class GrailsLayoutViewResolver implements LayoutViewResolver, Ordered, Se
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Creating layout view name [{}] and locale [{}]", viewName, locale);
             }
-            return createLayoutView(innerView);
+            View layoutView = createLayoutView(innerView);
+            if (layoutView instanceof GrailsLayoutView) {
+                ((GrailsLayoutView) layoutView).setObservationRegistry(this.observationRegistry);
+            }
+            return layoutView;
         }
     }
 
@@ -114,4 +122,9 @@ public class GrailsLayoutViewResolver implements LayoutViewResolver, Ordered, Se
         this.groovyPageLayoutFinder = groovyPageLayoutFinder;
     }
 
+    @Autowired(required = false)
+    public void setObservationRegistry(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
 }
@@ -22,6 +22,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import groovy.text.Template;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.core.io.Resource;
@@ -34,6 +36,7 @@ import org.grails.gsp.GroovyPageTemplate;
 import org.grails.gsp.GroovyPageWritable;
 import org.grails.gsp.GroovyPagesException;
 import org.grails.gsp.GroovyPagesTemplateEngine;
+import org.grails.gsp.jfr.GspRenderEvent;
 import org.grails.web.pages.GSPResponseWriter;
 import org.grails.web.servlet.mvc.GrailsWebRequest;
 import org.grails.web.sitemesh.GrailsLayoutDecoratorMapper;
@@ -70,12 +73,25 @@ public class GroovyPageView extends AbstractGrailsView {
 
     public static final String EXCEPTION_MODEL_KEY = "exception";
 
+    /**
+     * The name of the observation of rendering a view, tagged by the URL of the view
+     */
+    public static final String RENDER_OBSERVATION_NAME = "grails.view";
+
+    protected ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
     private static boolean developmentMode = Environment.isDevelopmentMode();
 
     @Override
     protected void renderTemplate(Map<String, Object> model, GrailsWebRequest webRequest, HttpServletRequest request,
             HttpServletResponse response) {
         request.setAttribute(GrailsLayoutDecoratorMapper.RENDERING_VIEW, Boolean.TRUE);
+        Observation observation = Observation.createNotStarted(RENDER_OBSERVATION_NAME, this.observationRegistry);
+        if (!observation.isNoop()) {
+            observation.lowCardinalityKeyValue("view", getUrl() != null ? getUrl() : "UNKNOWN").start();
+        }
+        GspRenderEvent event = new GspRenderEvent();
+        event.begin();
         GSPResponseWriter out = null;
         try {
             out = createResponseWriter(webRequest, response);
@@ -84,6 +100,7 @@ public class GroovyPageView extends AbstractGrailsView {
             writable.writeTo(out);
         }
         catch (Exception e) {
+            observation.error(e);
             out.setError();
             handleException(e, this.templateEngine);
         }
@@ -91,6 +108,13 @@ public class GroovyPageView extends AbstractGrailsView {
             if (out != null) {
                 out.close();
             }
+            observation.stop();
+            event.end();
+            if (event.shouldCommit()) {
+                event.setTemplateUri(getUrl());
+                event.setCharacters(out != null ? out.getCharactersWritten() : -1);
+                event.commit();
+            }
         }
     }
 
@@ -152,7 +176,7 @@ public class GroovyPageView extends AbstractGrailsView {
      * @return A response Writer
      */
     protected GSPResponseWriter createResponseWriter(GrailsWebRequest webRequest, HttpServletResponse response) {
-        GSPResponseWriter out = GSPResponseWriter.getInstance(response);
+        GSPResponseWriter out = GSPResponseWriter.getInstance(response, GspRenderEvent.isRecording());
         webRequest.setOut(out);
         return out;
     }
@@ -161,6 +185,13 @@ public class GroovyPageView extends AbstractGrailsView {
         this.templateEngine = templateEngine;
     }
 
+    /**
+     * Sets the registry of the observations of rendering the view, which is not observed by default
+     */
+    public void setObservationRegistry(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
     public boolean isExpired() {
         return System.currentTimeMillis() - this.createTimestamp > LASTMODIFIED_CHECK_INTERVAL;
     }
@@ -23,6 +23,7 @@ import java.util.concurrent.ConcurrentMap;
 import jakarta.servlet.http.HttpServletRequest;
 
 import groovy.lang.GroovyObject;
+import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -70,6 +71,8 @@ public class GroovyPageViewResolver extends InternalResourceViewResolver impleme
 
     private boolean resolveJspView = false;
 
+    private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
     /**
      * Constructor.
      */
@@ -222,6 +225,7 @@ public class GroovyPageViewResolver extends InternalResourceViewResolver impleme
         gspSpringView.setApplicationContext(getApplicationContext());
         gspSpringView.setTemplateEngine(this.templateEngine);
         gspSpringView.setScriptSource(scriptSource);
+        gspSpringView.setObservationRegistry(this.observationRegistry);
         try {
             gspSpringView.afterPropertiesSet();
             if (LOG.isDebugEnabled()) {
@@ -283,6 +287,11 @@ public class GroovyPageViewResolver extends InternalResourceViewResolver impleme
         this.resolveJspView = resolveJspView;
     }
 
+    @Autowired(required = false)
+    public void setObservationRegistry(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
     private static class WrappedInitializationException extends RuntimeException {
 
         private static final long serialVersionUID = 1L;
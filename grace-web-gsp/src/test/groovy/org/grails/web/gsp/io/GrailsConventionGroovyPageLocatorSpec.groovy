@@ -16,14 +16,20 @@ import org.grails.plugins.BinaryGrailsPluginDescriptor
 import org.grails.plugins.core.CoreGrailsPlugin
 import org.grails.web.util.GrailsApplicationAttributes
 import org.springframework.core.io.ByteArrayResource
+import org.springframework.core.io.DefaultResourceLoader
+import org.springframework.core.io.FileSystemResource
 import org.springframework.core.io.Resource
 import org.springframework.web.context.request.RequestContextHolder
 import spock.lang.Specification
+import spock.lang.TempDir
 
 class GrailsConventionGroovyPageLocatorSpec extends Specification {
 
     SimpleMapResourceLoader resourceLoader = new SimpleMapResourceLoader()
 
+    @TempDir
+    File tempDir
+
     void "Test find view from binary plugin"() {
         when:"Finding a view located in a binary plugin"
             def source = pageLocator.findView(new TestController(), "binaryView")
@@ -201,6 +207,38 @@ class GrailsConventionGroovyPageLocatorSpec extends Specification {
             source == null
     }
 
+    void "Test find views and templates with the index of the view directories"() {
+        given: "a view directory with a view and a template"
+            File viewsDir = new File(tempDir, 'grails-app/views/test')
+            viewsDir.mkdirs()
+            new File(viewsDir, 'bar.gsp').text = 'contents'
+            new File(viewsDir, '_foo.gsp').text = 'contents'
+            def locator = new GrailsConventionGroovyPageLocator()
+            locator.addResourceLoader(new DefaultResourceLoader() {
+                @Override
+                protected Resource getResourceByPath(String path) {
+                    new FileSystemResource(new File(tempDir, path))
+                }
+            })
+            locator.indexEnabled = true
+            locator.buildIndex()
+
+        when: "a view and a template in the index are queried"
+            def view = locator.findView(new TestController(), "bar")
+            def template = locator.findTemplate(new TestController(), "foo")
+
+        then: "they are found"
+            view.URI == '/test/bar.gsp'
+            template.URI == '/test/_foo.gsp'
+
+        when: "a view created after the index was built is queried"
+            new File(viewsDir, 'baz.gsp').text = 'contents'
+            view = locator.findView(new TestController(), "baz")
+
+        then: "it is not found, the view directory is not looked up again"
+            view == null
+    }
+
     GrailsConventionGroovyPageLocator getPageLocator() {
         GrailsConventionGroovyPageLocator locator = new GrailsConventionGroovyPageLocator()
         def str = '''
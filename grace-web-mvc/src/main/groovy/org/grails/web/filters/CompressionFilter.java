@@ -0,0 +1,428 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.web.filters;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UnsupportedEncodingException;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Compresses the responses with gzip as they are written, instead of leaving it to the container.
+ *
+ * <p>The first bytes of a response are held until the minimum size is reached, so that small responses
+ * are sent as they are. Every flush of the response, such as the early flush of a progressive layout,
+ * starts the compressed output if it has not started yet and flushes it, so compression does not delay
+ * the content sent to the client.
+ * A strong ETag of the response is turned into a weak one when the response is compressed.
+ *
+ * <p>Responses of HEAD requests, responses that already have a Content-Encoding, and responses of
+ * asynchronous requests are not compressed.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+public class CompressionFilter extends OncePerRequestFilter {
+
+    /**
+     * The default minimum size in bytes of a response to be compressed
+     */
+    public static final int DEFAULT_MIN_SIZE = 2048;
+
+    /**
+     * The default MIME types that are compressed
+     */
+    public static final Set<String> DEFAULT_MIME_TYPES = Set.of("text/html", "text/xml", "text/plain", "text/css",
+            "text/javascript", "application/javascript", "application/json", "application/xml", "application/hal+json",
+            "application/hal+xml", "image/svg+xml");
+
+    private static final String GZIP = "gzip";
+
+    private int minSize = DEFAULT_MIN_SIZE;
+
+    private int level = Deflater.DEFAULT_COMPRESSION;
+
+    private Set<String> mimeTypes = DEFAULT_MIME_TYPES;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if ("HEAD".equals(request.getMethod()) || !acceptsGzip(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        CompressionResponseWrapper compressionResponse = new CompressionResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, compressionResponse);
+        }
+        finally {
+            if (isAsyncStarted(request)) {
+                compressionResponse.disableCompression();
+            }
+            else {
+                compressionResponse.finish();
+            }
+        }
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : StringUtils.tokenizeToStringArray(acceptEncoding, ",")) {
+            String[] parameters = StringUtils.tokenizeToStringArray(coding, ";");
+            if (parameters.length > 0 && GZIP.equalsIgnoreCase(parameters[0])) {
+                for (int i = 1; i < parameters.length; i++) {
+                    String parameter = parameters[i].replace(" ", "");
+                    if (parameter.startsWith("q=") && !isAcceptableQuality(parameter.substring(2))) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAcceptableQuality(String quality) {
+        try {
+            return Double.parseDouble(quality) > 0;
+        }
+        catch (NumberFormatException e) {
+            // a malformed quality value does not accept the coding
+            return false;
+        }
+    }
+
+    private static OutputStreamWriter newWriter(OutputStream out, String encoding) throws UnsupportedEncodingException {
+        return encoding != null ? new OutputStreamWriter(out, encoding) : new OutputStreamWriter(out);
+    }
+
+    public void setMinSize(int minSize) {
+        this.minSize = minSize;
+    }
+
+    public void setLevel(int level) {
+        this.level = level;
+    }
+
+    public void setMimeTypes(Collection<String> mimeTypes) {
+        Set<String> types = new LinkedHashSet<>();
+        for (String mimeType : mimeTypes) {
+            types.add(mimeType.trim().toLowerCase(Locale.ENGLISH));
+        }
+        this.mimeTypes = types;
+    }
+
+    /**
+     * Holds the first bytes of the response until it is known whether it is compressed,
+     * then writes them, and the rest of the body, to the response or to a gzip stream
+     */
+    class CompressionResponseWrapper extends HttpServletResponseWrapper {
+
+        private final byte[] pending = new byte[Math.max(CompressionFilter.this.minSize, 1)];
+
+        private int pendingSize;
+
+        private long contentLength = -1;
+
+        private boolean bypassed;
+
+        private OutputStream target;
+
+        private GZIPOutputStream gzip;
+
+        private ServletOutputStream outputStream;
+
+        private PrintWriter writer;
+
+        CompressionResponseWrapper(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (this.writer != null) {
+                throw new IllegalStateException("getWriter() has already been called for this response");
+            }
+            if (this.outputStream == null) {
+                this.outputStream = new CompressingOutputStream();
+            }
+            return this.outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (this.outputStream != null && this.writer == null) {
+                throw new IllegalStateException("getOutputStream() has already been called for this response");
+            }
+            if (this.writer == null) {
+                this.outputStream = new CompressingOutputStream();
+                this.writer = new PrintWriter(newWriter(this.outputStream, getCharacterEncoding()));
+            }
+            return this.writer;
+        }
+
+        @Override
+        public void setContentLength(int len) {
+            setContentLengthLong(len);
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+            if (this.target == null) {
+                this.contentLength = len;
+            }
+            else if (this.gzip == null) {
+                super.setContentLengthLong(len);
+            }
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(Long.parseLong(value));
+            }
+            else {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(Long.parseLong(value));
+            }
+            else {
+                super.addHeader(name, value);
+            }
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (this.writer != null) {
+                this.writer.flush();
+            }
+            else if (this.outputStream != null) {
+                this.outputStream.flush();
+            }
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            discardPending();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            discardPending();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            discardPending();
+            super.sendRedirect(location);
+        }
+
+        @Override
+        public void resetBuffer() {
+            if (this.target == null) {
+                this.pendingSize = 0;
+            }
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+            if (this.target == null) {
+                this.pendingSize = 0;
+                this.contentLength = -1;
+            }
+            super.reset();
+        }
+
+        private void discardPending() {
+            this.pendingSize = 0;
+            this.bypassed = true;
+        }
+
+        private void write(byte[] b, int off, int len) throws IOException {
+            if (this.target == null) {
+                if (this.pendingSize + len <= this.pending.length) {
+                    System.arraycopy(b, off, this.pending, this.pendingSize, len);
+                    this.pendingSize += len;
+                    return;
+                }
+                start(true);
+            }
+            this.target.write(b, off, len);
+        }
+
+        private void flush() throws IOException {
+            if (this.target == null) {
+                if (this.pendingSize == 0) {
+                    return;
+                }
+                start(true);
+            }
+            this.target.flush();
+        }
+
+        /**
+         * Decides whether the response is compressed and writes the bytes that have been held
+         *
+         * @param large Whether the response is at least as large as the minimum size
+         */
+        private void start(boolean large) throws IOException {
+            HttpServletResponse response = (HttpServletResponse) getResponse();
+            boolean compress = large && !this.bypassed && !response.isCommitted()
+                    && (this.contentLength < 0 || this.contentLength >= CompressionFilter.this.minSize)
+                    && response.getStatus() != HttpServletResponse.SC_NO_CONTENT
+                    && response.getStatus() != HttpServletResponse.SC_NOT_MODIFIED
+                    && response.getStatus() != HttpServletResponse.SC_PARTIAL_CONTENT
+                    && response.getHeader(HttpHeaders.CONTENT_RANGE) == null
+                    && response.getHeader(HttpHeaders.CONTENT_ENCODING) == null
+                    && isCompressible(response.getContentType());
+            if (compress) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                String etag = response.getHeader(HttpHeaders.ETAG);
+                if (etag != null && !etag.startsWith("W/")) {
+                    response.setHeader(HttpHeaders.ETAG, "W/" + etag);
+                }
+                this.gzip = new LeveledGZIPOutputStream(response.getOutputStream(), CompressionFilter.this.level);
+                this.target = this.gzip;
+            }
+            else {
+                if (this.contentLength >= 0) {
+                    response.setContentLengthLong(this.contentLength);
+                }
+                this.target = response.getOutputStream();
+            }
+            if (this.pendingSize > 0) {
+                this.target.write(this.pending, 0, this.pendingSize);
+                this.pendingSize = 0;
+            }
+        }
+
+        private boolean isCompressible(String contentType) {
+            if (contentType == null) {
+                return false;
+            }
+            int semicolon = contentType.indexOf(';');
+            String mimeType = (semicolon > -1 ? contentType.substring(0, semicolon) : contentType).trim().toLowerCase(Locale.ENGLISH);
+            return CompressionFilter.this.mimeTypes.contains(mimeType);
+        }
+
+        /**
+         * Sends the rest of the response without compressing it, unless the compression has started
+         */
+        void disableCompression() throws IOException {
+            if (this.writer != null) {
+                this.writer.flush();
+            }
+            if (this.target == null) {
+                start(false);
+            }
+        }
+
+        /**
+         * Writes the bytes that have been held and the end of the gzip stream
+         */
+        void finish() throws IOException {
+            if (this.writer != null) {
+                this.writer.flush();
+            }
+            if (this.bypassed) {
+                return;
+            }
+            if (this.target == null) {
+                start(this.pendingSize >= CompressionFilter.this.minSize);
+            }
+            if (this.gzip != null) {
+                this.gzip.finish();
+            }
+        }
+
+        private class CompressingOutputStream extends ServletOutputStream {
+
+            @Override
+            public void write(int b) throws IOException {
+                CompressionResponseWrapper.this.write(new byte[] { (byte) b }, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                CompressionResponseWrapper.this.write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                CompressionResponseWrapper.this.flush();
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                throw new UnsupportedOperationException("Method setWriteListener not supported");
+            }
+
+        }
+
+    }
+
+    /**
+     * A gzip stream with the given compression level, which flushes the compressed output on every flush
+     */
+    private static class LeveledGZIPOutputStream extends GZIPOutputStream {
+
+        LeveledGZIPOutputStream(OutputStream out, int level) throws IOException {
+            super(out, 8192, true);
+            this.def.setLevel(level);
+        }
+
+    }
+
+}
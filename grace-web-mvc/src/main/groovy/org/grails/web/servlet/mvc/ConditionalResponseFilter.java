@@ -0,0 +1,370 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.web.servlet.mvc;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import org.grails.buffer.StreamByteBuffer;
+
+/**
+ * Adds a strong ETag to the responses of GET and HEAD requests, and sends 304 (Not Modified)
+ * instead of the body when the client already has it.
+ *
+ * <p>The body is buffered until the request completes, and the ETag is computed while the body is written,
+ * so there is no second pass over the body. Responses larger than the maximum buffer size, flushed
+ * explicitly or completed asynchronously are sent as they are written, without an ETag.
+ * An ETag set by the application is kept and compared instead.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+public class ConditionalResponseFilter extends OncePerRequestFilter {
+
+    /**
+     * The default maximum size in bytes of a response that is buffered to compute its ETag
+     */
+    public static final int DEFAULT_MAX_BUFFER_SIZE = 1024 * 1024;
+
+    private static final String ALGORITHM = "MD5";
+
+    private int maxBufferSize = DEFAULT_MAX_BUFFER_SIZE;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ConditionalResponseWrapper conditionalResponse = new ConditionalResponseWrapper(response, this.maxBufferSize);
+        try {
+            filterChain.doFilter(request, conditionalResponse);
+        }
+        finally {
+            if (isAsyncStarted(request)) {
+                conditionalResponse.startStreaming();
+            }
+            else {
+                conditionalResponse.complete(request);
+            }
+        }
+    }
+
+    public void setMaxBufferSize(int maxBufferSize) {
+        this.maxBufferSize = maxBufferSize;
+    }
+
+    /**
+     * Buffers the body of the response and computes its digest as it is written
+     */
+    static class ConditionalResponseWrapper extends HttpServletResponseWrapper {
+
+        private final int maxBufferSize;
+
+        private final MessageDigest digest;
+
+        private final StreamByteBuffer buffer = new StreamByteBuffer();
+
+        private final OutputStream bufferStream = this.buffer.getOutputStream();
+
+        private int size;
+
+        // the length declared by the application while the body is buffered, sent with the buffered body
+        private long contentLength = -1;
+
+        private boolean streaming;
+
+        private boolean bypassed;
+
+        private ServletOutputStream outputStream;
+
+        private PrintWriter writer;
+
+        ConditionalResponseWrapper(HttpServletResponse response, int maxBufferSize) {
+            super(response);
+            this.maxBufferSize = maxBufferSize;
+            try {
+                this.digest = MessageDigest.getInstance(ALGORITHM);
+            }
+            catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(ALGORITHM + " is not available", e);
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (this.writer != null) {
+                throw new IllegalStateException("getWriter() has already been called for this response");
+            }
+            if (this.outputStream == null) {
+                this.outputStream = new DigestingOutputStream();
+            }
+            return this.outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (this.outputStream != null && this.writer == null) {
+                throw new IllegalStateException("getOutputStream() has already been called for this response");
+            }
+            if (this.writer == null) {
+                this.outputStream = new DigestingOutputStream();
+                this.writer = new PrintWriter(newWriter(this.outputStream, getCharacterEncoding()));
+            }
+            return this.writer;
+        }
+
+        private static OutputStreamWriter newWriter(OutputStream out, String encoding) throws UnsupportedEncodingException {
+            return encoding != null ? new OutputStreamWriter(out, encoding) : new OutputStreamWriter(out);
+        }
+
+        @Override
+        public void setContentLength(int len) {
+            setContentLengthLong(len);
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+            if (this.streaming) {
+                super.setContentLengthLong(len);
+            }
+            else {
+                this.contentLength = len;
+            }
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (this.streaming || !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                super.setHeader(name, value);
+            }
+            else {
+                this.contentLength = parseContentLength(value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (this.streaming || !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                super.addHeader(name, value);
+            }
+            else {
+                this.contentLength = parseContentLength(value);
+            }
+        }
+
+        @Override
+        public void setIntHeader(String name, int value) {
+            if (this.streaming || !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                super.setIntHeader(name, value);
+            }
+            else {
+                this.contentLength = value;
+            }
+        }
+
+        @Override
+        public void addIntHeader(String name, int value) {
+            if (this.streaming || !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                super.addIntHeader(name, value);
+            }
+            else {
+                this.contentLength = value;
+            }
+        }
+
+        private static long parseContentLength(String value) {
+            try {
+                return value != null ? Long.parseLong(value.trim()) : -1;
+            }
+            catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            startStreaming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            clearBuffer();
+            this.bypassed = true;
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            clearBuffer();
+            this.bypassed = true;
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            clearBuffer();
+            this.bypassed = true;
+            super.sendRedirect(location);
+        }
+
+        @Override
+        public void resetBuffer() {
+            clearBuffer();
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+            clearBuffer();
+            super.reset();
+        }
+
+        private void clearBuffer() {
+            if (!this.streaming) {
+                this.buffer.clear();
+                this.digest.reset();
+                this.size = 0;
+            }
+        }
+
+        private void write(byte[] b, int off, int len) throws IOException {
+            if (this.streaming) {
+                getResponse().getOutputStream().write(b, off, len);
+                return;
+            }
+            this.digest.update(b, off, len);
+            this.bufferStream.write(b, off, len);
+            this.size += len;
+            if (this.size > this.maxBufferSize) {
+                streamBuffer();
+            }
+        }
+
+        /**
+         * Sends the buffered body and writes the rest of the body directly to the response
+         */
+        void startStreaming() throws IOException {
+            if (this.streaming) {
+                return;
+            }
+            if (this.writer != null) {
+                this.writer.flush();
+            }
+            if (!this.streaming) {
+                streamBuffer();
+            }
+        }
+
+        private void streamBuffer() throws IOException {
+            this.streaming = true;
+            if (this.contentLength >= 0 && !getResponse().isCommitted()) {
+                getResponse().setContentLengthLong(this.contentLength);
+            }
+            if (this.size > 0) {
+                this.buffer.writeTo(getResponse().getOutputStream());
+            }
+        }
+
+        /**
+         * Sends 304 (Not Modified) if the client has the same body, or the body with its ETag
+         */
+        void complete(HttpServletRequest request) throws IOException {
+            if (this.writer != null) {
+                this.writer.flush();
+            }
+            if (this.streaming || this.bypassed) {
+                return;
+            }
+            HttpServletResponse response = (HttpServletResponse) getResponse();
+            if (response.getStatus() == HttpServletResponse.SC_OK && this.size > 0 && !response.isCommitted()) {
+                String etag = response.getHeader(HttpHeaders.ETAG);
+                if (etag == null) {
+                    etag = "\"" + HexFormat.of().formatHex(this.digest.digest()) + "\"";
+                }
+                if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+                    return;
+                }
+            }
+            if (this.size > 0) {
+                if (!response.isCommitted()) {
+                    response.setContentLength(this.size);
+                }
+                this.buffer.writeTo(response.getOutputStream());
+            }
+            else if (this.contentLength >= 0 && !response.isCommitted()) {
+                // a HEAD response has no body but keeps the declared length
+                response.setContentLengthLong(this.contentLength);
+            }
+        }
+
+        private class DigestingOutputStream extends ServletOutputStream {
+
+            @Override
+            public void write(int b) throws IOException {
+                ConditionalResponseWrapper.this.write(new byte[] { (byte) b }, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                ConditionalResponseWrapper.this.write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (ConditionalResponseWrapper.this.streaming) {
+                    getResponse().getOutputStream().flush();
+                }
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                throw new UnsupportedOperationException("Method setWriteListener not supported");
+            }
+
+        }
+
+    }
+
+}
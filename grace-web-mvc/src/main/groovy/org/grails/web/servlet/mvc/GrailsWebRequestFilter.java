@@ -24,10 +24,15 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import grails.web.mvc.FlashScope;
 
+import org.grails.web.servlet.CookieFlashScope;
+import org.grails.web.util.GrailsApplicationAttributes;
+import org.grails.web.util.HmacSigner;
 import org.grails.web.util.WebUtils;
 
 /**
@@ -40,17 +45,36 @@ public class GrailsWebRequestFilter extends OncePerRequestFilter {
 
     private Collection<ParameterCreationListener> parameterCreationListeners;
 
+    private HmacSigner flashScopeSigner;
+
+    private String flashScopeCookieName = CookieFlashScope.DEFAULT_COOKIE_NAME;
+
+    private int flashScopeCookieMaxSize = CookieFlashScope.DEFAULT_MAX_SIZE;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
         LocaleContextHolder.setLocale(request.getLocale());
-        response = new OutputAwareHttpServletResponse(response);
 
         boolean isIncludeOrForward = WebUtils.isForwardOrInclude(request);
         GrailsWebRequest previous = isIncludeOrForward ? GrailsWebRequest.lookup(request) : null;
-        GrailsWebRequest webRequest = new GrailsWebRequest(request, response, getServletContext());
-        configureParameterCreationListeners(webRequest);
+        // the request dispatched again once an asynchronous action has completed keeps its params and flash scope
+        GrailsWebRequest asyncWebRequest = isAsyncDispatch(request) && WebAsyncUtils.getAsyncManager(request).hasConcurrentResult() ?
+                (GrailsWebRequest) request.getAttribute(GrailsApplicationAttributes.WEB_REQUEST) : null;
+        GrailsWebRequest webRequest;
+        if (asyncWebRequest != null) {
+            webRequest = asyncWebRequest;
+            response = asyncWebRequest.getResponse();
+        }
+        else {
+            if (this.flashScopeSigner != null && !isIncludeOrForward) {
+                response = new CookieFlashScope.ResponseWrapper(request, response, lookupCookieFlashScope(request));
+            }
+            response = new OutputAwareHttpServletResponse(response);
+            webRequest = new GrailsWebRequest(request, response, getServletContext());
+            configureParameterCreationListeners(webRequest);
+        }
 
         if (logger.isDebugEnabled()) {
             logger.debug("Bound Grails request context to thread: " + request);
@@ -59,7 +83,7 @@ public class GrailsWebRequestFilter extends OncePerRequestFilter {
         try {
             WebUtils.storeGrailsWebRequest(webRequest);
 
-            if (!isIncludeOrForward) {
+            if (!isIncludeOrForward && asyncWebRequest == null) {
                 // Set the flash scope instance to its next state. We do
                 // this here so that the flash is available from Grails
                 // filters in a valid state.
@@ -72,15 +96,25 @@ public class GrailsWebRequestFilter extends OncePerRequestFilter {
             filterChain.doFilter(request, response);
         }
         finally {
-            webRequest.requestCompleted();
+            if (!isAsyncStarted(request)) {
+                Object flashScope = request.getAttribute(GrailsApplicationAttributes.FLASH_SCOPE);
+                if (!isIncludeOrForward && flashScope instanceof CookieFlashScope) {
+                    ((CookieFlashScope) flashScope).save(request, response);
+                }
+                webRequest.requestCompleted();
+            }
 
             if (isIncludeOrForward) {
                 if (previous != null) {
                     WebUtils.storeGrailsWebRequest(previous);
                 }
             }
+            else if (isAsyncStarted(request)) {
+                // the web request is kept in the request until the dispatch that completes it
+                RequestContextHolder.resetRequestAttributes();
+                LocaleContextHolder.setLocale(null);
+            }
             else {
-
                 WebUtils.clearGrailsWebRequest();
                 LocaleContextHolder.setLocale(null);
             }
@@ -90,6 +124,19 @@ public class GrailsWebRequestFilter extends OncePerRequestFilter {
         }
     }
 
+    private CookieFlashScope lookupCookieFlashScope(HttpServletRequest request) {
+        Object flashScope = request.getAttribute(GrailsApplicationAttributes.FLASH_SCOPE);
+        if (flashScope instanceof CookieFlashScope) {
+            // an error dispatch of the request
+            return (CookieFlashScope) flashScope;
+        }
+        CookieFlashScope cookieFlashScope = new CookieFlashScope(this.flashScopeSigner, this.flashScopeCookieName,
+                this.flashScopeCookieMaxSize);
+        cookieFlashScope.restore(request);
+        request.setAttribute(GrailsApplicationAttributes.FLASH_SCOPE, cookieFlashScope);
+        return cookieFlashScope;
+    }
+
     @Override
     protected boolean shouldNotFilterAsyncDispatch() {
         return false;
@@ -115,4 +162,18 @@ public class GrailsWebRequestFilter extends OncePerRequestFilter {
         this.parameterCreationListeners = parameterCreationListeners;
     }
 
+    /**
+     * Keeps the flash scope in a signed cookie instead of the session
+     *
+     * @param signer The signer of the cookie
+     * @param cookieName The name of the cookie
+     * @param maxSize The maximum size of the cookie, larger flash scopes are kept in the session
+     * @see CookieFlashScope
+     */
+    public void setCookieFlashScope(HmacSigner signer, String cookieName, int maxSize) {
+        this.flashScopeSigner = signer;
+        this.flashScopeCookieName = cookieName;
+        this.flashScopeCookieMaxSize = maxSize;
+    }
+
 }
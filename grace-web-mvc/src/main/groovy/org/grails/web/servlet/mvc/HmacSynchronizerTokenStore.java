@@ -0,0 +1,227 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.web.servlet.mvc;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.grails.web.util.HmacSigner;
+
+/**
+ * Synchronizer tokens signed with HMAC, which carry the URL of the form and the time they were issued,
+ * so that they can be checked on any node of the application without keeping them in the session.
+ *
+ * <p>Each token is bound to the client it was issued to by a random client id, which is kept in an
+ * HttpOnly cookie issued with the first token, so a token taken from a page can not be submitted by
+ * another client. The client id is not tied to the session or to the user, a token stays valid
+ * for the client after a login or a logout.
+ *
+ * <p>A token expires after the configured timeout. The tokens that have been used are remembered
+ * until they expire to detect double-submits, this is local to each node, so the double-submits
+ * are reliably detected when the requests of a client go to the same node. At most the configured
+ * number of used tokens is remembered, when there are more the oldest ones are forgotten and can be
+ * submitted again until they expire.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+public class HmacSynchronizerTokenStore implements SynchronizerTokenStore {
+
+    /**
+     * The purpose of the signatures
+     */
+    public static final String PURPOSE = "grails.web.tokens";
+
+    /**
+     * The default name of the cookie that holds the client id
+     */
+    public static final String DEFAULT_COOKIE_NAME = "GRAILS_TOKENS";
+
+    /**
+     * The default number of used tokens remembered by a node
+     */
+    public static final long DEFAULT_MAX_USED_TOKENS = 100_000;
+
+    private static final Log logger = LogFactory.getLog(HmacSynchronizerTokenStore.class);
+
+    private static final String CLIENT_ID_ATTRIBUTE = HmacSynchronizerTokenStore.class.getName() + ".CLIENT_ID";
+
+    private static final int NONCE_LENGTH = 16;
+
+    private static final int CLIENT_ID_LENGTH = 16;
+
+    private static final int HEADER_LENGTH = Long.BYTES + NONCE_LENGTH + CLIENT_ID_LENGTH;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecureRandom random = new SecureRandom();
+
+    private final HmacSigner signer;
+
+    private final Duration timeout;
+
+    private final String cookieName;
+
+    private final Cache<String, Boolean> usedTokens;
+
+    public HmacSynchronizerTokenStore(HmacSigner signer, Duration timeout) {
+        this(signer, timeout, DEFAULT_COOKIE_NAME, DEFAULT_MAX_USED_TOKENS);
+    }
+
+    public HmacSynchronizerTokenStore(HmacSigner signer, Duration timeout, String cookieName, long maxUsedTokens) {
+        this.signer = signer;
+        this.timeout = timeout;
+        this.cookieName = cookieName;
+        this.usedTokens = Caffeine.newBuilder()
+                .expireAfterWrite(timeout)
+                .maximumSize(maxUsedTokens)
+                .build();
+    }
+
+    @Override
+    public String generateToken(HttpServletRequest request, String url) {
+        byte[] nonce = new byte[NONCE_LENGTH];
+        this.random.nextBytes(nonce);
+        byte[] urlBytes = url.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer payload = ByteBuffer.allocate(HEADER_LENGTH + urlBytes.length);
+        payload.putLong(System.currentTimeMillis()).put(nonce).put(issueClientId(request)).put(urlBytes);
+        return this.signer.sign(payload.array());
+    }
+
+    @Override
+    public boolean isValid(HttpServletRequest request, String url, String token) {
+        String nonce = verify(request, url, token);
+        return nonce != null && this.usedTokens.getIfPresent(nonce) == null;
+    }
+
+    @Override
+    public void resetToken(HttpServletRequest request, String url, String token) {
+        byte[] payload = this.signer.verify(token);
+        if (payload != null && payload.length >= HEADER_LENGTH) {
+            this.usedTokens.put(nonce(payload), Boolean.TRUE);
+        }
+    }
+
+    @Override
+    public boolean useToken(HttpServletRequest request, String url, String token) {
+        String nonce = verify(request, url, token);
+        return nonce != null && this.usedTokens.asMap().putIfAbsent(nonce, Boolean.TRUE) == null;
+    }
+
+    /**
+     * Checks the signature, the age, the URL and the client of a token
+     *
+     * @return the nonce of the token, or null if the token is not valid
+     */
+    private String verify(HttpServletRequest request, String url, String token) {
+        if (url == null || token == null) {
+            return null;
+        }
+        byte[] payload = this.signer.verify(token);
+        if (payload == null || payload.length < HEADER_LENGTH) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        long issuedAt = buffer.getLong();
+        if (System.currentTimeMillis() - issuedAt > this.timeout.toMillis()) {
+            return null;
+        }
+        byte[] clientId = clientId(request);
+        byte[] tokenClientId = Arrays.copyOfRange(payload, Long.BYTES + NONCE_LENGTH, HEADER_LENGTH);
+        if (clientId == null || !MessageDigest.isEqual(clientId, tokenClientId)) {
+            return null;
+        }
+        String tokenUrl = new String(payload, HEADER_LENGTH, payload.length - HEADER_LENGTH, StandardCharsets.UTF_8);
+        return url.equals(tokenUrl) ? nonce(payload) : null;
+    }
+
+    private byte[] issueClientId(HttpServletRequest request) {
+        byte[] clientId = clientId(request);
+        if (clientId != null) {
+            return clientId;
+        }
+        clientId = new byte[CLIENT_ID_LENGTH];
+        this.random.nextBytes(clientId);
+        request.setAttribute(CLIENT_ID_ATTRIBUTE, clientId);
+
+        GrailsWebRequest webRequest = GrailsWebRequest.lookup(request);
+        HttpServletResponse response = webRequest != null ? webRequest.getCurrentResponse() : null;
+        if (response == null || response.isCommitted()) {
+            logger.warn("The cookie of the synchronizer tokens can not be issued, because the response is not available " +
+                    "or has been committed, the tokens of [" + request.getRequestURI() + "] will not be valid");
+            return clientId;
+        }
+        Cookie cookie = new Cookie(this.cookieName, ENCODER.encodeToString(clientId));
+        String contextPath = request.getContextPath();
+        cookie.setPath(contextPath == null || contextPath.isEmpty() ? "/" : contextPath);
+        cookie.setHttpOnly(true);
+        cookie.setSecure(request.isSecure());
+        cookie.setMaxAge(-1);
+        cookie.setAttribute("SameSite", "Lax");
+        response.addCookie(cookie);
+        return clientId;
+    }
+
+    private byte[] clientId(HttpServletRequest request) {
+        Object issued = request.getAttribute(CLIENT_ID_ATTRIBUTE);
+        if (issued instanceof byte[]) {
+            return (byte[]) issued;
+        }
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (this.cookieName.equals(cookie.getName())) {
+                byte[] clientId = decode(cookie.getValue());
+                if (clientId != null && clientId.length == CLIENT_ID_LENGTH) {
+                    return clientId;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static byte[] decode(String value) {
+        try {
+            return DECODER.decode(value);
+        }
+        catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private static String nonce(byte[] payload) {
+        return Base64.getEncoder().encodeToString(Arrays.copyOfRange(payload, Long.BYTES, Long.BYTES + NONCE_LENGTH));
+    }
+
+}
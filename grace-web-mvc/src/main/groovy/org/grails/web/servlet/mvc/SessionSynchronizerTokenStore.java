@@ -0,0 +1,59 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.web.servlet.mvc;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * Keeps the synchronizer tokens in the {@link SynchronizerTokensHolder} of the {@link HttpSession}.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+public class SessionSynchronizerTokenStore implements SynchronizerTokenStore {
+
+    static final SessionSynchronizerTokenStore INSTANCE = new SessionSynchronizerTokenStore();
+
+    @Override
+    public String generateToken(HttpServletRequest request, String url) {
+        return SynchronizerTokensHolder.store(request.getSession()).generateToken(url);
+    }
+
+    @Override
+    public boolean isValid(HttpServletRequest request, String url, String token) {
+        SynchronizerTokensHolder tokensHolder = getTokensHolder(request);
+        return tokensHolder != null && tokensHolder.isValid(url, token);
+    }
+
+    @Override
+    public void resetToken(HttpServletRequest request, String url, String token) {
+        SynchronizerTokensHolder tokensHolder = getTokensHolder(request);
+        if (tokensHolder == null) {
+            return;
+        }
+        tokensHolder.resetToken(url, token);
+        if (tokensHolder.isEmpty()) {
+            request.getSession().removeAttribute(SynchronizerTokensHolder.HOLDER);
+        }
+    }
+
+    private static SynchronizerTokensHolder getTokensHolder(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        return session != null ? (SynchronizerTokensHolder) session.getAttribute(SynchronizerTokensHolder.HOLDER) : null;
+    }
+
+}
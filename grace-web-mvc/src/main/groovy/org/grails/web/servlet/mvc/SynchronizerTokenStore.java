@@ -0,0 +1,97 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.web.servlet.mvc;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.context.ApplicationContext;
+
+/**
+ * Generates and checks the synchronizer tokens of forms, used to handle double-submits.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ * @see SessionSynchronizerTokenStore
+ * @see HmacSynchronizerTokenStore
+ */
+public interface SynchronizerTokenStore {
+
+    /**
+     * The name of the bean of the store
+     */
+    String BEAN_NAME = "synchronizerTokenStore";
+
+    /**
+     * Generates a new token for a form
+     *
+     * @param request The request that renders the form
+     * @param url The URL of the form
+     * @return The token
+     */
+    String generateToken(HttpServletRequest request, String url);
+
+    /**
+     * Checks whether a token has been generated for the URL and has not been used yet
+     *
+     * @param request The request that submits the form
+     * @param url The URL of the form
+     * @param token The token
+     * @return Whether the token is valid
+     */
+    boolean isValid(HttpServletRequest request, String url, String token);
+
+    /**
+     * Marks a token as used
+     *
+     * @param request The request that submits the form
+     * @param url The URL of the form
+     * @param token The token
+     */
+    void resetToken(HttpServletRequest request, String url, String token);
+
+    /**
+     * Checks whether a token is valid and marks it as used, so that a form submitted twice
+     * at the same time is accepted only once
+     *
+     * @param request The request that submits the form
+     * @param url The URL of the form
+     * @param token The token
+     * @return Whether the token was valid
+     */
+    default boolean useToken(HttpServletRequest request, String url, String token) {
+        synchronized (this) {
+            if (!isValid(request, url, token)) {
+                return false;
+            }
+            resetToken(request, url, token);
+            return true;
+        }
+    }
+
+    /**
+     * Finds the store of the application
+     *
+     * @param applicationContext The application context, can be null
+     * @return The store of the application, or a {@link SessionSynchronizerTokenStore} if there is none
+     */
+    static SynchronizerTokenStore lookup(ApplicationContext applicationContext) {
+        if (applicationContext != null && applicationContext.containsBean(BEAN_NAME)) {
+            return applicationContext.getBean(BEAN_NAME, SynchronizerTokenStore.class);
+        }
+        return SessionSynchronizerTokenStore.INSTANCE;
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.web.servlet.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.core.io.Resource;
+import org.springframework.util.FileCopyUtils;
+import org.springframework.web.servlet.resource.AbstractVersionStrategy;
+
+import org.grails.io.support.StaticResourceManifest;
+
+/**
+ * A {@link org.springframework.web.servlet.resource.VersionStrategy} that adds the content hash of a resource
+ * to its file name, like {@code app-d41d8cd98f00b204e9800998ecf8427e.css}.
+ *
+ * <p>The hashes are read from the static resource manifests written at build time,
+ * the resources that are not in any manifest are hashed when they are first resolved.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ * @see StaticResourceManifest
+ */
+public class ManifestVersionStrategy extends AbstractVersionStrategy {
+
+    private final Map<String, String> hashes;
+
+    public ManifestVersionStrategy(Map<String, String> hashes) {
+        super(new FileNameVersionPathStrategy());
+        this.hashes = hashes;
+    }
+
+    /**
+     * Loads the static resource manifests of the application and its plugins
+     *
+     * @param classLoader The class loader
+     * @return The version strategy
+     */
+    public static ManifestVersionStrategy load(ClassLoader classLoader) {
+        Map<String, String> hashes = new HashMap<>();
+        try {
+            Enumeration<URL> manifests = classLoader.getResources(StaticResourceManifest.MANIFEST_LOCATION);
+            while (manifests.hasMoreElements()) {
+                try (InputStream input = manifests.nextElement().openStream()) {
+                    StaticResourceManifest.read(input).forEach(hashes::putIfAbsent);
+                }
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the static resource manifests", e);
+        }
+        return new ManifestVersionStrategy(hashes);
+    }
+
+    @Override
+    public String getResourceVersion(Resource resource) {
+        try {
+            String path = resource.getURL().getPath();
+            for (String location : StaticResourceManifest.RESOURCE_LOCATIONS) {
+                int i = path.lastIndexOf('/' + location);
+                if (i > -1) {
+                    String hash = this.hashes.get(path.substring(i + 1 + location.length()));
+                    if (hash != null) {
+                        return hash;
+                    }
+                }
+            }
+            return StaticResourceManifest.contentHash(FileCopyUtils.copyToByteArray(resource.getInputStream()));
+        }
+        catch (IOException e) {
+            throw new IllegalStateException("Failed to compute the version of " + resource, e);
+        }
+    }
+
+}
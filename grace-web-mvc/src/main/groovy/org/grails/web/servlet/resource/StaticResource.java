@@ -0,0 +1,126 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.web.servlet.resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.resource.HttpResource;
+
+/**
+ * A resolved static resource, which may hold its content in memory and may add response headers
+ * to the ones of the resource.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ * @see StaticResourceResolver
+ */
+final class StaticResource extends AbstractResource implements HttpResource {
+
+    private final Resource resource;
+
+    private final byte[] content;
+
+    private final long lastModified;
+
+    private final HttpHeaders headers;
+
+    StaticResource(Resource resource, byte[] content, HttpHeaders headers) throws IOException {
+        this.resource = resource;
+        this.content = content;
+        this.lastModified = resource.lastModified();
+        this.headers = headers;
+    }
+
+    @Override
+    public boolean exists() {
+        return this.content != null || this.resource.exists();
+    }
+
+    @Override
+    public boolean isFile() {
+        return this.content == null && this.resource.isFile();
+    }
+
+    @Override
+    public URL getURL() throws IOException {
+        return this.resource.getURL();
+    }
+
+    @Override
+    public URI getURI() throws IOException {
+        return this.resource.getURI();
+    }
+
+    @Override
+    public File getFile() throws IOException {
+        return this.resource.getFile();
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return this.content != null ? new ByteArrayInputStream(this.content) : this.resource.getInputStream();
+    }
+
+    @Override
+    public byte[] getContentAsByteArray() throws IOException {
+        return this.content != null ? this.content.clone() : this.resource.getContentAsByteArray();
+    }
+
+    @Override
+    public long contentLength() throws IOException {
+        return this.content != null ? this.content.length : this.resource.contentLength();
+    }
+
+    @Override
+    public long lastModified() throws IOException {
+        return this.content != null ? this.lastModified : this.resource.lastModified();
+    }
+
+    @Override
+    public Resource createRelative(String relativePath) throws IOException {
+        return this.resource.createRelative(relativePath);
+    }
+
+    @Override
+    public String getFilename() {
+        return this.resource.getFilename();
+    }
+
+    @Override
+    public String getDescription() {
+        return this.resource.getDescription();
+    }
+
+    @Override
+    public HttpHeaders getResponseHeaders() {
+        if (!(this.resource instanceof HttpResource)) {
+            return this.headers;
+        }
+        HttpHeaders responseHeaders = new HttpHeaders();
+        responseHeaders.putAll(((HttpResource) this.resource).getResponseHeaders());
+        responseHeaders.putAll(this.headers);
+        return responseHeaders;
+    }
+
+}
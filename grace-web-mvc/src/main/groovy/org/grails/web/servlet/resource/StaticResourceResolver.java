@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.web.servlet.resource;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.FileCopyUtils;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+import org.springframework.web.servlet.resource.VersionStrategy;
+
+/**
+ * Resolves the static resources with the rest of the chain, then keeps the content of the small ones
+ * in memory and marks the ones requested with a fingerprinted URL as immutable for a year.
+ *
+ * <p>It is meant to be placed after a {@link org.springframework.web.servlet.resource.CachingResourceResolver},
+ * which keeps the resolved resources, so that the hot static resources are served from the heap.
+ * The compressed variants resolved by an {@link org.springframework.web.servlet.resource.EncodedResourceResolver}
+ * are kept with their Content-Encoding.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+public class StaticResourceResolver extends AbstractResourceResolver {
+
+    /**
+     * The cache control of the resources requested with a fingerprinted URL
+     */
+    public static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
+    private final long maxCachedSize;
+
+    private final VersionStrategy versionStrategy;
+
+    /**
+     * @param maxCachedSize The maximum size in bytes of the resources kept in memory, 0 to keep none
+     * @param versionStrategy The strategy of the fingerprinted URLs, or null if they are not used
+     */
+    public StaticResourceResolver(long maxCachedSize, VersionStrategy versionStrategy) {
+        this.maxCachedSize = maxCachedSize;
+        this.versionStrategy = versionStrategy;
+    }
+
+    @Override
+    protected Resource resolveResourceInternal(HttpServletRequest request, String requestPath,
+            List<? extends Resource> locations, ResourceResolverChain chain) {
+        Resource resource = chain.resolveResource(request, requestPath, locations);
+        if (resource == null) {
+            return null;
+        }
+
+        boolean fingerprinted = this.versionStrategy != null && this.versionStrategy.extractVersion(requestPath) != null;
+        try {
+            byte[] content = null;
+            if (this.maxCachedSize > 0 && resource.contentLength() <= this.maxCachedSize) {
+                content = FileCopyUtils.copyToByteArray(resource.getInputStream());
+            }
+            if (!fingerprinted && content == null) {
+                return resource;
+            }
+            HttpHeaders headers = new HttpHeaders();
+            if (fingerprinted) {
+                headers.setCacheControl(IMMUTABLE);
+            }
+            return new StaticResource(resource, content, headers);
+        }
+        catch (IOException e) {
+            logger.debug("Failed to read " + resource + ", it is served as it is", e);
+            return resource;
+        }
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations, ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourceUrlPath, locations);
+    }
+
+}
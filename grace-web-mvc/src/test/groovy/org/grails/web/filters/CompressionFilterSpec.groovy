@@ -0,0 +1,165 @@
+package org.grails.web.filters
+
+import java.util.zip.GZIPInputStream
+
+import jakarta.servlet.FilterChain
+import jakarta.servlet.ServletRequest
+import jakarta.servlet.ServletResponse
+
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
+import spock.lang.Specification
+
+class CompressionFilterSpec extends Specification {
+
+    static final String BODY = '<p>Hello world</p>' * 200
+
+    CompressionFilter filter = new CompressionFilter()
+
+    void 'Test a large response is compressed'() {
+        given:
+        def request = new MockHttpServletRequest('GET', '/book/list')
+        request.addHeader('Accept-Encoding', 'gzip, deflate')
+        def response = new MockHttpServletResponse()
+
+        when:
+        filter.doFilter(request, response, chain(BODY))
+
+        then:
+        response.getHeader('Content-Encoding') == 'gzip'
+        response.getHeader('Vary') == 'Accept-Encoding'
+        response.contentAsByteArray.length < BODY.length()
+        gunzip(response.contentAsByteArray) == BODY
+    }
+
+    void 'Test a small response is sent as it is'() {
+        given:
+        def request = new MockHttpServletRequest('GET', '/book/list')
+        request.addHeader('Accept-Encoding', 'gzip')
+        def response = new MockHttpServletResponse()
+
+        when:
+        filter.doFilter(request, response, chain('Hello world'))
+
+        then:
+        response.getHeader('Content-Encoding') == null
+        response.contentAsString == 'Hello world'
+    }
+
+    void 'Test a response is not compressed for a client that does not accept gzip'() {
+        given:
+        def request = new MockHttpServletRequest('GET', '/book/list')
+        request.addHeader('Accept-Encoding', 'gzip;q=0, deflate')
+        def response = new MockHttpServletResponse()
+
+        when:
+        filter.doFilter(request, response, chain(BODY))
+
+        then:
+        response.getHeader('Content-Encoding') == null
+        response.contentAsString == BODY
+    }
+
+    void 'Test a malformed quality value does not accept gzip'() {
+        given:
+        def request = new MockHttpServletRequest('GET', '/book/list')
+        request.addHeader('Accept-Encoding', 'gzip;q=abc, deflate')
+        def response = new MockHttpServletResponse()
+
+        when:
+        filter.doFilter(request, response, chain(BODY))
+
+        then:
+        response.getHeader('Content-Encoding') == null
+        response.contentAsString == BODY
+    }
+
+    void 'Test a partial content response is not compressed'() {
+        given:
+        def request = new MockHttpServletRequest('GET', '/files/report.txt')
+        request.addHeader('Accept-Encoding', 'gzip')
+        def response = new MockHttpServletResponse()
+
+        when:
+        filter.doFilter(request, response, { ServletRequest req, ServletResponse res ->
+            res.status = 206
+            res.contentType = 'text/plain;charset=UTF-8'
+            res.setHeader('Content-Range', "bytes 0-${BODY.length() - 1}/${BODY.length() * 2}")
+            res.writer.write(BODY)
+        } as FilterChain)
+
+        then:
+        response.getHeader('Content-Encoding') == null
+        response.contentAsString == BODY
+    }
+
+    void 'Test a response with a Content-Range is not compressed'() {
+        given:
+        def request = new MockHttpServletRequest('GET', '/files/report.txt')
+        request.addHeader('Accept-Encoding', 'gzip')
+        def response = new MockHttpServletResponse()
+
+        when:
+        filter.doFilter(request, response, { ServletRequest req, ServletResponse res ->
+            res.status = 416
+            res.contentType = 'text/plain;charset=UTF-8'
+            res.setHeader('Content-Range', 'bytes */100')
+            res.writer.write(BODY)
+        } as FilterChain)
+
+        then:
+        response.getHeader('Content-Encoding') == null
+        response.contentAsString == BODY
+    }
+
+    void 'Test a flush sends the compressed output written so far'() {
+        given:
+        def request = new MockHttpServletRequest('GET', '/book/list')
+        request.addHeader('Accept-Encoding', 'gzip')
+        def response = new MockHttpServletResponse()
+        byte[] flushed = null
+
+        when:
+        filter.doFilter(request, response, { ServletRequest req, ServletResponse res ->
+            res.contentType = 'text/html;charset=UTF-8'
+            res.writer.write('<head><title>Books</title></head>')
+            res.writer.flush()
+            flushed = ((MockHttpServletResponse) response).contentAsByteArray
+            res.writer.write(BODY)
+        } as FilterChain)
+
+        then:
+        flushed.length > 0
+        response.getHeader('Content-Encoding') == 'gzip'
+        gunzip(response.contentAsByteArray) == '<head><title>Books</title></head>' + BODY
+    }
+
+    void 'Test the ETag of a compressed response is weak'() {
+        given:
+        def request = new MockHttpServletRequest('GET', '/book/list')
+        request.addHeader('Accept-Encoding', 'gzip')
+        def response = new MockHttpServletResponse()
+
+        when:
+        filter.doFilter(request, response, { ServletRequest req, ServletResponse res ->
+            res.contentType = 'text/html;charset=UTF-8'
+            res.setHeader('ETag', '"v1"')
+            res.writer.write(BODY)
+        } as FilterChain)
+
+        then:
+        response.getHeader('ETag') == 'W/"v1"'
+    }
+
+    private static FilterChain chain(String body) {
+        return { ServletRequest req, ServletResponse res ->
+            res.contentType = 'text/html;charset=UTF-8'
+            res.writer.write(body)
+        } as FilterChain
+    }
+
+    private static String gunzip(byte[] bytes) {
+        new GZIPInputStream(new ByteArrayInputStream(bytes)).getText('UTF-8')
+    }
+
+}
@@ -0,0 +1,128 @@
+package org.grails.web.servlet.mvc
+
+import jakarta.servlet.FilterChain
+import jakarta.servlet.ServletRequest
+import jakarta.servlet.ServletResponse
+
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
+import spock.lang.Specification
+
+class ConditionalResponseFilterSpec extends Specification {
+
+    ConditionalResponseFilter filter = new ConditionalResponseFilter()
+
+    void 'Test the ETag of the response is computed from the written body'() {
+        given:
+        def request = new MockHttpServletRequest('GET', '/book/show')
+        def response = new MockHttpServletResponse()
+
+        when:
+        filter.doFilter(request, response, chain('Hello world'))
+
+        then:
+        response.status == 200
+        response.contentAsString == 'Hello world'
+        response.contentLength == 11
+        response.getHeader('ETag') == '"3e25960a79dbc69b674cd4ec67a72c62"'
+    }
+
+    void 'Test a request with a matching If-None-Match gets 304 without the body'() {
+        given:
+        def request = new MockHttpServletRequest('GET', '/book/show')
+        request.addHeader('If-None-Match', '"3e25960a79dbc69b674cd4ec67a72c62"')
+        def response = new MockHttpServletResponse()
+
+        when:
+        filter.doFilter(request, response, chain('Hello world'))
+
+        then:
+        response.status == 304
+        response.contentAsString == ''
+    }
+
+    void 'Test the ETag set by the application is kept'() {
+        given:
+        def request = new MockHttpServletRequest('GET', '/book/show')
+        request.addHeader('If-None-Match', '"v1"')
+        def response = new MockHttpServletResponse()
+
+        when:
+        filter.doFilter(request, response, { ServletRequest req, ServletResponse res ->
+            res.setHeader('ETag', '"v1"')
+            res.writer.write('Hello world')
+        } as FilterChain)
+
+        then:
+        response.status == 304
+        response.contentAsString == ''
+    }
+
+    void 'Test a HEAD response keeps the declared content length'() {
+        given:
+        def request = new MockHttpServletRequest('HEAD', '/book/show')
+        def response = new MockHttpServletResponse()
+
+        when:
+        filter.doFilter(request, response, { ServletRequest req, ServletResponse res ->
+            res.setContentLength(11)
+        } as FilterChain)
+
+        then:
+        response.status == 200
+        response.contentLength == 11
+        response.contentAsString == ''
+    }
+
+    void 'Test the declared content length is set when a buffered response is streamed'() {
+        given:
+        filter.maxBufferSize = 4
+        def request = new MockHttpServletRequest('GET', '/book/show')
+        def response = new MockHttpServletResponse()
+
+        when:
+        filter.doFilter(request, response, { ServletRequest req, ServletResponse res ->
+            res.setHeader('Content-Length', '11')
+            res.writer.write('Hello world')
+        } as FilterChain)
+
+        then:
+        response.contentLength == 11
+        response.contentAsString == 'Hello world'
+    }
+
+    void 'Test a response larger than the buffer is streamed without an ETag'() {
+        given:
+        filter.maxBufferSize = 4
+        def request = new MockHttpServletRequest('GET', '/book/show')
+        def response = new MockHttpServletResponse()
+
+        when:
+        filter.doFilter(request, response, chain('Hello world'))
+
+        then:
+        response.status == 200
+        response.contentAsString == 'Hello world'
+        response.getHeader('ETag') == null
+    }
+
+    void 'Test the responses of other methods are not changed'() {
+        given:
+        def request = new MockHttpServletRequest('POST', '/book/save')
+        def response = new MockHttpServletResponse()
+
+        when:
+        filter.doFilter(request, response, chain('Hello world'))
+
+        then:
+        response.contentAsString == 'Hello world'
+        response.getHeader('ETag') == null
+    }
+
+    private static FilterChain chain(String body) {
+        return { ServletRequest req, ServletResponse res ->
+            res.writer.write(body)
+        } as FilterChain
+    }
+
+}
@@ -0,0 +1,99 @@
+package org.grails.web.servlet.mvc
+
+import java.util.concurrent.Callable
+
+import jakarta.servlet.DispatcherType
+import jakarta.servlet.FilterChain
+import jakarta.servlet.ServletRequest
+import jakarta.servlet.ServletResponse
+import jakarta.servlet.http.HttpServletRequest
+import jakarta.servlet.http.HttpServletResponse
+
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
+import org.springframework.mock.web.MockHttpSession
+import org.springframework.mock.web.MockServletContext
+import org.springframework.web.context.request.RequestContextHolder
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest
+import org.springframework.web.context.request.async.WebAsyncManager
+import org.springframework.web.context.request.async.WebAsyncUtils
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import org.grails.web.util.GrailsApplicationAttributes
+
+class GrailsWebRequestFilterSpec extends Specification {
+
+    GrailsWebRequestFilter filter = new GrailsWebRequestFilter()
+
+    MockHttpSession session = new MockHttpSession()
+
+    void setup() {
+        filter.servletContext = new MockServletContext()
+        filter.parameterCreationListeners = []
+    }
+
+    void cleanup() {
+        RequestContextHolder.resetRequestAttributes()
+    }
+
+    void 'Test the async dispatch of a request keeps the web request of its initial dispatch'() {
+        given: 'a flash message saved by the previous request'
+        filter.doFilter(newRequest(), new MockHttpServletResponse(), { ServletRequest req, ServletResponse res ->
+            GrailsWebRequest.lookup((HttpServletRequest) req).flashScope.put('message', 'saved')
+        } as FilterChain)
+
+        and:
+        def request = newRequest()
+        request.asyncSupported = true
+        def response = new MockHttpServletResponse()
+        List<GrailsWebRequest> webRequests = []
+        List<Object> messages = []
+        List<ServletResponse> responses = []
+        def chain = { ServletRequest req, ServletResponse res ->
+            GrailsWebRequest webRequest = GrailsWebRequest.lookup((HttpServletRequest) req)
+            webRequests << webRequest
+            messages << webRequest.flashScope.get('message')
+            responses << res
+            if (((HttpServletRequest) req).dispatcherType == DispatcherType.REQUEST) {
+                webRequest.renderView = false
+                WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(req)
+                asyncManager.asyncWebRequest = new StandardServletAsyncWebRequest((HttpServletRequest) req, (HttpServletResponse) res)
+                asyncManager.startCallableProcessing({ 'done' } as Callable)
+            }
+        } as FilterChain
+
+        when: 'the action starts an asynchronous result'
+        filter.doFilter(request, response, chain)
+
+        then: 'the web request is unbound from the thread but kept in the request'
+        RequestContextHolder.requestAttributes == null
+        request.getAttribute(GrailsApplicationAttributes.WEB_REQUEST).is(webRequests[0])
+        new PollingConditions(timeout: 5).eventually {
+            assert WebAsyncUtils.getAsyncManager(request).hasConcurrentResult()
+        }
+
+        when: 'the request is dispatched again with the result'
+        request.dispatcherType = DispatcherType.ASYNC
+        request.asyncStarted = false
+        filter.doFilter(request, response, chain)
+
+        then: 'the same web request is used, its flash scope is not advanced again and the view is not rendered'
+        webRequests.size() == 2
+        webRequests[1].is(webRequests[0])
+        messages == ['saved', 'saved']
+        !webRequests[1].renderView
+        responses[1].is(responses[0])
+
+        and: 'the web request is released once the request completes'
+        request.getAttribute(GrailsApplicationAttributes.WEB_REQUEST) == null
+        RequestContextHolder.requestAttributes == null
+    }
+
+    private MockHttpServletRequest newRequest() {
+        def request = new MockHttpServletRequest('GET', '/book/save')
+        request.session = session
+        request
+    }
+
+}
@@ -0,0 +1,70 @@
+package org.grails.web.servlet.resource
+
+import org.springframework.core.io.FileSystemResource
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import org.grails.io.support.StaticResourceManifest
+
+class ManifestVersionStrategySpec extends Specification {
+
+    @TempDir
+    File tempDir
+
+    void "test the version of a resource is read from the manifest"() {
+        given:
+        File appCss = writeResource('static/css/app.css', 'body { color: #333; }')
+        File mainCss = writeResource('public/css/main.css', 'a { color: red; }')
+        ManifestVersionStrategy versionStrategy = new ManifestVersionStrategy(['css/app.css': 'abc123'])
+
+        expect: "the resources that are not in the manifest are hashed"
+        versionStrategy.getResourceVersion(new FileSystemResource(appCss)) == 'abc123'
+        versionStrategy.getResourceVersion(new FileSystemResource(mainCss)) == StaticResourceManifest.contentHash(mainCss.bytes)
+    }
+
+    void "test the version is added to and extracted from the file name"() {
+        given:
+        ManifestVersionStrategy versionStrategy = new ManifestVersionStrategy([:])
+
+        expect:
+        versionStrategy.addVersion('css/app.css', 'abc123') == 'css/app-abc123.css'
+        versionStrategy.extractVersion('css/app-abc123.css') == 'abc123'
+        versionStrategy.removeVersion('css/app-abc123.css', 'abc123') == 'css/app.css'
+        versionStrategy.extractVersion('css/app.css') == null
+    }
+
+    void "test the manifests of the application and its plugins are loaded"() {
+        given:
+        File app = new File(tempDir, 'app')
+        File plugin = new File(tempDir, 'plugin')
+        writeManifest(app, ['css/app.css': 'app-hash'])
+        writeManifest(plugin, ['css/app.css': 'plugin-hash', 'js/plugin.js': 'plugin-js-hash'])
+        File appCss = writeResource('static/css/app.css', 'body { color: #333; }')
+        File pluginJs = writeResource('static/js/plugin.js', 'console.log(1)')
+        URLClassLoader classLoader = new URLClassLoader([app, plugin].collect { File dir -> dir.toURI().toURL() } as URL[], (ClassLoader) null)
+
+        when:
+        ManifestVersionStrategy versionStrategy = ManifestVersionStrategy.load(classLoader)
+
+        then: "the first manifest in the classpath wins"
+        versionStrategy.getResourceVersion(new FileSystemResource(appCss)) == 'app-hash'
+        versionStrategy.getResourceVersion(new FileSystemResource(pluginJs)) == 'plugin-js-hash'
+
+        cleanup:
+        classLoader?.close()
+    }
+
+    private File writeResource(String path, String content) {
+        File file = new File(tempDir, path)
+        file.parentFile.mkdirs()
+        file.text = content
+        file
+    }
+
+    private static void writeManifest(File dir, Map<String, String> hashes) {
+        File manifest = new File(dir, StaticResourceManifest.MANIFEST_LOCATION)
+        manifest.parentFile.mkdirs()
+        manifest.withOutputStream { OutputStream out -> StaticResourceManifest.write(hashes, out) }
+    }
+
+}
@@ -0,0 +1,149 @@
+package org.grails.web.servlet.resource
+
+import org.springframework.cache.concurrent.ConcurrentMapCache
+import org.springframework.core.io.FileSystemResource
+import org.springframework.core.io.Resource
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
+import org.springframework.mock.web.MockServletContext
+import org.springframework.web.servlet.HandlerMapping
+import org.springframework.web.servlet.resource.CachingResourceResolver
+import org.springframework.web.servlet.resource.EncodedResourceResolver
+import org.springframework.web.servlet.resource.PathResourceResolver
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler
+import org.springframework.web.servlet.resource.ResourceResolverChain
+import org.springframework.web.servlet.resource.ResourceUrlProvider
+import org.springframework.web.servlet.resource.VersionResourceResolver
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import org.grails.io.support.StaticResourceManifest
+import org.grails.web.mapping.DefaultLinkGenerator
+
+class StaticResourceResolverSpec extends Specification {
+
+    @TempDir
+    File tempDir
+
+    String css = 'body { color: #333; }\n' * 100
+
+    String hash = StaticResourceManifest.contentHash(css.bytes)
+
+    ResourceHttpRequestHandler handler
+
+    void setup() {
+        File staticDir = new File(tempDir, 'static')
+        new File(staticDir, 'css').mkdirs()
+        new File(staticDir, 'css/app.css').text = css
+        new File(staticDir, 'css/app.css.gz').bytes = StaticResourceManifest.gzip(css.bytes)
+
+        // the resource chain configured by the controllers plugin when the fingerprints are enabled
+        ManifestVersionStrategy versionStrategy = new ManifestVersionStrategy(['css/app.css': hash])
+        handler = new ResourceHttpRequestHandler()
+        handler.servletContext = new MockServletContext()
+        handler.locations = [new FileSystemResource(staticDir.path + '/')]
+        handler.resourceResolvers = [
+                new CachingResourceResolver(new ConcurrentMapCache('static-resources')),
+                new StaticResourceResolver(64 * 1024, versionStrategy),
+                new EncodedResourceResolver(),
+                new VersionResourceResolver().addVersionStrategy(versionStrategy, '/**'),
+                new PathResourceResolver()
+        ]
+        handler.afterPropertiesSet()
+    }
+
+    void "test a resource requested with its fingerprinted URL is immutable"() {
+        when:
+        MockHttpServletResponse response = serve("css/app-${hash}.css")
+
+        then:
+        response.status == 200
+        response.contentAsString == css
+        response.getHeader('Cache-Control') == 'max-age=31536000, public, immutable'
+    }
+
+    void "test a resource requested without a fingerprint is not marked immutable"() {
+        when:
+        MockHttpServletResponse response = serve('css/app.css')
+
+        then:
+        response.status == 200
+        response.contentAsString == css
+        response.getHeader('Cache-Control') == null
+    }
+
+    void "test a resource requested with a stale fingerprint is not found"() {
+        when:
+        MockHttpServletResponse response = serve('css/app-d41d8cd98f00b204e9800998ecf8427e.css')
+
+        then:
+        response.status == 404
+    }
+
+    void "test the precompressed variant is served with its Content-Encoding"() {
+        when:
+        MockHttpServletResponse response = serve("css/app-${hash}.css", 'gzip')
+
+        then:
+        response.status == 200
+        response.getHeader('Content-Encoding') == 'gzip'
+        response.getHeader('Cache-Control') == 'max-age=31536000, public, immutable'
+        response.contentAsByteArray == new File(tempDir, 'static/css/app.css.gz').bytes
+    }
+
+    void "test the content of the small resources is kept in memory"() {
+        given:
+        File small = new File(tempDir, 'small.css')
+        small.text = 'a { color: red; }'
+        File large = new File(tempDir, 'large.css')
+        large.text = css
+        ResourceResolverChain chain = Stub(ResourceResolverChain) {
+            resolveResource(_, 'small.css', _) >> new FileSystemResource(small)
+            resolveResource(_, 'large.css', _) >> new FileSystemResource(large)
+        }
+        StaticResourceResolver resolver = new StaticResourceResolver(1024, null)
+
+        when:
+        Resource smallResource = resolver.resolveResource(new MockHttpServletRequest(), 'small.css', [], chain)
+        Resource largeResource = resolver.resolveResource(new MockHttpServletRequest(), 'large.css', [], chain)
+        small.delete()
+
+        then:
+        smallResource instanceof StaticResource
+        smallResource.contentLength() == 17
+        smallResource.inputStream.text == 'a { color: red; }'
+        largeResource == new FileSystemResource(large)
+    }
+
+    void "test the link generator creates the fingerprinted URLs of the resources"() {
+        given:
+        ResourceUrlProvider resourceUrlProvider = new ResourceUrlProvider()
+        resourceUrlProvider.handlerMap = ['/static/**': handler]
+        DefaultLinkGenerator linkGenerator = new DefaultLinkGenerator('http://localhost:8080', '/app')
+        linkGenerator.initializeResourcePath()
+        linkGenerator.resourceUrlProvider = resourceUrlProvider
+
+        expect: "the fingerprints are only added when they are enabled"
+        linkGenerator.resource(dir: 'css', file: 'app.css') == '/app/static/css/app.css'
+
+        when:
+        linkGenerator.resourceFingerprintEnabled = true
+
+        then:
+        linkGenerator.resource(dir: 'css', file: 'app.css') == "/app/static/css/app-${hash}.css"
+        linkGenerator.resource(dir: 'css', file: 'missing.css') == '/app/static/css/missing.css'
+        linkGenerator.resource(dir: 'css', file: 'app.css', plugin: 'foo') == '/app/static/css/app.css'
+    }
+
+    private MockHttpServletResponse serve(String path, String acceptEncoding = null) {
+        MockHttpServletRequest request = new MockHttpServletRequest('GET', "/static/${path}")
+        request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, path)
+        if (acceptEncoding) {
+            request.addHeader('Accept-Encoding', acceptEncoding)
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse()
+        handler.handleRequest(request, response)
+        response
+    }
+
+}
@@ -16,9 +16,11 @@
 package org.grails.web.sitemesh;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 import com.opensymphony.module.sitemesh.HTMLPage;
 import com.opensymphony.module.sitemesh.parser.AbstractHTMLPage;
@@ -51,6 +53,8 @@ public class GSPSitemeshPage extends AbstractHTMLPage implements Content {
 
     Map<String, StreamCharBuffer> contentBuffers;
 
+    Callable<StreamCharBuffer> deferredBody;
+
     private boolean renderingLayout;
 
     public GSPSitemeshPage() {
@@ -70,6 +74,7 @@ public class GSPSitemeshPage extends AbstractHTMLPage implements Content {
         this.used = false;
         this.titleCaptured = false;
         this.contentBuffers = null;
+        this.deferredBody = null;
         this.renderingLayout = false;
     }
 
@@ -109,6 +114,11 @@ public class GSPSitemeshPage extends AbstractHTMLPage implements Content {
 
     @Override
     public void writeBody(Writer out) throws IOException {
+        if (this.deferredBody != null) {
+            // send what has been written so far before rendering the body
+            out.flush();
+            renderDeferredBody();
+        }
         if (this.bodyBuffer != null) {
             this.bodyBuffer.writeTo(out);
         }
@@ -134,6 +144,14 @@ public class GSPSitemeshPage extends AbstractHTMLPage implements Content {
 
     @Override
     public String getBody() {
+        if (this.deferredBody != null) {
+            try {
+                renderDeferredBody();
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
         if (this.bodyBuffer != null) {
             return this.bodyBuffer.toString();
         }
@@ -174,6 +192,30 @@ public class GSPSitemeshPage extends AbstractHTMLPage implements Content {
         this.used = true;
     }
 
+    /**
+     * Sets the body to be rendered when a progressive layout writes it, instead of the captured body
+     *
+     * @param deferredBody Renders the body
+     */
+    public void setDeferredBody(Callable<StreamCharBuffer> deferredBody) {
+        this.deferredBody = deferredBody;
+        this.used = true;
+    }
+
+    private void renderDeferredBody() throws IOException {
+        Callable<StreamCharBuffer> body = this.deferredBody;
+        this.deferredBody = null;
+        try {
+            setBodyBuffer(body.call());
+        }
+        catch (IOException | RuntimeException e) {
+            throw e;
+        }
+        catch (Exception e) {
+            throw new IOException("Unable to render the body of the page: " + e.getMessage(), e);
+        }
+    }
+
     public void setPageBuffer(StreamCharBuffer pageBuffer) {
         this.pageBuffer = pageBuffer;
         applyStreamCharBufferSettings(pageBuffer);
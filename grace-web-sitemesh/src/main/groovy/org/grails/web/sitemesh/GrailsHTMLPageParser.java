@@ -39,8 +39,9 @@ public class GrailsHTMLPageParser extends HTMLPageParser {
 
     @Override
     public Page parse(char[] data) throws IOException {
-        CharArray head = new CharArray(64);
-        CharArray body = new CharArray(4096);
+        // the head and the body are kept as slices of the data
+        CharArray head = new SlicedCharArray(data);
+        CharArray body = new SlicedCharArray(data);
         GrailsTokenizedHTMLPage page = new GrailsTokenizedHTMLPage(data, body, head);
         HTMLProcessor processor = new HTMLProcessor(data, body);
         State html = processor.defaultState();
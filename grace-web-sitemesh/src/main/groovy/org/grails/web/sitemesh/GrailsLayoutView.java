@@ -18,12 +18,15 @@ package org.grails.web.sitemesh;
 import java.io.PrintWriter;
 import java.util.Map;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import com.opensymphony.module.sitemesh.RequestConstants;
 import com.opensymphony.sitemesh.Content;
 import groovy.text.Template;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
@@ -44,6 +47,13 @@ public class GrailsLayoutView extends AbstractGrailsView {
 
     public static final String GSP_SITEMESH_PAGE = GrailsLayoutView.class.getName() + ".GSP_SITEMESH_PAGE";
 
+    /**
+     * The name of the observation of decorating the content with a layout, tagged by the page of the layout
+     */
+    public static final String LAYOUT_OBSERVATION_NAME = "grails.layout";
+
+    protected ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
     public GrailsLayoutView(GroovyPageLayoutFinder groovyPageLayoutFinder, View innerView) {
         this.groovyPageLayoutFinder = groovyPageLayoutFinder;
         this.innerView = innerView;
@@ -81,7 +91,7 @@ public class GrailsLayoutView extends AbstractGrailsView {
                                 LOG.debug(String.format("Found layout [%s], rendering content for model [%s]", decorator.getPage(), model));
                             }
 
-                            decorator.render(content, model, request, response, webRequest.getServletContext());
+                            renderDecorator(decorator, content, model, webRequest, request, response);
                             return;
                         }
                         break;
@@ -99,6 +109,26 @@ public class GrailsLayoutView extends AbstractGrailsView {
 
     }
 
+    protected void renderDecorator(SpringMVCViewDecorator decorator, Content content, Map<String, Object> model,
+            GrailsWebRequest webRequest, HttpServletRequest request, HttpServletResponse response) {
+        Observation observation = Observation.createNotStarted(LAYOUT_OBSERVATION_NAME, this.observationRegistry);
+        if (observation.isNoop()) {
+            decorator.render(content, model, request, response, webRequest.getServletContext());
+            return;
+        }
+        observation.lowCardinalityKeyValue("layout", decorator.getPage()).start();
+        try {
+            decorator.render(content, model, request, response, webRequest.getServletContext());
+        }
+        catch (RuntimeException e) {
+            observation.error(e);
+            throw e;
+        }
+        finally {
+            observation.stop();
+        }
+    }
+
     protected void beforeDecorating(Content content, Map<String, Object> model, GrailsWebRequest webRequest,
             HttpServletRequest request, HttpServletResponse response) {
         applyMetaHttpEquivContentType(content, response);
@@ -118,18 +148,39 @@ public class GrailsLayoutView extends AbstractGrailsView {
         Object oldGspSiteMeshPage = request.getAttribute(GrailsLayoutView.GSP_SITEMESH_PAGE);
         HttpServletResponse previousResponse = webRequest.getWrappedResponse();
         HttpServletResponse previousWrappedResponse = WrappedResponseHolder.getWrappedResponse();
+        Object oldProgressiveLayout = request.getAttribute(ProgressiveLayout.ATTRIBUTE);
         try {
             request.setAttribute(GrailsLayoutView.GSP_SITEMESH_PAGE, new GSPSitemeshPage());
 
+            ProgressiveLayout progressiveLayout = null;
+            if (request.getDispatcherType() != DispatcherType.INCLUDE) {
+                progressiveLayout = new ProgressiveLayout(this, model, webRequest, request, response, previousWrappedResponse);
+                request.setAttribute(ProgressiveLayout.ATTRIBUTE, progressiveLayout);
+            }
+            else {
+                request.removeAttribute(ProgressiveLayout.ATTRIBUTE);
+            }
+
             GrailsContentBufferingResponse contentBufferingResponse = createContentBufferingResponse(model, webRequest, request, response);
             webRequest.setWrappedResponse(contentBufferingResponse);
             WrappedResponseHolder.setWrappedResponse(contentBufferingResponse);
 
             renderInnerView(model, webRequest, request, response, contentBufferingResponse);
 
+            if (progressiveLayout != null && progressiveLayout.isRendered()) {
+                // the layout has been applied while rendering the view, only what follows the body of the view is left
+                progressiveLayout.writeTrailingContent();
+                return null;
+            }
             return contentBufferingResponse.getContent();
         }
         finally {
+            if (oldProgressiveLayout != null) {
+                request.setAttribute(ProgressiveLayout.ATTRIBUTE, oldProgressiveLayout);
+            }
+            else {
+                request.removeAttribute(ProgressiveLayout.ATTRIBUTE);
+            }
             if (oldGspSiteMeshPage != null) {
                 request.setAttribute(GrailsLayoutView.GSP_SITEMESH_PAGE, oldGspSiteMeshPage);
             }
@@ -167,4 +218,11 @@ public class GrailsLayoutView extends AbstractGrailsView {
         return this.innerView;
     }
 
+    /**
+     * Sets the registry of the observations of decorating the content, which is not observed by default
+     */
+    public void setObservationRegistry(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
 }
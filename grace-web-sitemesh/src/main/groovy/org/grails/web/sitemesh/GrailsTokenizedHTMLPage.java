@@ -39,7 +39,10 @@ public class GrailsTokenizedHTMLPage extends TokenizedHTMLPage {
 
     @Override
     public void writeHead(Writer out) throws IOException {
-        if (out instanceof PrintWriter) {
+        if (this.head instanceof SlicedCharArray) {
+            ((SlicedCharArray) this.head).writeTo(out);
+        }
+        else if (out instanceof PrintWriter) {
             this.head.writeTo((PrintWriter) out);
         }
         else {
@@ -49,7 +52,10 @@ public class GrailsTokenizedHTMLPage extends TokenizedHTMLPage {
 
     @Override
     public void writeBody(Writer out) throws IOException {
-        if (out instanceof PrintWriter) {
+        if (this.body instanceof SlicedCharArray) {
+            ((SlicedCharArray) this.body).writeTo(out);
+        }
+        else if (out instanceof PrintWriter) {
             this.body.writeTo((PrintWriter) out);
         }
         else {
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.web.sitemesh;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import com.opensymphony.module.sitemesh.Decorator;
+
+import org.grails.web.servlet.WrappedResponseHolder;
+import org.grails.web.servlet.mvc.GrailsWebRequest;
+
+/**
+ * Applies a layout while the view is being rendered, when the body of the view starts.
+ *
+ * <p>The head, the title and the meta tags of the view have been captured at that point, so a layout
+ * that only needs them before {@code <g:layoutBody/>} can be written and flushed to the client
+ * before the body of the view is rendered, the body is then rendered by {@code <g:layoutBody/>}.
+ * As the response is committed before the body is rendered, the body can not change the status
+ * or the headers of the response. What the view writes after its body, except the closing html tag,
+ * is written to the response after the layout.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ * @see GrailsLayoutView
+ */
+public class ProgressiveLayout {
+
+    /**
+     * The request attribute that holds the progressive layout of the view being rendered
+     */
+    public static final String ATTRIBUTE = ProgressiveLayout.class.getName();
+
+    private static final Pattern CLOSING_HTML_TAG = Pattern.compile("</html\\s*>", Pattern.CASE_INSENSITIVE);
+
+    private final GrailsLayoutView layoutView;
+
+    private final Map<String, Object> model;
+
+    private final GrailsWebRequest webRequest;
+
+    private final HttpServletRequest request;
+
+    private final HttpServletResponse response;
+
+    private final HttpServletResponse wrappedResponse;
+
+    private boolean rendered;
+
+    private GSPSitemeshPage page;
+
+    private int bodyOffset;
+
+    ProgressiveLayout(GrailsLayoutView layoutView, Map<String, Object> model, GrailsWebRequest webRequest,
+            HttpServletRequest request, HttpServletResponse response, HttpServletResponse wrappedResponse) {
+        this.layoutView = layoutView;
+        this.model = model;
+        this.webRequest = webRequest;
+        this.request = request;
+        this.response = response;
+        this.wrappedResponse = wrappedResponse;
+    }
+
+    /**
+     * Takes the progressive layout of the view being rendered, it can only be taken once
+     *
+     * @param request The request
+     * @return The progressive layout or null if the view can not be decorated progressively
+     */
+    public static ProgressiveLayout claim(HttpServletRequest request) {
+        ProgressiveLayout progressiveLayout = (ProgressiveLayout) request.getAttribute(ATTRIBUTE);
+        if (progressiveLayout != null) {
+            request.removeAttribute(ATTRIBUTE);
+        }
+        return progressiveLayout;
+    }
+
+    /**
+     * Finds the layout of the page from what has been captured so far
+     *
+     * @param page The page being rendered
+     * @return The layout or null
+     */
+    public SpringMVCViewDecorator findLayout(GSPSitemeshPage page) {
+        Decorator decorator = this.layoutView.groovyPageLayoutFinder.findLayout(this.request, page);
+        return decorator instanceof SpringMVCViewDecorator ? (SpringMVCViewDecorator) decorator : null;
+    }
+
+    /**
+     * Renders the layout to the response, the body of the page must have been set with
+     * {@link GSPSitemeshPage#setDeferredBody(java.util.concurrent.Callable)}
+     *
+     * @param decorator The layout
+     * @param page The page being rendered
+     * @throws Exception If the layout can not be rendered
+     */
+    public void render(SpringMVCViewDecorator decorator, GSPSitemeshPage page) throws Exception {
+        Object gspSitemeshPage = this.request.getAttribute(GrailsLayoutView.GSP_SITEMESH_PAGE);
+        HttpServletResponse previousResponse = this.webRequest.getWrappedResponse();
+        HttpServletResponse previousWrappedResponse = WrappedResponseHolder.getWrappedResponse();
+        Writer previousOut = this.webRequest.getOut();
+        if (previousOut != null) {
+            previousOut.flush();
+        }
+        this.rendered = true;
+        this.page = page;
+        this.bodyOffset = page.pageBuffer != null ? page.pageBuffer.size() : 0;
+        try {
+            this.webRequest.setWrappedResponse(this.response);
+            WrappedResponseHolder.setWrappedResponse(this.wrappedResponse);
+            this.layoutView.beforeDecorating(page, this.model, this.webRequest, this.request, this.response);
+            this.layoutView.renderDecorator(decorator, page, this.model, this.webRequest, this.request, this.response);
+        }
+        finally {
+            this.request.setAttribute(GrailsLayoutView.GSP_SITEMESH_PAGE, gspSitemeshPage);
+            this.webRequest.setWrappedResponse(previousResponse);
+            WrappedResponseHolder.setWrappedResponse(previousWrappedResponse);
+            this.webRequest.setOut(previousOut);
+        }
+    }
+
+    /**
+     * Writes what the view has written after its body, such as scripts following the closing body tag,
+     * to the response after the layout. The closing html tag is left out, as the layout has closed the document.
+     *
+     * @throws IOException If the content can not be written
+     */
+    public void writeTrailingContent() throws IOException {
+        String content = this.page != null ? this.page.getPage() : null;
+        if (content == null || content.length() <= this.bodyOffset) {
+            return;
+        }
+        String trailingContent = CLOSING_HTML_TAG.matcher(content.substring(this.bodyOffset)).replaceFirst("");
+        if (!trailingContent.isBlank()) {
+            PrintWriter writer = this.response.getWriter();
+            writer.write(trailingContent);
+            writer.flush();
+        }
+    }
+
+    /**
+     * @return Whether the layout has been rendered
+     */
+    public boolean isRendered() {
+        return this.rendered;
+    }
+
+}
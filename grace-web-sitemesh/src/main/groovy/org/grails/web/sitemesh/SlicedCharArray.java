@@ -0,0 +1,264 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.web.sitemesh;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Arrays;
+
+import com.opensymphony.module.sitemesh.html.util.CharArray;
+
+/**
+ * A {@link CharArray} for the head and the body of a parsed page, which keeps the text of the page
+ * as slices of the parsed {@code char[]} instead of copying it, only the text added by the rules
+ * of the parser, like rewritten tags, is copied.
+ *
+ * <p>The substring comparison methods of {@link CharArray} are not supported and throw an
+ * {@link UnsupportedOperationException}, they are only used by the tokenizer on its own buffers.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+final class SlicedCharArray extends CharArray {
+
+    private final char[] source;
+
+    private final StringBuilder literals = new StringBuilder();
+
+    // pairs of offset and length, a negative offset -(n + 1) is the offset n in the literals
+    private int[] slices = new int[32];
+
+    private int sliceCount;
+
+    private int length;
+
+    SlicedCharArray(char[] source) {
+        super(0);
+        this.source = source;
+    }
+
+    @Override
+    public CharArray append(char[] chars, int position, int length) {
+        if (length <= 0) {
+            return this;
+        }
+        if (chars == this.source) {
+            addSlice(position, length);
+        }
+        else {
+            int offset = this.literals.length();
+            this.literals.append(chars, position, length);
+            addSlice(-offset - 1, length);
+        }
+        return this;
+    }
+
+    @Override
+    public CharArray append(char[] chars) {
+        return append(chars, 0, chars.length);
+    }
+
+    @Override
+    public CharArray append(CharArray chars) {
+        if (chars instanceof SlicedCharArray) {
+            SlicedCharArray other = (SlicedCharArray) chars;
+            for (int i = 0; i < other.sliceCount; i++) {
+                int offset = other.slices[2 * i];
+                int length = other.slices[2 * i + 1];
+                if (offset >= 0) {
+                    append(other.source, offset, length);
+                }
+                else {
+                    append(other.literals.substring(-offset - 1, -offset - 1 + length));
+                }
+            }
+            return this;
+        }
+        return append(chars.toString());
+    }
+
+    @Override
+    public CharArray append(char c) {
+        int offset = this.literals.length();
+        this.literals.append(c);
+        addSlice(-offset - 1, 1);
+        return this;
+    }
+
+    @Override
+    public CharArray append(String str) {
+        if (!str.isEmpty()) {
+            int offset = this.literals.length();
+            this.literals.append(str);
+            addSlice(-offset - 1, str.length());
+        }
+        return this;
+    }
+
+    private void addSlice(int offset, int length) {
+        this.length += length;
+        if (this.sliceCount > 0) {
+            int last = 2 * (this.sliceCount - 1);
+            int lastOffset = this.slices[last];
+            int lastLength = this.slices[last + 1];
+            boolean contiguous = lastOffset >= 0 ? offset == lastOffset + lastLength : offset == lastOffset - lastLength;
+            if (contiguous && (offset >= 0) == (lastOffset >= 0)) {
+                this.slices[last + 1] += length;
+                return;
+            }
+        }
+        if (2 * this.sliceCount == this.slices.length) {
+            this.slices = Arrays.copyOf(this.slices, this.slices.length * 2);
+        }
+        this.slices[2 * this.sliceCount] = offset;
+        this.slices[2 * this.sliceCount + 1] = length;
+        this.sliceCount++;
+    }
+
+    @Override
+    public int length() {
+        return this.length;
+    }
+
+    @Override
+    public char charAt(int pos) {
+        int remaining = pos;
+        for (int i = 0; i < this.sliceCount; i++) {
+            int offset = this.slices[2 * i];
+            int length = this.slices[2 * i + 1];
+            if (remaining < length) {
+                return offset >= 0 ? this.source[offset + remaining] : this.literals.charAt(-offset - 1 + remaining);
+            }
+            remaining -= length;
+        }
+        throw new IndexOutOfBoundsException("Index: " + pos + ", Length: " + this.length);
+    }
+
+    @Override
+    public void setLength(int newSize) {
+        if (newSize <= 0) {
+            clear();
+            return;
+        }
+        if (newSize >= this.length) {
+            for (int i = this.length; i < newSize; i++) {
+                append('\0');
+            }
+            return;
+        }
+        int remaining = newSize;
+        for (int i = 0; i < this.sliceCount; i++) {
+            int length = this.slices[2 * i + 1];
+            if (remaining <= length) {
+                this.slices[2 * i + 1] = remaining;
+                this.sliceCount = i + 1;
+                break;
+            }
+            remaining -= length;
+        }
+        this.length = newSize;
+    }
+
+    @Override
+    public void clear() {
+        this.sliceCount = 0;
+        this.length = 0;
+        this.literals.setLength(0);
+    }
+
+    @Override
+    public String substring(int begin, int end) {
+        return toString().substring(begin, end);
+    }
+
+    @Override
+    public void setSubstr(int begin, int end) {
+        throw new UnsupportedOperationException("Substrings of sliced char arrays are not supported");
+    }
+
+    @Override
+    public String getLowerSubstr() {
+        throw new UnsupportedOperationException("Substrings of sliced char arrays are not supported");
+    }
+
+    @Override
+    public boolean compareLowerSubstr(String lowerStr) {
+        throw new UnsupportedOperationException("Substrings of sliced char arrays are not supported");
+    }
+
+    @Override
+    public int substrHashCode() {
+        throw new UnsupportedOperationException("Substrings of sliced char arrays are not supported");
+    }
+
+    @Override
+    public boolean compareLower(String lowerStr, int offset) {
+        throw new UnsupportedOperationException("Comparing sliced char arrays is not supported");
+    }
+
+    @Override
+    public String toString() {
+        char[] chars = new char[this.length];
+        int position = 0;
+        for (int i = 0; i < this.sliceCount; i++) {
+            int offset = this.slices[2 * i];
+            int length = this.slices[2 * i + 1];
+            if (offset >= 0) {
+                System.arraycopy(this.source, offset, chars, position, length);
+            }
+            else {
+                this.literals.getChars(-offset - 1, -offset - 1 + length, chars, position);
+            }
+            position += length;
+        }
+        return new String(chars);
+    }
+
+    @Override
+    public void writeTo(PrintWriter writer) {
+        for (int i = 0; i < this.sliceCount; i++) {
+            int offset = this.slices[2 * i];
+            int length = this.slices[2 * i + 1];
+            if (offset >= 0) {
+                writer.write(this.source, offset, length);
+            }
+            else {
+                writer.append(this.literals, -offset - 1, -offset - 1 + length);
+            }
+        }
+    }
+
+    /**
+     * Writes the slices to a writer without copying them
+     *
+     * @param writer The writer
+     * @throws IOException If the writer fails
+     */
+    public void writeTo(Writer writer) throws IOException {
+        for (int i = 0; i < this.sliceCount; i++) {
+            int offset = this.slices[2 * i];
+            int length = this.slices[2 * i + 1];
+            if (offset >= 0) {
+                writer.write(this.source, offset, length);
+            }
+            else {
+                writer.append(this.literals, -offset - 1, -offset - 1 + length);
+            }
+        }
+    }
+
+}
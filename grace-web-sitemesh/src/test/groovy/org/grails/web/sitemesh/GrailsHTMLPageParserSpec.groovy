@@ -0,0 +1,106 @@
+package org.grails.web.sitemesh
+
+import com.opensymphony.module.sitemesh.HTMLPage
+import com.opensymphony.module.sitemesh.parser.HTMLPageParser
+import spock.lang.Specification
+
+class GrailsHTMLPageParserSpec extends Specification {
+
+    static final String PAGE = '''<html><head><title>Books</title><meta name="author" content="Grails"><script>var a = 1;</script></head>
+<body class="list">Hello <content tag="nav"><a href="/">Home</a></content><b>world</b><parameter name="sidebar" value="left"/>!</body></html>'''
+
+    void 'Test the head and the body are written from slices of the page'() {
+        given:
+        char[] data = PAGE.toCharArray()
+        HTMLPage page = (HTMLPage) new GrailsHTMLPageParser().parse(data)
+        def head = new StringWriter()
+        def body = new StringWriter()
+
+        when:
+        page.writeHead(head)
+        page.writeBody(new PrintWriter(body))
+
+        then:
+        head.toString() == '<meta name="author" content="Grails"><script>var a = 1;</script>'
+        body.toString() == 'Hello <b>world</b>!'
+        page.head == head.toString()
+        page.body == body.toString()
+        page.title == 'Books'
+        page.getProperty('body.class') == 'list'
+        page.getProperty('meta.author') == 'Grails'
+        page.getProperty('page.nav') == '<a href="/">Home</a>'
+        page.getProperty('page.sidebar') == 'left'
+    }
+
+    void 'Test the parsed page is the same as the one of the SiteMesh parser'() {
+        given:
+        HTMLPage expected = (HTMLPage) new HTMLPageParser().parse(PAGE.toCharArray())
+
+        when:
+        HTMLPage page = (HTMLPage) new GrailsHTMLPageParser().parse(PAGE.toCharArray())
+
+        then:
+        page.head == expected.head
+        page.body == expected.body
+        page.title == expected.title
+    }
+
+    void 'Test slices can be appended, truncated and cleared'() {
+        given:
+        char[] data = 'abcdef'.toCharArray()
+        def chars = new SlicedCharArray(data)
+
+        when:
+        chars.append(data, 0, 2).append(data, 2, 2).append('X').append('Y' as char).append(data, 5, 1)
+
+        then:
+        chars.toString() == 'abcdXYf'
+        chars.length() == 7
+        chars.charAt(4) == 'X' as char
+        chars.charAt(6) == 'f' as char
+
+        when:
+        chars.length = 5
+
+        then:
+        chars.toString() == 'abcdX'
+
+        when:
+        chars.clear()
+        chars.append(data, 1, 1)
+
+        then:
+        chars.toString() == 'b'
+    }
+
+    void 'Test the substring methods of a sliced char array are not supported'() {
+        given:
+        SlicedCharArray chars = new SlicedCharArray('abcdef'.toCharArray())
+        chars.append('abcdef'.toCharArray(), 0, 6)
+
+        when:
+        chars.setSubstr(0, 2)
+
+        then:
+        thrown(UnsupportedOperationException)
+
+        when:
+        chars.compareLowerSubstr('ab')
+
+        then:
+        thrown(UnsupportedOperationException)
+
+        when:
+        chars.substrHashCode()
+
+        then:
+        thrown(UnsupportedOperationException)
+
+        when:
+        chars.compareLower('ab', 0)
+
+        then:
+        thrown(UnsupportedOperationException)
+    }
+
+}
@@ -26,6 +26,7 @@ import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.beans.factory.annotation.Qualifier
 import org.springframework.beans.factory.annotation.Value
 import org.springframework.http.HttpMethod
+import org.springframework.web.servlet.resource.ResourceUrlProvider
 
 import grails.config.Settings
 import grails.plugins.GrailsPluginManager
@@ -84,6 +85,12 @@ class DefaultLinkGenerator implements LinkGenerator, PluginManagerAware {
     @Value('${grails.resources.pattern:/static/**}')
     String resourcePattern = Settings.DEFAULT_RESOURCE_PATTERN
 
+    @Value('${grails.resources.fingerprint.enabled:false}')
+    boolean resourceFingerprintEnabled
+
+    @Autowired(required = false)
+    ResourceUrlProvider resourceUrlProvider
+
     DefaultLinkGenerator(String serverBaseURL, String contextPath) {
         configuredServerBaseURL = serverBaseURL
         this.contextPath = contextPath
@@ -347,18 +354,22 @@ class DefaultLinkGenerator implements LinkGenerator, PluginManagerAware {
 
         StringBuilder url = new StringBuilder(absolutePath ?: '')
         String dir = attrs.dir
+        boolean fingerprint = resourceFingerprintEnabled && resourceUrlProvider != null
         if (attrs.plugin) {
             url.append(pluginManager?.getPluginPath(attrs.plugin?.toString()) ?: '')
+            fingerprint = false
         }
         else {
             if (contextPathAttribute == null) {
                 String pluginContextPath = attrs.pluginContextPath
                 if (pluginContextPath != null && dir != pluginContextPath) {
                     url << pluginContextPath
+                    fingerprint = false
                 }
             }
         }
 
+        int lookupStart = url.length()
         String slash = '/'
         if (resourcePath != null) {
             url.append(resourcePath)
@@ -378,6 +389,15 @@ class DefaultLinkGenerator implements LinkGenerator, PluginManagerAware {
             url.append(file)
         }
 
+        if (fingerprint) {
+            // replace the path of the resource with its fingerprinted path, like /static/css/app-<hash>.css
+            String fingerprintedPath = resourceUrlProvider.getForLookupPath(url.substring(lookupStart))
+            if (fingerprintedPath != null) {
+                url.setLength(lookupStart)
+                url.append(fingerprintedPath)
+            }
+        }
+
         url.toString()
     }
 
@@ -43,8 +43,11 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.support.StaticMessageSource;
 import org.springframework.core.io.Resource;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.http.HttpMethod;
 import org.springframework.util.Assert;
 import org.springframework.web.context.WebApplicationContext;
@@ -192,19 +195,28 @@ public class DefaultUrlMappingEvaluator implements UrlMappingEvaluator, ClassLoa
         GroovyObject obj = (GroovyObject) BeanUtils.instantiateClass(theClass);
 
         if (obj instanceof Script) {
-            Script script = (Script) obj;
-            Binding b = new Binding();
+            StartupStep evaluateStep = getApplicationStartup().start("grails.url-mappings.evaluated")
+                    .tag("class", theClass.getName());
+            try {
+                Script script = (Script) obj;
+                Binding b = new Binding();
 
-            MappingCapturingClosure closure = new MappingCapturingClosure(script);
-            b.setVariable("mappings", closure);
-            script.setBinding(b);
+                MappingCapturingClosure closure = new MappingCapturingClosure(script);
+                b.setVariable("mappings", closure);
+                script.setBinding(b);
 
-            script.run();
+                script.run();
 
-            Closure mappings = closure.getMappings();
+                Closure mappings = closure.getMappings();
 
-            Binding binding = script.getBinding();
-            return evaluateMappings(script, mappings, binding);
+                Binding binding = script.getBinding();
+                List<UrlMapping> urlMappings = evaluateMappings(script, mappings, binding);
+                evaluateStep.tag("mappingCount", String.valueOf(urlMappings.size()));
+                return urlMappings;
+            }
+            finally {
+                evaluateStep.end();
+            }
         }
 
         throw new UrlMappingException("Unable to configure URL mappings for class [" + theClass +
@@ -222,17 +234,32 @@ public class DefaultUrlMappingEvaluator implements UrlMappingEvaluator, ClassLoa
 
     @SuppressWarnings("rawtypes")
     public List<UrlMapping> evaluateMappings(Closure closure) {
-        UrlMappingBuilder builder = new UrlMappingBuilder((Binding) null);
-        closure.setDelegate(builder);
-        closure.setResolveStrategy(Closure.DELEGATE_FIRST);
-        if (closure.getParameterTypes().length == 0) {
-            closure.call();
+        StartupStep evaluateStep = getApplicationStartup().start("grails.url-mappings.evaluated")
+                .tag("class", closure.getOwner().getClass().getName());
+        try {
+            UrlMappingBuilder builder = new UrlMappingBuilder((Binding) null);
+            closure.setDelegate(builder);
+            closure.setResolveStrategy(Closure.DELEGATE_FIRST);
+            if (closure.getParameterTypes().length == 0) {
+                closure.call();
+            }
+            else {
+                closure.call(this.applicationContext);
+            }
+            builder.urlDefiningMode = false;
+            evaluateStep.tag("mappingCount", String.valueOf(builder.getUrlMappings().size()));
+            return builder.getUrlMappings();
         }
-        else {
-            closure.call(this.applicationContext);
+        finally {
+            evaluateStep.end();
         }
-        builder.urlDefiningMode = false;
-        return builder.getUrlMappings();
+    }
+
+    private ApplicationStartup getApplicationStartup() {
+        if (this.applicationContext instanceof ConfigurableApplicationContext) {
+            return ((ConfigurableApplicationContext) this.applicationContext).getApplicationStartup();
+        }
+        return ApplicationStartup.DEFAULT;
     }
 
     public void setClassLoader(ClassLoader classLoader) {
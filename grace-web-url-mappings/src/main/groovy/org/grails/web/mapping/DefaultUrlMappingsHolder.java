@@ -34,6 +34,8 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Weigher;
 import groovy.lang.Closure;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.core.style.ToStringCreator;
@@ -49,11 +51,14 @@ import grails.util.CollectionUtils;
 import grails.util.Holders;
 import grails.web.mapping.UrlCreator;
 import grails.web.mapping.UrlMapping;
+import grails.web.mapping.UrlMappingData;
 import grails.web.mapping.UrlMappingEvaluator;
 import grails.web.mapping.UrlMappingInfo;
 import grails.web.mapping.UrlMappings;
 import grails.web.mapping.UrlMappingsHolder;
 
+import org.grails.web.mapping.jfr.UrlMatchEvent;
+
 /**
  * Default implementation of the UrlMappingsHolder interface that takes a list of mappings and
  * then sorts them according to their precedence rules as defined in the implementation of Comparable.
@@ -73,6 +78,12 @@ public class DefaultUrlMappingsHolder implements UrlMappings {
 
     public static final UrlMappingInfo[] EMPTY_RESULTS = new UrlMappingInfo[0];
 
+    /**
+     * The name of the observation of matching a request URI, tagged by whether the match was cached
+     * and whether a mapping matched
+     */
+    public static final String MATCH_OBSERVATION_NAME = "grails.url.match";
+
     private int maxWeightedCacheCapacity = DEFAULT_MAX_WEIGHTED_CAPACITY;
 
     private Cache<String, UrlMappingInfo> cachedMatches;
@@ -118,6 +129,8 @@ public class DefaultUrlMappingsHolder implements UrlMappings {
 
     private final AtomicInteger initCounter = new AtomicInteger();
 
+    private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
     public DefaultUrlMappingsHolder(List<UrlMapping> mappings) {
         this(mappings, null, false);
     }
@@ -222,6 +235,13 @@ public class DefaultUrlMappingsHolder implements UrlMappings {
         this.urlCreatorMaxWeightedCacheCapacity = urlCreatorMaxWeightedCacheCapacity;
     }
 
+    /**
+     * Sets the registry of the observations of matching request URIs, which are not observed by default
+     */
+    public void setObservationRegistry(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
     @Override
     public Collection<UrlMapping> addMappings(Closure mappings) {
         WebApplicationContext applicationContext = (WebApplicationContext) Holders.findApplicationContext();
@@ -588,33 +608,66 @@ public class DefaultUrlMappingsHolder implements UrlMappings {
             return EMPTY_RESULTS;
         }
 
-        boolean anyHttpMethod = httpMethod != null && httpMethod.equalsIgnoreCase(UrlMapping.ANY_HTTP_METHOD);
-        UriToUrlMappingKey cacheKey = new UriToUrlMappingKey(uri, httpMethod, UrlMapping.ANY_VERSION);
-        List<UrlMappingInfo> matchingUrls = this.cachedListMatches.getIfPresent(cacheKey);
-
-        if (matchingUrls == null) {
-            matchingUrls = new ArrayList<>();
-            for (UrlMapping mapping : this.mappings) {
-                if (logger.isDebugEnabled()) {
-                    logger.debug("Attempting to match URI [" + uri + "] with pattern [" + mapping.getUrlData().getUrlPattern() + "]");
-                }
-
-                UrlMappingInfo current = mapping.match(uri);
-                if (current != null) {
+        Observation observation = Observation.start(MATCH_OBSERVATION_NAME, this.observationRegistry);
+        UrlMatchEvent event = new UrlMatchEvent();
+        event.begin();
+        List<UrlMappingInfo> matchingUrls = null;
+        boolean cached = false;
+        try {
+            boolean anyHttpMethod = httpMethod != null && httpMethod.equalsIgnoreCase(UrlMapping.ANY_HTTP_METHOD);
+            UriToUrlMappingKey cacheKey = new UriToUrlMappingKey(uri, httpMethod, UrlMapping.ANY_VERSION);
+            matchingUrls = this.cachedListMatches.getIfPresent(cacheKey);
+            cached = matchingUrls != null;
+
+            if (matchingUrls == null) {
+                matchingUrls = new ArrayList<>();
+                for (UrlMapping mapping : this.mappings) {
                     if (logger.isDebugEnabled()) {
-                        logger.debug("Matched URI [" + uri + "] with pattern [" + mapping.getUrlData().getUrlPattern() + "], adding to posibilities");
+                        logger.debug("Attempting to match URI [" + uri + "] with pattern [" + mapping.getUrlData().getUrlPattern() + "]");
                     }
 
-                    String mappingHttpMethod = current.getHttpMethod();
-                    if (mappingHttpMethod == null || anyHttpMethod || mappingHttpMethod.equalsIgnoreCase(UrlMapping.ANY_HTTP_METHOD) ||
-                            mappingHttpMethod.equalsIgnoreCase(httpMethod)) {
-                        matchingUrls.add(current);
+                    UrlMappingInfo current = mapping.match(uri);
+                    if (current != null) {
+                        if (logger.isDebugEnabled()) {
+                            logger.debug("Matched URI [" + uri + "] with pattern [" + mapping.getUrlData().getUrlPattern() +
+                                    "], adding to posibilities");
+                        }
+
+                        String mappingHttpMethod = current.getHttpMethod();
+                        if (mappingHttpMethod == null || anyHttpMethod || mappingHttpMethod.equalsIgnoreCase(UrlMapping.ANY_HTTP_METHOD) ||
+                                mappingHttpMethod.equalsIgnoreCase(httpMethod)) {
+                            matchingUrls.add(current);
+                        }
                     }
                 }
+                this.cachedListMatches.put(cacheKey, matchingUrls);
             }
-            this.cachedListMatches.put(cacheKey, matchingUrls);
+            return matchingUrls.toArray(new UrlMappingInfo[0]);
+        }
+        catch (RuntimeException e) {
+            observation.error(e);
+            throw e;
+        }
+        finally {
+            recordMatch(observation, event, uri, cached, matchingUrls);
+        }
+    }
+
+    private void recordMatch(Observation observation, UrlMatchEvent event, String uri, boolean cached,
+            List<UrlMappingInfo> matchingUrls) {
+        boolean matched = matchingUrls != null && !matchingUrls.isEmpty();
+        observation.lowCardinalityKeyValue("cache", cached ? "hit" : "miss")
+                .lowCardinalityKeyValue("matched", matched ? "true" : "false")
+                .stop();
+        event.end();
+        if (event.shouldCommit()) {
+            event.setUri(uri);
+            UrlMappingData urlData = matched ? matchingUrls.get(0).getUrlData() : null;
+            event.setUriTemplate(urlData != null ? urlData.getUrlPattern() : null);
+            event.setCandidates(cached ? 0 : this.mappings.length);
+            event.setCacheHit(cached);
+            event.commit();
         }
-        return matchingUrls.toArray(new UrlMappingInfo[0]);
     }
 
     private boolean isExcluded(String uri) {
@@ -633,38 +686,54 @@ public class DefaultUrlMappingsHolder implements UrlMappings {
             return EMPTY_RESULTS;
         }
 
-        UriToUrlMappingKey cacheKey = new UriToUrlMappingKey(uri, httpMethod, version);
-        List<UrlMappingInfo> matchingUrls = this.cachedListMatches.getIfPresent(cacheKey);
-
-        if (matchingUrls == null) {
-            matchingUrls = new ArrayList<>();
-            boolean anyHttpMethod = httpMethod != null && httpMethod.equals(UrlMapping.ANY_HTTP_METHOD);
-            boolean anyVersion = version != null && version.equals(UrlMapping.ANY_VERSION);
-            for (UrlMapping mapping : this.mappings) {
-                if (logger.isDebugEnabled()) {
-                    logger.debug("Attempting to match URI [" + uri + "] with pattern [" + mapping.getUrlData().getUrlPattern() + "]");
-                }
-
-                UrlMappingInfo current = mapping.match(uri);
-                if (current != null) {
+        Observation observation = Observation.start(MATCH_OBSERVATION_NAME, this.observationRegistry);
+        UrlMatchEvent event = new UrlMatchEvent();
+        event.begin();
+        List<UrlMappingInfo> matchingUrls = null;
+        boolean cached = false;
+        try {
+            UriToUrlMappingKey cacheKey = new UriToUrlMappingKey(uri, httpMethod, version);
+            matchingUrls = this.cachedListMatches.getIfPresent(cacheKey);
+            cached = matchingUrls != null;
+
+            if (matchingUrls == null) {
+                matchingUrls = new ArrayList<>();
+                boolean anyHttpMethod = httpMethod != null && httpMethod.equals(UrlMapping.ANY_HTTP_METHOD);
+                boolean anyVersion = version != null && version.equals(UrlMapping.ANY_VERSION);
+                for (UrlMapping mapping : this.mappings) {
                     if (logger.isDebugEnabled()) {
-                        logger.debug("Matched URI [" + uri + "] with pattern [" + mapping.getUrlData().getUrlPattern() + "], adding to posibilities");
+                        logger.debug("Attempting to match URI [" + uri + "] with pattern [" + mapping.getUrlData().getUrlPattern() + "]");
                     }
 
-                    String mappingHttpMethod = current.getHttpMethod();
-                    String mappingVersion = current.getVersion();
-                    boolean isValidHttpMethod = mappingHttpMethod == null || anyHttpMethod ||
-                            mappingHttpMethod.equalsIgnoreCase(UrlMapping.ANY_HTTP_METHOD) || mappingHttpMethod.equalsIgnoreCase(httpMethod);
-                    boolean isValidVersion = mappingVersion == null || anyVersion || mappingVersion.equals(UrlMapping.ANY_VERSION) ||
-                            mappingVersion.equals(version);
-                    if (isValidHttpMethod && isValidVersion) {
-                        matchingUrls.add(current);
+                    UrlMappingInfo current = mapping.match(uri);
+                    if (current != null) {
+                        if (logger.isDebugEnabled()) {
+                            logger.debug("Matched URI [" + uri + "] with pattern [" + mapping.getUrlData().getUrlPattern() +
+                                    "], adding to posibilities");
+                        }
+
+                        String mappingHttpMethod = current.getHttpMethod();
+                        String mappingVersion = current.getVersion();
+                        boolean isValidHttpMethod = mappingHttpMethod == null || anyHttpMethod ||
+                                mappingHttpMethod.equalsIgnoreCase(UrlMapping.ANY_HTTP_METHOD) || mappingHttpMethod.equalsIgnoreCase(httpMethod);
+                        boolean isValidVersion = mappingVersion == null || anyVersion || mappingVersion.equals(UrlMapping.ANY_VERSION) ||
+                                mappingVersion.equals(version);
+                        if (isValidHttpMethod && isValidVersion) {
+                            matchingUrls.add(current);
+                        }
                     }
                 }
+                this.cachedListMatches.put(cacheKey, matchingUrls);
             }
-            this.cachedListMatches.put(cacheKey, matchingUrls);
+            return matchingUrls.toArray(new UrlMappingInfo[0]);
+        }
+        catch (RuntimeException e) {
+            observation.error(e);
+            throw e;
+        }
+        finally {
+            recordMatch(observation, event, uri, cached, matchingUrls);
         }
-        return matchingUrls.toArray(new UrlMappingInfo[0]);
     }
 
     @Override
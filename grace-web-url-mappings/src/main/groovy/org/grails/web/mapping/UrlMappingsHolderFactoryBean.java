@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import groovy.lang.Script;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InitializingBean;
@@ -70,6 +71,8 @@ public class UrlMappingsHolderFactoryBean implements FactoryBean<UrlMappings>, I
 
     private UrlConverter grailsUrlConverter;
 
+    private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
     public UrlMappings getObject() throws Exception {
         return this.urlMappingsHolder;
     }
@@ -133,6 +136,7 @@ public class UrlMappingsHolderFactoryBean implements FactoryBean<UrlMappings>, I
         if (urlCreatorCacheSize != null) {
             defaultUrlMappingsHolder.setUrlCreatorMaxWeightedCacheCapacity(urlCreatorCacheSize);
         }
+        defaultUrlMappingsHolder.setObservationRegistry(this.observationRegistry);
 
         // call initialize() after settings are in place
         defaultUrlMappingsHolder.initialize();
@@ -163,6 +167,10 @@ public class UrlMappingsHolderFactoryBean implements FactoryBean<UrlMappings>, I
         this.pluginManager = pluginManager;
     }
 
+    public void setObservationRegistry(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
     /**
      * Set the ApplicationContext that this object runs in.
      * Normally this call will be used to initialize the object.
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.web.mapping.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for matching a request URI against the URL mappings.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+@Name(UrlMatchEvent.NAME)
+@Label("URL Match")
+@Category({ "Grails", "URL Mappings" })
+@Description("Matches a request URI against the URL mappings")
+@StackTrace(false)
+public class UrlMatchEvent extends Event {
+
+    public static final String NAME = "grails.UrlMatch";
+
+    @Label("URI")
+    private String uri;
+
+    @Label("URI Template")
+    @Description("The pattern of the first matching URL mapping")
+    private String uriTemplate;
+
+    @Label("Candidates")
+    @Description("The URL mappings evaluated, 0 when the matches were cached")
+    private int candidates;
+
+    @Label("Cache Hit")
+    private boolean cacheHit;
+
+    public void setUri(String uri) {
+        this.uri = uri;
+    }
+
+    public void setUriTemplate(String uriTemplate) {
+        this.uriTemplate = uriTemplate;
+    }
+
+    public void setCandidates(int candidates) {
+        this.candidates = candidates;
+    }
+
+    public void setCacheHit(boolean cacheHit) {
+        this.cacheHit = cacheHit;
+    }
+
+}
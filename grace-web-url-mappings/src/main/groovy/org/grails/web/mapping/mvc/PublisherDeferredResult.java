@@ -0,0 +1,119 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.web.mapping.mvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.core.ReactiveAdapter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.request.async.DeferredResult;
+
+/**
+ * A {@link DeferredResult} that subscribes to the {@link Publisher} returned by a controller action.
+ *
+ * <p>The result is the single value of the publisher, null if it completes empty,
+ * or the list of the values if it emits more than one.
+ *
+ * @author Michael Yan
+ * @since 2023.0.0
+ */
+final class PublisherDeferredResult extends DeferredResult<Object> implements Subscriber<Object> {
+
+    private static final boolean REACTIVE_STREAMS_PRESENT = ClassUtils.isPresent("org.reactivestreams.Publisher",
+            PublisherDeferredResult.class.getClassLoader());
+
+    private final List<Object> values = new ArrayList<>(1);
+
+    private volatile Subscription subscription;
+
+    private PublisherDeferredResult(Long timeout) {
+        super(timeout);
+        onTimeout(this::cancel);
+        onError(error -> cancel());
+    }
+
+    /**
+     * Adapts the result of an action, if it is a {@link Publisher} or a type supported by the {@link ReactiveAdapterRegistry}
+     *
+     * @param result The result of the action
+     * @param timeout The timeout, or null to use the default timeout
+     * @return The deferred result, or null if the result is not reactive
+     */
+    static DeferredResult<Object> adapt(Object result, Long timeout) {
+        if (!REACTIVE_STREAMS_PRESENT || result == null) {
+            return null;
+        }
+        Publisher<?> publisher = null;
+        if (result instanceof Publisher) {
+            publisher = (Publisher<?>) result;
+        }
+        else {
+            ReactiveAdapter adapter = ReactiveAdapterRegistry.getSharedInstance().getAdapter(result.getClass());
+            if (adapter != null) {
+                publisher = adapter.toPublisher(result);
+            }
+        }
+        if (publisher == null) {
+            return null;
+        }
+        PublisherDeferredResult deferredResult = new PublisherDeferredResult(timeout);
+        publisher.subscribe(deferredResult);
+        return deferredResult;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(Object value) {
+        this.values.add(value);
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        setErrorResult(error);
+    }
+
+    @Override
+    public void onComplete() {
+        // the signals of a publisher are serial, no need to guard the values
+        if (this.values.isEmpty()) {
+            setResult(null);
+        }
+        else if (this.values.size() == 1) {
+            setResult(this.values.get(0));
+        }
+        else {
+            setResult(this.values);
+        }
+    }
+
+    private void cancel() {
+        Subscription subscription = this.subscription;
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+}
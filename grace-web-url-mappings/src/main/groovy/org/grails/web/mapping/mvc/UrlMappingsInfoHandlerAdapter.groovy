@@ -15,14 +15,32 @@
  */
 package org.grails.web.mapping.mvc
 
+import java.time.Instant
+import java.time.temporal.ChronoField
+import java.time.temporal.TemporalAccessor
+import java.util.concurrent.Callable
+import java.util.concurrent.CompletionException
+import java.util.concurrent.CompletionStage
 import java.util.concurrent.ConcurrentHashMap
 
+import jakarta.servlet.ServletException
 import jakarta.servlet.http.HttpServletRequest
 import jakarta.servlet.http.HttpServletResponse
 
 import groovy.transform.CompileStatic
+import io.micrometer.observation.Observation
+import io.micrometer.observation.ObservationRegistry
 import org.springframework.context.ApplicationContext
 import org.springframework.context.ApplicationContextAware
+import org.springframework.context.i18n.LocaleContext
+import org.springframework.context.i18n.LocaleContextHolder
+import org.springframework.core.task.AsyncTaskExecutor
+import org.springframework.web.context.request.RequestAttributes
+import org.springframework.web.context.request.RequestContextHolder
+import org.springframework.web.context.request.async.AsyncWebRequest
+import org.springframework.web.context.request.async.DeferredResult
+import org.springframework.web.context.request.async.WebAsyncManager
+import org.springframework.web.context.request.async.WebAsyncUtils
 import org.springframework.web.servlet.HandlerAdapter
 import org.springframework.web.servlet.ModelAndView
 import org.springframework.web.servlet.view.InternalResourceView
@@ -49,11 +67,29 @@ import org.grails.web.util.WebUtils
 @CompileStatic
 class UrlMappingsInfoHandlerAdapter implements HandlerAdapter, ApplicationContextAware {
 
+    /**
+     * The static property of a controller that maps the names of actions to closures returning when the content
+     * of the action was last modified, as a {@link Date}, an {@link Instant} or milliseconds since the epoch
+     */
+    static final String LAST_MODIFIED = 'lastModified'
+
+    /**
+     * The name of the observation of executing a controller action, tagged by the controller, the action
+     * and the status of the response. It lasts until the request completes, so it includes rendering the view
+     * and the asynchronous result of the action
+     */
+    static final String ACTION_OBSERVATION_NAME = 'grails.controller.action'
+
+    private static final String UNKNOWN_ACTION = 'UNKNOWN'
+
     ApplicationContext applicationContext
 
     protected Collection<ActionResultTransformer> actionResultTransformers = []
     protected Map<String, Object> controllerCache = new ConcurrentHashMap<>()
     protected ResponseRedirector redirector
+    protected AsyncTaskExecutor asyncTaskExecutor
+    protected Long asyncRequestTimeout
+    protected ObservationRegistry observationRegistry = ObservationRegistry.NOOP
 
     void setApplicationContext(ApplicationContext applicationContext) {
         this.applicationContext = applicationContext
@@ -68,6 +104,27 @@ class UrlMappingsInfoHandlerAdapter implements HandlerAdapter, ApplicationContex
         this.redirector = new ResponseRedirector(linkGenerator)
     }
 
+    /**
+     * Sets the executor of the actions that return a {@link Callable}
+     */
+    void setAsyncTaskExecutor(AsyncTaskExecutor asyncTaskExecutor) {
+        this.asyncTaskExecutor = asyncTaskExecutor
+    }
+
+    /**
+     * Sets the timeout in milliseconds of the actions that return an asynchronous result
+     */
+    void setAsyncRequestTimeout(Long asyncRequestTimeout) {
+        this.asyncRequestTimeout = asyncRequestTimeout
+    }
+
+    /**
+     * Sets the registry of the observations of the controller actions, which are not observed by default
+     */
+    void setObservationRegistry(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry
+    }
+
     @Override
     boolean supports(Object handler) { handler instanceof UrlMappingInfo }
 
@@ -77,6 +134,23 @@ class UrlMappingsInfoHandlerAdapter implements HandlerAdapter, ApplicationContex
 
         GrailsWebRequest webRequest = GrailsWebRequest.lookup(request)
 
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request)
+        if (asyncManager.hasConcurrentResult() && info instanceof GrailsControllerUrlMappingInfo) {
+            // the asynchronous result of an action has completed and the request is dispatched again
+            Object result = asyncManager.concurrentResult
+            asyncManager.clearConcurrentResult()
+            if (result instanceof Exception) {
+                throw (Exception) result
+            }
+            else if (result instanceof Throwable) {
+                throw new ServletException('Asynchronous controller action failed', (Throwable) result)
+            }
+            GrailsControllerUrlMappingInfo controllerUrlMappingInfo = (GrailsControllerUrlMappingInfo) info
+            GrailsControllerClass controllerClass = controllerUrlMappingInfo.controllerClass
+            String action = controllerUrlMappingInfo.actionName ?: controllerClass.defaultAction
+            return handleActionResult(request, webRequest, controllerClass, action, result)
+        }
+
         boolean isAsyncRequest = WebUtils.isAsync(request) && !WebUtils.isError(request)
         if (isAsyncRequest) {
             Object modelAndView = request.getAttribute(GrailsApplicationAttributes.MODEL_AND_VIEW)
@@ -109,39 +183,26 @@ class UrlMappingsInfoHandlerAdapter implements HandlerAdapter, ApplicationContex
                 webRequest.actionName = webRequest.actionName ?: action
                 webRequest.controllerNamespace = controllerClass.namespace
                 request.setAttribute(GrailsApplicationAttributes.CONTROLLER, controller)
-                Object result = controllerClass.invoke(controller, action)
-
-                if (actionResultTransformers) {
-                    for (transformer in actionResultTransformers) {
-                        result = transformer.transformActionResult(webRequest, action, result)
-                    }
+                if (checkNotModified(request, webRequest, controllerClass, controller, action)) {
+                    return null
                 }
-
-                Object modelAndView = request.getAttribute(GrailsApplicationAttributes.MODEL_AND_VIEW)
-                if (modelAndView instanceof ModelAndView) {
-                    return (ModelAndView) modelAndView
+                Object result
+                Observation observation = startActionObservation(controllerClass, action)
+                try {
+                    result = controllerClass.invoke(controller, action)
                 }
-                else if (result instanceof Map) {
-                    String viewName = getControllerViewName(controllerClass, action)
-                    Map<String, Object> finalModel = new HashMap<String, Object>()
-                    FlashScope flashScope = webRequest.getFlashScope()
-                    if (!flashScope.isEmpty()) {
-                        Object chainModel = flashScope.get(FlashScope.CHAIN_MODEL)
-                        if (chainModel instanceof Map) {
-                            finalModel.putAll((Map) chainModel)
-                        }
-                    }
-                    finalModel.putAll((Map) result)
-
-                    return new ModelAndView(viewName, finalModel)
+                catch (Throwable e) {
+                    observation.error(e)
+                    throw e
                 }
-                else if (result instanceof ModelAndView) {
-                    return (ModelAndView) result
+                finally {
+                    stopActionObservation(webRequest, response, observation)
                 }
-                else if (result == null && webRequest.renderView) {
-                    String viewName = getControllerViewName(controllerClass, action)
-                    return new ModelAndView(viewName)
+
+                if (startAsyncProcessing(request, response, webRequest, result)) {
+                    return null
                 }
+                return handleActionResult(request, webRequest, controllerClass, action, result)
             }
             else if (info.viewName) {
                 return new ModelAndView(info.viewName)
@@ -162,6 +223,187 @@ class UrlMappingsInfoHandlerAdapter implements HandlerAdapter, ApplicationContex
         null
     }
 
+    /**
+     * Starts the observation of an action, tagged by names that are bounded by the controllers of the application,
+     * the name of an action the controller does not have is replaced, as it may come from the request URI
+     */
+    protected Observation startActionObservation(GrailsControllerClass controllerClass, String action) {
+        if (observationRegistry.isNoop()) {
+            return Observation.NOOP
+        }
+        Observation.createNotStarted(ACTION_OBSERVATION_NAME, observationRegistry)
+                .lowCardinalityKeyValue('controller', controllerClass.logicalPropertyName)
+                .lowCardinalityKeyValue('action', controllerClass.actions.contains(action) ? action : UNKNOWN_ACTION)
+                .start()
+    }
+
+    /**
+     * Stops the observation of an action when the request completes, after the view of the action has been rendered
+     * or its asynchronous result has been handled, so that it is tagged by the final status of the response
+     */
+    protected void stopActionObservation(GrailsWebRequest webRequest, HttpServletResponse response, Observation observation) {
+        if (observation.isNoop()) {
+            return
+        }
+        Runnable stop = { ->
+            observation.lowCardinalityKeyValue('status', String.valueOf(response.status)).stop()
+        } as Runnable
+        if (webRequest != null) {
+            webRequest.registerRequestDestructionCallback(ACTION_OBSERVATION_NAME, stop, RequestAttributes.SCOPE_REQUEST)
+        }
+        else {
+            stop.run()
+        }
+    }
+
+    /**
+     * Checks the {@code lastModified} closure of the action against the {@code If-Modified-Since} header of GET
+     * and HEAD requests, so that the action is not executed when the client has its latest content.
+     * The {@code Last-Modified} header is set otherwise.
+     *
+     * @return Whether the response has been set to 304 (Not Modified)
+     */
+    protected boolean checkNotModified(HttpServletRequest request, GrailsWebRequest webRequest,
+            GrailsControllerClass controllerClass, Object controller, String action) {
+        if (request.method != 'GET' && request.method != 'HEAD') {
+            return false
+        }
+        Object lastModified = controllerClass.getPropertyValue(LAST_MODIFIED, Map)?.get(action)
+        if (!(lastModified instanceof Closure)) {
+            return false
+        }
+        long timestamp = toEpochMilli(((Closure) lastModified).rehydrate(controller, controller, controller).call())
+        timestamp >= 0 && webRequest.checkNotModified(timestamp)
+    }
+
+    private static long toEpochMilli(Object value) {
+        if (value instanceof Date) {
+            return ((Date) value).time
+        }
+        else if (value instanceof Number) {
+            return ((Number) value).longValue()
+        }
+        else if (value instanceof TemporalAccessor && ((TemporalAccessor) value).isSupported(ChronoField.INSTANT_SECONDS)) {
+            return Instant.from((TemporalAccessor) value).toEpochMilli()
+        }
+        -1
+    }
+
+    /**
+     * Produces the {@link ModelAndView} of the result returned by an action, or completed asynchronously
+     */
+    protected ModelAndView handleActionResult(HttpServletRequest request, GrailsWebRequest webRequest,
+            GrailsControllerClass controllerClass, String action, Object result) {
+        if (actionResultTransformers) {
+            for (transformer in actionResultTransformers) {
+                result = transformer.transformActionResult(webRequest, action, result)
+            }
+        }
+
+        Object modelAndView = request.getAttribute(GrailsApplicationAttributes.MODEL_AND_VIEW)
+        if (modelAndView instanceof ModelAndView) {
+            return (ModelAndView) modelAndView
+        }
+        else if (result instanceof Map) {
+            String viewName = getControllerViewName(controllerClass, action)
+            Map<String, Object> finalModel = new HashMap<String, Object>()
+            FlashScope flashScope = webRequest.getFlashScope()
+            if (!flashScope.isEmpty()) {
+                Object chainModel = flashScope.get(FlashScope.CHAIN_MODEL)
+                if (chainModel instanceof Map) {
+                    finalModel.putAll((Map) chainModel)
+                }
+            }
+            finalModel.putAll((Map) result)
+
+            return new ModelAndView(viewName, finalModel)
+        }
+        else if (result instanceof ModelAndView) {
+            return (ModelAndView) result
+        }
+        else if (result == null && webRequest.renderView) {
+            String viewName = getControllerViewName(controllerClass, action)
+            return new ModelAndView(viewName)
+        }
+        null
+    }
+
+    /**
+     * Starts the asynchronous processing of the request if the action returned a {@link CompletionStage},
+     * a {@link Callable}, such as a closure, or a Reactive Streams {@code Publisher}. The container thread is released, and
+     * the request is dispatched again once the result completes, to render the view of the result.
+     *
+     * @return Whether the asynchronous processing has started
+     */
+    protected boolean startAsyncProcessing(HttpServletRequest request, HttpServletResponse response,
+            GrailsWebRequest webRequest, Object result) {
+        if (result == null || result instanceof Map || result instanceof ModelAndView || !request.isAsyncSupported()) {
+            return false
+        }
+
+        DeferredResult<Object> deferredResult = null
+        Callable<Object> callable = null
+        if (result instanceof CompletionStage) {
+            DeferredResult<Object> completionResult = new DeferredResult<Object>(asyncRequestTimeout)
+            ((CompletionStage<Object>) result).whenComplete { Object value, Throwable error ->
+                if (error != null) {
+                    completionResult.setErrorResult(error instanceof CompletionException && error.cause != null ? error.cause : error)
+                }
+                else {
+                    completionResult.setResult(value)
+                }
+            }
+            deferredResult = completionResult
+        }
+        else if (result instanceof Callable) {
+            callable = contextualCallable(webRequest, (Callable<Object>) result)
+        }
+        else {
+            deferredResult = PublisherDeferredResult.adapt(result, asyncRequestTimeout)
+        }
+        if (deferredResult == null && callable == null) {
+            return false
+        }
+
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request)
+        AsyncWebRequest asyncWebRequest = WebAsyncUtils.createAsyncWebRequest(request, response)
+        if (asyncRequestTimeout != null) {
+            asyncWebRequest.setTimeout(asyncRequestTimeout)
+        }
+        asyncManager.setAsyncWebRequest(asyncWebRequest)
+        if (asyncTaskExecutor != null) {
+            asyncManager.setTaskExecutor(asyncTaskExecutor)
+        }
+        if (deferredResult != null) {
+            asyncManager.startDeferredResultProcessing(deferredResult)
+        }
+        else {
+            asyncManager.startCallableProcessing(callable)
+        }
+        true
+    }
+
+    /**
+     * Binds the {@link GrailsWebRequest} and the locale of the request to the thread that calls the given {@link Callable},
+     * so that params, flash scope and the render methods are available to it
+     */
+    protected static Callable<Object> contextualCallable(GrailsWebRequest webRequest, Callable<Object> callable) {
+        LocaleContext localeContext = LocaleContextHolder.getLocaleContext()
+        return { ->
+            RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes()
+            LocaleContext previousLocaleContext = LocaleContextHolder.getLocaleContext()
+            RequestContextHolder.setRequestAttributes(webRequest)
+            LocaleContextHolder.setLocaleContext(localeContext)
+            try {
+                return callable.call()
+            }
+            finally {
+                RequestContextHolder.setRequestAttributes(previousAttributes)
+                LocaleContextHolder.setLocaleContext(previousLocaleContext)
+            }
+        } as Callable<Object>
+    }
+
     private String getControllerViewName(GrailsControllerClass controllerClass, String action) {
         String viewName = controllerClass.actionUriToViewName(action)
         if (controllerClass.namespace) {
@@ -0,0 +1,87 @@
+package org.grails.web.mapping
+
+import io.micrometer.observation.Observation
+import io.micrometer.observation.ObservationHandler
+import io.micrometer.observation.ObservationRegistry
+import spock.lang.Specification
+
+import grails.web.mapping.UrlMapping
+import grails.web.mapping.UrlMappingsFactory
+
+class UrlMappingsObservationSpec extends Specification {
+
+    void "Test matching a request URI is observed with the cache and matched tags"() {
+        given:
+        List<Observation.Context> contexts = []
+        ObservationRegistry registry = ObservationRegistry.create()
+        registry.observationConfig().observationHandler(new ObservationHandler<Observation.Context>() {
+            @Override
+            boolean supportsContext(Observation.Context context) {
+                true
+            }
+
+            @Override
+            void onStop(Observation.Context context) {
+                contexts << context
+            }
+        })
+        DefaultUrlMappingsHolder holder = (DefaultUrlMappingsHolder) new UrlMappingsFactory().create {
+            "/books/$id?"(controller: 'book', action: 'show')
+        }
+        holder.observationRegistry = registry
+
+        when:
+        holder.matchAll('/books/1', 'GET')
+        holder.matchAll('/books/1', 'GET')
+        holder.matchAll('/authors/1', 'GET')
+
+        then:
+        contexts.size() == 3
+        contexts*.name.unique() == [DefaultUrlMappingsHolder.MATCH_OBSERVATION_NAME]
+        contexts.collect { it.getLowCardinalityKeyValue('cache').value } == ['miss', 'hit', 'miss']
+        contexts.collect { it.getLowCardinalityKeyValue('matched').value } == ['true', 'true', 'false']
+    }
+
+    void "Test the observation is stopped with the error when matching fails"() {
+        given:
+        List<Observation.Context> contexts = []
+        ObservationRegistry registry = ObservationRegistry.create()
+        registry.observationConfig().observationHandler(new ObservationHandler<Observation.Context>() {
+            @Override
+            boolean supportsContext(Observation.Context context) {
+                true
+            }
+
+            @Override
+            void onStop(Observation.Context context) {
+                contexts << context
+            }
+        })
+        UrlMapping mapping = new UrlMappingsFactory().create {
+            "/books/$id?"(controller: 'book', action: 'show')
+        }.urlMappings[0]
+        UrlMapping failingMapping = Spy(mapping) {
+            match(_) >> { throw new IllegalStateException('Broken mapping') }
+        }
+        DefaultUrlMappingsHolder holder = new DefaultUrlMappingsHolder([failingMapping])
+        holder.observationRegistry = registry
+
+        when:
+        holder.matchAll('/books/1', 'GET')
+
+        then:
+        IllegalStateException e = thrown()
+        contexts.size() == 1
+        contexts[0].error == e
+        contexts[0].getLowCardinalityKeyValue('matched').value == 'false'
+
+        when:
+        holder.matchAll('/books/1', 'GET', '1.0')
+
+        then:
+        thrown(IllegalStateException)
+        contexts.size() == 2
+        contexts[1].error instanceof IllegalStateException
+    }
+
+}
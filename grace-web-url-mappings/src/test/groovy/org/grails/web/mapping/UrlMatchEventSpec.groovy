@@ -0,0 +1,46 @@
+package org.grails.web.mapping
+
+import java.nio.file.Path
+
+import jdk.jfr.Recording
+import jdk.jfr.consumer.RecordedEvent
+import jdk.jfr.consumer.RecordingFile
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import grails.web.mapping.UrlMappingsFactory
+import org.grails.web.mapping.jfr.UrlMatchEvent
+
+class UrlMatchEventSpec extends Specification {
+
+    @TempDir
+    Path tempDir
+
+    void "Test matching a request URI is recorded with the matched pattern and the cache"() {
+        given:
+        DefaultUrlMappingsHolder holder = (DefaultUrlMappingsHolder) new UrlMappingsFactory().create {
+            "/books/$id?"(controller: 'book', action: 'show')
+        }
+        Recording recording = new Recording()
+        recording.enable(UrlMatchEvent.NAME)
+
+        when:
+        recording.start()
+        holder.matchAll('/books/1', 'GET')
+        holder.matchAll('/books/1', 'GET')
+        holder.matchAll('/authors/1', 'GET')
+        recording.stop()
+        Path file = tempDir.resolve('recording.jfr')
+        recording.dump(file)
+        recording.close()
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).findAll { it.eventType.name == UrlMatchEvent.NAME }
+
+        then:
+        events*.getString('uri') == ['/books/1', '/books/1', '/authors/1']
+        events*.getString('uriTemplate') == ['/books/(*)?', '/books/(*)?', null]
+        events*.getBoolean('cacheHit') == [false, true, false]
+        events[0].getInt('candidates') == 1
+        events[1].getInt('candidates') == 0
+    }
+
+}
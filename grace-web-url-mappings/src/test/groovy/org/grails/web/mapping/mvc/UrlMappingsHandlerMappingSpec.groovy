@@ -1,17 +1,30 @@
 package org.grails.web.mapping.mvc
 
+import java.time.Instant
+import java.util.concurrent.Callable
+import java.util.concurrent.CompletableFuture
+
 import grails.artefact.Artefact
 import grails.core.DefaultGrailsApplication
 import grails.util.GrailsWebMockUtil
 import grails.web.Action
 import grails.web.HyphenatedUrlConverter
 import grails.web.mapping.AbstractUrlMappingsSpec
+import io.micrometer.observation.Observation
+import io.micrometer.observation.ObservationHandler
+import io.micrometer.observation.ObservationRegistry
 import org.grails.web.mapping.DefaultUrlMappingData
 import org.grails.web.mapping.DefaultUrlMappingInfo
 import org.grails.web.util.WebUtils
+import org.reactivestreams.Publisher
+import org.reactivestreams.Subscriber
+import org.reactivestreams.Subscription
+import org.springframework.core.task.SimpleAsyncTaskExecutor
 import org.springframework.web.context.request.RequestContextHolder
+import org.springframework.web.context.request.async.WebAsyncUtils
 import org.springframework.web.servlet.view.InternalResourceView
 import spock.lang.Issue
+import spock.util.concurrent.PollingConditions
 
 /**
  * Created by graemerocher on 26/05/14.
@@ -211,11 +224,247 @@ class UrlMappingsHandlerMappingSpec extends AbstractUrlMappingsSpec {
         result.view.getUrl() == "/index.html"
     }
 
+    void "Test that an action returning a CompletionStage renders the view once the result is completed"() {
+        given:
+        def grailsApplication = new DefaultGrailsApplication(AsyncController)
+        grailsApplication.initialise()
+        def holder = getUrlMappingsHolder {
+            "/async/future"(controller:"async", action:"future")
+        }
+        holder = new GrailsControllerUrlMappings(grailsApplication, holder)
+        def handler = new UrlMappingsHandlerMapping(holder)
+        def handlerAdapter = new UrlMappingsInfoHandlerAdapter()
+        AsyncController.pending = new CompletableFuture<Map>()
+
+        when:"The action is executed"
+        def webRequest = GrailsWebMockUtil.bindMockWebRequest()
+        webRequest.renderView = true
+        def request = webRequest.request
+        request.asyncSupported = true
+        request.setRequestURI("/async/future")
+        def handlerChain = handler.getHandler(request)
+        def result = handlerAdapter.handle(request, webRequest.response, handlerChain.handler)
+        def asyncManager = WebAsyncUtils.getAsyncManager(request)
+
+        then:"The asynchronous processing is started"
+        result == null
+        request.asyncStarted
+        !asyncManager.hasConcurrentResult()
+
+        when:"The result is completed and the request is dispatched again"
+        AsyncController.pending.complete([foo:"bar"])
+        result = handlerAdapter.handle(request, webRequest.response, handlerChain.handler)
+
+        then:"The view of the action is rendered with the model"
+        result.viewName == 'async/future'
+        result.model == [foo:"bar"]
+        !asyncManager.hasConcurrentResult()
+    }
+
+    void "Test that an action returning a Callable is called with the bound request"() {
+        given:
+        def grailsApplication = new DefaultGrailsApplication(AsyncController)
+        grailsApplication.initialise()
+        def holder = getUrlMappingsHolder {
+            "/async/callable"(controller:"async", action:"callable")
+        }
+        holder = new GrailsControllerUrlMappings(grailsApplication, holder)
+        def handler = new UrlMappingsHandlerMapping(holder)
+        def handlerAdapter = new UrlMappingsInfoHandlerAdapter()
+        handlerAdapter.asyncTaskExecutor = new SimpleAsyncTaskExecutor()
+
+        when:"The action is executed"
+        def webRequest = GrailsWebMockUtil.bindMockWebRequest()
+        webRequest.renderView = true
+        def request = webRequest.request
+        request.asyncSupported = true
+        request.setRequestURI("/async/callable")
+        def handlerChain = handler.getHandler(request)
+        def result = handlerAdapter.handle(request, webRequest.response, handlerChain.handler)
+        def asyncManager = WebAsyncUtils.getAsyncManager(request)
+
+        then:"The callable completes on another thread"
+        result == null
+        new PollingConditions(timeout: 5).eventually {
+            assert asyncManager.hasConcurrentResult()
+        }
+
+        when:"The request is dispatched again"
+        result = handlerAdapter.handle(request, webRequest.response, handlerChain.handler)
+
+        then:"The callable has seen the web request"
+        result.viewName == 'async/callable'
+        result.model.webRequest.is(webRequest)
+        result.model.thread != Thread.currentThread()
+    }
+
+    void "Test that the values of a Publisher returned by an action are the model"() {
+        given:
+        def grailsApplication = new DefaultGrailsApplication(AsyncController)
+        grailsApplication.initialise()
+        def holder = getUrlMappingsHolder {
+            "/async/publisher"(controller:"async", action:"publisher")
+        }
+        holder = new GrailsControllerUrlMappings(grailsApplication, holder)
+        def handler = new UrlMappingsHandlerMapping(holder)
+        def handlerAdapter = new UrlMappingsInfoHandlerAdapter()
+
+        when:"The action is executed and the request is dispatched again"
+        def webRequest = GrailsWebMockUtil.bindMockWebRequest()
+        webRequest.renderView = true
+        def request = webRequest.request
+        request.asyncSupported = true
+        request.setRequestURI("/async/publisher")
+        def handlerChain = handler.getHandler(request)
+        def first = handlerAdapter.handle(request, webRequest.response, handlerChain.handler)
+        def result = handlerAdapter.handle(request, webRequest.response, handlerChain.handler)
+
+        then:"The single value of the publisher is the model"
+        first == null
+        result.viewName == 'async/publisher'
+        result.model == [foo:"bar"]
+    }
+
+    void "Test that an action is not executed when its content has not been modified"() {
+        given:
+        def grailsApplication = new DefaultGrailsApplication(CachedController)
+        grailsApplication.initialise()
+        def holder = getUrlMappingsHolder {
+            "/cached/show"(controller:"cached", action:"show")
+        }
+        holder = new GrailsControllerUrlMappings(grailsApplication, holder)
+        def handler = new UrlMappingsHandlerMapping(holder)
+        def handlerAdapter = new UrlMappingsInfoHandlerAdapter()
+        CachedController.executed = 0
+
+        when:"The action is requested without If-Modified-Since"
+        def webRequest = GrailsWebMockUtil.bindMockWebRequest()
+        webRequest.renderView = true
+        def request = webRequest.request
+        request.method = 'GET'
+        request.setRequestURI("/cached/show")
+        def handlerChain = handler.getHandler(request)
+        def result = handlerAdapter.handle(request, webRequest.response, handlerChain.handler)
+
+        then:"The action is executed and Last-Modified is set"
+        result.viewName == 'cached/show'
+        CachedController.executed == 1
+        webRequest.response.getDateHeader('Last-Modified') == CachedController.MODIFIED.toEpochMilli()
+
+        when:"The action is requested with If-Modified-Since"
+        webRequest = GrailsWebMockUtil.bindMockWebRequest()
+        webRequest.renderView = true
+        request = webRequest.request
+        request.method = 'GET'
+        request.setRequestURI("/cached/show")
+        request.addHeader('If-Modified-Since', CachedController.MODIFIED.toEpochMilli())
+        handlerChain = handler.getHandler(request)
+        result = handlerAdapter.handle(request, webRequest.response, handlerChain.handler)
+
+        then:"The action is not executed"
+        result == null
+        CachedController.executed == 1
+        webRequest.response.status == 304
+    }
+
+    void "Test that executing an action is observed with the controller, action and status tags"() {
+        given:
+        def grailsApplication = new DefaultGrailsApplication(FooController)
+        grailsApplication.initialise()
+        def holder = getUrlMappingsHolder {
+            "/foo/bar"(controller:"foo", action:"bar")
+            "/foo/error"(controller:"foo", action:"error")
+        }
+        holder = new GrailsControllerUrlMappings(grailsApplication, holder)
+        def handler = new UrlMappingsHandlerMapping(holder)
+        List<Observation.Context> contexts = []
+        ObservationRegistry registry = ObservationRegistry.create()
+        registry.observationConfig().observationHandler(new ObservationHandler<Observation.Context>() {
+            @Override
+            boolean supportsContext(Observation.Context context) {
+                true
+            }
+
+            @Override
+            void onStop(Observation.Context context) {
+                contexts << context
+            }
+        })
+        def handlerAdapter = new UrlMappingsInfoHandlerAdapter()
+        handlerAdapter.observationRegistry = registry
+
+        when:"Two actions are executed"
+        def webRequests = ['/foo/bar', '/foo/error'].collect { String uri ->
+            def webRequest = GrailsWebMockUtil.bindMockWebRequest()
+            webRequest.renderView = true
+            def request = webRequest.request
+            request.setRequestURI(uri)
+            handlerAdapter.handle(request, webRequest.response, handler.getHandler(request).handler)
+            webRequest
+        }
+
+        then:"The observations last until the requests complete"
+        contexts.empty
+
+        when:"The view of the first action fails to render and the requests complete"
+        webRequests[0].response.status = 500
+        webRequests*.requestCompleted()
+
+        then:"Each action is observed with the final status of its response"
+        contexts*.name == [UrlMappingsInfoHandlerAdapter.ACTION_OBSERVATION_NAME] * 2
+        contexts.collect { it.getLowCardinalityKeyValue('controller').value } == ['foo', 'foo']
+        contexts.collect { it.getLowCardinalityKeyValue('action').value } == ['bar', 'error']
+        contexts.collect { it.getLowCardinalityKeyValue('status').value } == ['500', '405']
+    }
+
     void cleanup() {
         RequestContextHolder.resetRequestAttributes()
     }
 }
 
+@Artefact('Controller')
+class AsyncController {
+
+    static CompletableFuture<Map> pending
+
+    @Action
+    def future() {
+        pending
+    }
+
+    @Action
+    def callable() {
+        return { ->
+            [webRequest: RequestContextHolder.currentRequestAttributes(), thread: Thread.currentThread()]
+        } as Callable
+    }
+
+    @Action
+    def publisher() {
+        return { Subscriber subscriber ->
+            subscriber.onSubscribe([request: { long n -> }, cancel: { -> }] as Subscription)
+            subscriber.onNext([foo:"bar"])
+            subscriber.onComplete()
+        } as Publisher
+    }
+}
+
+@Artefact('Controller')
+class CachedController {
+
+    static final Instant MODIFIED = Instant.parse('2024-01-01T00:00:00Z')
+
+    static int executed
+
+    static lastModified = [show: { -> MODIFIED }]
+
+    @Action
+    def show() {
+        executed++
+        [:]
+    }
+}
+
 @Artefact('Controller')
 class FooController  {
 